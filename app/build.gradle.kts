@@ -44,9 +44,11 @@ android {
     testOptions {
         unitTests.isReturnDefaultValues = true
         unitTests.isIncludeAndroidResources = true
-        unitTests.all {
-            it.enabled = false
-        }
+    }
+
+    // PDF 보고서 폰트를 APK에서 바로 메모리 매핑할 수 있도록 압축하지 않음 (GraduationReportRenderer)
+    androidResources {
+        noCompress += "ttf"
     }
 
     lint {
@@ -56,6 +58,9 @@ android {
 
 dependencies {
 
+    // 졸업요건 분석 엔진 (순수 Java 모듈)
+    implementation(project(":grad-engine"))
+
     implementation("androidx.cardview:cardview:1.0.0")
 
     // Firebase BOM (최신 버전)
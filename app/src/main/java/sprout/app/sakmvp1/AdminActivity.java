@@ -4,6 +4,8 @@ import android.content.Context;
 import android.content.Intent;
 import android.content.SharedPreferences;
 import android.os.Bundle;
+import android.util.Log;
+import android.widget.TextView;
 import android.widget.Toast;
 
 import androidx.appcompat.app.AppCompatActivity;
@@ -13,20 +15,31 @@ import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
 import com.google.firebase.firestore.FirebaseFirestore;
 
+import java.util.Map;
+
+import sprout.app.sakmvp1.managers.StudentStatsManager;
+
 /**
  * 교수/조교 전용 어플 관리 시스템 Activity
  * 졸업요건, 대체과목, 학생 데이터, 필요서류 관리 기능 제공
  */
 public class AdminActivity extends BaseActivity {
 
+    private static final String TAG = "AdminActivity";
+
+    /** 요약에 표시할 학과 수 */
+    private static final int SUMMARY_DEPARTMENT_LIMIT = 3;
+
     private MaterialToolbar toolbar;
     private MaterialCardView cardGraduationRequirements;
     private MaterialCardView cardStudentData, cardDocuments, cardBannerManagement;
     private MaterialCardView cardMajorDocument, cardGeneralDocument, cardCertificateManagement;
     private MaterialCardView cardOtherRequirements;
     private MaterialButton btnLogout;
+    private TextView tvStudentSummary;
 
     private FirebaseFirestore db;
+    private StudentStatsManager statsManager;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -45,6 +58,52 @@ public class AdminActivity extends BaseActivity {
         initViews();
         setupToolbar();
         setupClickListeners();
+
+        statsManager = new StudentStatsManager();
+        loadStudentSummary();
+    }
+
+    /**
+     * 학생 통계 요약 표시 (통계 문서 한 번 읽기)
+     */
+    private void loadStudentSummary() {
+        statsManager.loadSummary(new StudentStatsManager.OnSummaryLoadedListener() {
+            @Override
+            public void onSuccess(StudentStatsManager.Summary summary) {
+                if (isFinishing() || isDestroyed()) {
+                    return;
+                }
+                StringBuilder text = new StringBuilder();
+                text.append("등록 학생 ").append(summary.getTotal()).append("명 · 졸업요건 검사 ")
+                        .append(summary.getGraduationChecked()).append("명");
+                int shown = 0;
+                for (Map.Entry<String, Long> entry : summary.getByDepartment().entrySet()) {
+                    text.append(shown == 0 ? "\n" : ", ")
+                            .append(entry.getKey()).append(" ").append(entry.getValue()).append("명");
+                    if (++shown == SUMMARY_DEPARTMENT_LIMIT) {
+                        break;
+                    }
+                }
+                tvStudentSummary.setText(text);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (isFinishing() || isDestroyed()) {
+                    return;
+                }
+                Log.w(TAG, "학생 통계 로드 실패", e);
+                tvStudentSummary.setText("학생 통계를 불러오지 못했습니다");
+            }
+        });
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (statsManager != null) {
+            statsManager.shutdown();
+        }
     }
 
     /**
@@ -73,6 +132,7 @@ public class AdminActivity extends BaseActivity {
 
         // 버튼들
         btnLogout = findViewById(R.id.btn_logout);
+        tvStudentSummary = findViewById(R.id.tv_student_summary);
     }
 
     /**
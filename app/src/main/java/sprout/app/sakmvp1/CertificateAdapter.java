@@ -10,6 +10,8 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.firebase.auth.FirebaseAuth;
@@ -22,9 +24,17 @@ import java.util.Objects;
 import sprout.app.sakmvp1.R;
 import sprout.app.sakmvp1.WebViewActivity;
 
-public class CertificateAdapter extends RecyclerView.Adapter<CertificateAdapter.CertificateViewHolder> {
+/**
+ * 자격증 카드 목록 어댑터
+ *
+ * submitList로 새 목록을 받으면 DiffUtil로 바뀐 카드만 다시 그림
+ * 제목/기관/링크가 그대로이고 북마크만 바뀐 경우에는 북마크 아이콘만 갱신
+ */
+public class CertificateAdapter extends ListAdapter<Certificate, CertificateAdapter.CertificateViewHolder> {
+
+    /** 북마크 상태만 바뀐 카드의 부분 갱신 표시 */
+    private static final Object PAYLOAD_BOOKMARK = new Object();
 
-    private final List<Certificate> certificateList;
     private final String currentUserId; // 현재 유저 ID
 
     // 북마크 클릭 리스너 인터페이스
@@ -33,8 +43,33 @@ public class CertificateAdapter extends RecyclerView.Adapter<CertificateAdapter.
     }
     private final OnBookmarkClickListener bookmarkClickListener;
 
-    public CertificateAdapter(List<Certificate> certificateList, OnBookmarkClickListener listener) {
-        this.certificateList = certificateList;
+    private static final DiffUtil.ItemCallback<Certificate> DIFF_CALLBACK = new DiffUtil.ItemCallback<Certificate>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull Certificate oldItem, @NonNull Certificate newItem) {
+            return Objects.equals(oldItem.getId(), newItem.getId());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull Certificate oldItem, @NonNull Certificate newItem) {
+            return sameCard(oldItem, newItem)
+                    && Objects.equals(oldItem.getBookmarks(), newItem.getBookmarks());
+        }
+
+        @Override
+        public Object getChangePayload(@NonNull Certificate oldItem, @NonNull Certificate newItem) {
+            return sameCard(oldItem, newItem) ? PAYLOAD_BOOKMARK : null;
+        }
+    };
+
+    /** 카드에 표시되는 북마크 외 내용이 같은지 */
+    private static boolean sameCard(Certificate a, Certificate b) {
+        return Objects.equals(a.getTitle(), b.getTitle())
+                && Objects.equals(a.getIssuer(), b.getIssuer())
+                && Objects.equals(a.getTargetUrl(), b.getTargetUrl());
+    }
+
+    public CertificateAdapter(OnBookmarkClickListener listener) {
+        super(DIFF_CALLBACK);
         this.bookmarkClickListener = listener;
         // 현재 로그인한 유저 ID 가져오기 (null일 수 있음)
         if (FirebaseAuth.getInstance().getCurrentUser() != null) {
@@ -48,36 +83,23 @@ public class CertificateAdapter extends RecyclerView.Adapter<CertificateAdapter.
     @Override
     public CertificateViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
         View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.item_certificate_card, parent, false);
-        return new CertificateViewHolder(view);
-    }
-
-    @Override
-    public void onBindViewHolder(@NonNull CertificateViewHolder holder, int position) {
-        Certificate certificate = certificateList.get(position);
-
-        holder.textTitle.setText(certificate.getTitle());
-        holder.textIssuer.setText(certificate.getIssuer());
-
-
-        // 북마크 상태 설정
-        if (currentUserId != null && certificate.getBookmarks() != null && certificate.getBookmarks().containsKey(currentUserId)) {
-            // 북마크 한 경우: 꽉 찬 아이콘
-            holder.btnBookmark.setImageResource(R.drawable.ic_bookmark_filled);
-        } else {
-            // 북마크 안 한 경우: 테두리 아이콘
-            holder.btnBookmark.setImageResource(R.drawable.ic_bookmark_border);
-        }
+        CertificateViewHolder holder = new CertificateViewHolder(view);
 
-        // 북마크 버튼 클릭 리스너
+        // 클릭 시점의 항목을 사용 (부분 갱신된 카드도 최신 데이터로 동작)
         holder.btnBookmark.setOnClickListener(v -> {
-            if (bookmarkClickListener != null) {
-                bookmarkClickListener.onBookmarkClick(certificate);
+            int position = holder.getAdapterPosition();
+            if (position != RecyclerView.NO_POSITION && bookmarkClickListener != null) {
+                bookmarkClickListener.onBookmarkClick(getItem(position));
             }
         });
 
         // 카드 전체 클릭 리스너 (WebView로 이동)
         holder.itemView.setOnClickListener(v -> {
-            String url = certificate.getTargetUrl();
+            int position = holder.getAdapterPosition();
+            if (position == RecyclerView.NO_POSITION) {
+                return;
+            }
+            String url = getItem(position).getTargetUrl();
             if (url != null && !url.isEmpty()) {
                 Context context = v.getContext();
                 // WebViewActivity 경로는 본인 프로젝트에 맞게 수정 필요
@@ -86,11 +108,36 @@ public class CertificateAdapter extends RecyclerView.Adapter<CertificateAdapter.
                 context.startActivity(intent);
             }
         });
+        return holder;
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull CertificateViewHolder holder, int position) {
+        Certificate certificate = getItem(position);
+
+        holder.textTitle.setText(certificate.getTitle());
+        holder.textIssuer.setText(certificate.getIssuer());
+        bindBookmark(holder, certificate);
     }
 
     @Override
-    public int getItemCount() {
-        return certificateList.size();
+    public void onBindViewHolder(@NonNull CertificateViewHolder holder, int position, @NonNull List<Object> payloads) {
+        if (payloads.contains(PAYLOAD_BOOKMARK)) {
+            bindBookmark(holder, getItem(position));
+        } else {
+            onBindViewHolder(holder, position);
+        }
+    }
+
+    // 북마크 상태 설정
+    private void bindBookmark(CertificateViewHolder holder, Certificate certificate) {
+        if (currentUserId != null && certificate.getBookmarks() != null && certificate.getBookmarks().containsKey(currentUserId)) {
+            // 북마크 한 경우: 꽉 찬 아이콘
+            holder.btnBookmark.setImageResource(R.drawable.ic_bookmark_filled);
+        } else {
+            // 북마크 안 한 경우: 테두리 아이콘
+            holder.btnBookmark.setImageResource(R.drawable.ic_bookmark_border);
+        }
     }
 
     static class CertificateViewHolder extends RecyclerView.ViewHolder {
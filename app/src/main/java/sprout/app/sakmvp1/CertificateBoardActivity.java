@@ -23,19 +23,23 @@ import com.google.android.material.chip.ChipGroup;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseUser;
 import com.google.firebase.firestore.CollectionReference;
+import com.google.firebase.firestore.DocumentChange;
 import com.google.firebase.firestore.DocumentReference;
 import com.google.firebase.firestore.FieldValue;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.FirebaseFirestoreException;
 import com.google.firebase.firestore.ListenerRegistration;
 import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import sprout.app.sakmvp1.CertificateAdapter;
+import sprout.app.sakmvp1.utils.HangulSearchIndex;
 
 public class CertificateBoardActivity extends BaseActivity implements CertificateAdapter.OnBookmarkClickListener {
 
@@ -43,9 +47,9 @@ public class CertificateBoardActivity extends BaseActivity implements Certificat
     private RecyclerView recyclerView;
     private CertificateAdapter adapter;
 
-    // [수정] 리스트를 2개로 분리 (전체 데이터 보관용 / 화면 출력용)
-    private final List<Certificate> allCertificateList = new ArrayList<>(); // 원본 데이터
-    private final List<Certificate> displayedList = new ArrayList<>();      // 검색 필터링 후 보여줄 데이터
+    // 전체 자격증 (북마크 수 내림차순, 스냅샷 변경분만 반영) / 제목·발급기관 검색 색인
+    private final List<Certificate> allCertificateList = new ArrayList<>();
+    private final HangulSearchIndex searchIndex = new HangulSearchIndex();
 
     private FirebaseFirestore db;
     private FirebaseAuth mAuth;
@@ -85,8 +89,8 @@ public class CertificateBoardActivity extends BaseActivity implements Certificat
         recyclerView = findViewById(R.id.recycler_view_certificates);
         recyclerView.setLayoutManager(new LinearLayoutManager(this));
 
-        // 어댑터에는 displayedList(화면 출력용)를 전달
-        adapter = new CertificateAdapter(displayedList, this);
+        // 필터링한 목록은 submitList로 전달 (바뀐 카드만 갱신)
+        adapter = new CertificateAdapter(this);
         recyclerView.setAdapter(adapter);
 
         chipGroupFilters = findViewById(R.id.chip_group_department);
@@ -100,8 +104,9 @@ public class CertificateBoardActivity extends BaseActivity implements Certificat
             if (chip != null) {
                 currentFilter = chip.getText().toString();
                 // 칩이 바뀌면 검색창 초기화 (선택 사항)
+                // 학부 필터는 받아 둔 목록에서 거르므로 리스너를 다시 등록하지 않음
                 editSearch.setText("");
-                loadCertificates();
+                applyFilters();
             }
         });
         chipGroupFilters.check(R.id.chip_all);
@@ -113,8 +118,8 @@ public class CertificateBoardActivity extends BaseActivity implements Certificat
 
             @Override
             public void onTextChanged(CharSequence s, int start, int before, int count) {
-                // 글자가 바뀔 때마다 필터링 메서드 호출
-                filterList(s.toString());
+                // 글자가 바뀔 때마다 색인으로 바로 필터링
+                applyFilters();
             }
 
             @Override
@@ -122,26 +127,25 @@ public class CertificateBoardActivity extends BaseActivity implements Certificat
         });
     }
 
-    // [추가] 검색어에 따라 리스트를 걸러주는 메서드
-    private void filterList(String text) {
-        displayedList.clear(); // 화면 목록 비우기
-
-        if (text.isEmpty()) {
-            // 검색어가 없으면 원본 데이터를 모두 보여줌
-            displayedList.addAll(allCertificateList);
-        } else {
-            // 검색어가 있으면 포함된 것만 추가
-            String query = text.toLowerCase().trim(); // 대소문자 무시 및 공백 제거
-            for (Certificate item : allCertificateList) {
-                // 자격증 이름(title)이나 내용 등에 검색어가 포함되어 있는지 확인
-                // (Certificate 클래스에 getTitle() 혹은 getName()이 있다고 가정)
-                if (item.getTitle() != null && item.getTitle().toLowerCase().contains(query)) {
-                    displayedList.add(item);
-                }
-                // 만약 다른 필드(예: 발급기관)로도 검색하고 싶다면 여기에 || 조건 추가
+    /**
+     * 학부 칩과 검색어로 걸러 화면에 표시
+     * 검색은 HangulSearchIndex로 후보를 찾으므로 조합 중인 글자나 초성으로도 찾을 수 있음
+     */
+    private void applyFilters() {
+        Set<String> matches = searchIndex.search(editSearch.getText().toString());
+        boolean allDepartments = currentFilter.equals("전체");
+
+        List<Certificate> visible = new ArrayList<>();
+        for (Certificate item : allCertificateList) {
+            if (!allDepartments && !currentFilter.equals(item.getDepartment())) {
+                continue;
+            }
+            if (matches != null && !matches.contains(item.getId())) {
+                continue;
             }
+            visible.add(item);
         }
-        adapter.notifyDataSetChanged(); // 리사이클러뷰 갱신
+        adapter.submitList(visible);
     }
 
     @Override
@@ -179,17 +183,19 @@ public class CertificateBoardActivity extends BaseActivity implements Certificat
         }
     }
 
+    /**
+     * 자격증 전체를 한 번만 구독 (학부 필터/검색은 클라이언트에서 처리)
+     * 리스너를 새로 등록하면 첫 스냅샷에 모든 문서가 ADDED로 오므로 받아 둔 목록을 비우고 시작
+     */
     private void loadCertificates() {
         if (certificateListener != null) {
             certificateListener.remove();
         }
+        allCertificateList.clear();
+        searchIndex.clear();
 
         Query query = certCollection.orderBy("bookmarkCount", Query.Direction.DESCENDING);
 
-        if (!currentFilter.equals("전체")) {
-            query = query.whereEqualTo("department", currentFilter);
-        }
-
         certificateListener = query.addSnapshotListener((value, error) -> {
             if (error != null) {
                 Log.w(TAG, "Listen failed.", error);
@@ -198,20 +204,45 @@ public class CertificateBoardActivity extends BaseActivity implements Certificat
             }
 
             if (value != null) {
-                // 1. 원본 리스트(allCertificateList)에 DB 데이터 저장
-                allCertificateList.clear();
-                for (Certificate doc : value.toObjects(Certificate.class)) {
-                    allCertificateList.add(doc);
-                }
-
-                // 2. 현재 검색창에 입력된 텍스트로 즉시 필터링하여 화면에 표시
-                // (데이터 로드 직후 검색어가 남아있을 수 있으므로)
-                String searchText = editSearch.getText().toString();
-                filterList(searchText);
+                applyDocumentChanges(value);
+                applyFilters();
             }
         });
     }
 
+    /**
+     * 스냅샷의 변경분만 목록과 검색 색인에 반영
+     * 변경은 oldIndex/newIndex 순서대로 적용하면 쿼리 정렬(북마크 수)과 같은 순서가 유지됨
+     * 북마크 수만 바뀐 문서는 제목/기관이 그대로라 색인을 다시 만들지 않음
+     */
+    private void applyDocumentChanges(QuerySnapshot value) {
+        for (DocumentChange change : value.getDocumentChanges()) {
+            switch (change.getType()) {
+                case ADDED: {
+                    Certificate certificate = change.getDocument().toObject(Certificate.class);
+                    allCertificateList.add(change.getNewIndex(), certificate);
+                    searchIndex.put(certificate.getId(), certificate.getTitle(), certificate.getIssuer());
+                    break;
+                }
+                case MODIFIED: {
+                    Certificate certificate = change.getDocument().toObject(Certificate.class);
+                    if (change.getOldIndex() == change.getNewIndex()) {
+                        allCertificateList.set(change.getNewIndex(), certificate);
+                    } else {
+                        allCertificateList.remove(change.getOldIndex());
+                        allCertificateList.add(change.getNewIndex(), certificate);
+                    }
+                    searchIndex.put(certificate.getId(), certificate.getTitle(), certificate.getIssuer());
+                    break;
+                }
+                case REMOVED:
+                    allCertificateList.remove(change.getOldIndex());
+                    searchIndex.remove(change.getDocument().getId());
+                    break;
+            }
+        }
+    }
+
     @Override
     public void onBookmarkClick(Certificate certificate) {
         if (currentUserId == null) return;
@@ -23,6 +23,10 @@ import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.QueryDocumentSnapshot;
 
+import sprout.app.sakmvp1.timetable.GroupEventRepository;
+import sprout.app.sakmvp1.timetable.ScheduleIndex;
+import sprout.app.sakmvp1.timetable.TimeTableFragment;
+
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
@@ -51,6 +55,9 @@ public class ChecklistFragment extends Fragment {
     private SimpleDateFormat dateFormat;
     private SimpleDateFormat dayFormat;
 
+    // 저장된 모든 시간표의 수업을 요일별로 색인 (화면이 만들어질 때 한 번만 조회, 날짜 이동 시 재사용)
+    private ScheduleIndex<TimeTableFragment.ScheduleData> classIndex;
+
     @Nullable
     @Override
     public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container, @Nullable Bundle savedInstanceState) {
@@ -62,6 +69,7 @@ public class ChecklistFragment extends Fragment {
         selectedDate = Calendar.getInstance();
         dateFormat = new SimpleDateFormat("yyyy/MM/dd", Locale.KOREAN);
         dayFormat = new SimpleDateFormat("(E)", Locale.KOREAN);
+        classIndex = null;
 
         initViews(view);
         setupRecyclerView();
@@ -131,55 +139,42 @@ public class ChecklistFragment extends Fragment {
 
         android.util.Log.d("ChecklistFragment", "Loading data for dayIndex: " + targetDayIndex + " (" + getDayName(dayOfWeek) + ")");
 
-        // 1. 시간표에서 해당 요일의 수업 가져오기
+        // 1. 시간표에서 해당 요일의 수업 가져오기 (이미 색인이 있으면 재조회하지 않음)
+        if (classIndex != null) {
+            addClassItems(items, targetDayIndex);
+            // 2. 추가 일정 가져오기
+            loadCustomTasks(items);
+            return;
+        }
+
         db.collection("users").document(userId)
                 .collection("timetables")
                 .get()
                 .addOnSuccessListener(queryDocumentSnapshots -> {
                     android.util.Log.d("ChecklistFragment", "Found " + queryDocumentSnapshots.size() + " timetables");
 
+                    List<TimeTableFragment.ScheduleData> classes = new ArrayList<>();
                     for (QueryDocumentSnapshot doc : queryDocumentSnapshots) {
                         if (doc.contains("schedules")) {
                             List<Map<String, Object>> schedules = (List<Map<String, Object>>) doc.get("schedules");
                             if (schedules != null) {
-                                android.util.Log.d("ChecklistFragment", "Found " + schedules.size() + " schedules in timetable");
-
                                 for (Map<String, Object> schedule : schedules) {
-                                    // dayIndex는 숫자 (0=월, 1=화...)
-                                    Long dayIndexLong = (Long) schedule.get("dayIndex");
-                                    int scheduleDayIndex = dayIndexLong != null ? dayIndexLong.intValue() : -1;
-
-                                    android.util.Log.d("ChecklistFragment", "Schedule dayIndex: " + scheduleDayIndex + ", target: " + targetDayIndex);
-
-                                    if (scheduleDayIndex == targetDayIndex) {
-                                        ChecklistItem item = new ChecklistItem();
-                                        item.type = ChecklistItem.TYPE_CLASS;
-                                        item.title = (String) schedule.get("subjectName");
-
-                                        // 시간 변환 (숫자 -> 문자열)
-                                        Long startHour = (Long) schedule.get("startHour");
-                                        Long startMinute = (Long) schedule.get("startMinute");
-                                        Long endHour = (Long) schedule.get("endHour");
-                                        Long endMinute = (Long) schedule.get("endMinute");
-
-                                        if (startHour != null && startMinute != null) {
-                                            item.startTime = String.format(Locale.getDefault(), "%02d:%02d", startHour.intValue(), startMinute.intValue());
-                                        }
-                                        if (endHour != null && endMinute != null) {
-                                            item.endTime = String.format(Locale.getDefault(), "%02d:%02d", endHour.intValue(), endMinute.intValue());
-                                        }
-
-                                        item.description = (String) schedule.get("location");
-                                        item.isChecked = false;
-                                        items.add(item);
-
-                                        android.util.Log.d("ChecklistFragment", "Added class: " + item.title);
+                                    TimeTableFragment.ScheduleData data = toScheduleData(schedule);
+                                    if (data != null) {
+                                        classes.add(data);
                                     }
                                 }
                             }
                         }
                     }
 
+                    ScheduleIndex<TimeTableFragment.ScheduleData> index = new ScheduleIndex<>();
+                    index.addAll(classes);
+                    classIndex = index;
+                    android.util.Log.d("ChecklistFragment", "Indexed " + index.size() + " classes");
+
+                    addClassItems(items, targetDayIndex);
+
                     // 2. 추가 일정 가져오기
                     loadCustomTasks(items);
                 })
@@ -190,6 +185,46 @@ public class ChecklistFragment extends Fragment {
                 });
     }
 
+    // 색인에서 해당 요일의 수업을 시작 시간 순으로 꺼내 체크리스트 항목으로 추가
+    private void addClassItems(List<ChecklistItem> items, int targetDayIndex) {
+        if (targetDayIndex < 0) return;
+
+        for (TimeTableFragment.ScheduleData schedule : classIndex.getDay(targetDayIndex)) {
+            ChecklistItem item = new ChecklistItem();
+            item.type = ChecklistItem.TYPE_CLASS;
+            item.title = schedule.subjectName;
+            item.startTime = String.format(Locale.getDefault(), "%02d:%02d", schedule.startHour, schedule.startMinute);
+            item.endTime = String.format(Locale.getDefault(), "%02d:%02d", schedule.endHour, schedule.endMinute);
+            item.description = schedule.location;
+            item.isChecked = false;
+            items.add(item);
+        }
+        android.util.Log.d("ChecklistFragment", "Added " + classIndex.size(targetDayIndex) + " classes for dayIndex: " + targetDayIndex);
+    }
+
+    // Firestore 수업 맵 -> ScheduleData (요일/시간 정보가 없으면 null)
+    private TimeTableFragment.ScheduleData toScheduleData(Map<String, Object> schedule) {
+        // dayIndex는 숫자 (0=월, 1=화...)
+        Object dayIndex = schedule.get("dayIndex");
+        Object startHour = schedule.get("startHour");
+        Object startMinute = schedule.get("startMinute");
+        Object endHour = schedule.get("endHour");
+        Object endMinute = schedule.get("endMinute");
+        if (!(dayIndex instanceof Number) || !(startHour instanceof Number) || !(startMinute instanceof Number)
+                || !(endHour instanceof Number) || !(endMinute instanceof Number)) {
+            return null;
+        }
+        int day = ((Number) dayIndex).intValue();
+        if (day < 0 || day >= ScheduleIndex.DAYS) {
+            return null;
+        }
+        return new TimeTableFragment.ScheduleData(
+                day,
+                ((Number) startHour).intValue(), ((Number) startMinute).intValue(),
+                ((Number) endHour).intValue(), ((Number) endMinute).intValue(),
+                (String) schedule.get("subjectName"), null, (String) schedule.get("location"));
+    }
+
     // Calendar.DAY_OF_WEEK를 dayIndex(0=월, 1=화...)로 변환
     private int getDayIndex(int calendarDayOfWeek) {
         switch (calendarDayOfWeek) {
@@ -247,70 +282,33 @@ public class ChecklistFragment extends Fragment {
         SimpleDateFormat dateKeyFormat = new SimpleDateFormat("yyyy-MM-dd", Locale.getDefault());
         String dateKey = dateKeyFormat.format(selectedDate.getTime());
 
-        // 내가 속한 그룹 찾기
-        db.collection("groups")
-                .whereArrayContains("members", userId)
-                .get()
-                .addOnSuccessListener(groupSnapshots -> {
-                    if (groupSnapshots.isEmpty()) {
+        // 선택된 날짜의 그룹 일정 (날짜 색인 쿼리 한 번 + 날짜별 캐시)
+        GroupEventRepository.getInstance().loadEventsForDay(userId, dateKey,
+                new GroupEventRepository.OnDayEventsLoadedListener() {
+                    @Override
+                    public void onSuccess(List<GroupEventRepository.DayEvent> events) {
+                        for (GroupEventRepository.DayEvent event : events) {
+                            ChecklistItem item = new ChecklistItem();
+                            item.type = ChecklistItem.TYPE_GROUP_EVENT;
+                            item.id = event.id;
+                            item.title = event.title;
+                            item.startTime = event.startTime;
+                            item.endTime = event.endTime;
+                            item.description = event.description;
+                            item.groupName = event.groupName;
+                            item.isChecked = false;  // 그룹 일정은 체크 불가
+                            items.add(item);
+                        }
                         finalizeItemsAndDisplay(items);
-                        return;
                     }
 
-                    // 각 그룹의 일정 가져오기
-                    int[] loadedCount = {0};
-                    int totalGroups = groupSnapshots.size();
-
-                    for (QueryDocumentSnapshot groupDoc : groupSnapshots) {
-                        String groupId = groupDoc.getId();
-                        String groupName = groupDoc.getString("name");
-
-                        db.collection("groups").document(groupId)
-                                .collection("calendar_events")
-                                .get()
-                                .addOnSuccessListener(eventSnapshots -> {
-                                    for (QueryDocumentSnapshot eventDoc : eventSnapshots) {
-                                        String startDate = eventDoc.getString("startDate");
-                                        String endDate = eventDoc.getString("endDate");
-
-                                        // 선택된 날짜가 일정 범위에 포함되는지 확인
-                                        if (isDateInRange(dateKey, startDate, endDate)) {
-                                            ChecklistItem item = new ChecklistItem();
-                                            item.type = ChecklistItem.TYPE_GROUP_EVENT;
-                                            item.id = eventDoc.getId();
-                                            item.title = eventDoc.getString("title");
-                                            item.startTime = eventDoc.getString("startTime");
-                                            item.endTime = eventDoc.getString("endTime");
-                                            item.description = eventDoc.getString("description");
-                                            item.groupName = groupName;
-                                            item.isChecked = false;  // 그룹 일정은 체크 불가
-                                            items.add(item);
-                                        }
-                                    }
-
-                                    loadedCount[0]++;
-                                    if (loadedCount[0] >= totalGroups) {
-                                        finalizeItemsAndDisplay(items);
-                                    }
-                                })
-                                .addOnFailureListener(e -> {
-                                    loadedCount[0]++;
-                                    if (loadedCount[0] >= totalGroups) {
-                                        finalizeItemsAndDisplay(items);
-                                    }
-                                });
+                    @Override
+                    public void onFailure(Exception e) {
+                        finalizeItemsAndDisplay(items);
                     }
-                })
-                .addOnFailureListener(e -> {
-                    finalizeItemsAndDisplay(items);
                 });
     }
 
-    private boolean isDateInRange(String targetDate, String startDate, String endDate) {
-        if (startDate == null || endDate == null) return false;
-        return targetDate.compareTo(startDate) >= 0 && targetDate.compareTo(endDate) <= 0;
-    }
-
     private void finalizeItemsAndDisplay(List<ChecklistItem> items) {
         // 시간순 정렬
         Collections.sort(items, (a, b) -> {
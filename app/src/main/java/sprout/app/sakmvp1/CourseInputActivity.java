@@ -12,6 +12,7 @@ import android.widget.ArrayAdapter;
 import android.widget.Button;
 import android.widget.EditText;
 import android.widget.LinearLayout;
+import android.widget.ProgressBar;
 import android.widget.RadioButton;
 import android.widget.RadioGroup;
 import android.widget.Spinner;
@@ -24,6 +25,8 @@ import androidx.core.content.ContextCompat;
 import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
+import sprout.app.sakmvp1.models.CompiledGraduationRules;
+import sprout.app.sakmvp1.models.TakenCourse;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -120,6 +123,12 @@ public class CourseInputActivity extends BaseActivity {
     // 수집된 강의 목록
     private List<Course> courseList;
 
+    // 실시간 진행률 (졸업요건 로드 후 과목 추가/삭제를 증분 반영)
+    private CompiledGraduationRules.Incremental liveAnalysis;
+    private View layoutLiveProgress;
+    private TextView textLiveProgress;
+    private ProgressBar progressLiveCredits;
+
     // 다이얼로그 선택 상태(복원용)
     private boolean lastSelectedIsMajor = true;
     private int lastSelectedCategoryPosition = 0;
@@ -157,6 +166,8 @@ public class CourseInputActivity extends BaseActivity {
             updateTabDisplay();
             switchToMajorGroup();
         }
+
+        loadLiveAnalysis();   // 실시간 진행률용 졸업요건 로드
     }
 
     /** WindowInsetsCompat: 시스템 바 영역만큼 패딩 적용 */
@@ -266,6 +277,9 @@ public class CourseInputActivity extends BaseActivity {
         layoutSelectedCategoryCourses = findViewById(R.id.layout_selected_category_courses);
         textEmptyCourses = findViewById(R.id.text_empty_courses);
         btnAnalyzeGraduation = findViewById(R.id.btn_analyze_graduation);
+        layoutLiveProgress = findViewById(R.id.layout_live_progress);
+        textLiveProgress = findViewById(R.id.text_live_progress);
+        progressLiveCredits = findViewById(R.id.progress_live_credits);
         toolbar = findViewById(R.id.toolbar_course_input);
 
         btnMajorGroup = findViewById(R.id.btn_major_group);
@@ -593,6 +607,27 @@ public class CourseInputActivity extends BaseActivity {
             }
         });
 
+        // 스피너에서 과목을 고르면 추가했을 때의 진행률을 미리 표시 (증분 분석으로 추가 후 되돌림)
+        spinnerMajorCourses.setOnItemSelectedListener(new android.widget.AdapterView.OnItemSelectedListener() {
+            @Override
+            public void onItemSelected(android.widget.AdapterView<?> parent, View view, int position, long id) {
+                int catPos = spinnerCourseCategory.getSelectedItemPosition();
+                FirebaseDataManager.CourseInfo info = position >= 0 && position < majorCoursesAdapter.getCount()
+                        ? majorCoursesAdapter.getItem(position) : null;
+                if (info == null || catPos < 0) {
+                    updateLiveProgress();
+                    return;
+                }
+                updateLiveProgress(new Course(categoryAdapter.getItem(catPos), info.getName(), info.getCredits()));
+            }
+
+            @Override
+            public void onNothingSelected(android.widget.AdapterView<?> parent) {
+                updateLiveProgress();
+            }
+        });
+        dialog.setOnDismissListener(d -> updateLiveProgress());
+
         dialog.show();
     }
 
@@ -759,7 +794,7 @@ public class CourseInputActivity extends BaseActivity {
 
         // 과목 추가
         Course newCourse = new Course(category, courseName, credits, null, competency);
-        courseList.add(newCourse);
+        addCourse(newCourse);
 
         Log.d(TAG, "직접 입력 과목 추가: " + courseName + " (" + credits + "학점, " + category +
                 (competency != null ? ", " + competency : "") + ")");
@@ -928,7 +963,7 @@ public class CourseInputActivity extends BaseActivity {
         }
 
         Course course = new Course(category, courseName, credits, selected.getGroupId());
-        courseList.add(course);
+        addCourse(course);
         updateCourseDisplay();
         updateAnalyzeButtonState();
 
@@ -977,7 +1012,7 @@ public class CourseInputActivity extends BaseActivity {
         lastSelectedCompetencyPosition = compPos; // 역량 상태 저장
 
         Course course = new Course(category, name, credits, null, competency);
-        courseList.add(course);
+        addCourse(course);
         updateCourseDisplay();
         updateAnalyzeButtonState();
 
@@ -1019,7 +1054,7 @@ public class CourseInputActivity extends BaseActivity {
 
         String category = categoryAdapter.getItem(catPos);
         Course course = new Course(category, name, credits);
-        courseList.add(course);
+        addCourse(course);
         updateCourseDisplay();
         updateAnalyzeButtonState();
 
@@ -1192,7 +1227,7 @@ public class CourseInputActivity extends BaseActivity {
         delete.setContentDescription("삭제");
 
         delete.setOnClickListener(v -> {
-            courseList.remove(course);
+            removeCourse(course);
             updateCourseDisplay();
             updateAnalyzeButtonState();
             Toast.makeText(this, course.getName() + " 삭제됨", Toast.LENGTH_SHORT).show();
@@ -1211,6 +1246,82 @@ public class CourseInputActivity extends BaseActivity {
         btnAnalyzeGraduation.setText(enabled ?
                 String.format("졸업요건 분석 (%d개 강의)", courseList.size()) :
                 "강의를 입력해주세요");
+        updateLiveProgress();
+    }
+
+    // ─────────────────────────────────────────────────────────────────────────
+    // 실시간 진행률 (증분 분석)
+    // ─────────────────────────────────────────────────────────────────────────
+
+    /** 목록과 증분 분석에 함께 추가 */
+    private void addCourse(Course course) {
+        courseList.add(course);
+        if (liveAnalysis != null) liveAnalysis.add(course);
+    }
+
+    /** 목록과 증분 분석에서 함께 삭제 */
+    private void removeCourse(Course course) {
+        courseList.remove(course);
+        if (liveAnalysis != null) liveAnalysis.remove(course);
+    }
+
+    /** 졸업요건을 불러와 현재 목록으로 증분 분석 세션 시작 (이후에는 변경분만 반영) */
+    private void loadLiveAnalysis() {
+        dataManager.loadGraduationRules(selectedYear, selectedDepartment, selectedTrack,
+            new FirebaseDataManager.OnGraduationRulesLoadedListener() {
+                @Override
+                public void onSuccess(sprout.app.sakmvp1.models.GraduationRules rules) {
+                    if (isFinishing() || isDestroyed()) return;
+                    liveAnalysis = rules.compile().newIncremental(courseList);
+                    updateLiveProgress();
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    Log.w(TAG, "실시간 진행률용 졸업요건 로드 실패", e);
+                }
+            });
+    }
+
+    /** 진행률 표시 갱신 (과목 추가/삭제 후 호출) */
+    private void updateLiveProgress() {
+        updateLiveProgress(null);
+    }
+
+    /**
+     * 진행률 표시 갱신
+     * @param candidate 선택 중인 과목 (있으면 추가했을 때의 학점을 보조 진행률로 표시)
+     */
+    private void updateLiveProgress(TakenCourse candidate) {
+        if (liveAnalysis == null || layoutLiveProgress == null) return;
+
+        CompiledGraduationRules.Evaluation eval = liveAnalysis.getEvaluation();
+        int earned = eval.getTotalEarnedCredits();
+        int required = eval.getTotalRequiredCredits();
+        int completedCategories = 0;
+        int categoryCount = eval.getCategoryCount();
+        for (int i = 0; i < categoryCount; i++) {
+            if (eval.isCompleted(i)) completedCategories++;
+        }
+
+        int whatIfEarned = earned;
+        if (candidate != null) {
+            liveAnalysis.add(candidate);
+            whatIfEarned = liveAnalysis.getEvaluation().getTotalEarnedCredits();
+            liveAnalysis.remove(candidate);
+        }
+
+        progressLiveCredits.setMax(Math.max(required, 1));
+        progressLiveCredits.setProgress(Math.min(earned, Math.max(required, 1)));
+        progressLiveCredits.setSecondaryProgress(Math.min(whatIfEarned, Math.max(required, 1)));
+
+        String text = String.format("이수 %d / %d학점 · 영역 %d/%d 충족", earned, required,
+                completedCategories, categoryCount);
+        if (whatIfEarned != earned) {
+            text += String.format(" (선택 과목 추가 시 %d학점)", whatIfEarned);
+        }
+        textLiveProgress.setText(text);
+        layoutLiveProgress.setVisibility(View.VISIBLE);
     }
 
     /** 졸업요건 분석 화면으로 이동(중복 클릭 방지) */
@@ -1333,7 +1444,7 @@ public class CourseInputActivity extends BaseActivity {
     // ─────────────────────────────────────────────────────────────────────────
     // 모델/로딩 메시지/수명주기
     // ─────────────────────────────────────────────────────────────────────────
-    public static class Course implements android.os.Parcelable {
+    public static class Course implements android.os.Parcelable, TakenCourse {
         private String category;
         private String name;
         private int credits;
@@ -1380,9 +1491,9 @@ public class CourseInputActivity extends BaseActivity {
 
         @Override public String toString() { return String.format("[%s] %s (%d학점)", category, name, credits); }
 
-        public String getCategory() { return category; }
-        public String getName() { return name; }
-        public int getCredits() { return credits; }
+        @Override public String getCategory() { return category; }
+        @Override public String getName() { return name; }
+        @Override public int getCredits() { return credits; }
         public String getGroupId() { return groupId; }
         public String getCompetency() { return competency; }
     }
@@ -1558,7 +1669,7 @@ public class CourseInputActivity extends BaseActivity {
                     courseInfo.getName(),
                     courseInfo.getCredits()
                 );
-                courseList.add(newCourse);
+                addCourse(newCourse);
             }
 
             updateCourseDisplay();
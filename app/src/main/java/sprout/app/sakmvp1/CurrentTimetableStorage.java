@@ -6,71 +6,154 @@ import android.content.SharedPreferences;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import sprout.app.sakmvp1.timetable.TimeTableFragment;
+import sprout.app.sakmvp1.utils.RecordStore;
 
 /**
  * 현재 작업 중인 시간표를 로컬에 저장/불러오기하는 클래스
+ *
+ * 수업은 RecordStore에 documentId별 레코드로 저장하므로 수업 추가/삭제가 해당 수업만 기록함
+ * (예전 버전의 SharedPreferences JSON 목록은 처음 열 때 한 번 옮김)
  */
 public class CurrentTimetableStorage {
     private static final String PREF_NAME = "current_timetable";
     private static final String KEY_SCHEDULES = "schedules";
+    private static final String RECORD_FILE = "timetables/current_timetable.log";
 
     private SharedPreferences prefs;
-    private Gson gson;
+    private RecordStore<TimeTableFragment.ScheduleData> store;
 
     public CurrentTimetableStorage(Context context) {
         prefs = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
-        gson = new Gson();
+        store = RecordStore.open(new File(context.getFilesDir(), RECORD_FILE), new ScheduleCodec(),
+                new RecordStore.LegacySource<TimeTableFragment.ScheduleData>() {
+                    @Override
+                    public Map<String, TimeTableFragment.ScheduleData> load() {
+                        return loadLegacySchedules();
+                    }
+
+                    @Override
+                    public void clear() {
+                        prefs.edit().remove(KEY_SCHEDULES).apply();
+                    }
+                });
     }
 
     /**
-     * 현재 시간표 저장
+     * 현재 시간표 저장 (전체 교체)
      */
     public void saveCurrentTimetable(List<TimeTableFragment.ScheduleData> schedules) {
-        String json = gson.toJson(schedules);
-        prefs.edit().putString(KEY_SCHEDULES, json).apply();
+        Map<String, TimeTableFragment.ScheduleData> byId = new LinkedHashMap<>();
+        for (TimeTableFragment.ScheduleData schedule : schedules) {
+            byId.put(keyOf(schedule), schedule);
+        }
+        store.replaceAll(byId);
     }
 
     /**
      * 현재 시간표 불러오기
      */
     public List<TimeTableFragment.ScheduleData> loadCurrentTimetable() {
-        String json = prefs.getString(KEY_SCHEDULES, null);
-        if (json == null) {
-            return new ArrayList<>();
-        }
-
-        Type type = new TypeToken<List<TimeTableFragment.ScheduleData>>(){}.getType();
-        List<TimeTableFragment.ScheduleData> schedules = gson.fromJson(json, type);
-        return schedules != null ? schedules : new ArrayList<>();
+        return store.values();
     }
 
     /**
      * 현재 시간표 전체 삭제
      */
     public void clearCurrentTimetable() {
-        prefs.edit().remove(KEY_SCHEDULES).apply();
+        store.clear();
     }
 
     /**
      * 특정 수업 추가
      */
     public void addSchedule(TimeTableFragment.ScheduleData schedule) {
-        List<TimeTableFragment.ScheduleData> schedules = loadCurrentTimetable();
-        schedules.add(schedule);
-        saveCurrentTimetable(schedules);
+        store.put(keyOf(schedule), schedule);
     }
 
     /**
      * 특정 수업 삭제 (documentId로)
      */
     public void removeSchedule(String documentId) {
-        List<TimeTableFragment.ScheduleData> schedules = loadCurrentTimetable();
-        schedules.removeIf(s -> s.documentId != null && s.documentId.equals(documentId));
-        saveCurrentTimetable(schedules);
+        if (documentId != null) {
+            store.remove(documentId);
+        }
+    }
+
+    // documentId가 없는 수업은 임의 키로 저장 (documentId로 삭제할 수 없는 것은 예전과 같음)
+    private static String keyOf(TimeTableFragment.ScheduleData schedule) {
+        return schedule.documentId != null ? schedule.documentId : "local_" + UUID.randomUUID();
+    }
+
+    /**
+     * 예전 형식(전체 목록 JSON) 읽기 (RecordStore로 옮길 때 한 번만 사용)
+     */
+    private Map<String, TimeTableFragment.ScheduleData> loadLegacySchedules() {
+        Map<String, TimeTableFragment.ScheduleData> schedules = new LinkedHashMap<>();
+        String json = prefs.getString(KEY_SCHEDULES, null);
+        if (json == null) {
+            return schedules;
+        }
+
+        Type type = new TypeToken<List<TimeTableFragment.ScheduleData>>(){}.getType();
+        List<TimeTableFragment.ScheduleData> list = new Gson().fromJson(json, type);
+        if (list != null) {
+            for (TimeTableFragment.ScheduleData schedule : list) {
+                if (schedule != null) {
+                    schedules.put(keyOf(schedule), schedule);
+                }
+            }
+        }
+        return schedules;
+    }
+
+    /**
+     * ScheduleData ↔ 바이트 (필드 순서대로 기록, 형식이 바뀌면 VERSION을 올리고 read에서 분기)
+     */
+    private static class ScheduleCodec implements RecordStore.Codec<TimeTableFragment.ScheduleData> {
+        private static final int VERSION = 1;
+
+        @Override
+        public void write(DataOutputStream out, TimeTableFragment.ScheduleData schedule) throws IOException {
+            out.writeByte(VERSION);
+            RecordStore.writeNullableString(out, schedule.documentId);
+            out.writeByte(schedule.dayIndex);
+            out.writeByte(schedule.startHour);
+            out.writeByte(schedule.startMinute);
+            out.writeByte(schedule.endHour);
+            out.writeByte(schedule.endMinute);
+            RecordStore.writeNullableString(out, schedule.subjectName);
+            RecordStore.writeNullableString(out, schedule.professorName);
+            RecordStore.writeNullableString(out, schedule.location);
+        }
+
+        @Override
+        public TimeTableFragment.ScheduleData read(DataInputStream in) throws IOException {
+            int version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 수업 형식: " + version);
+            }
+            TimeTableFragment.ScheduleData schedule = new TimeTableFragment.ScheduleData();
+            schedule.documentId = RecordStore.readNullableString(in);
+            schedule.dayIndex = in.readByte();
+            schedule.startHour = in.readByte();
+            schedule.startMinute = in.readByte();
+            schedule.endHour = in.readByte();
+            schedule.endMinute = in.readByte();
+            schedule.subjectName = RecordStore.readNullableString(in);
+            schedule.professorName = RecordStore.readNullableString(in);
+            schedule.location = RecordStore.readNullableString(in);
+            return schedule;
+        }
     }
 }
@@ -2,18 +2,37 @@ package sprout.app.sakmvp1;
 
 import android.util.Log;
 
+import androidx.annotation.Nullable;
+
+import com.google.android.gms.tasks.CancellationToken;
+import com.google.android.gms.tasks.CancellationTokenSource;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.TaskCompletionSource;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.AggregateSource;
 import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldPath;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.QuerySnapshot;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import sprout.app.sakmvp1.managers.GraduationRequirementWriter;
+import sprout.app.sakmvp1.managers.GraduationRulesDiskCache;
+import sprout.app.sakmvp1.models.GraduationRules;
+import sprout.app.sakmvp1.utils.CacheStore;
+import sprout.app.sakmvp1.utils.TaskScope;
 
 /**
  * Firebase Firestore 데이터 관리 싱글톤 클래스
@@ -30,10 +49,11 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <h3>성능 최적화:</h3>
  * <ul>
- *   <li><strong>캐싱 시스템:</strong> 5분 유효성 메모리 캐시로 네트워크 요청 최소화</li>
+ *   <li><strong>캐싱 시스템:</strong> 네임스페이스별 TTL(5분) + 용량 제한(LRU) 메모리 캐시로 네트워크 요청 최소화</li>
  *   <li><strong>N+1 쿼리 해결:</strong> DocumentSnapshot 캐싱으로 중복 쿼리 방지</li>
  *   <li><strong>동시 로딩:</strong> 학번/학부/트랙 데이터 병렬 처리</li>
  *   <li><strong>Single-flight 패턴:</strong> 중복 요청 자동 병합</li>
+ *   <li><strong>Task API:</strong> getGraduationRules 등은 Task를 반환해 병렬 조합/마감 시간/취소(TaskScope)가 가능하며, 기존 리스너 메서드는 이를 감싼 어댑터</li>
  * </ul>
  *
  * @version 1.0
@@ -53,64 +73,142 @@ public class FirebaseDataManager {
 
     // ========== 캐싱 시스템 ==========
 
-    /** 학번(연도) 목록 캐시 - Key: "years", Value: ["2025", "2024", ...] */
-    private Map<String, List<String>> studentYearsCache = new HashMap<>();
+    /** 캐시 유효 시간: 5분 (300,000ms) */
+    private static final long CACHE_VALIDITY_MS = 5 * 60 * 1000;
+
+    /** DocumentSnapshot 캐시 용량: 네임스페이스별 약 2MB (추정 크기 기준) */
+    private static final long SNAPSHOT_CACHE_MAX_BYTES = 2 * 1024 * 1024;
+
+    /** GraduationRules 캐시 용량: 약 2MB (추정 크기 기준) */
+    private static final long RULES_CACHE_MAX_BYTES = 2 * 1024 * 1024;
+
+    /** 목록형 캐시(학번/학부/트랙) 최대 항목 수 */
+    private static final long LIST_CACHE_MAX_ENTRIES = 64;
+
+    /**
+     * 전체 캐시 저장소
+     * 네임스페이스마다 TTL/용량이 따로 적용되며, 만료된 항목은 반환되지 않고 용량을 넘으면 LRU로 제거됨
+     */
+    private final CacheStore cacheStore = new CacheStore();
+
+    /** 학번(연도) 목록 캐시 - Key: "student_years", Value: ["2025", "2024", ...] */
+    private final CacheStore.Namespace<List<String>> studentYearsCache =
+            cacheStore.namespace("studentYears", CACHE_VALIDITY_MS, LIST_CACHE_MAX_ENTRIES, CacheStore.unitWeigher());
 
     /** 학부 목록 캐시 - Key: "departments", Value: ["IT학부", "태권도학부", ...] */
-    private Map<String, List<String>> departmentsCache = new HashMap<>();
+    private final CacheStore.Namespace<List<String>> departmentsCache =
+            cacheStore.namespace("departments", CACHE_VALIDITY_MS, LIST_CACHE_MAX_ENTRIES, CacheStore.unitWeigher());
 
     /** 학부별 트랙 캐시 - Key: 학부명, Value: ["인공지능", "멀티미디어", ...] */
-    private Map<String, List<String>> tracksCache = new HashMap<>();
+    private final CacheStore.Namespace<List<String>> tracksCache =
+            cacheStore.namespace("tracks", CACHE_VALIDITY_MS, LIST_CACHE_MAX_ENTRIES, CacheStore.unitWeigher());
 
-    /** 강의 정보 캐시 - Key: "학부_트랙_연도_카테고리", Value: CourseInfo 리스트 */
-    private Map<String, List<CourseInfo>> coursesCache = new HashMap<>();
+    /** graduationCache 키 접두사 (뒤에 졸업요건 문서 ID가 붙음) */
+    private static final String RULES_CACHE_KEY_PREFIX = "graduation_rules_";
 
-    /** 졸업 요건 원시 데이터 캐시 - Key: "학부_트랙_연도", Value: Firestore 문서 데이터 */
-    private Map<String, Object> graduationCache = new HashMap<>();
+    /** 디스크에 저장된 규칙을 stamp가 같아도 다시 조합하는 주기: 24시간 (stamp에 드러나지 않는 변경 대비) */
+    private static final long RULES_DISK_MAX_AGE_MS = 24 * 60 * 60 * 1000L;
+    /** 병합된 졸업요건 데이터에 넣어 두는 stamp (rulesStamp, 문서에는 기록하지 않음) */
+    private static final String MERGED_RULES_STAMP = "_rulesStamp";
 
-    // ========== N+1 쿼리 최적화 및 고급 캐싱 ==========
+    /** 통합 졸업요건 캐시 - Key: "graduation_rules_졸업요건_학부_트랙_학번", Value: GraduationRules */
+    private final CacheStore.Namespace<GraduationRules> graduationCache =
+            cacheStore.namespace("graduationRules", CACHE_VALIDITY_MS, RULES_CACHE_MAX_BYTES,
+                    FirebaseDataManager::estimateRulesBytes);
 
     /**
-     * 교양 문서 선택 캐시
-     * Key: "학부|연도" (예: "IT학부|2025")
-     * Value: 최종 사용할 문서ID ("교양_IT학부_2025" 또는 "교양_공통_2025")
+     * GraduationRules 디스크 캐시 (SakApplication에서 설치, 없으면 메모리 캐시만 사용)
+     * 파일 I/O는 diskExecutor에서 수행하고 결과는 메인 스레드로 전달
+     */
+    private volatile GraduationRulesDiskCache rulesDiskCache;
+    private final ExecutorService diskExecutor = Executors.newSingleThreadExecutor();
+
+    /**
+     * 진행 중인 문서 조회 (Single-flight)
+     * Key: "컬렉션/문서ID", Value: 아직 완료되지 않은 조회 Task
      *
-     * 교양 강의는 학부별 특화 문서를 우선 사용하고, 없으면 공통 문서를 fallback으로 사용
+     * 같은 문서를 동시에 요청하면 새 get()을 보내지 않고 진행 중인 Task에 콜백만 추가
+     */
+    private final Map<String, Task<DocumentSnapshot>> inFlightDocuments = new HashMap<>();
+
+    /**
+     * 조합 중인 GraduationRules 요청 (Single-flight)
+     * Key: graduationCache 키, Value: 진행 중인 조합 작업 (Task + 취소 토큰 + 기다리는 요청 수)
      */
-    private final Map<String, String> generalDocCache = new ConcurrentHashMap<>();
+    private final Map<String, SharedRulesLoad> inFlightRules = new HashMap<>();
+
+    /** 조합 마감 시간: 이 안에 끝나지 않으면 실패로 처리하고 남은 조회를 중단 */
+    private static final long RULES_LOAD_DEADLINE_MS = 30 * 1000;
+
+    /** 조회한 문서를 GraduationRules로 조합하는 작업 스레드 (메인 스레드 부담 방지) */
+    private final ExecutorService rulesExecutor = Executors.newSingleThreadExecutor();
+
+    private static final class SharedRulesLoad {
+        final CancellationTokenSource cancellation = new CancellationTokenSource();
+        Task<GraduationRules> task;
+        int subscribers;
+    }
+
+    // ========== N+1 쿼리 최적화 및 고급 캐싱 ==========
+
+    /** 교양 문서 캐시 최대 보관 시간: 24시간 (TTL이 지난 뒤에도 이 시간 동안은 stale로 즉시 반환하고 백그라운드에서 갱신) */
+    private static final long GENERAL_DOC_MAX_STALE_MS = 24 * 60 * 60 * 1000L;
 
     /**
-     * DocumentSnapshot 캐시 (N+1 쿼리 해결용)
-     * Key: Firestore 문서 ID
-     * Value: 캐시된 DocumentSnapshot 객체
+     * 교양 문서 캐시 (N+1 쿼리 해결용, stale-while-revalidate)
+     * Key: "학부|트랙|연도" (예: "IT학부|인공지능|2025")
+     * Value: 최종 선택된 교양 문서의 DocumentSnapshot ("교양_IT학부_2025" 또는 "교양_공통_2025", 문서 ID는 getId())
      *
-     * 동일한 문서에 대한 반복적인 Firestore 조회를 방지하여 성능을 크게 개선
+     * 교양 강의는 학부별 특화 문서를 우선 사용하고, 없으면 공통 문서를 fallback으로 사용
+     * 캐시 통계의 hit/stale/miss가 각각 fresh 반환/stale 반환 후 갱신/네트워크 조회 횟수
      */
-    private final Map<String, DocumentSnapshot> docSnapshotCache = new ConcurrentHashMap<>();
+    private final CacheStore.Namespace<DocumentSnapshot> docSnapshotCache =
+            cacheStore.namespace("generalDocSnapshot", CACHE_VALIDITY_MS, GENERAL_DOC_MAX_STALE_MS,
+                    SNAPSHOT_CACHE_MAX_BYTES, FirebaseDataManager::estimateSnapshotBytes);
+
+    /** 백그라운드 갱신 중인 교양 문서 캐시 키 (같은 키를 중복 갱신하지 않음) */
+    private final Set<String> refreshingGeneralDocs = new HashSet<>();
 
     /**
      * 전공 문서 캐시
      * Key: "학부|트랙|년도" (예: "IT학부|멀티미디어|2025")
      * Value: 최종 사용할 전공 문서 DocumentSnapshot
      */
-    private final Map<String, DocumentSnapshot> majorDocCache = new ConcurrentHashMap<>();
+    private final CacheStore.Namespace<DocumentSnapshot> majorDocCache =
+            cacheStore.namespace("majorDoc", CACHE_VALIDITY_MS, SNAPSHOT_CACHE_MAX_BYTES,
+                    FirebaseDataManager::estimateSnapshotBytes);
 
     /**
      * 학부공통 문서 캐시
      * Key: "학부|트랙|년도" (예: "IT학부|멀티미디어|2025")
      * Value: 학부공통 문서 DocumentSnapshot
      */
-    private final Map<String, DocumentSnapshot> deptCommonDocCache = new ConcurrentHashMap<>();
+    private final CacheStore.Namespace<DocumentSnapshot> deptCommonDocCache =
+            cacheStore.namespace("deptCommonDoc", CACHE_VALIDITY_MS, SNAPSHOT_CACHE_MAX_BYTES,
+                    FirebaseDataManager::estimateSnapshotBytes);
+
+    // ========== 일괄 문서 조회 (whereIn) ==========
+
+    /** whereIn 쿼리 한 번에 넣을 수 있는 최대 문서 ID 수 (Firestore 제한) */
+    private static final int WHERE_IN_CHUNK_SIZE = 30;
 
     /**
-     * 캐시 타임스탬프 관리
-     * Key: 캐시 키
-     * Value: 캐시 생성 시간 (밀리초)
+     * loadDocuments로 미리 받아둔 문서 캐시
+     * Key: "컬렉션/문서ID", Value: DocumentSnapshot
+     *
+     * getDocumentShared가 먼저 확인하므로 한 번에 받아둔 문서는 이후 단계에서 네트워크 없이 사용
      */
-    private final Map<String, Long> cacheTimestamps = new ConcurrentHashMap<>();
+    private final CacheStore.Namespace<DocumentSnapshot> prefetchedDocCache =
+            cacheStore.namespace("prefetchedDoc", CACHE_VALIDITY_MS, SNAPSHOT_CACHE_MAX_BYTES,
+                    FirebaseDataManager::estimateSnapshotBytes);
 
-    /** 캐시 유효 시간: 5분 (300,000ms) */
-    private static final long CACHE_VALIDITY_MS = 5 * 60 * 1000;
+    /**
+     * loadDocuments에서 요청했지만 존재하지 않았던 문서
+     * Key: "컬렉션/문서ID" - 학부별 교양 문서처럼 없을 수 있는 후보를 다시 조회하지 않기 위해 사용
+     */
+    private final CacheStore.Namespace<Boolean> missingDocCache =
+            cacheStore.namespace("missingDoc", CACHE_VALIDITY_MS, LIST_CACHE_MAX_ENTRIES * 4,
+                    CacheStore.unitWeigher());
 
     /**
      * private 생성자 (싱글톤 패턴)
@@ -189,8 +287,9 @@ public class FirebaseDataManager {
      *   <li><strong>문서 없음:</strong> 모두 존재하지 않으면 onNotFound() 호출</li>
      * </ol>
      *
-     * <p><strong>성능 최적화:</strong> 한 번 해결된 결과는 generalDocCache에 캐싱되어
-     * 동일한 학부-연도 조합에 대한 반복 요청 시 즉시 반환됩니다.</p>
+     * <p><strong>성능 최적화 (stale-while-revalidate):</strong> 해결된 문서는 docSnapshotCache에 캐싱되어
+     * 유효 시간(5분) 안에는 네트워크 없이 즉시 반환됩니다. 유효 시간이 지난 뒤에도 최대 24시간 동안은
+     * 캐시된 문서를 즉시 반환하고, 백그라운드에서 다시 해결해 캐시를 갱신합니다.</p>
      *
      * @param department 학부명 (null 또는 공백 허용)
      * @param track 트랙명 (null 허용, generalEducationDocId 조회에 필요)
@@ -202,88 +301,100 @@ public class FirebaseDataManager {
         String dept = (department == null ? "" : department.trim());
         String tr = (track == null ? "" : track.trim());
         String yr = (year == null ? "" : year.trim());
+        final String cacheKey = dept + "|" + tr + "|" + yr;             // 캐시 키 (track 포함)
+
+        // 캐시 히트 - 저장된 DocumentSnapshot을 그대로 사용 (stale이면 백그라운드 갱신)
+        CacheStore.Lookup<DocumentSnapshot> cached = docSnapshotCache.lookup(cacheKey);
+        if (cached != null) {
+            DocumentSnapshot ds = cached.getValue();
+            if (cached.isStale()) {
+                Log.d(TAG, "교양 문서 캐시 stale, 백그라운드 갱신: " + cacheKey);
+                refreshCacheInBackground(dept, tr, yr, cacheKey);
+            }
+            cb.onResolved(ds.getId(), ds);
+            return;
+        }
+
+        resolveGeneralDocFromNetwork(dept, tr, yr, cacheKey, cb);
+    }
 
+    /**
+     * 교양 문서를 Firestore에서 해결하고 캐시에 저장
+     */
+    private void resolveGeneralDocFromNetwork(String dept, String tr, String yr, String cacheKey,
+                                              OnGeneralDocResolvedListener cb) {
         // Firestore 문서 ID 생성 (명명 규칙에 따라)
         final String graduationReqDocId = dept + "_" + tr + "_" + yr;  // 졸업요건 문서
         final String deptDocId = "교양_" + dept + "_" + yr;              // 학부별 특화 문서
         final String commonDocId = "교양_공통_" + yr;                     // 공통 Fallback 문서
-        final String cacheKey = dept + "|" + tr + "|" + yr;             // 캐시 키 (track 포함)
-
-        // 캐시 히트 - 캐시된 문서 ID로 다시 조회 (DocumentSnapshot 필요)
-        if (generalDocCache.containsKey(cacheKey)) {
-            String cachedDocId = generalDocCache.get(cacheKey);
-            db.collection("graduation_requirements").document(cachedDocId).get()
-                    .addOnSuccessListener(ds -> {
-                        if (ds.exists()) {
-                            cb.onResolved(cachedDocId, ds);
-                        } else {
-                            // 캐시 무효화 후 재시도
-                            generalDocCache.remove(cacheKey);
-                            resolveGeneralDocId(department, track, year, cb);
-                        }
-                    })
-                    .addOnFailureListener(cb::onError);
-            return;
-        }
 
         // 0순위: 졸업요건 문서에서 관리자가 설정한 generalEducationDocId 확인
-        db.collection("graduation_requirements").document(graduationReqDocId).get()
+        getDocumentShared("graduation_requirements", graduationReqDocId)
                 .addOnSuccessListener(gradDoc -> {
                     String customDocId = gradDoc.getString("generalEducationDocId");
 
                     if (customDocId != null && !customDocId.trim().isEmpty()) {
                         // 관리자가 설정한 교양 문서 ID가 있으면 최우선 사용
                         Log.d(TAG, "관리자 설정 교양 문서 사용: " + customDocId);
-                        db.collection("graduation_requirements").document(customDocId).get()
+                        getDocumentShared("graduation_requirements", customDocId)
                                 .addOnSuccessListener(customDs -> {
                                     if (customDs.exists()) {
-                                        generalDocCache.put(cacheKey, customDocId);
                                         docSnapshotCache.put(cacheKey, customDs);
-                                        cacheTimestamps.put(cacheKey, System.currentTimeMillis());
                                         cb.onResolved(customDocId, customDs);
                                     } else {
                                         // 설정된 문서가 없으면 기본 로직으로 fallback
                                         Log.w(TAG, "설정된 교양 문서 없음, 기본 로직 사용: " + customDocId);
-                                        resolveWithDefaultLogic(dept, yr, deptDocId, commonDocId, cacheKey, cb);
+                                        resolveWithDefaultLogic(deptDocId, commonDocId, cacheKey, cb);
                                     }
                                 })
                                 .addOnFailureListener(e -> {
                                     Log.e(TAG, "설정된 교양 문서 조회 실패, 기본 로직 사용", e);
-                                    resolveWithDefaultLogic(dept, yr, deptDocId, commonDocId, cacheKey, cb);
+                                    resolveWithDefaultLogic(deptDocId, commonDocId, cacheKey, cb);
                                 });
                     } else {
                         // generalEducationDocId 필드가 없으면 기본 로직 사용
-                        resolveWithDefaultLogic(dept, yr, deptDocId, commonDocId, cacheKey, cb);
+                        resolveWithDefaultLogic(deptDocId, commonDocId, cacheKey, cb);
                     }
                 })
                 .addOnFailureListener(e -> {
                     Log.e(TAG, "졸업요건 문서 조회 실패, 기본 로직 사용", e);
-                    resolveWithDefaultLogic(dept, yr, deptDocId, commonDocId, cacheKey, cb);
+                    resolveWithDefaultLogic(deptDocId, commonDocId, cacheKey, cb);
                 });
     }
 
     /**
      * 기본 교양 문서 해결 로직 (학부별 → 공통 순서)
      */
-    private void resolveWithDefaultLogic(String dept, String yr, String deptDocId, String commonDocId, String cacheKey, OnGeneralDocResolvedListener cb) {
+    private void resolveWithDefaultLogic(String deptDocId, String commonDocId, String cacheKey, OnGeneralDocResolvedListener cb) {
+        // 학부 전용 문서가 없다고 이미 확인됐으면 공통 문서만 조회
+        if (isKnownMissing("graduation_requirements", deptDocId)) {
+            getDocumentShared("graduation_requirements", commonDocId)
+                    .addOnSuccessListener(ds -> {
+                        if (ds.exists()) {
+                            docSnapshotCache.put(cacheKey, ds);
+                            cb.onResolved(commonDocId, ds);
+                        } else {
+                            cb.onNotFound();
+                        }
+                    })
+                    .addOnFailureListener(cb::onError);
+            return;
+        }
+
         // 1순위: 학부 전용
-        db.collection("graduation_requirements").document(deptDocId).get()
+        getDocumentShared("graduation_requirements", deptDocId)
                 .addOnSuccessListener(ds -> {
                     if (ds.exists()) {
-                        // 캐시 저장 (문서 ID + DocumentSnapshot + 타임스탬프)
-                        generalDocCache.put(cacheKey, deptDocId);
+                        // 캐시 저장 (DocumentSnapshot, 문서 ID는 getId())
                         docSnapshotCache.put(cacheKey, ds);
-                        cacheTimestamps.put(cacheKey, System.currentTimeMillis());
                         cb.onResolved(deptDocId, ds);
                     } else {
                         // 2순위: 공통
-                        db.collection("graduation_requirements").document(commonDocId).get()
+                        getDocumentShared("graduation_requirements", commonDocId)
                                 .addOnSuccessListener(ds2 -> {
                                     if (ds2.exists()) {
                                         // 캐시 저장 (공통 문서)
-                                        generalDocCache.put(cacheKey, commonDocId);
                                         docSnapshotCache.put(cacheKey, ds2);
-                                        cacheTimestamps.put(cacheKey, System.currentTimeMillis());
                                         cb.onResolved(commonDocId, ds2);
                                     } else {
                                         cb.onNotFound();
@@ -297,36 +408,244 @@ public class FirebaseDataManager {
 
     /**
      * 백그라운드 캐시 새로고침 (비동기)
+     * stale 항목을 반환한 뒤 호출되며, 같은 키에 대해 동시에 한 번만 실행
+     * 실패하면 stale 항목을 그대로 두고 다음 조회 때 다시 시도
      */
-    private void refreshCacheInBackground(String department, String year, String cacheKey) {
-        String dept = (department == null ? "" : department.trim());
-        String yr = (year == null ? "" : year.trim());
-        final String deptDocId = "교양_" + dept + "_" + yr;
-        final String commonDocId = "교양_공통_" + yr;
+    private void refreshCacheInBackground(String dept, String tr, String yr, String cacheKey) {
+        synchronized (refreshingGeneralDocs) {
+            if (!refreshingGeneralDocs.add(cacheKey)) {
+                return;
+            }
+        }
 
         // 백그라운드로 업데이트 (사용자에게 영향 없음)
-        db.collection("graduation_requirements").document(deptDocId).get()
-                .addOnSuccessListener(ds -> {
-                    if (ds.exists()) {
-                        generalDocCache.put(cacheKey, deptDocId);
-                        docSnapshotCache.put(cacheKey, ds);
-                        cacheTimestamps.put(cacheKey, System.currentTimeMillis());
-                        Log.d(TAG, "Background refresh success: " + cacheKey);
-                    } else {
-                        // 공통 문서 시도
-                        db.collection("graduation_requirements").document(commonDocId).get()
-                                .addOnSuccessListener(ds2 -> {
-                                    if (ds2.exists()) {
-                                        generalDocCache.put(cacheKey, commonDocId);
-                                        docSnapshotCache.put(cacheKey, ds2);
-                                        cacheTimestamps.put(cacheKey, System.currentTimeMillis());
-                                        Log.d(TAG, "Background refresh success (common): " + cacheKey);
-                                    }
-                                })
-                                .addOnFailureListener(e -> Log.w(TAG, "Background refresh failed (common): " + cacheKey, e));
+        resolveGeneralDocFromNetwork(dept, tr, yr, cacheKey, new OnGeneralDocResolvedListener() {
+            @Override
+            public void onResolved(String docId, DocumentSnapshot snapshot) {
+                finishRefresh(cacheKey);
+                Log.d(TAG, "Background refresh success: " + cacheKey + " → " + docId);
+            }
+
+            @Override
+            public void onNotFound() {
+                // 문서가 모두 삭제된 경우 stale 항목도 제거
+                finishRefresh(cacheKey);
+                docSnapshotCache.remove(cacheKey);
+                Log.d(TAG, "Background refresh: 교양 문서 없음, 캐시 제거: " + cacheKey);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                finishRefresh(cacheKey);
+                Log.w(TAG, "Background refresh failed: " + cacheKey, e);
+            }
+        });
+    }
+
+    private void finishRefresh(String cacheKey) {
+        synchronized (refreshingGeneralDocs) {
+            refreshingGeneralDocs.remove(cacheKey);
+        }
+    }
+
+    // ---------- 문서 조회 (Single-flight) ----------
+
+    /**
+     * 문서 조회 (동시 요청 병합)
+     *
+     * <p>같은 문서에 대한 조회가 이미 진행 중이면 그 Task를 그대로 반환하므로,
+     * 여러 화면/단계가 동시에 같은 졸업요건 문서를 요청해도 Firestore 읽기는 한 번만 발생합니다.
+     * 완료된 Task는 목록에서 제거되어 이후 요청은 다시 조회합니다 (캐시는 각 호출부에서 담당).
+     * 단, loadDocuments로 미리 받아둔 문서는 조회 없이 바로 반환합니다.</p>
+     *
+     * @param collection 컬렉션 이름
+     * @param documentId 문서 ID
+     * @return 진행 중이거나 새로 시작한 조회 Task
+     */
+    private Task<DocumentSnapshot> getDocumentShared(String collection, String documentId) {
+        final String key = collection + "/" + documentId;
+        DocumentSnapshot prefetched = prefetchedDocCache.get(key);
+        if (prefetched != null) {
+            return Tasks.forResult(prefetched);
+        }
+        synchronized (inFlightDocuments) {
+            Task<DocumentSnapshot> inFlight = inFlightDocuments.get(key);
+            if (inFlight != null) {
+                Log.d(TAG, "진행 중인 문서 조회에 합류: " + key);
+                return inFlight;
+            }
+            Task<DocumentSnapshot> task = db.collection(collection).document(documentId).get();
+            inFlightDocuments.put(key, task);
+            task.addOnCompleteListener(done -> {
+                synchronized (inFlightDocuments) {
+                    if (inFlightDocuments.get(key) == done) {
+                        inFlightDocuments.remove(key);
                     }
-                })
-                .addOnFailureListener(e -> Log.w(TAG, "Background refresh failed: " + cacheKey, e));
+                }
+            });
+            return task;
+        }
+    }
+
+    /**
+     * 여러 문서를 whereIn(documentId) 쿼리로 한 번에 조회
+     *
+     * <p>ID를 WHERE_IN_CHUNK_SIZE개씩 나눠 모든 쿼리를 동시에 보내고, 전부 끝나면 결과를 합칩니다.
+     * 이미 받아둔 문서는 다시 조회하지 않으며, 받은 문서는 prefetchedDocCache에,
+     * 존재하지 않는 문서는 missingDocCache에 기록합니다.</p>
+     *
+     * @return 문서 ID → DocumentSnapshot (존재하지 않는 문서는 포함되지 않음)
+     */
+    private Task<Map<String, DocumentSnapshot>> fetchDocuments(String collection, Collection<String> documentIds) {
+        Map<String, DocumentSnapshot> result = new HashMap<>();
+        List<String> toFetch = new ArrayList<>();
+        for (String documentId : new LinkedHashSet<>(documentIds)) {
+            if (documentId == null || documentId.isEmpty()) {
+                continue;
+            }
+            DocumentSnapshot cached = prefetchedDocCache.get(collection + "/" + documentId);
+            if (cached != null) {
+                result.put(documentId, cached);
+            } else {
+                toFetch.add(documentId);
+            }
+        }
+        if (toFetch.isEmpty()) {
+            return Tasks.forResult(result);
+        }
+
+        List<Task<QuerySnapshot>> chunks = new ArrayList<>();
+        for (int i = 0; i < toFetch.size(); i += WHERE_IN_CHUNK_SIZE) {
+            List<String> chunk = toFetch.subList(i, Math.min(i + WHERE_IN_CHUNK_SIZE, toFetch.size()));
+            chunks.add(db.collection(collection)
+                    .whereIn(FieldPath.documentId(), new ArrayList<>(chunk))
+                    .get());
+        }
+        Log.d(TAG, "일괄 문서 조회: " + collection + " " + toFetch.size() + "개 (" + chunks.size() + "개 쿼리)");
+
+        return Tasks.whenAllSuccess(chunks).continueWith(task -> {
+            // 실패한 쿼리가 있으면 getResult()가 예외를 던져 전체 Task가 실패로 끝남
+            for (Object snapshots : task.getResult()) {
+                for (DocumentSnapshot document : ((QuerySnapshot) snapshots).getDocuments()) {
+                    result.put(document.getId(), document);
+                    prefetchedDocCache.put(collection + "/" + document.getId(), document);
+                }
+            }
+            for (String documentId : toFetch) {
+                if (!result.containsKey(documentId)) {
+                    missingDocCache.put(collection + "/" + documentId, Boolean.TRUE);
+                }
+            }
+            return result;
+        });
+    }
+
+    /** fetchDocuments에서 존재하지 않는 것으로 확인된 문서인지 여부 */
+    private boolean isKnownMissing(String collection, String documentId) {
+        return missingDocCache.get(collection + "/" + documentId) != null;
+    }
+
+    // ---------- 캐시 관리 ----------
+
+    /**
+     * 모든 메모리 캐시 비우기 (관리자가 졸업요건을 수정한 직후 등)
+     */
+    public void clearCache() {
+        cacheStore.clearAll();
+        GraduationRulesDiskCache diskCache = rulesDiskCache;
+        if (diskCache != null) {
+            diskExecutor.execute(diskCache::clear);
+        }
+        Log.d(TAG, "모든 캐시 초기화");
+    }
+
+    /**
+     * GraduationRules 디스크 캐시 설치 (앱 시작 시 한 번)
+     */
+    public void attachDiskCache(GraduationRulesDiskCache diskCache) {
+        this.rulesDiskCache = diskCache;
+    }
+
+    /**
+     * 메모리 부족 시 캐시 축소 (Application.onTrimMemory에서 호출)
+     *
+     * @param level ComponentCallbacks2의 TRIM_MEMORY_* 값
+     */
+    public void trimMemory(int level) {
+        if (level == android.content.ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL
+                || level >= android.content.ComponentCallbacks2.TRIM_MEMORY_MODERATE) {
+            // 시스템 메모리가 매우 부족하거나 곧 프로세스가 종료될 수 있는 상태: 전부 비움
+            cacheStore.trimAll(0f);
+        } else {
+            cacheStore.trimAll(0.5f);
+        }
+        Log.d(TAG, "캐시 축소 (level=" + level + ")\n" + cacheStore.statsSummary());
+    }
+
+    /**
+     * 네임스페이스별 캐시 통계 (항목 수, 용량, hit/miss/evict/expire)
+     */
+    public String getCacheStats() {
+        return cacheStore.statsSummary();
+    }
+
+    /**
+     * DocumentSnapshot의 대략적인 메모리 크기 (바이트)
+     */
+    private static int estimateSnapshotBytes(DocumentSnapshot snapshot) {
+        Map<String, Object> data = snapshot.getData();
+        return 256 + (data != null ? estimateValueBytes(data) : 0);
+    }
+
+    private static int estimateValueBytes(Object value) {
+        if (value instanceof String) {
+            return 40 + ((String) value).length() * 2;
+        }
+        if (value instanceof Map) {
+            int bytes = 48;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                bytes += 32 + estimateValueBytes(entry.getKey()) + estimateValueBytes(entry.getValue());
+            }
+            return bytes;
+        }
+        if (value instanceof List) {
+            int bytes = 40;
+            for (Object item : (List<?>) value) {
+                bytes += 8 + estimateValueBytes(item);
+            }
+            return bytes;
+        }
+        return 16;
+    }
+
+    /**
+     * GraduationRules의 대략적인 메모리 크기 (바이트)
+     * 카테고리/과목 수에 비례 (컴파일된 규칙 포함)
+     */
+    private static int estimateRulesBytes(GraduationRules rules) {
+        int bytes = 1024;
+        if (rules.getCategories() != null) {
+            for (sprout.app.sakmvp1.models.RequirementCategory category : rules.getCategories()) {
+                bytes += estimateCategoryBytes(category);
+            }
+        }
+        if (rules.getReplacementRules() != null) {
+            bytes += rules.getReplacementRules().size() * 256;
+        }
+        return bytes;
+    }
+
+    private static int estimateCategoryBytes(sprout.app.sakmvp1.models.RequirementCategory category) {
+        int bytes = 256;
+        if (category.getCourses() != null) {
+            bytes += category.getCourses().size() * 160;
+        }
+        if (category.getSubgroups() != null) {
+            for (sprout.app.sakmvp1.models.RequirementCategory subgroup : category.getSubgroups()) {
+                bytes += estimateCategoryBytes(subgroup);
+            }
+        }
+        return bytes;
     }
 
     // ---------- 학번/학부/트랙 조회 ----------
@@ -340,9 +659,10 @@ public class FirebaseDataManager {
     public void loadStudentYears(OnStudentYearsLoadedListener listener) {
         // 캐시에서 확인
         String cacheKey = "student_years";
-        if (studentYearsCache.containsKey(cacheKey)) {
-            Log.d(TAG, "캐시에서 학번 데이터 로드: " + studentYearsCache.get(cacheKey).size() + "개");
-            listener.onSuccess(studentYearsCache.get(cacheKey));
+        List<String> cachedYears = studentYearsCache.get(cacheKey);
+        if (cachedYears != null) {
+            Log.d(TAG, "캐시에서 학번 데이터 로드: " + cachedYears.size() + "개");
+            listener.onSuccess(cachedYears);
             return;
         }
 
@@ -390,6 +710,15 @@ public class FirebaseDataManager {
     }
 
     public void loadDepartments(OnDepartmentsLoadedListener listener) {
+        // 캐시에서 확인
+        String cacheKey = "departments";
+        List<String> cachedDepartments = departmentsCache.get(cacheKey);
+        if (cachedDepartments != null) {
+            Log.d(TAG, "캐시에서 학부 데이터 로드: " + cachedDepartments.size() + "개");
+            listener.onSuccess(new ArrayList<>(cachedDepartments)); // 방어적 복사
+            return;
+        }
+
         // graduation_requirements 컬렉션에서 학부 정보 추출
         db.collection("graduation_requirements")
                 .get()
@@ -413,6 +742,9 @@ public class FirebaseDataManager {
                     // 알파벳 순으로 정렬
                     departments.sort(String::compareTo);
 
+                    // 캐시에 저장
+                    departmentsCache.put(cacheKey, new ArrayList<>(departments));
+
                     Log.d(TAG, "학부 데이터 로드 성공: " + departments.size() + "개 - " + departments);
                     listener.onSuccess(departments);
                 })
@@ -436,8 +768,8 @@ public class FirebaseDataManager {
 
     public void loadTracksByDepartment(String departmentName, OnTracksLoadedListener listener) {
         // 캐시 확인 - 즉시 반환 가능
-        if (tracksCache.containsKey(departmentName)) {
-            List<String> cachedTracks = tracksCache.get(departmentName);
+        List<String> cachedTracks = tracksCache.get(departmentName);
+        if (cachedTracks != null) {
             Log.d(TAG, departmentName + " 트랙 데이터 캐시 히트: " + cachedTracks.size() + "개");
             listener.onSuccess(new ArrayList<>(cachedTracks)); // 방어적 복사
             return;
@@ -585,8 +917,7 @@ public class FirebaseDataManager {
 
         Log.d(TAG, "졸업 요건 조회 시작: " + gradDocId);
 
-        db.collection("graduation_requirements").document(gradDocId)
-                .get()
+        getDocumentShared("graduation_requirements", gradDocId)
                 .addOnSuccessListener(gradDoc -> {
                     if (gradDoc.exists()) {
                         Log.d(TAG, "졸업요건 문서 조회 성공: " + gradDocId);
@@ -635,8 +966,7 @@ public class FirebaseDataManager {
         Log.d(TAG, "학점 정보는 졸업요건 문서에서 이미 로드됨");
 
         // 1. 전공 문서 로드 (과목 목록만)
-        db.collection("graduation_requirements").document(majorDocRef)
-                .get()
+        getDocumentShared("graduation_requirements", majorDocRef)
                 .addOnSuccessListener(majorDoc -> {
                     if (majorDoc.exists() && majorDoc.getData() != null) {
                         Map<String, Object> majorData = majorDoc.getData();
@@ -656,8 +986,7 @@ public class FirebaseDataManager {
 
                         // 2. 교양 문서 로드 (과목 목록만)
                         if (generalDocRef != null && !generalDocRef.isEmpty()) {
-                            db.collection("graduation_requirements").document(generalDocRef)
-                                    .get()
+                            getDocumentShared("graduation_requirements", generalDocRef)
                                     .addOnSuccessListener(generalDoc -> {
                                         if (generalDoc.exists() && generalDoc.getData() != null) {
                                             Map<String, Object> generalData = generalDoc.getData();
@@ -741,8 +1070,7 @@ public class FirebaseDataManager {
     private void loadAndMergeGeneralEducationDocument(Map<String, Object> majorData,
                                                      String generalDocId,
                                                      OnGraduationRequirementsLoadedListener listener) {
-        db.collection("graduation_requirements").document(generalDocId)
-                .get()
+        getDocumentShared("graduation_requirements", generalDocId)
                 .addOnSuccessListener(generalDoc -> {
                     if (generalDoc.exists() && generalDoc.getData() != null) {
                         Map<String, Object> generalData = generalDoc.getData();
@@ -792,41 +1120,50 @@ public class FirebaseDataManager {
     // 졸업이수학점 요건 로드
     public void loadCreditRequirements(String department, String track, String year,
                                        OnCreditRequirementsLoadedListener listener) {
+        getCreditRequirements(department, track, year, null)
+                .addOnSuccessListener(listener::onSuccess)
+                .addOnFailureListener(listener::onFailure);
+    }
+
+    /**
+     * 졸업이수학점 요건 로드 (Task API)
+     *
+     * @param token 취소 토큰 (null이면 취소하지 않음, 보통 TaskScope.getToken())
+     */
+    public Task<CreditRequirements> getCreditRequirements(String department, String track, String year,
+                                                          @Nullable CancellationToken token) {
         // 졸업요건 문서 ID 형식: "졸업요건_IT학부_멀티미디어_2023"
         String gradDocId = "졸업요건_" + department + "_" + track + "_" + year;
         Log.d(TAG, "졸업이수학점 요건 조회 시작: " + gradDocId);
 
-        db.collection("graduation_requirements").document(gradDocId)
-                .get()
-                .addOnSuccessListener(gradDoc -> {
-                    if (gradDoc.exists()) {
-                        Map<String, Object> gradData = gradDoc.getData();
-
-                        // 총 이수학점 가져오기
-                        int totalCredits = getIntValue(gradData, "totalCredits", 130);
+        Task<CreditRequirements> task = getDocumentShared("graduation_requirements", gradDocId)
+                .continueWithTask(read -> {
+                    if (!read.isSuccessful()) {
+                        Log.e(TAG, "졸업요건 문서 조회 실패: " + gradDocId, read.getException());
+                        return Tasks.forException(new Exception("졸업요건 문서 조회 실패: " + gradDocId, read.getException()));
+                    }
+                    DocumentSnapshot gradDoc = read.getResult();
+                    if (!gradDoc.exists()) {
+                        Log.w(TAG, "졸업요건 문서 없음: " + gradDocId);
+                        return Tasks.forException(new Exception("졸업요건 문서를 찾을 수 없습니다: " + gradDocId));
+                    }
+                    Map<String, Object> gradData = gradDoc.getData();
 
-                        // 새로운 구조: majorDocRef와 generalDocRef 확인
-                        String majorDocRef = gradDoc.getString("majorDocRef");
-                        String generalDocRef = gradDoc.getString("generalDocRef");
+                    // 총 이수학점 가져오기
+                    int totalCredits = getIntValue(gradData, "totalCredits", 130);
 
-                        if (majorDocRef != null && !majorDocRef.isEmpty()) {
-                            Log.d(TAG, "새 구조: 전공/교양 문서 참조 발견");
-                            loadCreditRequirementsFromSeparateDocs(majorDocRef, generalDocRef, gradData, totalCredits, listener);
-                        } else {
-                            // 구 구조 호환
-                            Log.d(TAG, "구 구조 호환 모드: 졸업요건 문서에서 직접 학점 읽기");
-                            String legacyDocId = department + "_" + track + "_" + year;
-                            loadDetailedCreditRequirements(legacyDocId, totalCredits, listener);
-                        }
-                    } else {
-                        Log.w(TAG, "졸업요건 문서 없음: " + gradDocId);
-                        listener.onFailure(new Exception("졸업요건 문서를 찾을 수 없습니다: " + gradDocId));
+                    // 새로운 구조: majorDocRef가 있으면 모든 학점 정보가 졸업요건 문서에 있음
+                    String majorDocRef = gradDoc.getString("majorDocRef");
+                    if (majorDocRef != null && !majorDocRef.isEmpty()) {
+                        Log.d(TAG, "새 구조: 전공/교양 문서 참조 발견");
+                        return Tasks.forResult(creditRequirementsFromGradData(gradData, totalCredits));
                     }
-                })
-                .addOnFailureListener(e -> {
-                    Log.e(TAG, "졸업요건 문서 조회 실패: " + gradDocId, e);
-                    listener.onFailure(new Exception("졸업요건 문서 조회 실패: " + gradDocId, e));
+                    // 구 구조 호환
+                    Log.d(TAG, "구 구조 호환 모드: 졸업요건 문서에서 직접 학점 읽기");
+                    String legacyDocId = department + "_" + track + "_" + year;
+                    return loadDetailedCreditRequirements(legacyDocId, totalCredits);
                 });
+        return TaskScope.cancellable(task, token);
     }
 
     /**
@@ -834,11 +1171,7 @@ public class FirebaseDataManager {
      * 새 구조에서는 모든 학점 정보가 졸업요건 문서에 있음
      * 전공/교양 문서는 과목 목록만 포함
      */
-    private void loadCreditRequirementsFromSeparateDocs(String majorDocRef,
-                                                         String generalDocRef,
-                                                         Map<String, Object> gradData,
-                                                         int totalCredits,
-                                                         OnCreditRequirementsLoadedListener listener) {
+    private CreditRequirements creditRequirementsFromGradData(Map<String, Object> gradData, int totalCredits) {
         Log.d(TAG, "졸업요건 문서에서 학점 요구사항 추출 시작");
         Log.d(TAG, "새 구조: 모든 학점 정보는 졸업요건 문서에 있음");
 
@@ -873,15 +1206,19 @@ public class FirebaseDataManager {
         );
 
         Log.d(TAG, "학점 요구사항 추출 완료: " + creditReqs.toString());
-        listener.onSuccess(creditReqs);
+        return creditReqs;
     }
 
     // 상세 졸업이수학점 요건 조회 (총 학점이 이미 확보된 상태) - 구 구조 호환
-    private void loadDetailedCreditRequirements(String documentId, int totalCredits,
-                                                OnCreditRequirementsLoadedListener listener) {
-        db.collection("graduation_requirements").document(documentId)
-                .get()
-                .addOnSuccessListener(documentSnapshot -> {
+    private Task<CreditRequirements> loadDetailedCreditRequirements(String documentId, int totalCredits) {
+        return getDocumentShared("graduation_requirements", documentId)
+                .continueWithTask(read -> {
+                    if (!read.isSuccessful()) {
+                        String errorMsg = "졸업이수학점 문서 조회 실패: " + documentId;
+                        Log.e(TAG, errorMsg, read.getException());
+                        return Tasks.forException(new Exception(errorMsg, read.getException()));
+                    }
+                    DocumentSnapshot documentSnapshot = read.getResult();
                     if (documentSnapshot.exists()) {
                         Map<String, Object> data = documentSnapshot.getData();
 
@@ -908,21 +1245,16 @@ public class FirebaseDataManager {
                             // 총 학점을 사용하여 졸업이수학점 정보 추출
                             CreditRequirements creditReqs = extractCreditRequirementsFromDirectFields(data, totalCredits);
                             Log.d(TAG, "졸업이수학점 요건 로드 성공: " + creditReqs.toString());
-                            listener.onSuccess(creditReqs);
+                            return Tasks.forResult(creditReqs);
                         } else {
                             Log.w(TAG, "문서 데이터가 null: " + documentId);
-                            listener.onFailure(new Exception("졸업이수학점 정보를 찾을 수 없습니다"));
+                            return Tasks.forException(new Exception("졸업이수학점 정보를 찾을 수 없습니다"));
                         }
                     } else {
                         String errorMsg = "졸업이수학점 문서를 찾을 수 없습니다: " + documentId;
                         Log.e(TAG, errorMsg);
-                        listener.onFailure(new Exception(errorMsg));
+                        return Tasks.forException(new Exception(errorMsg));
                     }
-                })
-                .addOnFailureListener(e -> {
-                    String errorMsg = "졸업이수학점 문서 조회 실패: " + documentId;
-                    Log.e(TAG, errorMsg, e);
-                    listener.onFailure(new Exception(errorMsg, e));
                 });
     }
 
@@ -930,8 +1262,7 @@ public class FirebaseDataManager {
     public void inspectSpecificDocument(String documentId) {
         Log.d(TAG, "=== 특정 문서 조회 시작: " + documentId + " ===");
 
-        db.collection("graduation_requirements").document(documentId)
-                .get()
+        getDocumentShared("graduation_requirements", documentId)
                 .addOnSuccessListener(documentSnapshot -> {
                     if (documentSnapshot.exists()) {
                         Map<String, Object> data = documentSnapshot.getData();
@@ -1089,8 +1420,7 @@ public class FirebaseDataManager {
     }
 
     public void loadDocument(String collectionName, String documentId, OnDocumentLoadedListener listener) {
-        db.collection(collectionName).document(documentId)
-                .get()
+        getDocumentShared(collectionName, documentId)
                 .addOnSuccessListener(documentSnapshot -> {
                     if (documentSnapshot.exists()) {
                         Map<String, Object> data = new HashMap<>();
@@ -1104,6 +1434,32 @@ public class FirebaseDataManager {
                 .addOnFailureListener(listener::onFailure);
     }
 
+    public interface OnDocumentsLoadedListener {
+        /** @param documents 문서 ID → 문서 데이터 ("id" 포함), 존재하지 않는 문서는 빠짐 */
+        void onSuccess(Map<String, Map<String, Object>> documents);
+        void onFailure(Exception e);
+    }
+
+    /**
+     * 여러 문서를 한 번에 로드 (whereIn 쿼리를 30개씩 나눠 병렬 실행)
+     */
+    public void loadDocuments(String collectionName, Collection<String> documentIds, OnDocumentsLoadedListener listener) {
+        fetchDocuments(collectionName, documentIds)
+                .addOnSuccessListener(snapshots -> {
+                    Map<String, Map<String, Object>> documents = new LinkedHashMap<>();
+                    for (DocumentSnapshot snapshot : snapshots.values()) {
+                        Map<String, Object> data = new HashMap<>();
+                        data.put("id", snapshot.getId());
+                        if (snapshot.getData() != null) {
+                            data.putAll(snapshot.getData());
+                        }
+                        documents.put(snapshot.getId(), data);
+                    }
+                    listener.onSuccess(documents);
+                })
+                .addOnFailureListener(listener::onFailure);
+    }
+
     public void loadDocumentsWithCondition(String collectionName, String field, Object value, OnCollectionDataLoadedListener listener) {
         db.collection(collectionName)
                 .whereEqualTo(field, value)
@@ -1203,11 +1559,11 @@ public class FirebaseDataManager {
     }
 
     public void getDocumentCount(String collectionName, OnCountLoadedListener listener) {
+        // 문서를 받지 않고 서버 count() 집계로 개수만 조회
         db.collection(collectionName)
-                .get()
-                .addOnSuccessListener(querySnapshot -> {
-                    listener.onSuccess(querySnapshot.size());
-                })
+                .count()
+                .get(AggregateSource.SERVER)
+                .addOnSuccessListener(snapshot -> listener.onSuccess((int) snapshot.getCount()))
                 .addOnFailureListener(listener::onFailure);
     }
 
@@ -1248,6 +1604,19 @@ public class FirebaseDataManager {
     }
 
     public void loadMajorCourses(String department, String track, String year, String category, OnMajorCoursesLoadedListener listener) {
+        getMajorCourses(department, track, year, category, null)
+                .addOnSuccessListener(listener::onSuccess)
+                .addOnFailureListener(listener::onFailure);
+    }
+
+    /**
+     * 전공 강의 목록 조회 (Task API)
+     * 졸업요건 문서에 관리자가 지정한 전공 문서(majorDocId)가 있으면 그 문서, 없거나 조회에 실패하면 기본 문서 사용
+     *
+     * @param token 취소 토큰 (null이면 취소하지 않음, 보통 TaskScope.getToken())
+     */
+    public Task<List<CourseInfo>> getMajorCourses(String department, String track, String year, String category,
+                                                  @Nullable CancellationToken token) {
         Log.d(TAG, "전공 강의 조회 시작: " + department + "_" + track + "_" + year);
 
         // 모든 학번은 해당 연도 그대로 사용
@@ -1257,69 +1626,49 @@ public class FirebaseDataManager {
         String documentId = department + "_" + track + "_" + actualYear;
         String cacheKey = department + "|" + track + "|" + actualYear;
 
-        // 캐시 확인 (유효 시간 체크 포함)
-        if (majorDocCache.containsKey(cacheKey)) {
-            Long cachedTime = cacheTimestamps.get(cacheKey);
-            if (cachedTime != null && (System.currentTimeMillis() - cachedTime) < CACHE_VALIDITY_MS) {
-                Log.d(TAG, "전공 문서 캐시 히트: " + cacheKey);
-                DocumentSnapshot cachedDoc = majorDocCache.get(cacheKey);
-                loadMajorCoursesFromSnapshot(cachedDoc, category, listener);
-                return;
-            } else {
-                // 캐시 만료
-                Log.d(TAG, "전공 문서 캐시 만료, 재조회: " + cacheKey);
-                majorDocCache.remove(cacheKey);
-                cacheTimestamps.remove(cacheKey);
-            }
+        // 캐시 확인 (만료된 항목은 반환되지 않음)
+        DocumentSnapshot cachedDoc = majorDocCache.get(cacheKey);
+        if (cachedDoc != null) {
+            Log.d(TAG, "전공 문서 캐시 히트: " + cacheKey);
+            return majorCoursesFromSnapshot(cachedDoc, category);
         }
 
         // 먼저 현재 졸업요건 문서에서 majorDocId가 설정되어 있는지 확인
-        db.collection("graduation_requirements").document(documentId)
-                .get()
-                .addOnSuccessListener(mainDoc -> {
+        Task<List<CourseInfo>> task = getDocumentShared("graduation_requirements", documentId)
+                .continueWithTask(mainRead -> {
+                    if (!mainRead.isSuccessful()) {
+                        Log.e(TAG, "전공 문서 조회 실패", mainRead.getException());
+                        return Tasks.forException(mainRead.getException());
+                    }
+                    DocumentSnapshot mainDoc = mainRead.getResult();
                     String customMajorDocId = mainDoc.getString("majorDocId");
-
-                    if (customMajorDocId != null && !customMajorDocId.trim().isEmpty()) {
-                        // 관리자가 설정한 전공 문서 사용
-                        Log.d(TAG, "관리자 설정 전공 문서 사용: " + customMajorDocId);
-                        db.collection("graduation_requirements").document(customMajorDocId)
-                                .get()
-                                .addOnSuccessListener(customDoc -> {
-                                    if (customDoc.exists()) {
-                                        // 캐시 저장
-                                        majorDocCache.put(cacheKey, customDoc);
-                                        cacheTimestamps.put(cacheKey, System.currentTimeMillis());
-                                        loadMajorCoursesFromSnapshot(customDoc, category, listener);
-                                    } else {
-                                        Log.w(TAG, "지정된 전공 문서 없음, 기본 문서 사용: " + documentId);
-                                        // 기본 문서로 폴백
-                                        majorDocCache.put(cacheKey, mainDoc);
-                                        cacheTimestamps.put(cacheKey, System.currentTimeMillis());
-                                        loadMajorCoursesFromSnapshot(mainDoc, category, listener);
-                                    }
-                                })
-                                .addOnFailureListener(e -> {
-                                    Log.e(TAG, "지정된 전공 문서 조회 실패, 기본 문서 사용", e);
-                                    // 기본 문서로 폴백
-                                    majorDocCache.put(cacheKey, mainDoc);
-                                    cacheTimestamps.put(cacheKey, System.currentTimeMillis());
-                                    loadMajorCoursesFromSnapshot(mainDoc, category, listener);
-                                });
-                    } else {
+                    if (customMajorDocId == null || customMajorDocId.trim().isEmpty()) {
                         // 기본 문서 사용
                         Log.d(TAG, "기본 전공 문서 사용: " + documentId);
                         majorDocCache.put(cacheKey, mainDoc);
-                        cacheTimestamps.put(cacheKey, System.currentTimeMillis());
-                        loadMajorCoursesFromSnapshot(mainDoc, category, listener);
+                        return majorCoursesFromSnapshot(mainDoc, category);
                     }
-                })
-                .addOnFailureListener(e -> {
-                    Log.e(TAG, "전공 문서 조회 실패", e);
-                    listener.onFailure(e);
+
+                    // 관리자가 설정한 전공 문서 사용
+                    Log.d(TAG, "관리자 설정 전공 문서 사용: " + customMajorDocId);
+                    return getDocumentShared("graduation_requirements", customMajorDocId)
+                            .continueWithTask(customRead -> {
+                                DocumentSnapshot doc = mainDoc;
+                                if (!customRead.isSuccessful()) {
+                                    Log.e(TAG, "지정된 전공 문서 조회 실패, 기본 문서 사용", customRead.getException());
+                                } else if (!customRead.getResult().exists()) {
+                                    Log.w(TAG, "지정된 전공 문서 없음, 기본 문서 사용: " + documentId);
+                                } else {
+                                    doc = customRead.getResult();
+                                }
+                                majorDocCache.put(cacheKey, doc);
+                                return majorCoursesFromSnapshot(doc, category);
+                            });
                 });
+        return TaskScope.cancellable(task, token);
     }
 
-    private void loadMajorCoursesFromSnapshot(DocumentSnapshot documentSnapshot, String category, OnMajorCoursesLoadedListener listener) {
+    private Task<List<CourseInfo>> majorCoursesFromSnapshot(DocumentSnapshot documentSnapshot, String category) {
         String docId = documentSnapshot.getId();
 
         // 중복 제거를 위해 Set 사용 (과목명을 키로)
@@ -1428,11 +1777,11 @@ public class FirebaseDataManager {
                         }
 
             Log.d(TAG, "전공 강의 로드 성공: " + majorCourses.size() + "개 - " + majorCourses);
-            listener.onSuccess(majorCourses);
+            return Tasks.forResult(majorCourses);
         } else {
             String errorMsg = "전공 강의 문서를 찾을 수 없습니다: " + docId;
             Log.e(TAG, errorMsg);
-            listener.onFailure(new Exception(errorMsg));
+            return Tasks.forException(new Exception(errorMsg));
         }
     }
 
@@ -1465,18 +1814,31 @@ public class FirebaseDataManager {
 
     // 교양 강의 목록 조회 (폴백: 관리자 설정 → 교양_학부_연도 → 교양_공통_연도)
     public void loadGeneralEducationCourses(String department, String track, String year, String category, OnMajorCoursesLoadedListener listener) {
+        getGeneralEducationCourses(department, track, year, category, null)
+                .addOnSuccessListener(listener::onSuccess)
+                .addOnFailureListener(listener::onFailure);
+    }
+
+    /**
+     * 교양 강의 목록 조회 (Task API, 문서 선택 순서는 resolveGeneralDocId 참고)
+     *
+     * @param token 취소 토큰 (null이면 취소하지 않음, 보통 TaskScope.getToken())
+     */
+    public Task<List<CourseInfo>> getGeneralEducationCourses(String department, String track, String year,
+                                                             String category, @Nullable CancellationToken token) {
         Log.d(TAG, "=== 교양 강의 조회 시작 ===");
         Log.d(TAG, "입력값 - 학부: " + department + ", 트랙: " + track + ", 년도: " + year + ", 카테고리: " + category);
 
+        TaskCompletionSource<List<CourseInfo>> source = new TaskCompletionSource<>();
         resolveGeneralDocId(department, track, year, new OnGeneralDocResolvedListener() {
             @Override
             public void onResolved(String docId, DocumentSnapshot snapshot) {
                 Log.d(TAG, "교양 문서 확정: " + docId);
                 // N+1 해결: 이미 받은 DocumentSnapshot 사용
                 if (snapshot.exists()) {
-                    loadGeneralEducationFromDocument(snapshot, category, listener);
+                    source.trySetResult(generalEducationFromDocument(snapshot, category));
                 } else {
-                    listener.onFailure(new Exception("교양 문서가 존재하지 않습니다: " + docId));
+                    source.trySetException(new Exception("교양 문서가 존재하지 않습니다: " + docId));
                 }
             }
 
@@ -1484,19 +1846,20 @@ public class FirebaseDataManager {
             public void onNotFound() {
                 String msg = "교양 문서를 찾을 수 없습니다. 학부 전용/공통 문서가 모두 없음";
                 Log.e(TAG, msg);
-                listener.onFailure(new Exception(msg));
+                source.trySetException(new Exception(msg));
             }
 
             @Override
             public void onError(Exception e) {
                 Log.e(TAG, "교양 문서 선택 중 오류", e);
-                listener.onFailure(e);
+                source.trySetException(e);
             }
         });
+        return TaskScope.cancellable(source.getTask(), token);
     }
 
     // 교양 문서에서 데이터를 추출하는 헬퍼 메서드
-    private void loadGeneralEducationFromDocument(DocumentSnapshot documentSnapshot, String category, OnMajorCoursesLoadedListener listener) {
+    private List<CourseInfo> generalEducationFromDocument(DocumentSnapshot documentSnapshot, String category) {
         Log.d(TAG, "=== 교양 문서 데이터 추출 시작 ===");
         Log.d(TAG, "문서 ID: " + documentSnapshot.getId() + ", 카테고리: " + category);
 
@@ -1610,7 +1973,7 @@ public class FirebaseDataManager {
         }
 
         Log.d(TAG, "교양 강의 로드 성공: " + resultCourses.size() + "개 (중복 제거 후) - " + resultCourses);
-        listener.onSuccess(resultCourses);
+        return resultCourses;
     }
 
     // 학부공통/전공심화 강의 목록 조회
@@ -1626,29 +1989,19 @@ public class FirebaseDataManager {
         String cacheKey = department + "|" + track + "|" + actualYear;
         Log.d(TAG, categoryName + " 강의 문서 ID: " + documentId);
 
-        // 캐시 확인 (유효 시간 체크 포함)
-        if (deptCommonDocCache.containsKey(cacheKey)) {
-            Long cachedTime = cacheTimestamps.get(cacheKey + "_deptCommon");
-            if (cachedTime != null && (System.currentTimeMillis() - cachedTime) < CACHE_VALIDITY_MS) {
-                Log.d(TAG, "학부공통 문서 캐시 히트: " + cacheKey);
-                DocumentSnapshot cachedDoc = deptCommonDocCache.get(cacheKey);
-                loadDepartmentCommonFromSnapshot(cachedDoc, department, actualYear, listener);
-                return;
-            } else {
-                // 캐시 만료
-                Log.d(TAG, "학부공통 문서 캐시 만료, 재조회: " + cacheKey);
-                deptCommonDocCache.remove(cacheKey);
-                cacheTimestamps.remove(cacheKey + "_deptCommon");
-            }
+        // 캐시 확인 (만료된 항목은 반환되지 않음)
+        DocumentSnapshot cachedDoc = deptCommonDocCache.get(cacheKey);
+        if (cachedDoc != null) {
+            Log.d(TAG, "학부공통 문서 캐시 히트: " + cacheKey);
+            loadDepartmentCommonFromSnapshot(cachedDoc, department, actualYear, listener);
+            return;
         }
 
-        db.collection("graduation_requirements").document(documentId)
-                .get()
+        getDocumentShared("graduation_requirements", documentId)
                 .addOnSuccessListener(documentSnapshot -> {
                     if (documentSnapshot.exists()) {
                         // 캐시 저장
                         deptCommonDocCache.put(cacheKey, documentSnapshot);
-                        cacheTimestamps.put(cacheKey + "_deptCommon", System.currentTimeMillis());
                         loadDepartmentCommonFromSnapshot(documentSnapshot, department, actualYear, listener);
                     } else {
                         String errorMsg = categoryName + " 강의 문서를 찾을 수 없습니다: " + documentId;
@@ -1840,8 +2193,7 @@ public class FirebaseDataManager {
     public void loadDepartmentConfig(String department, OnDepartmentConfigLoadedListener listener) {
         Log.d(TAG, "학부 설정 로드 시작: " + department);
 
-        db.collection("학부").document(department)
-                .get()
+        getDocumentShared("학부", department)
                 .addOnSuccessListener(documentSnapshot -> {
                     if (documentSnapshot.exists()) {
                         try {
@@ -2059,9 +2411,7 @@ public class FirebaseDataManager {
     public void inspectDocument(String documentId) {
         Log.d(TAG, "=== 문서 상세 조회 시작: " + documentId + " ===");
 
-        db.collection("graduation_requirements")
-                .document(documentId)
-                .get()
+        getDocumentShared("graduation_requirements", documentId)
                 .addOnSuccessListener(documentSnapshot -> {
                     if (documentSnapshot.exists()) {
                         Map<String, Object> data = documentSnapshot.getData();
@@ -2340,6 +2690,22 @@ public class FirebaseDataManager {
      */
     public void loadGraduationRules(String cohort, String department, String track,
                                      OnGraduationRulesLoadedListener listener) {
+        getGraduationRules(cohort, department, track, null)
+            .addOnSuccessListener(listener::onSuccess)
+            .addOnFailureListener(listener::onFailure);
+    }
+
+    /**
+     * 통합 졸업요건 규칙 로드 (Task API)
+     *
+     * <p>메모리 → 디스크 → 네트워크 순서로 확인하며, 결과 리스너는 메인 스레드에서 실행됩니다.
+     * 토큰이 취소되면 반환된 Task는 취소 상태로 끝나고, 같은 규칙을 기다리는 요청이 모두 취소되면
+     * 아직 보내지 않은 문서 조회도 중단됩니다.</p>
+     *
+     * @param token 취소 토큰 (null이면 취소하지 않음, 보통 TaskScope.getToken())
+     */
+    public Task<GraduationRules> getGraduationRules(String cohort, String department, String track,
+                                                    @Nullable CancellationToken token) {
         // 새로운 3-tier 구조: 졸업요건 문서에서 학점 정보 로드
         String gradDocId = "졸업요건_" + department + "_" + track + "_" + cohort;
         Log.d(TAG, "========================================");
@@ -2347,27 +2713,207 @@ public class FirebaseDataManager {
         Log.d(TAG, "========================================");
 
         // 캐시 확인
-        String cacheKey = "graduation_rules_" + gradDocId;
-        Long cacheTime = cacheTimestamps.get(cacheKey);
-        if (cacheTime != null && (System.currentTimeMillis() - cacheTime) < CACHE_VALIDITY_MS) {
-            sprout.app.sakmvp1.models.GraduationRules cached =
-                (sprout.app.sakmvp1.models.GraduationRules) graduationCache.get(cacheKey);
-            if (cached != null) {
-                Log.d(TAG, "✓ Cache hit for graduation rules: " + gradDocId);
-                listener.onSuccess(cached);
+        String cacheKey = RULES_CACHE_KEY_PREFIX + gradDocId;
+        GraduationRules cached = graduationCache.get(cacheKey);
+        if (cached != null) {
+            Log.d(TAG, "✓ Cache hit for graduation rules: " + gradDocId);
+            return Tasks.forResult(cached);
+        }
+
+        GraduationRulesDiskCache diskCache = rulesDiskCache;
+        if (diskCache == null) {
+            return loadGraduationRulesFromNetwork(cohort, department, track, gradDocId, cacheKey, token);
+        }
+
+        // 디스크 캐시 확인: 있으면 바로 반환하고 졸업요건 문서 stamp로 최신 여부만 확인
+        return Tasks.call(diskExecutor, () -> diskCache.read(gradDocId))
+            .continueWithTask(read -> {
+                GraduationRulesDiskCache.Entry entry = read.isSuccessful() ? read.getResult() : null;
+                if (entry == null) {
+                    return loadGraduationRulesFromNetwork(cohort, department, track, gradDocId, cacheKey, token);
+                }
+                Log.d(TAG, "✓ Disk cache hit for graduation rules: " + gradDocId);
+                graduationCache.put(cacheKey, entry.getRules());
+                revalidateDiskRules(cohort, department, track, gradDocId, cacheKey, entry);
+                return Tasks.forResult(entry.getRules());
+            });
+    }
+
+    /**
+     * 디스크에서 꺼낸 규칙이 최신인지 확인 (졸업요건 문서와 참조하는 전공/교양 문서만 조회)
+     * stamp가 바뀌었거나 저장된 지 오래됐으면 백그라운드에서 다시 조합해 메모리/디스크 캐시를 갱신
+     * 오프라인이면 디스크 규칙을 그대로 사용
+     */
+    private void revalidateDiskRules(String cohort, String department, String track, String gradDocId,
+                                     String cacheKey, GraduationRulesDiskCache.Entry entry) {
+        getDocumentShared("graduation_requirements", gradDocId)
+            .addOnSuccessListener(gradDoc -> {
+                if (!gradDoc.exists()) {
+                    Log.d(TAG, "졸업요건 문서가 삭제됨, 디스크 캐시 제거: " + gradDocId);
+                    graduationCache.remove(cacheKey);
+                    GraduationRulesDiskCache diskCache = rulesDiskCache;
+                    if (diskCache != null) {
+                        diskExecutor.execute(() -> diskCache.remove(gradDocId));
+                    }
+                    return;
+                }
+
+                Map<String, Object> gradData = gradDoc.getData();
+                String majorDocRef = gradDoc.getString("majorDocRef");
+                String generalDocRef = gradDoc.getString("generalDocRef");
+                fetchDocuments("graduation_requirements", Arrays.asList(majorDocRef, generalDocRef))
+                    .addOnSuccessListener(refs -> {
+                        String stamp = rulesStamp(gradData, referencedData(refs, majorDocRef),
+                            referencedData(refs, generalDocRef));
+                        boolean expired = System.currentTimeMillis() - entry.getSavedAt() > RULES_DISK_MAX_AGE_MS;
+                        if (stamp.equals(entry.getStamp()) && !expired) {
+                            Log.d(TAG, "디스크 캐시 최신 상태: " + gradDocId);
+                            return;
+                        }
+
+                        Log.d(TAG, "디스크 캐시 갱신 필요 (" + (expired ? "기간 만료" : "stamp 변경") + "): " + gradDocId);
+                        loadGraduationRulesFromNetwork(cohort, department, track, gradDocId, cacheKey, null)
+                            .addOnSuccessListener(rules -> Log.d(TAG, "디스크 캐시 갱신 완료: " + gradDocId))
+                            .addOnFailureListener(e -> Log.w(TAG, "디스크 캐시 갱신 실패: " + gradDocId, e));
+                    })
+                    .addOnFailureListener(e -> Log.d(TAG, "오프라인 - 디스크 캐시 사용: " + gradDocId));
+            })
+            .addOnFailureListener(e -> Log.d(TAG, "오프라인 - 디스크 캐시 사용: " + gradDocId));
+    }
+
+    @Nullable
+    private static Map<String, Object> referencedData(Map<String, DocumentSnapshot> refs, String documentId) {
+        DocumentSnapshot document = documentId != null ? refs.get(documentId) : null;
+        return document != null && document.exists() ? document.getData() : null;
+    }
+
+    /**
+     * 규칙 변경 여부 판단용 stamp
+     * 졸업요건 문서(updatedAt, version, 개정 번호, 참조 문서 ID)와 참조하는 전공/교양 문서(updatedAt, 개정 번호)
+     * 교양 문서는 여러 학부가 함께 참조하므로 다른 학부 화면에서 교양 문서만 고쳐도 stamp가 바뀌어야 함
+     *
+     * @param majorData 전공 문서 (없거나 받지 못했으면 null)
+     * @param generalData 교양 문서 (없거나 받지 못했으면 null)
+     */
+    private static String rulesStamp(Map<String, Object> gradData, @Nullable Map<String, Object> majorData,
+                                     @Nullable Map<String, Object> generalData) {
+        if (gradData == null) {
+            return "";
+        }
+        return documentStamp(gradData) + "|" + gradData.get("version")
+            + "|" + gradData.get("majorDocRef") + "|" + gradData.get("generalDocRef")
+            + "|" + documentStamp(majorData) + "|" + documentStamp(generalData);
+    }
+
+    /** 문서 하나의 updatedAt + 개정 번호 (문서가 없으면 "-") */
+    private static String documentStamp(@Nullable Map<String, Object> data) {
+        if (data == null) {
+            return "-";
+        }
+        Object updatedAt = data.get("updatedAt");
+        String updatedAtPart;
+        if (updatedAt instanceof com.google.firebase.Timestamp) {
+            com.google.firebase.Timestamp ts = (com.google.firebase.Timestamp) updatedAt;
+            updatedAtPart = ts.getSeconds() + "." + ts.getNanoseconds();
+        } else if (updatedAt instanceof java.util.Date) {
+            updatedAtPart = String.valueOf(((java.util.Date) updatedAt).getTime());
+        } else {
+            updatedAtPart = String.valueOf(updatedAt);
+        }
+        return updatedAtPart + "." + data.get(GraduationRequirementWriter.FIELD_REVISION);
+    }
+
+    /**
+     * Firestore에서 졸업요건 조합 (같은 규칙에 대한 동시 요청은 하나의 작업으로 병합)
+     *
+     * 토큰을 가진 요청이 모두 취소되면 공유 작업도 취소되고, 토큰 없이 합류한 요청이 있으면 끝까지 진행
+     */
+    private Task<GraduationRules> loadGraduationRulesFromNetwork(String cohort, String department, String track,
+                                                                 String gradDocId, String cacheKey,
+                                                                 @Nullable CancellationToken token) {
+        if (token != null && token.isCancellationRequested()) {
+            return Tasks.forCanceled();
+        }
+
+        final SharedRulesLoad load;
+        synchronized (inFlightRules) {
+            SharedRulesLoad running = inFlightRules.get(cacheKey);
+            if (running != null && !running.cancellation.getToken().isCancellationRequested()) {
+                Log.d(TAG, "진행 중인 졸업요건 로드에 합류: " + gradDocId);
+                load = running;
+            } else {
+                load = new SharedRulesLoad();
+                load.task = TaskScope.withDeadline(
+                    fetchGraduationRules(cohort, department, track, gradDocId, cacheKey,
+                        load.cancellation.getToken()),
+                    RULES_LOAD_DEADLINE_MS, load.cancellation);
+                inFlightRules.put(cacheKey, load);
+                load.task.addOnCompleteListener(done -> {
+                    synchronized (inFlightRules) {
+                        if (inFlightRules.get(cacheKey) == load) {
+                            inFlightRules.remove(cacheKey);
+                        }
+                    }
+                });
+            }
+            load.subscribers++;
+        }
+
+        if (token == null) {
+            return load.task;
+        }
+        token.onCanceledRequested(() -> releaseRulesLoad(cacheKey, load));
+        return TaskScope.cancellable(load.task, token);
+    }
+
+    /**
+     * 취소된 요청을 공유 작업에서 빼고, 기다리는 요청이 없으면 작업 취소
+     */
+    private void releaseRulesLoad(String cacheKey, SharedRulesLoad load) {
+        synchronized (inFlightRules) {
+            if (--load.subscribers > 0 || load.task.isComplete()) {
                 return;
             }
+            if (inFlightRules.get(cacheKey) == load) {
+                inFlightRules.remove(cacheKey);
+            }
         }
+        Log.d(TAG, "기다리는 요청이 없어 졸업요건 로드 취소: " + cacheKey);
+        load.cancellation.cancel();
+    }
 
-        // 1. 졸업요건 문서 로드 (학점 정보 + 문서 참조)
-        db.collection("graduation_requirements")
-            .document(gradDocId)
-            .get()
-            .addOnSuccessListener(gradDoc -> {
+    /**
+     * 졸업요건 문서 → 전공/교양 문서 로드 및 병합 (공유 작업당 한 번만 호출)
+     *
+     * 졸업요건 문서와 기본 규칙으로 정해지는 전공/교양 문서 후보를 먼저 한 번에 조회해 두므로,
+     * 문서 참조가 기본값이면 이후 단계는 네트워크 왕복 없이 진행됨
+     * 각 단계 시작 전에 토큰을 확인해 취소된 뒤에는 새 조회를 보내지 않음
+     */
+    private Task<GraduationRules> fetchGraduationRules(String cohort, String department, String track,
+                                                       String gradDocId, String cacheKey, CancellationToken token) {
+        // 0. 후보 문서 일괄 조회 (졸업요건, 기본 전공 문서, 학부별/공통 교양 문서)
+        List<String> candidates = Arrays.asList(
+            gradDocId,
+            department + "_" + track + "_" + cohort,
+            "교양_" + department + "_" + cohort,
+            "교양_공통_" + cohort);
+
+        return fetchDocuments("graduation_requirements", candidates)
+            .<DocumentSnapshot>continueWithTask(prefetch -> {
+                if (token.isCancellationRequested()) {
+                    return Tasks.forCanceled();
+                }
+                if (!prefetch.isSuccessful()) {
+                    // 일괄 조회가 실패해도 아래 단계가 문서를 개별 조회하므로 계속 진행
+                    Log.w(TAG, "졸업요건 후보 문서 일괄 조회 실패, 개별 조회로 진행", prefetch.getException());
+                }
+                // 1. 졸업요건 문서 로드 (학점 정보 + 문서 참조)
+                return getDocumentShared("graduation_requirements", gradDocId);
+            })
+            .<Map<String, Object>>onSuccessTask(gradDoc -> {
                 if (!gradDoc.exists()) {
                     Log.e(TAG, "졸업요건 문서를 찾을 수 없습니다: " + gradDocId);
-                    listener.onFailure(new Exception("졸업요건 문서를 찾을 수 없습니다: " + gradDocId));
-                    return;
+                    return Tasks.forException(new Exception("졸업요건 문서를 찾을 수 없습니다: " + gradDocId));
                 }
 
                 Log.d(TAG, "✓ 졸업요건 문서 로드 성공: " + gradDocId);
@@ -2376,8 +2922,7 @@ public class FirebaseDataManager {
                 Map<String, Object> gradData = gradDoc.getData();
                 if (gradData == null) {
                     Log.e(TAG, "졸업요건 문서 데이터가 null입니다");
-                    listener.onFailure(new Exception("졸업요건 문서 데이터가 null"));
-                    return;
+                    return Tasks.forException(new Exception("졸업요건 문서 데이터가 null"));
                 }
 
                 // 문서 참조 읽기
@@ -2390,108 +2935,103 @@ public class FirebaseDataManager {
                 Log.d(TAG, "  - 전공필수: " + gradDoc.getLong("전공필수"));
                 Log.d(TAG, "  - 전공선택: " + gradDoc.getLong("전공선택"));
 
-                // 2. 전공 문서와 교양 문서 로드 및 병합
-                loadAndMergeDocumentsForGraduationRules(
-                    gradData, majorDocRef, generalDocRef, cohort, department, track,
-                    cacheKey, listener);
+                // 2. 참조 문서 중 아직 받지 않은 것만 한 번에 조회한 뒤 병합
+                return fetchDocuments("graduation_requirements", Arrays.asList(majorDocRef, generalDocRef))
+                    .<Map<String, Object>>continueWithTask(refs -> token.isCancellationRequested()
+                        ? Tasks.forCanceled()
+                        : loadAndMergeDocumentsForGraduationRules(gradData, majorDocRef, generalDocRef));
             })
-            .addOnFailureListener(e -> {
-                Log.e(TAG, "졸업요건 문서 로드 실패: " + gradDocId, e);
-                listener.onFailure(e);
-            });
+            // 3. 병합된 데이터로 GraduationRules 생성 (작업 스레드)
+            .onSuccessTask(rulesExecutor, gradData -> Tasks.forResult(
+                createGraduationRulesFromMergedData(gradData, cohort, department, track, cacheKey)))
+            .addOnFailureListener(e -> Log.e(TAG, "졸업요건 로드 실패: " + gradDocId, e));
     }
 
     /**
-     * 졸업요건 문서에서 전공/교양 문서를 로드하고 병합하여 GraduationRules 생성
+     * 졸업요건 문서가 참조하는 전공/교양 문서를 동시에 로드해 gradData에 병합
+     * 전공 문서는 필수, 교양 문서는 없거나 실패하면 전공만 사용
      */
-    private void loadAndMergeDocumentsForGraduationRules(
+    private Task<Map<String, Object>> loadAndMergeDocumentsForGraduationRules(
             Map<String, Object> gradData,
             String majorDocRef,
-            String generalDocRef,
-            String cohort,
-            String department,
-            String track,
-            String cacheKey,
-            OnGraduationRulesLoadedListener listener) {
+            String generalDocRef) {
 
         Log.d(TAG, "전공/교양 문서 병합 시작");
 
-        // 전공 문서 로드
-        if (majorDocRef != null && !majorDocRef.isEmpty()) {
-            db.collection("graduation_requirements").document(majorDocRef)
-                .get()
-                .addOnSuccessListener(majorDoc -> {
-                    if (majorDoc.exists() && majorDoc.getData() != null) {
-                        Map<String, Object> majorData = majorDoc.getData();
-                        Log.d(TAG, "✓ 전공 문서 로드 성공: " + majorDocRef);
+        if (majorDocRef == null || majorDocRef.isEmpty()) {
+            Log.e(TAG, "전공 문서 참조가 없습니다");
+            return Tasks.forException(new Exception("전공 문서 참조가 없습니다"));
+        }
 
-                        // 전공 rules 복사
-                        if (majorData.containsKey("rules")) {
-                            gradData.put("majorRules", majorData.get("rules"));
-                        }
+        // 전공/교양 문서 동시 로드 (대부분 일괄 조회로 이미 받아둔 상태)
+        Task<DocumentSnapshot> majorTask = getDocumentShared("graduation_requirements", majorDocRef);
+        Task<DocumentSnapshot> generalTask = generalDocRef != null && !generalDocRef.isEmpty()
+            ? getDocumentShared("graduation_requirements", generalDocRef)
+            : null;
+        Task<List<Task<?>>> all = generalTask != null
+            ? Tasks.whenAllComplete(majorTask, generalTask)
+            : Tasks.whenAllComplete(majorTask);
+
+        return all.continueWithTask(done -> {
+            if (!majorTask.isSuccessful()) {
+                Log.e(TAG, "전공 문서 로드 실패: " + majorDocRef, majorTask.getException());
+                Exception e = majorTask.getException();
+                return Tasks.forException(e != null ? e : new Exception("전공 문서 로드 취소됨: " + majorDocRef));
+            }
+            DocumentSnapshot majorDoc = majorTask.getResult();
+            if (!majorDoc.exists() || majorDoc.getData() == null) {
+                Log.e(TAG, "전공 문서가 존재하지 않음: " + majorDocRef);
+                return Tasks.forException(new Exception("전공 문서를 찾을 수 없습니다: " + majorDocRef));
+            }
 
-                        // 전공 replacementRules 복사
-                        if (majorData.containsKey("replacementRules")) {
-                            gradData.put("replacementRules", majorData.get("replacementRules"));
-                        }
+            Map<String, Object> majorData = majorDoc.getData();
+            Log.d(TAG, "✓ 전공 문서 로드 성공: " + majorDocRef);
+            Map<String, Object> generalData = generalTask != null && generalTask.isSuccessful()
+                && generalTask.getResult().exists() ? generalTask.getResult().getData() : null;
+            String stamp = rulesStamp(gradData, majorData, generalData);
 
-                        // 교양 문서 로드
-                        if (generalDocRef != null && !generalDocRef.isEmpty()) {
-                            db.collection("graduation_requirements").document(generalDocRef)
-                                .get()
-                                .addOnSuccessListener(generalDoc -> {
-                                    if (generalDoc.exists() && generalDoc.getData() != null) {
-                                        Map<String, Object> generalData = generalDoc.getData();
-                                        Log.d(TAG, "✓ 교양 문서 로드 성공: " + generalDocRef);
-
-                                        // 교양 requirements 복사
-                                        if (generalData.containsKey("rules")) {
-                                            Map<String, Object> generalRules = (Map<String, Object>) generalData.get("rules");
-                                            if (generalRules != null && generalRules.containsKey("requirements")) {
-                                                gradData.put("generalRequirements", generalRules.get("requirements"));
-                                            }
-                                        }
-                                    }
+            // 전공 rules 복사
+            if (majorData.containsKey("rules")) {
+                gradData.put("majorRules", majorData.get("rules"));
+            }
 
-                                    // 병합된 데이터로 GraduationRules 생성
-                                    createGraduationRulesFromMergedData(
-                                        gradData, cohort, department, track, cacheKey, listener);
-                                })
-                                .addOnFailureListener(e -> {
-                                    Log.w(TAG, "교양 문서 로드 실패, 전공만 사용: " + e.getMessage());
-                                    createGraduationRulesFromMergedData(
-                                        gradData, cohort, department, track, cacheKey, listener);
-                                });
-                        } else {
-                            Log.d(TAG, "교양 문서 참조 없음, 전공만 사용");
-                            createGraduationRulesFromMergedData(
-                                gradData, cohort, department, track, cacheKey, listener);
+            // 전공 replacementRules 복사
+            if (majorData.containsKey("replacementRules")) {
+                gradData.put("replacementRules", majorData.get("replacementRules"));
+            }
+
+            if (generalTask == null) {
+                Log.d(TAG, "교양 문서 참조 없음, 전공만 사용");
+            } else if (!generalTask.isSuccessful()) {
+                Log.w(TAG, "교양 문서 로드 실패, 전공만 사용: " + generalTask.getException());
+            } else {
+                DocumentSnapshot generalDoc = generalTask.getResult();
+                if (generalDoc.exists() && generalDoc.getData() != null) {
+                    Log.d(TAG, "✓ 교양 문서 로드 성공: " + generalDocRef);
+
+                    // 교양 requirements 복사
+                    if (generalData.containsKey("rules")) {
+                        Map<String, Object> generalRules = (Map<String, Object>) generalData.get("rules");
+                        if (generalRules != null && generalRules.containsKey("requirements")) {
+                            gradData.put("generalRequirements", generalRules.get("requirements"));
                         }
-                    } else {
-                        Log.e(TAG, "전공 문서가 존재하지 않음: " + majorDocRef);
-                        listener.onFailure(new Exception("전공 문서를 찾을 수 없습니다: " + majorDocRef));
                     }
-                })
-                .addOnFailureListener(e -> {
-                    Log.e(TAG, "전공 문서 로드 실패: " + majorDocRef, e);
-                    listener.onFailure(e);
-                });
-        } else {
-            Log.e(TAG, "전공 문서 참조가 없습니다");
-            listener.onFailure(new Exception("전공 문서 참조가 없습니다"));
-        }
+                }
+            }
+            gradData.put(MERGED_RULES_STAMP, stamp);
+            return Tasks.forResult(gradData);
+        });
     }
 
     /**
      * 병합된 데이터로 GraduationRules 객체 생성
      */
-    private void createGraduationRulesFromMergedData(
+    private GraduationRules createGraduationRulesFromMergedData(
             Map<String, Object> gradData,
             String cohort,
             String department,
             String track,
-            String cacheKey,
-            OnGraduationRulesLoadedListener listener) {
+            String cacheKey) {
 
         Log.d(TAG, "병합된 데이터로 GraduationRules 생성 시작");
 
@@ -2569,17 +3109,22 @@ public class FirebaseDataManager {
 
         // 7. 메타데이터
         rules.setVersion("V2");
-        rules.setUpdatedAt(com.google.firebase.Timestamp.now());
+        rules.setUpdatedAt(new java.util.Date());
 
-        // 캐시 저장
+        // 캐시 저장 (메모리 + 디스크)
         graduationCache.put(cacheKey, rules);
-        cacheTimestamps.put(cacheKey, System.currentTimeMillis());
+        GraduationRulesDiskCache diskCache = rulesDiskCache;
+        if (diskCache != null && cacheKey.startsWith(RULES_CACHE_KEY_PREFIX)) {
+            String gradDocId = cacheKey.substring(RULES_CACHE_KEY_PREFIX.length());
+            String stamp = String.valueOf(gradData.get(MERGED_RULES_STAMP));
+            diskExecutor.execute(() -> diskCache.write(gradDocId, stamp, rules));
+        }
 
         Log.d(TAG, "========================================");
         Log.d(TAG, "GraduationRules 생성 완료");
         Log.d(TAG, "========================================");
 
-        listener.onSuccess(rules);
+        return rules;
     }
 
     /**
@@ -2831,8 +3376,7 @@ public class FirebaseDataManager {
             Log.d(TAG, "교양 문서 참조 발견: " + generalDocId + ", 로드 중...");
 
             // 교양 문서 로드 후 병합
-            db.collection("graduation_requirements").document(generalDocId)
-                .get()
+            getDocumentShared("graduation_requirements", generalDocId)
                 .addOnSuccessListener(generalDoc -> {
                     if (generalDoc.exists() && generalDoc.getData() != null) {
                         Map<String, Object> generalData = generalDoc.getData();
@@ -2943,7 +3487,7 @@ public class FirebaseDataManager {
 
         // 5. 메타데이터
         rules.setVersion("V1_CONVERTED");
-        rules.setUpdatedAt(com.google.firebase.Timestamp.now());
+        rules.setUpdatedAt(new java.util.Date());
         rules.setSourceDocumentName(sourceDocId);
 
         Log.d(TAG, "========================================");
@@ -38,6 +38,10 @@ import java.util.List;
 import java.util.Map;
 
 import sprout.app.sakmvp1.CourseInputActivity.Course;
+import sprout.app.sakmvp1.managers.GraduationReportRenderer;
+import sprout.app.sakmvp1.managers.StudentDirectoryManager;
+import sprout.app.sakmvp1.managers.StudentStatsManager;
+import sprout.app.sakmvp1.utils.TaskScope;
 
 /**
  * 졸업 요건 분석 결과 화면
@@ -94,6 +98,13 @@ public class GraduationAnalysisResultActivity extends BaseActivity {
 
     private static final String TAG = "GraduationResult";
 
+    /** 졸업요건 로드 마감 시간 (넘으면 실패로 처리) */
+    private static final long RULES_LOAD_TIMEOUT_MS = 20 * 1000;
+
+    /** 화면이 종료되면 진행 중인 로드를 취소하고 콜백도 막는 범위 */
+    private TaskScope taskScope;
+    private GraduationReportRenderer reportRenderer;
+
     private TextView textViewStudentInfo;
     private TabLayout tabLayout;
     private ViewPager2 viewPager;
@@ -131,6 +142,7 @@ public class GraduationAnalysisResultActivity extends BaseActivity {
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        taskScope = TaskScope.of(this);
 
         setContentView(R.layout.activity_graduation_analysis_result);
 
@@ -196,11 +208,11 @@ public class GraduationAnalysisResultActivity extends BaseActivity {
             return;
         }
 
-        com.google.firebase.firestore.FirebaseFirestore.getInstance()
+        taskScope.bind(com.google.firebase.firestore.FirebaseFirestore.getInstance()
                 .collection("users").document(user.getUid())
                 .collection("current_graduation_analysis")
                 .document("latest")
-                .get()
+                .get())
                 .addOnSuccessListener(documentSnapshot -> {
                     if (!documentSnapshot.exists()) {
                         Toast.makeText(this, "저장된 결과를 찾을 수 없습니다", Toast.LENGTH_SHORT).show();
@@ -408,11 +420,11 @@ public class GraduationAnalysisResultActivity extends BaseActivity {
                     updateData.put("department", selectedDepartment);
                     updateData.put("track", selectedTrack);
 
-                    db.collection("users")
-                            .document(userId)
-                            .set(updateData, com.google.firebase.firestore.SetOptions.merge())
+                    // 관리자 통계 카운터(졸업요건 검사 학생 수 등)도 같은 트랜잭션에서 갱신
+                    StudentStatsManager.saveUserProfile(db, userId, updateData)
                             .addOnSuccessListener(unused -> {
                                 Log.d(TAG, "users 문서 업데이트 성공 (savedGraduationAnalysis, lastGraduationCheckDate, name, email)");
+                                StudentDirectoryManager.recordProfile(db, selectedYear, selectedDepartment, selectedTrack);
                             });
 
                     // 저장 완료 후 홈으로 이동
@@ -550,209 +562,88 @@ public class GraduationAnalysisResultActivity extends BaseActivity {
         sb.append("\n");
     }
 
+    /**
+     * PDF 저장 (작업 스레드에서 생성해 다운로드 폴더에 바로 기록, 화면은 멈추지 않음)
+     */
     private void saveToPdf() {
-        try {
-            java.text.SimpleDateFormat fileSdf = new java.text.SimpleDateFormat("yyyyMMdd_HHmmss", java.util.Locale.KOREA);
-            String timestamp = fileSdf.format(new java.util.Date());
-            String fileName = "졸업요건분석_" + selectedYear + "학번_" + timestamp + ".pdf";
-
-            java.io.File downloadsDir = android.os.Environment.getExternalStoragePublicDirectory(
-                    android.os.Environment.DIRECTORY_DOWNLOADS);
-            java.io.File file = new java.io.File(downloadsDir, fileName);
-
-            // PDF 생성
-            com.itextpdf.kernel.pdf.PdfWriter writer = new com.itextpdf.kernel.pdf.PdfWriter(file);
-            com.itextpdf.kernel.pdf.PdfDocument pdf = new com.itextpdf.kernel.pdf.PdfDocument(writer);
-            com.itextpdf.layout.Document document = new com.itextpdf.layout.Document(pdf);
-
-            // 한글 폰트 설정 - assets 폴더의 폰트 사용
-            java.io.InputStream fontStream = getAssets().open("fonts/NanumGothic.ttf");
-            java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
-            byte[] buffer = new byte[4096];
-            int len;
-            while ((len = fontStream.read(buffer)) != -1) {
-                baos.write(buffer, 0, len);
-            }
-            fontStream.close();
-            byte[] fontBytes = baos.toByteArray();
-
-            com.itextpdf.kernel.font.PdfFont koreanFont = com.itextpdf.kernel.font.PdfFontFactory.createFont(
-                    fontBytes,
-                    com.itextpdf.io.font.PdfEncodings.IDENTITY_H,
-                    com.itextpdf.kernel.font.PdfFontFactory.EmbeddingStrategy.PREFER_EMBEDDED
-            );
-            document.setFont(koreanFont);
+        java.text.SimpleDateFormat fileSdf = new java.text.SimpleDateFormat("yyyyMMdd_HHmmss", java.util.Locale.KOREA);
+        String timestamp = fileSdf.format(new java.util.Date());
+        String fileName = "졸업요건분석_" + selectedYear + "학번_" + timestamp + ".pdf";
+
+        if (reportRenderer == null) {
+            reportRenderer = new GraduationReportRenderer(this);
+        }
+        Toast.makeText(this, "PDF 생성 중...", Toast.LENGTH_SHORT).show();
+        taskScope.bind(reportRenderer.render(buildPdfReport(fileName), GraduationReportRenderer.Destination.downloads()))
+                .addOnSuccessListener(uri -> {
+                    Toast.makeText(this, "PDF 저장 완료: " + fileName, Toast.LENGTH_LONG).show();
+                    Log.d(TAG, "PDF 파일 저장 완료: " + uri);
+                    showShareDialog(uri, fileName, "application/pdf");
+                })
+                .addOnFailureListener(e -> {
+                    Log.e(TAG, "PDF 파일 저장 실패", e);
+                    Toast.makeText(this, "PDF 저장 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+                });
+    }
 
-            java.text.SimpleDateFormat sdf = new java.text.SimpleDateFormat("yyyy-MM-dd HH:mm:ss", java.util.Locale.KOREA);
-            String currentDate = sdf.format(new java.util.Date());
+    /**
+     * 현재 분석 결과를 PDF 보고서 내용으로 변환 (메인 스레드에서 값만 복사)
+     */
+    private GraduationReportRenderer.Report buildPdfReport(String fileName) {
+        java.text.SimpleDateFormat sdf = new java.text.SimpleDateFormat("yyyy-MM-dd HH:mm:ss", java.util.Locale.KOREA);
+        GraduationReportRenderer.Report report = new GraduationReportRenderer.Report(fileName)
+                .addInfo("학번", selectedYear + "학번")
+                .addInfo("학과", selectedDepartment)
+                .addInfo("트랙", selectedTrack)
+                .addInfo("분석일시", sdf.format(new java.util.Date()));
 
-            // 제목
-            com.itextpdf.layout.element.Paragraph title = new com.itextpdf.layout.element.Paragraph("졸업요건 분석 결과")
-                    .setFontSize(20)
-                    .setBold()
-                    .setTextAlignment(com.itextpdf.layout.properties.TextAlignment.CENTER)
-                    .setMarginBottom(20);
-            document.add(title);
-
-            // 학생 정보 섹션
-            addPdfSectionTitle(document, "학생 정보");
-            addPdfKeyValue(document, "학번", selectedYear + "학번");
-            addPdfKeyValue(document, "학과", selectedDepartment);
-            addPdfKeyValue(document, "트랙", selectedTrack);
-            addPdfKeyValue(document, "분석일시", currentDate);
-            document.add(new com.itextpdf.layout.element.Paragraph("").setMarginBottom(10));
-
-            // 전체 진행도 섹션
-            if (graduationProgress != null) {
-                addPdfSectionTitle(document, "전체 졸업 진행도");
-                addPdfKeyValue(document, "총 이수학점", graduationProgress.totalEarned + " / " + graduationProgress.totalRequired + " 학점");
-                addPdfKeyValue(document, "진행률", String.format("%.1f%%", graduationProgress.getOverallProgress()));
-                document.add(new com.itextpdf.layout.element.Paragraph("").setMarginBottom(10));
-
-                // 카테고리별 이수현황 테이블
-                addPdfSectionTitle(document, "카테고리별 이수현황");
-                com.itextpdf.layout.element.Table progressTable = new com.itextpdf.layout.element.Table(3)
-                        .useAllAvailableWidth()
-                        .setMarginBottom(15);
-
-                // 테이블 헤더
-                progressTable.addHeaderCell(createPdfCell("구분", true));
-                progressTable.addHeaderCell(createPdfCell("이수/요구", true));
-                progressTable.addHeaderCell(createPdfCell("상태", true));
-
-                // 카테고리 데이터
-                addPdfProgressRow(progressTable, "전공필수", graduationProgress.majorRequired);
-                addPdfProgressRow(progressTable, "전공선택", graduationProgress.majorElective);
-                if (graduationProgress.majorAdvanced != null) {
-                    addPdfProgressRow(progressTable, "전공심화", graduationProgress.majorAdvanced);
-                }
-                if (graduationProgress.departmentCommon != null) {
-                    addPdfProgressRow(progressTable, "학부공통", graduationProgress.departmentCommon);
-                }
-                addPdfProgressRow(progressTable, "교양필수", graduationProgress.generalRequired);
-                addPdfProgressRow(progressTable, "교양선택", graduationProgress.generalElective);
-                addPdfProgressRow(progressTable, "소양", graduationProgress.liberalArts);
-                if (graduationProgress.generalSelection != null) {
-                    addPdfProgressRow(progressTable, "일반선택", graduationProgress.generalSelection);
-                }
-                if (graduationProgress.remainingCredits != null) {
-                    addPdfProgressRow(progressTable, "잔여학점", graduationProgress.remainingCredits);
-                }
-                document.add(progressTable);
-            }
-
-            // 수강 과목 목록
-            addPdfSectionTitle(document, "수강 과목 목록");
-            if (courseList != null && !courseList.isEmpty()) {
-                Map<String, java.util.List<Course>> coursesByCategory = new java.util.LinkedHashMap<>();
-                for (Course course : courseList) {
-                    String category = course.getCategory();
-                    if (!coursesByCategory.containsKey(category)) {
-                        coursesByCategory.put(category, new java.util.ArrayList<>());
-                    }
-                    coursesByCategory.get(category).add(course);
-                }
-
-                for (Map.Entry<String, java.util.List<Course>> entry : coursesByCategory.entrySet()) {
-                    // 카테고리 제목
-                    document.add(new com.itextpdf.layout.element.Paragraph("▶ " + entry.getKey() + " (" + entry.getValue().size() + "과목)")
-                            .setBold()
-                            .setFontSize(11)
-                            .setMarginTop(10));
-
-                    // 과목 테이블
-                    com.itextpdf.layout.element.Table courseTable = new com.itextpdf.layout.element.Table(2)
-                            .useAllAvailableWidth()
-                            .setMarginBottom(10);
-                    courseTable.addHeaderCell(createPdfCell("과목명", true));
-                    courseTable.addHeaderCell(createPdfCell("학점", true));
-
-                    int categoryCredits = 0;
-                    for (Course course : entry.getValue()) {
-                        courseTable.addCell(createPdfCell(course.getName(), false));
-                        courseTable.addCell(createPdfCell(course.getCredits() + "학점", false));
-                        categoryCredits += course.getCredits();
-                    }
-                    // 소계
-                    courseTable.addCell(createPdfCell("소계", true));
-                    courseTable.addCell(createPdfCell(categoryCredits + "학점", true));
-                    document.add(courseTable);
-                }
-            }
+        if (graduationProgress != null) {
+            report.setOverall(graduationProgress.totalEarned, graduationProgress.totalRequired,
+                    graduationProgress.getOverallProgress());
+            addPdfProgressRow(report, "전공필수", graduationProgress.majorRequired);
+            addPdfProgressRow(report, "전공선택", graduationProgress.majorElective);
+            addPdfProgressRow(report, "전공심화", graduationProgress.majorAdvanced);
+            addPdfProgressRow(report, "학부공통", graduationProgress.departmentCommon);
+            addPdfProgressRow(report, "교양필수", graduationProgress.generalRequired);
+            addPdfProgressRow(report, "교양선택", graduationProgress.generalElective);
+            addPdfProgressRow(report, "소양", graduationProgress.liberalArts);
+            addPdfProgressRow(report, "일반선택", graduationProgress.generalSelection);
+            addPdfProgressRow(report, "잔여학점", graduationProgress.remainingCredits);
+        }
 
-            // 추가 요건
-            if (additionalRequirements != null) {
-                addPdfSectionTitle(document, "추가 졸업요건");
-                addPdfKeyValue(document, "TLC 이수", additionalRequirements.getTlcCount() + "회");
-                addPdfKeyValue(document, "채플 이수", additionalRequirements.getChapelCount() + "학기");
-                addPdfKeyValue(document, "마일리지", additionalRequirements.isMileageCompleted() ? "완료" : "미완료");
-                addPdfKeyValue(document, "추가요건", additionalRequirements.isExtraGradCompleted() ? "완료" : "미완료");
+        if (courseList != null) {
+            for (Course course : courseList) {
+                report.addCourse(course.getCategory(), course.getName(), course.getCredits());
             }
-
-            document.close();
-
-            Toast.makeText(this, "PDF 저장 완료: " + fileName, Toast.LENGTH_LONG).show();
-            Log.d(TAG, "PDF 파일 저장 완료: " + file.getAbsolutePath());
-
-            showShareDialog(file, "application/pdf");
-
-        } catch (Exception e) {
-            Log.e(TAG, "PDF 파일 저장 실패", e);
-            Toast.makeText(this, "PDF 저장 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
         }
-    }
 
-    private void addPdfSectionTitle(com.itextpdf.layout.Document document, String title) {
-        document.add(new com.itextpdf.layout.element.Paragraph("【 " + title + " 】")
-                .setBold()
-                .setFontSize(14)
-                .setMarginTop(15)
-                .setMarginBottom(5));
-    }
-
-    private void addPdfKeyValue(com.itextpdf.layout.Document document, String key, String value) {
-        document.add(new com.itextpdf.layout.element.Paragraph("  " + key + ": " + value)
-                .setFontSize(11));
-    }
-
-    private com.itextpdf.layout.element.Cell createPdfCell(String text, boolean isHeader) {
-        com.itextpdf.layout.element.Cell cell = new com.itextpdf.layout.element.Cell()
-                .add(new com.itextpdf.layout.element.Paragraph(text))
-                .setFontSize(10)
-                .setPadding(5);
-        if (isHeader) {
-            cell.setBold()
-                .setBackgroundColor(com.itextpdf.kernel.colors.ColorConstants.LIGHT_GRAY);
+        if (additionalRequirements != null) {
+            report.addExtra("TLC 이수", additionalRequirements.getTlcCount() + "회")
+                    .addExtra("채플 이수", additionalRequirements.getChapelCount() + "학기")
+                    .addExtra("마일리지", additionalRequirements.isMileageCompleted() ? "완료" : "미완료")
+                    .addExtra("추가요건", additionalRequirements.isExtraGradCompleted() ? "완료" : "미완료");
         }
-        return cell;
+        return report;
     }
 
-    private void addPdfProgressRow(com.itextpdf.layout.element.Table table, String category, CategoryProgress progress) {
+    private void addPdfProgressRow(GraduationReportRenderer.Report report, String category, CategoryProgress progress) {
         if (progress == null) return;
-        table.addCell(createPdfCell(category, false));
-        table.addCell(createPdfCell(progress.earned + " / " + progress.required + " 학점", false));
-        String status = progress.isCompleted ? "✓ 완료" : "○ " + progress.remaining + "학점 부족";
-        table.addCell(createPdfCell(status, false));
+        report.addProgress(category, progress.earned, progress.required);
     }
 
-    private void showShareDialog(java.io.File file, String mimeType) {
+    private void showShareDialog(android.net.Uri uri, String fileName, String mimeType) {
         new android.app.AlertDialog.Builder(this)
                 .setTitle("파일 저장 완료")
-                .setMessage("파일이 다운로드 폴더에 저장되었습니다.\n\n" + file.getName())
+                .setMessage("파일이 다운로드 폴더에 저장되었습니다.\n\n" + fileName)
                 .setPositiveButton("공유", (dialog, which) -> {
-                    shareFile(file, mimeType);
+                    shareFile(uri, mimeType);
                 })
                 .setNegativeButton("확인", null)
                 .show();
     }
 
-    private void shareFile(java.io.File file, String mimeType) {
+    private void shareFile(android.net.Uri uri, String mimeType) {
         try {
-            android.net.Uri uri = androidx.core.content.FileProvider.getUriForFile(
-                    this,
-                    getPackageName() + ".fileprovider",
-                    file);
-
             Intent shareIntent = new Intent(Intent.ACTION_SEND);
             shareIntent.setType(mimeType);
             shareIntent.putExtra(Intent.EXTRA_STREAM, uri);
@@ -785,8 +676,8 @@ public class GraduationAnalysisResultActivity extends BaseActivity {
         Log.d(TAG, "========================================");
 
         // 새로운 통합 모델로 졸업요건 분석 수행
-        FirebaseDataManager.getInstance().loadGraduationRules(
-                selectedYear, selectedDepartment, selectedTrack,
+        // 화면을 벗어나면 남은 조회를 중단하고 아래 콜백도 호출되지 않음
+        FirebaseDataManager.OnGraduationRulesLoadedListener rulesListener =
                 new FirebaseDataManager.OnGraduationRulesLoadedListener() {
                     @Override
                     public void onSuccess(sprout.app.sakmvp1.models.GraduationRules rules) {
@@ -817,6 +708,13 @@ public class GraduationAnalysisResultActivity extends BaseActivity {
                     public void onFailure(Exception e) {
                         Log.e(TAG, "졸업요건 데이터 로드 실패", e);
 
+                        if (e instanceof java.util.concurrent.TimeoutException) {
+                            Toast.makeText(GraduationAnalysisResultActivity.this,
+                                    "서버 응답이 없어 졸업요건을 불러오지 못했습니다", Toast.LENGTH_SHORT).show();
+                            finish();
+                            return;
+                        }
+
                         // V2 통합 시스템만 사용 (V1 레거시 폴백 비활성화)
                         // V1 폴백 로직은 하단에 주석으로 보존됨
                         Log.e(TAG, "V2 통합 졸업요건 데이터가 없습니다. 관리자 화면에서 먼저 등록해주세요.");
@@ -840,7 +738,13 @@ public class GraduationAnalysisResultActivity extends BaseActivity {
                         performLegacyGraduationAnalysis();
                         */
                     }
-                });
+                };
+
+        taskScope.bind(FirebaseDataManager.getInstance().getGraduationRules(
+                        selectedYear, selectedDepartment, selectedTrack, taskScope.getToken()),
+                        RULES_LOAD_TIMEOUT_MS)
+                .addOnSuccessListener(rulesListener::onSuccess)
+                .addOnFailureListener(rulesListener::onFailure);
     }
 
     /**
@@ -18,6 +18,7 @@ import sprout.app.sakmvp1.fragments.CreditRequirementsFragment;
 import sprout.app.sakmvp1.fragments.GeneralCoursesFragment;
 import sprout.app.sakmvp1.fragments.MajorCoursesFragment;
 import sprout.app.sakmvp1.fragments.ReplacementRulesFragment;
+import sprout.app.sakmvp1.managers.GraduationRequirementWriter;
 import sprout.app.sakmvp1.models.GraduationRules;
 
 /**
@@ -54,6 +55,7 @@ public class GraduationRequirementEditActivity extends BaseActivity {
     private String majorDocId;  // 참조된 전공 문서 ID
     private String generalEducationDocId;  // 참조된 교양 문서 ID
     private boolean hasUnsavedChanges = false;  // 저장하지 않은 변경사항이 있는지 추적
+    private GraduationRequirementWriter requirementWriter;  // 로드 시점 스냅샷과 비교해 한 번에 저장
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -68,6 +70,8 @@ public class GraduationRequirementEditActivity extends BaseActivity {
             finish();
             return;
         }
+        requirementWriter = new GraduationRequirementWriter(db,
+                db.collection("graduation_requirements").document(documentId));
 
         initViews();
         setupToolbar();
@@ -143,6 +147,8 @@ public class GraduationRequirementEditActivity extends BaseActivity {
                 .get()
                 .addOnSuccessListener(document -> {
                     if (document.exists()) {
+                        requirementWriter.remember(document.getReference(), document.getData());
+
                         // v1 구조에서 데이터 읽기
                         String displayName = documentId;
 
@@ -285,6 +291,8 @@ public class GraduationRequirementEditActivity extends BaseActivity {
                     .get()
                     .addOnSuccessListener(generalDoc -> {
                         if (generalDoc.exists()) {
+                            requirementWriter.remember(generalDoc.getReference(), generalDoc.getData());
+
                             // ✅ 교양 과목 목록 (rules) 로드
                             Object rulesObj = generalDoc.get("rules");
                             if (rulesObj instanceof java.util.Map) {
@@ -375,6 +383,8 @@ public class GraduationRequirementEditActivity extends BaseActivity {
             .document(documentId)
             .get()
             .addOnSuccessListener(doc -> {
+                // 문서가 없으면 빈 문서로 기억 (규칙이 없는 상태로 저장하면 문서를 만들지 않음)
+                requirementWriter.remember(doc.getReference(), doc.exists() ? doc.getData() : null);
                 if (doc.exists()) {
                     Object rulesObj = doc.get("rules");
                     if (rulesObj instanceof java.util.List) {
@@ -900,7 +910,8 @@ public class GraduationRequirementEditActivity extends BaseActivity {
     }
 
     /**
-     * 변경사항 저장 - 전공 문서와 교양 문서를 별도로 저장
+     * 변경사항 저장 - 졸업요건 문서, 대체과목 규칙, 교양 문서를 WriteBatch 하나로 저장
+     * 로드 시점과 달라진 필드 경로만 기록하고(미리보기로 확인), 하나라도 실패하면 어느 문서도 바뀌지 않음
      */
     private void saveChanges() {
         showLoading(true);
@@ -964,40 +975,62 @@ public class GraduationRequirementEditActivity extends BaseActivity {
             }
         }
 
-        majorUpdateData.put("updatedAt", com.google.firebase.firestore.FieldValue.serverTimestamp());
+        // 이전에 확인을 취소한 변경 내용은 버리고 현재 값으로 다시 비교
+        requirementWriter.discardChanges();
+        requirementWriter.update(db.collection("graduation_requirements").document(documentId), majorUpdateData);
+        stageReplacementRules();
+        stageGeneralEducationDocument(generalDocId);
+
+        if (!requirementWriter.hasChanges()) {
+            showLoading(false);
+            hasUnsavedChanges = false;
+            Toast.makeText(this, "변경된 내용이 없습니다", Toast.LENGTH_SHORT).show();
+            finish();
+            return;
+        }
 
-        Log.d(TAG, "전공 문서 저장할 데이터: " + majorUpdateData.keySet());
+        Log.d(TAG, "저장할 변경 사항: " + requirementWriter.describeChanges());
 
-        // 전공 문서 먼저 저장
-        final String finalGeneralDocId = generalDocId;
-        db.collection("graduation_requirements")
-                .document(documentId)
-                .update(majorUpdateData)
+        // 바뀌는 필드만 보여주고 확인 후 저장
+        showLoading(false);
+        new MaterialAlertDialogBuilder(this)
+                .setTitle("변경 내용 확인")
+                .setMessage(requirementWriter.preview())
+                .setPositiveButton("저장", (dialog, which) -> commitChanges())
+                .setNegativeButton("취소", null)
+                .show();
+    }
+
+    /**
+     * 확인한 변경 내용을 한 번에 커밋
+     */
+    private void commitChanges() {
+        showLoading(true);
+        requirementWriter.commit()
                 .addOnSuccessListener(aVoid -> {
-                    Log.d(TAG, "전공 문서 저장 성공: " + documentId);
+                    showLoading(false);
+                    Log.d(TAG, "졸업요건 저장 성공: " + documentId);
                     hasUnsavedChanges = false;  // 저장 성공 시 플래그 초기화
 
-                    // 대체과목 규칙을 별도 컬렉션에 저장
-                    saveReplacementRulesToSeparateCollection();
+                    // 이 기기의 졸업요건 캐시(메모리 + 디스크) 무효화
+                    FirebaseDataManager.getInstance().clearCache();
 
-                    // 교양 문서 저장
-                    saveGeneralEducationDocument(finalGeneralDocId);
+                    Toast.makeText(this, "저장되었습니다", Toast.LENGTH_SHORT).show();
+                    finish();
                 })
                 .addOnFailureListener(e -> {
                     showLoading(false);
-                    Log.e(TAG, "전공 문서 저장 실패", e);
+                    Log.e(TAG, "졸업요건 저장 실패", e);
                     Toast.makeText(this, "저장 실패: " + e.getMessage(),
                             Toast.LENGTH_SHORT).show();
                 });
     }
 
     /**
-     * 대체과목 규칙을 replacement_courses 컬렉션에 별도 저장
+     * 대체과목 규칙을 replacement_courses 컬렉션에 저장하도록 추가 (문서 ID는 graduation_requirements와 동일)
      */
-    private void saveReplacementRulesToSeparateCollection() {
-        if (graduationRules == null || graduationRules.getReplacementRules() == null ||
-            graduationRules.getReplacementRules().isEmpty()) {
-            Log.d(TAG, "대체과목 규칙 없음 - 저장 스킵");
+    private void stageReplacementRules() {
+        if (graduationRules.getReplacementRules() == null) {
             return;
         }
 
@@ -1034,37 +1067,20 @@ public class GraduationRequirementEditActivity extends BaseActivity {
             rulesList.add(ruleMap);
         }
 
-        // replacement_courses 컬렉션에 저장할 데이터 준비
+        // 규칙을 모두 지운 경우에도 빈 목록으로 기록 (처음부터 없던 문서는 만들지 않음)
         java.util.Map<String, Object> replacementData = new java.util.HashMap<>();
         replacementData.put("rules", rulesList);
-        replacementData.put("updatedAt", com.google.firebase.firestore.FieldValue.serverTimestamp());
-
-        Log.d(TAG, "대체과목 규칙을 replacement_courses 컬렉션에 저장 시작: " + documentId + " (" + rulesList.size() + "개)");
-
-        // replacement_courses 컬렉션에 저장 (문서 ID는 graduation_requirements와 동일)
-        db.collection("replacement_courses")
-                .document(documentId)
-                .set(replacementData)
-                .addOnSuccessListener(aVoid -> {
-                    Log.d(TAG, "대체과목 규칙 저장 성공: replacement_courses/" + documentId);
-                })
-                .addOnFailureListener(e -> {
-                    Log.e(TAG, "대체과목 규칙 저장 실패: " + e.getMessage(), e);
-                    // 실패해도 전체 저장은 계속 진행 (대체과목은 선택사항)
-                });
+        requirementWriter.merge(db.collection("replacement_courses").document(documentId), replacementData);
     }
 
     /**
-     * 교양 문서 별도 저장
+     * 교양 문서 저장 내용 추가
      */
-    private void saveGeneralEducationDocument(String generalDocId) {
+    private void stageGeneralEducationDocument(String generalDocId) {
         GeneralCoursesFragment generalFragment = pagerAdapter.getGeneralFragment();
 
         if (generalFragment == null || generalDocId == null || generalDocId.isEmpty()) {
-            Log.d(TAG, "교양 문서 저장 조건 불충족 - 완료");
-            showLoading(false);
-            Toast.makeText(this, "저장되었습니다", Toast.LENGTH_SHORT).show();
-            finish();
+            Log.d(TAG, "교양 문서 저장 조건 불충족 - 생략");
             return;
         }
 
@@ -1072,10 +1088,7 @@ public class GraduationRequirementEditActivity extends BaseActivity {
             generalFragment.getGeneralCourseGroups();
 
         if (generalGroups == null || generalGroups.isEmpty()) {
-            Log.d(TAG, "교양과목 데이터 없음 - 완료");
-            showLoading(false);
-            Toast.makeText(this, "저장되었습니다", Toast.LENGTH_SHORT).show();
-            finish();
+            Log.d(TAG, "교양과목 데이터 없음 - 생략");
             return;
         }
 
@@ -1090,26 +1103,14 @@ public class GraduationRequirementEditActivity extends BaseActivity {
         java.util.Map<String, Object> rulesMap = new java.util.HashMap<>();
         rulesMap.put("requirements", requirementsList);
         generalUpdateData.put("rules", rulesMap);
-        generalUpdateData.put("updatedAt", com.google.firebase.firestore.FieldValue.serverTimestamp());
-
-        Log.d(TAG, "교양 문서 저장 시작: " + generalDocId);
+        requirementWriter.update(db.collection("graduation_requirements").document(generalDocId), generalUpdateData);
+    }
 
-        // 교양 문서 저장
-        db.collection("graduation_requirements")
-                .document(generalDocId)
-                .update(generalUpdateData)
-                .addOnSuccessListener(aVoid -> {
-                    showLoading(false);
-                    Log.d(TAG, "교양 문서 저장 성공: " + generalDocId);
-                    Toast.makeText(this, "저장되었습니다 (전공 + 교양)", Toast.LENGTH_SHORT).show();
-                    finish();
-                })
-                .addOnFailureListener(e -> {
-                    showLoading(false);
-                    Log.e(TAG, "교양 문서 저장 실패: " + generalDocId, e);
-                    Toast.makeText(this, "교양 문서 저장 실패: " + e.getMessage(),
-                            Toast.LENGTH_SHORT).show();
-                });
+    /**
+     * Fragment가 직접 불러온 문서도 저장 시 비교 기준으로 사용하도록 기록
+     */
+    public void rememberLoadedDocument(String collection, String docId, java.util.Map<String, Object> data) {
+        requirementWriter.remember(db.collection(collection).document(docId), data);
     }
 
     /**
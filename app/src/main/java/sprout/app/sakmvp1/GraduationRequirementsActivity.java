@@ -1,6 +1,7 @@
 package sprout.app.sakmvp1;
 
 import android.content.Intent;
+import android.net.Uri;
 import android.os.Bundle;
 import android.util.Log;
 import android.view.Menu;
@@ -12,10 +13,14 @@ import android.widget.ProgressBar;
 import android.widget.Spinner;
 import android.widget.Toast;
 
+import androidx.activity.result.ActivityResultLauncher;
+import androidx.activity.result.contract.ActivityResultContracts;
+import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
+import com.google.android.gms.tasks.CancellationTokenSource;
 import com.google.android.material.appbar.MaterialToolbar;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
@@ -30,7 +35,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import sprout.app.sakmvp1.managers.CurriculumImportManager;
 import sprout.app.sakmvp1.utils.GraduationRequirementUtils;
+import sprout.app.sakmvp1.utils.TaskScope;
 
 /**
  * 졸업요건 관리 Activity (관리자용)
@@ -50,6 +57,11 @@ public class GraduationRequirementsActivity extends BaseActivity {
 
     private FirebaseFirestore db;
     private GraduationRequirementAdapter adapter;
+    private TaskScope taskScope;
+    private CurriculumImportManager importManager;
+
+    // 교육과정 파일 선택 (onCreate에서 등록해야 함)
+    private ActivityResultLauncher<String[]> importFileLauncher;
 
     // 전체 졸업요건 데이터 (필터링에 사용)
     private List<GraduationRequirement> allRequirements = new ArrayList<>();
@@ -73,6 +85,14 @@ public class GraduationRequirementsActivity extends BaseActivity {
         setContentView(R.layout.activity_graduation_requirements);
 
         db = FirebaseFirestore.getInstance();
+        taskScope = TaskScope.of(this);
+        importFileLauncher = registerForActivityResult(
+                new ActivityResultContracts.OpenDocument(),
+                uri -> {
+                    if (uri != null) {
+                        importCurriculumFile(uri);
+                    }
+                });
 
         initViews();
         setupToolbar();
@@ -534,9 +554,84 @@ public class GraduationRequirementsActivity extends BaseActivity {
             toggleDeleteMode();
             return true;
         }
+        if (item.getItemId() == R.id.action_import) {
+            importFileLauncher.launch(new String[]{"application/json", "text/csv",
+                    "text/comma-separated-values", "text/plain"});
+            return true;
+        }
         return super.onOptionsItemSelected(item);
     }
 
+    /**
+     * 교육과정 파일(JSON/CSV)로 졸업요건 문서 일괄 생성
+     * 진행 중에는 다이얼로그에 진행률 표시, 중단되면 같은 파일을 다시 선택해 이어서 진행
+     */
+    private void importCurriculumFile(Uri uri) {
+        if (importManager == null) {
+            importManager = new CurriculumImportManager(this, db);
+        }
+        // 화면을 닫아도 진행 중인 묶음까지만 저장하고 멈춤
+        CancellationTokenSource cancellation = new CancellationTokenSource();
+        taskScope.getToken().onCanceledRequested(cancellation::cancel);
+        AlertDialog progressDialog = new MaterialAlertDialogBuilder(this)
+                .setTitle("교육과정 가져오는 중")
+                .setMessage("파일을 읽는 중...")
+                .setCancelable(false)
+                .setNegativeButton("중단", (dialog, which) -> cancellation.cancel())
+                .show();
+
+        taskScope.bind(importManager.importFile(uri, cancellation.getToken(),
+                        (written, invalid) -> {
+                            if (!taskScope.isCancelled()) {
+                                progressDialog.setMessage("저장 " + written + "개 · 오류 " + invalid + "개");
+                            }
+                        }))
+                .addOnCompleteListener(task -> {
+                    // 화면이 닫혀 취소된 경우 UI 작업 없음 (캐시는 CurriculumImportManager가 갱신)
+                    if (taskScope.isCancelled()) {
+                        return;
+                    }
+                    progressDialog.dismiss();
+                    // 일부만 저장되어도 목록은 갱신
+                    loadAllRequirements();
+                })
+                .addOnSuccessListener(this::showImportResult)
+                .addOnFailureListener(e -> {
+                    Log.e(TAG, "교육과정 가져오기 실패", e);
+                    new MaterialAlertDialogBuilder(this)
+                            .setTitle("가져오기 중단")
+                            .setMessage((e instanceof java.util.concurrent.CancellationException ? "가져오기를 중단했습니다."
+                                    : "가져오기 실패: " + e.getMessage())
+                                    + "\n\n같은 파일을 다시 선택하면 저장된 부분은 건너뛰고 이어서 진행합니다.")
+                            .setPositiveButton("확인", null)
+                            .show();
+                });
+    }
+
+    private void showImportResult(CurriculumImportManager.Result result) {
+        StringBuilder message = new StringBuilder();
+        message.append("저장: ").append(result.getWrittenCount()).append("개");
+        if (result.getResumedCount() > 0) {
+            message.append("\n이전에 저장됨: ").append(result.getResumedCount()).append("개");
+        }
+        List<String> invalid = result.getInvalidRecords();
+        if (!invalid.isEmpty()) {
+            message.append("\n건너뜀: ").append(invalid.size()).append("개\n");
+            int shown = Math.min(invalid.size(), 20);
+            for (int i = 0; i < shown; i++) {
+                message.append("\n• ").append(invalid.get(i));
+            }
+            if (invalid.size() > shown) {
+                message.append("\n... 외 ").append(invalid.size() - shown).append("개");
+            }
+        }
+        new MaterialAlertDialogBuilder(this)
+                .setTitle("가져오기 완료")
+                .setMessage(message.toString())
+                .setPositiveButton("확인", null)
+                .show();
+    }
+
     /**
      * 삭제 모드 토글
      */
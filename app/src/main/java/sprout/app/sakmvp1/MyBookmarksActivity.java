@@ -19,7 +19,6 @@ import com.google.firebase.firestore.FirebaseFirestoreException;
 import com.google.firebase.firestore.ListenerRegistration;
 import com.google.firebase.firestore.Query;
 
-import java.util.ArrayList;
 import java.util.Collections; // [추가]
 import java.util.Comparator;  // [추가]
 import java.util.HashMap;
@@ -33,7 +32,6 @@ public class MyBookmarksActivity extends BaseActivity implements CertificateAdap
     private static final String TAG = "MyBookmarksActivity";
     private RecyclerView recyclerView;
     private CertificateAdapter adapter;
-    private final List<Certificate> certificateList = new ArrayList<>();
 
     private FirebaseFirestore db;
     private String currentUserId;
@@ -69,7 +67,7 @@ public class MyBookmarksActivity extends BaseActivity implements CertificateAdap
         recyclerView.setLayoutManager(new LinearLayoutManager(this));
 
         // CertificateAdapter 재사용
-        adapter = new CertificateAdapter(certificateList, this);
+        adapter = new CertificateAdapter(this);
         recyclerView.setAdapter(adapter);
     }
 
@@ -129,9 +127,7 @@ public class MyBookmarksActivity extends BaseActivity implements CertificateAdap
                 }
 
 
-                certificateList.clear();
-                certificateList.addAll(docs); // 정렬된 리스트를 어댑터에 추가
-                adapter.notifyDataSetChanged();
+                adapter.submitList(docs); // 정렬된 리스트를 어댑터에 전달 (바뀐 카드만 갱신)
             }
         });
     }
@@ -4,6 +4,8 @@ import android.content.res.ColorStateList;
 import android.graphics.Color;
 import android.os.Bundle;
 import android.util.Log;
+import android.view.Menu;
+import android.view.MenuItem;
 import android.view.View;
 import android.widget.LinearLayout;
 import android.widget.ProgressBar;
@@ -17,6 +19,8 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.google.android.material.appbar.MaterialToolbar;
 import com.google.android.material.card.MaterialCardView;
 import com.google.android.material.chip.Chip;
+import com.google.android.material.dialog.MaterialAlertDialogBuilder;
+import com.google.android.gms.tasks.Tasks;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.FirebaseFirestore;
@@ -26,15 +30,24 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import sprout.app.sakmvp1.managers.SemesterPlanSimulator;
+import sprout.app.sakmvp1.managers.TimetableSolver;
 import sprout.app.sakmvp1.models.CategoryAnalysisResult;
 import sprout.app.sakmvp1.models.CourseRequirement;
 import sprout.app.sakmvp1.models.GraduationAnalysisResult;
 import sprout.app.sakmvp1.models.GraduationRules;
 import sprout.app.sakmvp1.models.RequirementCategory;
+import sprout.app.sakmvp1.models.TakenCourse;
+import sprout.app.sakmvp1.timetable.SavedTimetable;
+import sprout.app.sakmvp1.timetable.TimetableGenerator;
+import sprout.app.sakmvp1.utils.TaskScope;
 
 /**
  * 수강과목 추천 결과 화면 (V2 통합)
@@ -46,12 +59,23 @@ public class RecommendationResultActivity extends BaseActivity {
 
     private static final String TAG = "RecommendationResult";
 
+    // 시간표 자동 생성 기본 조건
+    private static final int GENERATED_MIN_CREDITS = 12;
+    private static final int GENERATED_MAX_CREDITS = 21;
+    private static final int GENERATED_TIMETABLE_COUNT = 5;
+
+    // 수강 계획 시뮬레이션: 학기당 학점 × 과목 배치 순서 조합
+    private static final int[] PLAN_CREDIT_LOADS = {15, 18, 21};
+    private static final ExecutorService SIMULATION_EXECUTOR = Executors.newSingleThreadExecutor();
+
     private MaterialToolbar toolbar;
     private MaterialCardView cardPrioritySummary;
     private LinearLayout layoutPrioritySummary;
     private RecyclerView recyclerViewRecommendations;
     private ProgressBar progressBar;
     private TextView tvEmptyMessage;
+    private MaterialCardView cardPlanSimulation;
+    private TextView tvPlanSimulation;
 
     private RecommendedCourseAdapter adapter;
     private List<RecommendedCourse> recommendedCourses;
@@ -59,6 +83,8 @@ public class RecommendationResultActivity extends BaseActivity {
     private FirebaseFirestore db;
     private FirebaseAuth auth;
     private FirebaseDataManager dataManager;
+    private TimetableGenerator timetableGenerator;
+    private TaskScope taskScope;
 
     private String userYear;
     private String userDepartment;
@@ -68,6 +94,7 @@ public class RecommendationResultActivity extends BaseActivity {
     private String selectedCategory; // 특정 과목군 (custom 모드일 때만 사용)
     private List<CourseInputActivity.Course> takenCourses; // 수강한 과목 이력
     private GraduationAnalysisResult analysisResult; // 졸업요건 분석 결과
+    private GraduationRules graduationRules; // 수강 계획 시뮬레이션용
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -77,6 +104,8 @@ public class RecommendationResultActivity extends BaseActivity {
         db = FirebaseFirestore.getInstance();
         auth = FirebaseAuth.getInstance();
         dataManager = FirebaseDataManager.getInstance();
+        timetableGenerator = new TimetableGenerator();
+        taskScope = TaskScope.of(this);
         recommendedCourses = new ArrayList<>();
 
         initViews();
@@ -99,6 +128,8 @@ public class RecommendationResultActivity extends BaseActivity {
         recyclerViewRecommendations = findViewById(R.id.recyclerViewRecommendations);
         progressBar = findViewById(R.id.progressBar);
         tvEmptyMessage = findViewById(R.id.tvEmptyMessage);
+        cardPlanSimulation = findViewById(R.id.cardPlanSimulation);
+        tvPlanSimulation = findViewById(R.id.tvPlanSimulation);
 
         // RecyclerView 설정
         adapter = new RecommendedCourseAdapter(recommendedCourses);
@@ -109,6 +140,93 @@ public class RecommendationResultActivity extends BaseActivity {
         showLoading(true);
     }
 
+    @Override
+    public boolean onCreateOptionsMenu(Menu menu) {
+        getMenuInflater().inflate(R.menu.menu_recommendation_result, menu);
+        return true;
+    }
+
+    @Override
+    public boolean onOptionsItemSelected(MenuItem item) {
+        if (item.getItemId() == R.id.action_generate_timetable) {
+            generateTimetables();
+            return true;
+        }
+        return super.onOptionsItemSelected(item);
+    }
+
+    /**
+     * 추천 과목의 개설 분반으로 겹치지 않는 시간표 자동 생성
+     */
+    private void generateTimetables() {
+        if (recommendedCourses.isEmpty()) {
+            Toast.makeText(this, "추천 과목이 없습니다", Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        Toast.makeText(this, "시간표를 만드는 중입니다...", Toast.LENGTH_SHORT).show();
+        TimetableSolver.Options options = new TimetableSolver.Options()
+                .setMinCredits(GENERATED_MIN_CREDITS)
+                .setMaxCredits(GENERATED_MAX_CREDITS)
+                .setMaxResults(GENERATED_TIMETABLE_COUNT);
+
+        taskScope.bind(timetableGenerator.generate(new ArrayList<>(recommendedCourses), options))
+                .addOnSuccessListener(this::showGeneratedTimetables)
+                .addOnFailureListener(e -> {
+                    Log.e(TAG, "시간표 자동 생성 실패", e);
+                    Toast.makeText(this, "개설 분반 정보를 불러오지 못했습니다", Toast.LENGTH_SHORT).show();
+                });
+    }
+
+    /**
+     * 생성된 시간표 목록을 보여주고 선택한 시간표를 저장
+     */
+    private void showGeneratedTimetables(TimetableSolver.Result result) {
+        List<TimetableSolver.Timetable> timetables = result.getTimetables();
+        if (timetables.isEmpty()) {
+            Toast.makeText(this, GENERATED_MIN_CREDITS + "~" + GENERATED_MAX_CREDITS
+                    + "학점으로 겹치지 않는 시간표를 만들 수 없습니다", Toast.LENGTH_LONG).show();
+            return;
+        }
+
+        String[] labels = new String[timetables.size()];
+        for (int i = 0; i < timetables.size(); i++) {
+            TimetableSolver.Timetable timetable = timetables.get(i);
+            StringBuilder names = new StringBuilder();
+            for (TimetableSolver.Candidate course : timetable.getCourses()) {
+                if (names.length() > 0) {
+                    names.append(", ");
+                }
+                names.append(course.getCourseName());
+            }
+            labels[i] = (i + 1) + "안 · " + timetable.getCredits() + "학점 · "
+                    + timetable.getCourses().size() + "과목\n" + names;
+        }
+
+        new MaterialAlertDialogBuilder(this)
+                .setTitle("추천 시간표")
+                .setItems(labels, (dialog, which) -> saveGeneratedTimetable(timetables.get(which), which + 1))
+                .setNegativeButton("닫기", null)
+                .show();
+    }
+
+    private void saveGeneratedTimetable(TimetableSolver.Timetable timetable, int rank) {
+        if (auth.getCurrentUser() == null) {
+            Toast.makeText(this, "로그인이 필요합니다", Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        String name = "추천 시간표 " + rank + "안";
+        SavedTimetable savedTimetable = TimetableGenerator.toSavedTimetable(timetable, name);
+        timetableGenerator.save(auth.getCurrentUser().getUid(), savedTimetable)
+                .addOnSuccessListener(documentReference ->
+                        Toast.makeText(this, "'" + name + "'이(가) 저장되었습니다", Toast.LENGTH_SHORT).show())
+                .addOnFailureListener(e -> {
+                    Log.e(TAG, "추천 시간표 저장 실패", e);
+                    Toast.makeText(this, "저장에 실패했습니다", Toast.LENGTH_SHORT).show();
+                });
+    }
+
     private void loadData() {
         // Intent에서 정보 가져오기
         userYear = getIntent().getStringExtra("userYear");
@@ -237,6 +355,7 @@ public class RecommendationResultActivity extends BaseActivity {
                 @Override
                 public void onSuccess(GraduationRules rules) {
                     Log.d(TAG, "✓ GraduationRules 로드 성공");
+                    graduationRules = rules;
 
                     // 졸업요건 분석 실행
                     GraduationAnalysisResult analysisResult = rules.analyze(takenCourses);
@@ -554,6 +673,7 @@ public class RecommendationResultActivity extends BaseActivity {
             tvEmptyMessage.setText("🎉 축하합니다!\n\n모든 필수 과목을 이수했습니다.\n선택 과목을 자유롭게 수강하세요.");
             recyclerViewRecommendations.setVisibility(View.GONE);
             cardPrioritySummary.setVisibility(View.GONE);
+            cardPlanSimulation.setVisibility(View.GONE);
         } else {
             tvEmptyMessage.setVisibility(View.GONE);
             recyclerViewRecommendations.setVisibility(View.VISIBLE);
@@ -561,6 +681,9 @@ public class RecommendationResultActivity extends BaseActivity {
             // 우선순위 요약 생성 및 표시
             displayPrioritySummary(allCourses);
 
+            // 추천 과목을 학기별로 나눠 들었을 때의 졸업 시점 시뮬레이션
+            simulateSemesterPlans(allCourses);
+
             String message = "📚 " + allCourses.size() + "개의 과목을 추천합니다";
             Toast.makeText(this, message, Toast.LENGTH_SHORT).show();
 
@@ -574,6 +697,149 @@ public class RecommendationResultActivity extends BaseActivity {
         }
     }
 
+    /**
+     * 추천 과목을 학기당 학점/배치 순서별로 나눈 수강 계획들을 시뮬레이션해 가장 빠른 졸업 계획 표시
+     * (계산은 백그라운드에서, 앞 학기가 같은 계획은 분석 상태를 공유)
+     */
+    private void simulateSemesterPlans(List<RecommendedCourse> courses) {
+        if (graduationRules == null || takenCourses == null || courses.isEmpty()) {
+            cardPlanSimulation.setVisibility(View.GONE);
+            return;
+        }
+
+        List<TakenCourse> byPriority = new ArrayList<>();
+        for (RecommendedCourse course : courses) {
+            byPriority.add(TakenCourse.of(course.getCategory(), course.getCourseName(), course.getCredits()));
+        }
+        List<TakenCourse> byCategory = interleaveByCategory(byPriority);
+
+        List<SemesterPlanSimulator.Plan> plans = new ArrayList<>();
+        for (int load : PLAN_CREDIT_LOADS) {
+            plans.add(packPlan("우선순위순 " + load + "학점", byPriority, load));
+            plans.add(packPlan("과목군 고르게 " + load + "학점", byCategory, load));
+        }
+
+        GraduationRules rules = graduationRules;
+        List<TakenCourse> taken = new ArrayList<>(takenCourses);
+        taskScope.bind(Tasks.call(SIMULATION_EXECUTOR, () -> SemesterPlanSimulator.simulate(
+                        rules, taken, plans, new SemesterPlanSimulator.Options())))
+                .addOnSuccessListener(this::showPlanSimulation)
+                .addOnFailureListener(e -> {
+                    Log.e(TAG, "수강 계획 시뮬레이션 실패", e);
+                    cardPlanSimulation.setVisibility(View.GONE);
+                });
+    }
+
+    /**
+     * 과목을 순서대로 학기당 maxCredits 이하로 채워 수강 계획 생성
+     */
+    private SemesterPlanSimulator.Plan packPlan(String name, List<TakenCourse> courses, int maxCredits) {
+        List<SemesterPlanSimulator.Semester> semesters = new ArrayList<>();
+        List<TakenCourse> current = new ArrayList<>();
+        int credits = 0;
+        for (TakenCourse course : courses) {
+            if (!current.isEmpty() && credits + course.getCredits() > maxCredits) {
+                semesters.add(new SemesterPlanSimulator.Semester((semesters.size() + 1) + "학기 후", current));
+                current = new ArrayList<>();
+                credits = 0;
+            }
+            current.add(course);
+            credits += course.getCredits();
+        }
+        if (!current.isEmpty()) {
+            semesters.add(new SemesterPlanSimulator.Semester((semesters.size() + 1) + "학기 후", current));
+        }
+        return new SemesterPlanSimulator.Plan(name, semesters);
+    }
+
+    /**
+     * 과목군별로 번갈아 배치 (과목군마다 우선순위 순서는 유지)
+     */
+    private static List<TakenCourse> interleaveByCategory(List<TakenCourse> courses) {
+        Map<String, List<TakenCourse>> byCategory = new LinkedHashMap<>();
+        for (TakenCourse course : courses) {
+            List<TakenCourse> group = byCategory.get(course.getCategory());
+            if (group == null) {
+                group = new ArrayList<>();
+                byCategory.put(course.getCategory(), group);
+            }
+            group.add(course);
+        }
+        List<TakenCourse> interleaved = new ArrayList<>(courses.size());
+        for (int round = 0; interleaved.size() < courses.size(); round++) {
+            for (List<TakenCourse> group : byCategory.values()) {
+                if (round < group.size()) {
+                    interleaved.add(group.get(round));
+                }
+            }
+        }
+        return interleaved;
+    }
+
+    /**
+     * 시뮬레이션 결과 표시: 가장 빠른 계획(없으면 가장 적게 남는 계획)과 oneOf 중복 경고
+     */
+    private void showPlanSimulation(SemesterPlanSimulator.Result result) {
+        StringBuilder text = new StringBuilder();
+        SemesterPlanSimulator.PlanOutcome best = result.getEarliest();
+        if (best != null) {
+            text.append("가장 빠른 계획: ").append(best.getPlan().getName())
+                    .append(" → ").append(best.getGraduatingSemester()).append("학기 후 졸업요건 충족");
+        } else {
+            for (SemesterPlanSimulator.PlanOutcome outcome : result.getOutcomes()) {
+                SemesterPlanSimulator.Snapshot last = outcome.getFinalSnapshot();
+                if (last != null && (best == null
+                        || last.getRemainingTotalCredits() < best.getFinalSnapshot().getRemainingTotalCredits())) {
+                    best = outcome;
+                }
+            }
+            if (best == null) {
+                cardPlanSimulation.setVisibility(View.GONE);
+                return;
+            }
+            text.append("추천 과목을 모두 수강해도 ")
+                    .append(best.getFinalSnapshot().getRemainingTotalCredits())
+                    .append("학점이 더 필요합니다 (").append(best.getPlan().getName()).append(", ")
+                    .append(best.getPlan().getSemesters().size()).append("학기)");
+        }
+
+        // 선택한 계획의 학기별 남은 학점
+        List<SemesterPlanSimulator.Semester> semesters = best.getPlan().getSemesters();
+        for (int i = 0; i < semesters.size(); i++) {
+            SemesterPlanSimulator.Snapshot snapshot = best.getSemesters().get(i);
+            text.append("\n• ").append(semesters.get(i).getLabel()).append(" (")
+                    .append(semesters.get(i).getCredits()).append("학점 수강): 남은 ")
+                    .append(snapshot.getRemainingTotalCredits()).append("학점");
+            List<String> shortages = new ArrayList<>();
+            for (Map.Entry<String, Integer> entry : snapshot.getRemainingCredits().entrySet()) {
+                if (entry.getValue() > 0) {
+                    shortages.add(normalizeCategoryName(entry.getKey()) + " " + entry.getValue());
+                }
+            }
+            if (!shortages.isEmpty()) {
+                text.append(" [").append(String.join(", ", shortages)).append("]");
+            }
+        }
+
+        // oneOf 그룹에서 이미 충족한 선택지를 또 수강하는 계획
+        for (SemesterPlanSimulator.OneOfConflict conflict : best.getConflicts()) {
+            text.append("\n⚠ ").append(conflict.getRedundantCourse()).append("은(는) ")
+                    .append(conflict.getSelectedCourse()).append("와(과) 같은 선택 그룹이라 학점이 인정되지 않습니다");
+        }
+        int breaking = 0;
+        for (SemesterPlanSimulator.PlanOutcome outcome : result.getOutcomes()) {
+            if (outcome.breaksOneOf()) breaking++;
+        }
+        if (breaking > 0 && !best.breaksOneOf()) {
+            text.append("\n(다른 계획 ").append(breaking).append("개는 선택 과목 중복으로 학점 손실)");
+        }
+
+        tvPlanSimulation.setText(text.toString());
+        cardPlanSimulation.setVisibility(View.VISIBLE);
+        Log.d(TAG, "수강 계획 시뮬레이션: 계획 " + result.getOutcomes().size() + "개, 평가 학기 "
+                + result.getEvaluatedSemesters() + "개");
+    }
+
     /**
      * 카테고리별 과목군 요약 표시
      */
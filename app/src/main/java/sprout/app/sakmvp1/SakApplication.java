@@ -0,0 +1,35 @@
+package sprout.app.sakmvp1;
+
+import android.app.Application;
+import android.content.pm.ApplicationInfo;
+
+import sprout.app.sakmvp1.engine.EngineLog;
+import sprout.app.sakmvp1.managers.GraduationRulesDiskCache;
+import sprout.app.sakmvp1.utils.AndroidEngineLogSink;
+
+/**
+ * 애플리케이션 진입점
+ * 프로세스 단위로 한 번만 필요한 초기화를 담당
+ */
+public class SakApplication extends Application {
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+
+        // 졸업요건 엔진 로그: 디버그 빌드에서만 Logcat으로 출력 (릴리스에서는 문자열 생성 비용도 없음)
+        if ((getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0) {
+            EngineLog.setSink(new AndroidEngineLogSink());
+        }
+
+        // 졸업요건 디스크 캐시: 콜드 스타트/오프라인에서도 분석 화면을 바로 열 수 있도록
+        FirebaseDataManager.getInstance().attachDiskCache(new GraduationRulesDiskCache(this));
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+        // 저사양 기기에서 장시간 사용 시 Firestore 캐시가 힙을 계속 점유하지 않도록 축소
+        FirebaseDataManager.getInstance().trimMemory(level);
+    }
+}
@@ -30,10 +30,19 @@ public class StudentAdapter extends RecyclerView.Adapter<StudentAdapter.ViewHold
     }
 
     public void setStudents(List<Student> students) {
-        this.students = students;
+        this.students = new ArrayList<>(students);
         notifyDataSetChanged();
     }
 
+    /**
+     * 다음 페이지 학생을 목록 끝에 추가
+     */
+    public void addStudents(List<Student> more) {
+        int start = students.size();
+        students.addAll(more);
+        notifyItemRangeInserted(start, more.size());
+    }
+
     @NonNull
     @Override
     public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
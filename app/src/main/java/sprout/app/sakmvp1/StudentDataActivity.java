@@ -11,24 +11,26 @@ import android.widget.Spinner;
 import android.widget.TextView;
 import android.widget.Toast;
 
+import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.android.material.appbar.MaterialToolbar;
 import com.google.android.material.button.MaterialButton;
+import com.google.android.material.dialog.MaterialAlertDialogBuilder;
 import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.firestore.FirebaseFirestore;
-import com.google.firebase.firestore.QueryDocumentSnapshot;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
+import sprout.app.sakmvp1.managers.GraduationAuditManager;
+import sprout.app.sakmvp1.managers.GraduationReportRenderer;
+import sprout.app.sakmvp1.managers.StudentDirectoryManager;
+import sprout.app.sakmvp1.models.GraduationAudit;
 import sprout.app.sakmvp1.models.Student;
+import sprout.app.sakmvp1.models.TakenCourse;
+import sprout.app.sakmvp1.utils.TaskScope;
 
 /**
  * 학생 데이터 조회 Activity (관리자용)
@@ -39,33 +41,40 @@ public class StudentDataActivity extends BaseActivity {
 
     private MaterialToolbar toolbar;
     private Spinner spinnerStudentYear, spinnerDepartment, spinnerTrack;
-    private MaterialButton btnSearch;
+    private MaterialButton btnSearch, btnBatchAudit;
     private ProgressBar progressBar;
     private RecyclerView rvStudents;
     private TextView tvStudentCount;
 
-    private FirebaseFirestore db;
     private FirebaseAuth auth;
     private StudentAdapter adapter;
+    private GraduationAuditManager auditManager;
+    private GraduationReportRenderer reportRenderer;
+    private TaskScope taskScope;
 
-    // 전체 학생 데이터
-    private List<Student> allStudents = new ArrayList<>();
+    // 조건별 페이지 조회 (users 전체를 받지 않음)
+    private StudentDirectoryManager directory;
+    private int countRequest; // 조건이 바뀐 뒤 늦게 온 학생 수 응답은 무시
+
+    // 남은 항목이 이 수 이하로 보이면 다음 페이지 요청
+    private static final int PREFETCH_DISTANCE = 10;
 
     // 스피너 어댑터
     private ArrayAdapter<String> studentYearAdapter;
     private ArrayAdapter<String> departmentAdapter;
     private ArrayAdapter<String> trackAdapter;
 
-    // 학과별 트랙 매핑
-    private Map<String, Set<String>> departmentTrackMap = new HashMap<>();
+    // 스피너 값 (admin_stats/student_facets)
+    private StudentDirectoryManager.Facets facets;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_student_data);
 
-        db = FirebaseFirestore.getInstance();
         auth = FirebaseAuth.getInstance();
+        directory = new StudentDirectoryManager();
+        taskScope = TaskScope.of(this);
 
         initViews();
         setupToolbar();
@@ -73,8 +82,9 @@ public class StudentDataActivity extends BaseActivity {
         setupSpinners();
         setupListeners();
 
-        // 초기 전체 데이터 로드
-        loadAllStudents();
+        // 스피너 값 + 전체 조건 첫 페이지 로드
+        loadFacets();
+        filterStudents();
     }
 
     private void initViews() {
@@ -83,6 +93,7 @@ public class StudentDataActivity extends BaseActivity {
         spinnerDepartment = findViewById(R.id.spinner_department);
         spinnerTrack = findViewById(R.id.spinner_track);
         btnSearch = findViewById(R.id.btn_search);
+        btnBatchAudit = findViewById(R.id.btn_batch_audit);
         progressBar = findViewById(R.id.progress_bar);
         rvStudents = findViewById(R.id.rv_students);
         tvStudentCount = findViewById(R.id.tv_student_count);
@@ -98,9 +109,24 @@ public class StudentDataActivity extends BaseActivity {
 
     private void setupRecyclerView() {
         adapter = new StudentAdapter();
-        rvStudents.setLayoutManager(new LinearLayoutManager(this));
+        LinearLayoutManager layoutManager = new LinearLayoutManager(this);
+        rvStudents.setLayoutManager(layoutManager);
         rvStudents.setAdapter(adapter);
 
+        // 끝 근처까지 스크롤하면 다음 페이지 로드
+        rvStudents.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (dy <= 0 || !directory.hasMore() || directory.isLoading()) {
+                    return;
+                }
+                int lastVisible = layoutManager.findLastVisibleItemPosition();
+                if (lastVisible >= adapter.getItemCount() - PREFETCH_DISTANCE) {
+                    directory.loadNextPage(pageListener);
+                }
+            }
+        });
+
         adapter.setOnItemClickListener(student -> {
             // 학생 상세 정보 화면으로 이동
             Intent intent = new Intent(this, StudentDetailActivity.class);
@@ -140,108 +166,157 @@ public class StudentDataActivity extends BaseActivity {
 
         // 검색 버튼
         btnSearch.setOnClickListener(v -> filterStudents());
+
+        // 일괄 졸업요건 검사 버튼
+        btnBatchAudit.setOnClickListener(v -> runBatchAudit());
     }
 
     /**
-     * 전체 학생 로드 (users 컬렉션에서)
+     * 전체 학생 졸업요건 일괄 검사
      */
-    private void loadAllStudents() {
+    private void runBatchAudit() {
+        if (auditManager == null) {
+            auditManager = new GraduationAuditManager();
+        }
+        btnBatchAudit.setEnabled(false);
         showLoading(true);
 
-        db.collection("users")
-                .get()
-                .addOnSuccessListener(queryDocumentSnapshots -> {
-                    allStudents.clear();
-                    Set<String> years = new HashSet<>();
-                    Set<String> departments = new HashSet<>();
-                    Set<String> tracks = new HashSet<>();
-
-                    for (QueryDocumentSnapshot document : queryDocumentSnapshots) {
-                        Student student = new Student();
-                        student.setUserId(document.getId());
-
-                        // Firestore 필드 값 로깅
-                        String studentYear = document.getString("studentYear");
-                        String department = document.getString("department");
-                        String track = document.getString("track");
-                        String name = document.getString("name");
-                        String email = document.getString("email");
-
-                        Log.d(TAG, "========== 사용자 데이터 로드 ==========");
-                        Log.d(TAG, "userId: " + document.getId());
-                        Log.d(TAG, "name: " + (name != null ? name : "NULL"));
-                        Log.d(TAG, "email: " + (email != null ? email : "NULL"));
-                        Log.d(TAG, "studentYear: " + (studentYear != null ? studentYear : "NULL"));
-                        Log.d(TAG, "department: " + (department != null ? department : "NULL"));
-                        Log.d(TAG, "track: " + (track != null ? track : "NULL"));
-
-                        student.setStudentYear(studentYear);
-                        student.setDepartment(department);
-                        student.setTrack(track);
-                        student.setName(name);  // name이 null이면 Student.getName()에서 "이름 없음" 반환
-                        student.setEmail(email);
-
-                        Long updatedAt = document.getLong("updatedAt");
-                        if (updatedAt != null) {
-                            student.setUpdatedAt(updatedAt);
-                        }
-
-                        // 졸업요건 검사 이력 데이터 로드
-                        Long lastCheckDate = document.getLong("lastGraduationCheckDate");
-                        if (lastCheckDate != null) {
-                            student.setLastGraduationCheckDate(lastCheckDate);
-                            student.setHasGraduationCheckHistory(true);
-                        } else {
-                            student.setHasGraduationCheckHistory(false);
-                        }
-
-                        allStudents.add(student);
-
-                        // 스피너 옵션 수집
-                        if (student.getStudentYear() != null) {
-                            years.add(student.getStudentYear());
-                        }
-                        if (student.getDepartment() != null) {
-                            departments.add(student.getDepartment());
-
-                            // 학과별 트랙 매핑 구축
-                            if (student.getTrack() != null) {
-                                if (!departmentTrackMap.containsKey(student.getDepartment())) {
-                                    departmentTrackMap.put(student.getDepartment(), new HashSet<>());
-                                }
-                                departmentTrackMap.get(student.getDepartment()).add(student.getTrack());
-                            }
-                        }
-                        if (student.getTrack() != null) {
-                            tracks.add(student.getTrack());
-                        }
-                    }
+        auditManager.runAudit(new GraduationAuditManager.OnAuditCompleteListener() {
+            @Override
+            public void onSuccess(GraduationAudit.Report report) {
+                if (isFinishing() || isDestroyed()) {
+                    return;
+                }
+                btnBatchAudit.setEnabled(true);
+                showLoading(false);
+                rvStudents.setVisibility(View.VISIBLE);
+
+                new MaterialAlertDialogBuilder(StudentDataActivity.this)
+                        .setTitle("일괄 졸업요건 검사 결과 (" + report.getElapsedMillis() + "ms)")
+                        .setMessage(report.toSummaryTable())
+                        .setPositiveButton("확인", null)
+                        .setNeutralButton("PDF 일괄 저장", (dialog, which) -> exportAuditReports(report))
+                        .show();
+            }
 
-                    Log.d(TAG, "전체 학생 로드: " + allStudents.size() + "명");
-                    updateStudentCount(allStudents.size());
+            @Override
+            public void onFailure(Exception e) {
+                if (isFinishing() || isDestroyed()) {
+                    return;
+                }
+                btnBatchAudit.setEnabled(true);
+                showLoading(false);
+                rvStudents.setVisibility(View.VISIBLE);
+                Log.e(TAG, "일괄 검사 실패", e);
+                Toast.makeText(StudentDataActivity.this, "일괄 검사 실패: " + e.getMessage(),
+                        Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
 
-                    // 스피너 데이터 설정
-                    updateSpinnerData(years, departments, tracks);
+    /**
+     * 일괄 검사 결과를 학생별 PDF 보고서로 다운로드 폴더에 저장
+     * 생성은 작업 스레드에서 한 건씩 진행되고 버튼에 진행률 표시
+     */
+    private void exportAuditReports(GraduationAudit.Report auditReport) {
+        String timestamp = new java.text.SimpleDateFormat("yyyyMMdd_HHmmss", java.util.Locale.KOREA)
+                .format(new java.util.Date());
+        String analyzedAt = new java.text.SimpleDateFormat("yyyy-MM-dd HH:mm:ss", java.util.Locale.KOREA)
+                .format(new java.util.Date());
+
+        List<GraduationReportRenderer.Report> reports = new ArrayList<>();
+        for (GraduationAudit.GroupSummary group : auditReport.getGroups()) {
+            for (GraduationAudit.StudentResult student : group.getStudents()) {
+                GraduationAudit.Target target = student.getTarget();
+                String name = target.getName() != null ? target.getName() : target.getUserId();
+                // 동명이인도 덮어쓰지 않도록 순번 추가
+                String fileName = String.format(java.util.Locale.KOREA, "졸업요건분석_%s학번_%s_%s_%03d.pdf",
+                        target.getCohort(), name.replace('/', '_'), timestamp, reports.size() + 1);
+
+                int earned = student.getTotalEarnedCredits();
+                int required = student.getTotalRequiredCredits();
+                GraduationReportRenderer.Report report = new GraduationReportRenderer.Report(fileName)
+                        .addInfo("이름", name)
+                        .addInfo("학번", target.getCohort() + "학번")
+                        .addInfo("학과", target.getDepartment())
+                        .addInfo("트랙", target.getTrack())
+                        .addInfo("분석일시", analyzedAt)
+                        .setOverall(earned, required, required > 0 ? earned * 100.0 / required : 0);
+                for (int i = 0; i < group.getCategoryCount(); i++) {
+                    report.addProgress(group.getCategoryName(i),
+                            student.getEarnedCredits(i), student.getRequiredCredits(i));
+                }
+                for (TakenCourse course : target.getCourses()) {
+                    report.addCourse(course.getCategory(), course.getName(), course.getCredits());
+                }
+                reports.add(report);
+            }
+        }
+        if (reports.isEmpty()) {
+            Toast.makeText(this, "저장할 보고서가 없습니다.", Toast.LENGTH_SHORT).show();
+            return;
+        }
 
-                    // 로딩 종료
-                    showLoading(false);
+        if (reportRenderer == null) {
+            reportRenderer = new GraduationReportRenderer(this);
+        }
+        CharSequence buttonText = btnBatchAudit.getText();
+        btnBatchAudit.setEnabled(false);
+        btnBatchAudit.setText("PDF 저장 중 (0/" + reports.size() + ")");
+
+        taskScope.bind(reportRenderer.renderBatch(reports, GraduationReportRenderer.Destination.downloads(),
+                        taskScope.getToken(),
+                        (completed, total) -> btnBatchAudit.setText("PDF 저장 중 (" + completed + "/" + total + ")")))
+                .addOnCompleteListener(task -> {
+                    btnBatchAudit.setEnabled(true);
+                    btnBatchAudit.setText(buttonText);
+                })
+                .addOnSuccessListener(result -> {
+                    String message = "PDF " + result.getUris().size() + "건을 다운로드 폴더에 저장했습니다.";
+                    if (!result.getFailedFileNames().isEmpty()) {
+                        message += " (실패 " + result.getFailedFileNames().size() + "건)";
+                    }
+                    Toast.makeText(this, message, Toast.LENGTH_LONG).show();
                 })
                 .addOnFailureListener(e -> {
-                    showLoading(false);
-                    Log.e(TAG, "학생 데이터 로드 실패", e);
-                    Toast.makeText(this, "데이터 로드 실패: " + e.getMessage(),
-                            Toast.LENGTH_SHORT).show();
+                    Log.e(TAG, "PDF 일괄 저장 실패", e);
+                    Toast.makeText(this, "PDF 일괄 저장 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
                 });
     }
 
+    /**
+     * 스피너 값 로드 (학생 전체를 훑지 않고 패싯 문서 하나만 읽음)
+     */
+    private void loadFacets() {
+        directory.loadFacets(new StudentDirectoryManager.OnFacetsLoadedListener() {
+            @Override
+            public void onSuccess(StudentDirectoryManager.Facets loaded) {
+                if (isFinishing() || isDestroyed()) {
+                    return;
+                }
+                facets = loaded;
+                updateSpinnerData();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (isFinishing() || isDestroyed()) {
+                    return;
+                }
+                Toast.makeText(StudentDataActivity.this, "데이터 로드 실패: " + e.getMessage(),
+                        Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+
     /**
      * 스피너 데이터 업데이트
      */
-    private void updateSpinnerData(Set<String> years, Set<String> departments, Set<String> tracks) {
+    private void updateSpinnerData() {
         // 학번 스피너 (4자리 -> 2자리 변환)
         List<String> yearList = new ArrayList<>();
         yearList.add("전체");
-        for (String year : years) {
+        for (String year : facets.getYears()) {
             if (year != null && year.length() == 4) {
                 yearList.add(year.substring(2)); // "2023" -> "23"
             } else {
@@ -255,7 +330,7 @@ public class StudentDataActivity extends BaseActivity {
         // 학과 스피너
         List<String> departmentList = new ArrayList<>();
         departmentList.add("전체");
-        departmentList.addAll(new ArrayList<>(departments));
+        departmentList.addAll(facets.getDepartments());
         departmentAdapter.clear();
         departmentAdapter.addAll(departmentList);
         departmentAdapter.notifyDataSetChanged();
@@ -273,25 +348,16 @@ public class StudentDataActivity extends BaseActivity {
         trackAdapter.clear();
         trackAdapter.add("전체");
 
-        if (!"전체".equals(selectedDepartment) && departmentTrackMap.containsKey(selectedDepartment)) {
-            Set<String> tracks = departmentTrackMap.get(selectedDepartment);
-            if (tracks != null) {
-                trackAdapter.addAll(new ArrayList<>(tracks));
-            }
-        } else if ("전체".equals(selectedDepartment)) {
+        if (facets != null) {
             // "전체" 선택 시 모든 트랙 표시
-            Set<String> allTracks = new HashSet<>();
-            for (Set<String> tracks : departmentTrackMap.values()) {
-                allTracks.addAll(tracks);
-            }
-            trackAdapter.addAll(new ArrayList<>(allTracks));
+            trackAdapter.addAll(facets.getTracks("전체".equals(selectedDepartment) ? null : selectedDepartment));
         }
 
         trackAdapter.notifyDataSetChanged();
     }
 
     /**
-     * 선택된 조건으로 필터링
+     * 선택된 조건으로 서버에서 조회 (첫 페이지부터)
      */
     private void filterStudents() {
         String selectedYear = spinnerStudentYear.getSelectedItem() != null ?
@@ -306,31 +372,52 @@ public class StudentDataActivity extends BaseActivity {
             selectedYear = "20" + selectedYear;
         }
 
-        Log.d(TAG, "필터링: " + selectedYear + "/" + selectedDepartment + "/" + selectedTrack);
-
-        List<Student> filtered = new ArrayList<>();
+        Log.d(TAG, "조회 조건: " + selectedYear + "/" + selectedDepartment + "/" + selectedTrack);
 
-        for (Student student : allStudents) {
-            boolean matches = true;
+        StudentDirectoryManager.Filter filter = new StudentDirectoryManager.Filter(
+                "전체".equals(selectedYear) ? null : selectedYear,
+                "전체".equals(selectedDepartment) ? null : selectedDepartment,
+                "전체".equals(selectedTrack) ? null : selectedTrack);
 
-            if (!"전체".equals(selectedYear) && !selectedYear.equals(student.getStudentYear())) {
-                matches = false;
-            }
-            if (!"전체".equals(selectedDepartment) && !selectedDepartment.equals(student.getDepartment())) {
-                matches = false;
-            }
-            if (!"전체".equals(selectedTrack) && !selectedTrack.equals(student.getTrack())) {
-                matches = false;
-            }
+        showLoading(true);
+        directory.search(filter, pageListener);
+
+        // 학생 수는 문서를 받지 않고 count() 집계 한 번으로
+        tvStudentCount.setText("학생 수 계산 중...");
+        int request = ++countRequest;
+        directory.count(filter)
+                .addOnSuccessListener(count -> {
+                    if (request == countRequest && !isFinishing() && !isDestroyed()) {
+                        updateStudentCount(count);
+                    }
+                })
+                .addOnFailureListener(e -> Log.w(TAG, "학생 수 집계 실패", e));
+    }
 
-            if (matches) {
-                filtered.add(student);
-            }
-        }
+    private final StudentDirectoryManager.OnPageLoadedListener pageListener =
+            new StudentDirectoryManager.OnPageLoadedListener() {
+                @Override
+                public void onSuccess(List<Student> students, boolean firstPage, boolean hasMore) {
+                    if (isFinishing() || isDestroyed()) {
+                        return;
+                    }
+                    if (firstPage) {
+                        displayResults(students);
+                    } else {
+                        adapter.addStudents(students);
+                    }
+                }
 
-        Log.d(TAG, "필터링 결과: " + filtered.size() + "명");
-        displayResults(filtered);
-    }
+                @Override
+                public void onFailure(Exception e) {
+                    if (isFinishing() || isDestroyed()) {
+                        return;
+                    }
+                    showLoading(false);
+                    Toast.makeText(StudentDataActivity.this, "데이터 로드 실패: " + e.getMessage(),
+                            Toast.LENGTH_SHORT).show();
+                }
+            };
 
     /**
      * 검색 결과 표시
@@ -343,16 +430,24 @@ public class StudentDataActivity extends BaseActivity {
             Toast.makeText(this, "조회된 학생이 없습니다", Toast.LENGTH_SHORT).show();
         } else {
             rvStudents.setVisibility(View.VISIBLE);
-            adapter.setStudents(students);
-            updateStudentCount(students.size());
         }
+        adapter.setStudents(students);
     }
 
     /**
      * 학생 수 표시 업데이트
      */
-    private void updateStudentCount(int count) {
-        tvStudentCount.setText("총 " + count + "명의 학생이 등록되어 있습니다");
+    private void updateStudentCount(long count) {
+        tvStudentCount.setText("총 " + count + "명의 학생이 조회되었습니다");
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (auditManager != null) {
+            auditManager.shutdown();
+        }
+        directory.shutdown();
     }
 
     /**
@@ -23,6 +23,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import sprout.app.sakmvp1.managers.StudentDirectoryManager;
+import sprout.app.sakmvp1.managers.StudentStatsManager;
+
 /**
  * 사용자 학적 정보 입력/수정 화면
  *
@@ -302,9 +305,11 @@ public class UserInfoActivity extends BaseActivity {
             userInfo.put("email", userEmail);
         }
 
-        db.collection("users").document(userId)
-                .set(userInfo, com.google.firebase.firestore.SetOptions.merge())  // merge 옵션으로 기존 필드 유지
+        // merge로 기존 필드 유지 + 관리자 통계 카운터를 같은 트랜잭션에서 갱신
+        StudentStatsManager.saveUserProfile(db, userId, userInfo)
                 .addOnSuccessListener(aVoid -> {
+                    // 관리자 화면 스피너 값 (학생 패싯 문서) 갱신
+                    StudentDirectoryManager.recordProfile(db, selectedYear, selectedDepartment, selectedTrack);
                     hideLoading();
                     Toast.makeText(this, "저장되었습니다", Toast.LENGTH_SHORT).show();
                     Log.d(TAG, "사용자 정보 저장 완료: " + selectedYear + "/" + selectedDepartment + "/" + selectedTrack);
@@ -191,6 +191,12 @@ public class GeneralCoursesFragment extends Fragment {
                     return;
                 }
 
+                // 저장할 때 이 문서에서 바뀐 필드만 기록하도록 로드 시점 값 전달
+                if (getActivity() instanceof GraduationRequirementEditActivity) {
+                    ((GraduationRequirementEditActivity) getActivity())
+                        .rememberLoadedDocument("graduation_requirements", docId, data);
+                }
+
                 Object rulesObj = data.get("rules");
                 if (!(rulesObj instanceof Map)) {
                     android.util.Log.e(TAG, "rules 객체가 Map이 아님");
@@ -0,0 +1,325 @@
+package sprout.app.sakmvp1.managers;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 교육과정 일괄 가져오기 파일을 한 문서씩 읽어 넘기는 스트리밍 파서
+ * 파일 전체를 메모리에 올리지 않으므로 학과·학번이 많은 파일도 읽을 수 있음
+ *
+ * JSON: firestore_sample_other_requirements.json과 같은 형식
+ *   {"collection": "...", "documents": [{"documentId": "...", "collection": "(선택)", "data": {...}}]}
+ *   문서마다 collection을 쓰지 않으려면 최상위 collection이 documents보다 앞에 있어야 함
+ * CSV: 졸업요건 문서 한 행씩 (첫 행은 헤더)
+ *   department(학부/학과), track(트랙), cohort(학번), 학점 필드(전공필수 등), totalCredits(총학점), majorDocRef, generalDocRef
+ *   그 외 열(비고 등)은 무시
+ */
+final class CurriculumFileReader {
+
+    static final String COLLECTION_GRADUATION = "graduation_requirements";
+
+    /** 졸업요건 문서의 카테고리별 학점 필드 (GraduationRequirementAddActivity와 같은 목록) */
+    static final String[] CREDIT_FIELDS = {"전공필수", "전공선택", "교양필수", "교양선택", "소양",
+            "학부공통", "전공심화", "자율선택"};
+
+    enum Format {
+        JSON, CSV;
+
+        /** 파일 이름 확장자, 없으면 MIME 타입으로 판단 (판단할 수 없으면 JSON) */
+        static Format detect(String fileName, String mimeType) {
+            String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".json")) {
+                return JSON;
+            }
+            if (mimeType != null && (mimeType.contains("csv") || mimeType.equals("text/comma-separated-values"))) {
+                return CSV;
+            }
+            return JSON;
+        }
+    }
+
+    /**
+     * 파일에서 읽은 문서 하나
+     */
+    static final class Record {
+        final String location;      // 오류 표시용 위치 ("12행", "documents[3]")
+        final String collection;
+        final String documentId;    // CSV는 null (가져올 때 학과/트랙/학번으로 생성)
+        final Map<String, Object> data;
+        final boolean merge;        // true면 파일에 있는 필드(와 updatedAt)만 덮어씀
+
+        Record(String location, String collection, String documentId, Map<String, Object> data, boolean merge) {
+            this.location = location;
+            this.collection = collection;
+            this.documentId = documentId;
+            this.data = data;
+            this.merge = merge;
+        }
+    }
+
+    interface Sink {
+        void accept(Record record) throws IOException, InterruptedException;
+
+        /** 형식 오류로 문서를 만들 수 없는 항목 */
+        void reject(String location, String message);
+
+        /** true를 돌려주면 읽기를 멈춤 (취소 등) */
+        boolean isStopped();
+    }
+
+    /** CSV 헤더 별칭 → 문서 필드 이름 */
+    private static final Map<String, String> CSV_HEADER_ALIASES = new HashMap<>();
+
+    /** CSV에서 문서에 기록하는 필드 */
+    private static final Set<String> CSV_FIELDS = new HashSet<>(Arrays.asList(
+            "department", "track", "cohort", "totalCredits", "majorDocRef", "generalDocRef"));
+
+    static {
+        CSV_FIELDS.addAll(Arrays.asList(CREDIT_FIELDS));
+        CSV_HEADER_ALIASES.put("학부", "department");
+        CSV_HEADER_ALIASES.put("학과", "department");
+        CSV_HEADER_ALIASES.put("트랙", "track");
+        CSV_HEADER_ALIASES.put("학번", "cohort");
+        CSV_HEADER_ALIASES.put("총학점", "totalCredits");
+        CSV_HEADER_ALIASES.put("총이수", "totalCredits");
+        CSV_HEADER_ALIASES.put("일반선택", "자율선택");
+        CSV_HEADER_ALIASES.put("전공문서", "majorDocRef");
+        CSV_HEADER_ALIASES.put("교양문서", "generalDocRef");
+    }
+
+    private CurriculumFileReader() {
+    }
+
+    static void read(InputStream in, Format format, Sink sink) throws IOException, InterruptedException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            readCsv(reader, sink);
+        } else {
+            readJson(new JsonReader(reader), sink);
+        }
+    }
+
+    // ── JSON ─────────────────────────────────────────────
+
+    private static void readJson(JsonReader json, Sink sink) throws IOException, InterruptedException {
+        String defaultCollection = null;
+        if (json.peek() == JsonToken.BEGIN_ARRAY) {
+            readDocuments(json, null, sink);
+            return;
+        }
+        json.beginObject();
+        while (json.hasNext() && !sink.isStopped()) {
+            String name = json.nextName();
+            if ("collection".equals(name) && json.peek() == JsonToken.STRING) {
+                defaultCollection = json.nextString();
+            } else if ("documents".equals(name) && json.peek() == JsonToken.BEGIN_ARRAY) {
+                readDocuments(json, defaultCollection, sink);
+            } else {
+                json.skipValue();  // comment, instructions 등
+            }
+        }
+    }
+
+    private static void readDocuments(JsonReader json, String defaultCollection, Sink sink)
+            throws IOException, InterruptedException {
+        json.beginArray();
+        int index = 0;
+        while (json.hasNext()) {
+            if (sink.isStopped()) {
+                return;
+            }
+            String location = "documents[" + index++ + "]";
+            if (json.peek() != JsonToken.BEGIN_OBJECT) {
+                json.skipValue();
+                sink.reject(location, "문서 항목이 객체가 아님");
+                continue;
+            }
+            String documentId = null;
+            String collection = defaultCollection;
+            Map<String, Object> data = null;
+            json.beginObject();
+            while (json.hasNext()) {
+                String name = json.nextName();
+                if ("documentId".equals(name) && json.peek() == JsonToken.STRING) {
+                    documentId = json.nextString();
+                } else if ("collection".equals(name) && json.peek() == JsonToken.STRING) {
+                    collection = json.nextString();
+                } else if ("data".equals(name) && json.peek() == JsonToken.BEGIN_OBJECT) {
+                    data = readObject(json);
+                } else {
+                    json.skipValue();
+                }
+            }
+            json.endObject();
+
+            if (collection == null || collection.isEmpty()) {
+                sink.reject(location, "collection 없음");
+            } else if (data == null) {
+                sink.reject(location, "data 없음");
+            } else {
+                sink.accept(new Record(location, collection, documentId, data, false));
+            }
+        }
+        json.endArray();
+    }
+
+    private static Map<String, Object> readObject(JsonReader json) throws IOException {
+        Map<String, Object> map = new LinkedHashMap<>();
+        json.beginObject();
+        while (json.hasNext()) {
+            String name = json.nextName();
+            map.put(name, readValue(json));
+        }
+        json.endObject();
+        return map;
+    }
+
+    private static Object readValue(JsonReader json) throws IOException {
+        switch (json.peek()) {
+            case BEGIN_OBJECT:
+                return readObject(json);
+            case BEGIN_ARRAY:
+                List<Object> list = new ArrayList<>();
+                json.beginArray();
+                while (json.hasNext()) {
+                    list.add(readValue(json));
+                }
+                json.endArray();
+                return list;
+            case NUMBER:
+                return parseNumber(json.nextString());
+            case BOOLEAN:
+                return json.nextBoolean();
+            case NULL:
+                json.nextNull();
+                return null;
+            default:
+                return json.nextString();
+        }
+    }
+
+    /** 정수는 Long으로 (Firestore가 돌려주는 타입과 같게), 그 외는 Double */
+    private static Object parseNumber(String text) {
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            return Double.parseDouble(text);
+        }
+    }
+
+    // ── CSV ──────────────────────────────────────────────
+
+    private static void readCsv(BufferedReader reader, Sink sink) throws IOException, InterruptedException {
+        int[] lineNumber = {0};
+        List<String> header = readCsvRow(reader, lineNumber);
+        if (header == null) {
+            return;
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim();
+            if (i == 0 && !column.isEmpty() && column.charAt(0) == '\uFEFF') {
+                column = column.substring(1);  // 엑셀에서 저장한 UTF-8 BOM
+            }
+            String alias = CSV_HEADER_ALIASES.get(column);
+            String field = alias != null ? alias : column;
+            header.set(i, CSV_FIELDS.contains(field) ? field : null);
+        }
+
+        while (!sink.isStopped()) {
+            int rowLine = lineNumber[0] + 1;
+            List<String> cells = readCsvRow(reader, lineNumber);
+            if (cells == null) {
+                return;
+            }
+            if (cells.size() == 1 && cells.get(0).trim().isEmpty()) {
+                continue;  // 빈 줄
+            }
+            String location = rowLine + "행";
+            if (cells.size() > header.size()) {
+                sink.reject(location, "열 개수가 헤더보다 많음 (" + cells.size() + " > " + header.size() + ")");
+                continue;
+            }
+            Map<String, Object> data = new LinkedHashMap<>();
+            for (int i = 0; i < cells.size(); i++) {
+                String cell = cells.get(i).trim();
+                if (!cell.isEmpty() && header.get(i) != null) {
+                    data.put(header.get(i), cellValue(cell));
+                }
+            }
+            sink.accept(new Record(location, COLLECTION_GRADUATION, null, data, true));
+        }
+    }
+
+    private static Object cellValue(String cell) {
+        try {
+            return Long.parseLong(cell);
+        } catch (NumberFormatException e) {
+            return cell;
+        }
+    }
+
+    /**
+     * 한 행 읽기 (따옴표 안의 쉼표/줄바꿈 지원, "" 는 따옴표 하나)
+     * 파일 끝이면 null
+     */
+    private static List<String> readCsvRow(BufferedReader reader, int[] lineNumber) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber[0]++;
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        cell.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        cell.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                } else {
+                    cell.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                break;  // 닫히지 않은 따옴표는 파일 끝까지를 한 칸으로
+            }
+            lineNumber[0]++;
+            cell.append('\n');
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+}
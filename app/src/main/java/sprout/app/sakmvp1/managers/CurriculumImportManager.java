@@ -0,0 +1,606 @@
+package sprout.app.sakmvp1.managers;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.database.Cursor;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.provider.OpenableColumns;
+import android.util.AtomicFile;
+import android.util.Log;
+import com.google.android.gms.tasks.CancellationToken;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.SetOptions;
+import com.google.firebase.firestore.WriteBatch;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import sprout.app.sakmvp1.FirebaseDataManager;
+import sprout.app.sakmvp1.models.CreditRequirements;
+import sprout.app.sakmvp1.models.GraduationRules;
+
+/**
+ * 교육과정 파일(JSON/CSV)로 졸업요건 문서를 일괄 생성
+ *
+ * 1. CurriculumFileReader로 파일을 한 문서씩 읽음 (파일 전체를 메모리에 올리지 않음)
+ * 2. 문서마다 검사 (졸업요건 문서는 GraduationRules로 만들어 학점 구성을 확인), 잘못된 문서는 건너뛰고 결과에 사유 기록
+ * 3. 검사를 통과한 문서를 최대 500개(WriteBatch 한도)씩 묶어 최대 4개 배치를 동시에 커밋
+ * 4. 커밋이 끝난 묶음 번호를 체크포인트 파일에 기록, 실패하거나 취소한 뒤 같은 파일로 다시 실행하면 끝난 묶음은 건너뜀
+ *
+ * 묶음 경계는 파일 내용만으로 정해지므로 같은 파일이면 다시 실행해도 같은 문서가 같은 묶음에 들어감
+ * 한 파일 안에서 같은 문서가 두 번 나오면 두 번째는 오류로 처리 (동시 커밋 순서에 따라 결과가 달라지지 않도록)
+ */
+public class CurriculumImportManager {
+    private static final String TAG = "CurriculumImport";
+
+    /** WriteBatch 하나에 넣을 수 있는 최대 쓰기 수 */
+    public static final int MAX_BATCH_OPERATIONS = 500;
+
+    /** 동시에 커밋 중일 수 있는 배치 수 */
+    private static final int MAX_PARALLEL_COMMITS = 4;
+
+    /** 커밋 자리를 기다리는 최대 시간 (오프라인이면 서버 응답이 없어 커밋이 끝나지 않음) */
+    private static final long COMMIT_WAIT_SECONDS = 60;
+
+    private static final String CHECKPOINT_DIR = "curriculum_import";
+    private static final int DEFAULT_TOTAL_CREDITS = 130;
+
+    // 파일 읽기와 검사는 한 번에 하나의 작업만 (체크포인트 파일을 두 작업이 동시에 쓰지 않도록)
+    private static final ExecutorService IMPORT_EXECUTOR = Executors.newSingleThreadExecutor();
+    // 커밋 완료 콜백은 세마포어 해제만 하므로 완료한 스레드에서 바로 실행
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    private final Context context;
+    private final FirebaseFirestore db;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    public interface OnProgressListener {
+        /** 메인 스레드에서 호출 (written: 저장된 문서 수, 이전 실행에서 저장된 문서 포함) */
+        void onProgress(int written, int invalid);
+    }
+
+    /**
+     * 가져오기 결과
+     */
+    public static final class Result {
+        private int writtenCount;
+        private int resumedCount;
+        private final List<String> invalidRecords = new ArrayList<>();
+
+        /** 이번 실행에서 저장한 문서 수 */
+        public int getWrittenCount() { return writtenCount; }
+
+        /** 이전 실행에서 이미 저장되어 건너뛴 문서 수 */
+        public int getResumedCount() { return resumedCount; }
+
+        /** 건너뛴 문서 ("위치: 사유") */
+        public List<String> getInvalidRecords() { return Collections.unmodifiableList(invalidRecords); }
+    }
+
+    public CurriculumImportManager(Context context, FirebaseFirestore db) {
+        this.context = context.getApplicationContext();
+        this.db = db;
+    }
+
+    /**
+     * 파일 하나를 가져옴
+     * 커밋이 실패하거나 응답이 없거나 취소되면 Task가 실패하고, 이미 커밋된 묶음은 체크포인트에 남아 다시 실행할 때 건너뜀
+     * 모든 묶음이 저장되면 체크포인트 삭제
+     */
+    public Task<Result> importFile(Uri uri, CancellationToken token, OnProgressListener listener) {
+        return Tasks.call(IMPORT_EXECUTOR, () -> new Job(uri, token, listener).run());
+    }
+
+    /**
+     * 파일 하나의 가져오기 실행 (IMPORT_EXECUTOR에서만 사용)
+     */
+    private final class Job implements CurriculumFileReader.Sink {
+        private final Uri uri;
+        private final CancellationToken token;
+        private final OnProgressListener listener;
+
+        private final Result result = new Result();
+        private final Set<String> seenPaths = new HashSet<>();
+        private final List<Write> pending = new ArrayList<>(MAX_BATCH_OPERATIONS);
+        private int nextChunk;
+
+        private final Semaphore commitSlots = new Semaphore(MAX_PARALLEL_COMMITS);
+        private final ConcurrentLinkedQueue<Integer> committedChunks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger written = new AtomicInteger();
+        private final AtomicReference<Exception> failure = new AtomicReference<>();
+        private volatile int invalidCount;
+        private Checkpoint checkpoint;
+
+        Job(Uri uri, CancellationToken token, OnProgressListener listener) {
+            this.uri = uri;
+            this.token = token;
+            this.listener = listener;
+        }
+
+        Result run() throws Exception {
+            long start = System.currentTimeMillis();
+            ContentResolver resolver = context.getContentResolver();
+            String fileName = queryDisplayName(resolver, uri);
+            long size = querySize(resolver, uri);
+            CurriculumFileReader.Format format =
+                    CurriculumFileReader.Format.detect(fileName, resolver.getType(uri));
+            checkpoint = Checkpoint.open(context, uri + "|" + fileName + "|" + size + "|" + format);
+            if (!checkpoint.isEmpty()) {
+                Log.d(TAG, "체크포인트에서 이어서 가져오기: 완료된 묶음 " + checkpoint.size() + "개");
+            }
+
+            try (InputStream in = resolver.openInputStream(uri)) {
+                if (in == null) {
+                    throw new FileNotFoundException("파일을 열 수 없습니다: " + uri);
+                }
+                CurriculumFileReader.read(in, format, this);
+                flushChunk();
+            } finally {
+                // 진행 중인 커밋을 기다린 뒤 체크포인트 기록 (예외로 끝나도 끝난 묶음은 남김)
+                // 제한 시간 안에 끝나지 않으면 가져오기 실패로 처리하고, 그때까지 끝난 묶음만 기록
+                if (!(failure.get() instanceof TimeoutException)) {
+                    awaitCommits(MAX_PARALLEL_COMMITS);
+                }
+                saveCommittedChunks();
+                if (written.get() > result.resumedCount) {
+                    // 일부만 저장되어도 캐시된 졸업요건은 갱신
+                    FirebaseDataManager.getInstance().clearCache();
+                }
+            }
+
+            if (failure.get() != null) {
+                Log.e(TAG, "가져오기 실패 (다시 실행하면 이어서 진행): " + fileName, failure.get());
+                throw failure.get();
+            }
+            if (isCancelled()) {
+                throw new CancellationException("교육과정 가져오기 취소됨");
+            }
+            checkpoint.delete();
+            result.writtenCount = written.get() - result.resumedCount;
+            Log.d(TAG, "가져오기 완료: " + fileName + " 저장 " + result.writtenCount + "개, 건너뜀 "
+                    + result.resumedCount + "개, 오류 " + result.invalidRecords.size() + "개 ("
+                    + (System.currentTimeMillis() - start) + "ms)");
+            return result;
+        }
+
+        @Override
+        public void accept(CurriculumFileReader.Record record) throws IOException, InterruptedException {
+            Write write;
+            try {
+                write = prepare(record);
+            } catch (IllegalArgumentException e) {
+                reject(record.location, e.getMessage());
+                return;
+            }
+            if (!seenPaths.add(write.ref.getPath())) {
+                reject(record.location, "같은 문서가 파일에 이미 있음 (" + write.ref.getId() + ")");
+                return;
+            }
+            pending.add(write);
+            if (pending.size() == MAX_BATCH_OPERATIONS) {
+                flushChunk();
+            }
+        }
+
+        @Override
+        public void reject(String location, String message) {
+            result.invalidRecords.add(location + ": " + message);
+            invalidCount = result.invalidRecords.size();
+            postProgress();
+        }
+
+        @Override
+        public boolean isStopped() {
+            return failure.get() != null || isCancelled();
+        }
+
+        private boolean isCancelled() {
+            return token != null && token.isCancellationRequested();
+        }
+
+        /** 모인 문서를 한 묶음으로 커밋 (이전 실행에서 커밋한 묶음이면 건너뜀) */
+        private void flushChunk() throws IOException, InterruptedException {
+            if (pending.isEmpty()) {
+                return;
+            }
+            int chunk = nextChunk++;
+            List<Write> writes = new ArrayList<>(pending);
+            pending.clear();
+
+            if (checkpoint.contains(chunk)) {
+                result.resumedCount += writes.size();
+                written.addAndGet(writes.size());
+                postProgress();
+                return;
+            }
+
+            if (!awaitCommits(1)) {
+                return;
+            }
+            saveCommittedChunks();
+            if (isStopped()) {
+                commitSlots.release();
+                return;
+            }
+
+            WriteBatch batch = db.batch();
+            for (Write write : writes) {
+                if (write.merge) {
+                    batch.set(write.ref, write.data, SetOptions.merge());
+                } else {
+                    batch.set(write.ref, write.data);
+                }
+            }
+            batch.commit().addOnCompleteListener(DIRECT_EXECUTOR, task -> {
+                if (task.isSuccessful()) {
+                    committedChunks.add(chunk);
+                    written.addAndGet(writes.size());
+                    postProgress();
+                } else {
+                    Log.w(TAG, "묶음 " + chunk + " 커밋 실패", task.getException());
+                    failure.compareAndSet(null, task.getException());
+                }
+                commitSlots.release();
+            });
+        }
+
+        /**
+         * 커밋 자리 permits개를 제한 시간까지 기다림
+         * 시간이 지나면 failure에 TimeoutException을 남기고 false (isStopped()가 true가 되어 읽기도 멈춤)
+         */
+        private boolean awaitCommits(int permits) throws InterruptedException {
+            if (commitSlots.tryAcquire(permits, COMMIT_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                return true;
+            }
+            Log.w(TAG, "커밋 응답 없음: " + COMMIT_WAIT_SECONDS + "초 동안 대기");
+            failure.compareAndSet(null, new TimeoutException(
+                    "서버 응답이 없어 저장을 마치지 못했습니다 (네트워크 연결 확인)"));
+            return false;
+        }
+
+        private void saveCommittedChunks() throws IOException {
+            boolean changed = false;
+            Integer chunk;
+            while ((chunk = committedChunks.poll()) != null) {
+                changed |= checkpoint.add(chunk);
+            }
+            if (changed) {
+                checkpoint.save();
+            }
+        }
+
+        private void postProgress() {
+            if (listener == null) {
+                return;
+            }
+            int writtenNow = written.get();
+            int invalidNow = invalidCount;
+            mainHandler.post(() -> listener.onProgress(writtenNow, invalidNow));
+        }
+    }
+
+    /**
+     * 커밋할 문서 하나
+     */
+    private static final class Write {
+        final DocumentReference ref;
+        final Map<String, Object> data;
+        final boolean merge;
+
+        Write(DocumentReference ref, Map<String, Object> data, boolean merge) {
+            this.ref = ref;
+            this.data = data;
+            this.merge = merge;
+        }
+    }
+
+    // ── 검사 ─────────────────────────────────────────────
+
+    /**
+     * 파일의 문서를 검사해 커밋할 형태로 변환
+     * @throws IllegalArgumentException 저장하면 안 되는 문서 (메시지가 사유)
+     */
+    private Write prepare(CurriculumFileReader.Record record) {
+        String collection = record.collection.trim();
+        String documentId = record.documentId != null ? record.documentId.trim() : null;
+        if (collection.contains("/")) {
+            throw new IllegalArgumentException("컬렉션 이름에 '/'를 쓸 수 없음: " + collection);
+        }
+
+        if (isGraduationDocument(collection, documentId, record.data)) {
+            documentId = prepareGraduationDocument(documentId, record.data, record.merge);
+        } else {
+            if (documentId == null || documentId.isEmpty()) {
+                throw new IllegalArgumentException("documentId 없음");
+            }
+            if (record.data.isEmpty()) {
+                throw new IllegalArgumentException("data가 비어 있음");
+            }
+            if ("other_requirements_groups".equals(collection)) {
+                checkOtherRequirementsGroup(record.data);
+            } else if (record.data.containsKey("rules") && !(record.data.get("rules") instanceof Map)) {
+                throw new IllegalArgumentException("rules는 학기별 객체여야 함");
+            }
+        }
+        if (documentId.contains("/")) {
+            throw new IllegalArgumentException("문서 ID에 '/'를 쓸 수 없음: " + documentId);
+        }
+        return new Write(db.collection(collection).document(documentId), record.data, record.merge);
+    }
+
+    private static boolean isGraduationDocument(String collection, String documentId, Map<String, Object> data) {
+        if (!CurriculumFileReader.COLLECTION_GRADUATION.equals(collection)) {
+            return false;
+        }
+        return "graduation".equals(data.get("docType"))
+                || documentId == null
+                || documentId.startsWith("졸업요건_");
+    }
+
+    /**
+     * 졸업요건 문서 검사 및 정리 (GraduationRequirementAddActivity.saveNewRequirement와 같은 v3 구조)
+     * 학번은 4자리로, 학점은 정수로 맞추고 GraduationRules로 만들어 학점 합계가 총학점을 넘지 않는지 확인
+     * 문서 전체를 쓰는 경우에만 기본값(version, 문서 참조, replacementRules)을 채우고,
+     * 병합(CSV)이면 파일에 있는 필드와 updatedAt만 씀 (기존 문서의 사용자 지정 문서 참조를 덮어쓰지 않도록)
+     * @return 문서 ID (졸업요건_학부_트랙_학번)
+     */
+    private static String prepareGraduationDocument(String documentId, Map<String, Object> data, boolean merge) {
+        String department = requireName(data, "department");
+        String track = requireName(data, "track");
+        int cohort = normalizeCohort(data.get("cohort"));
+
+        CreditRequirements credits = new CreditRequirements();
+        for (String field : CurriculumFileReader.CREDIT_FIELDS) {
+            if (data.containsKey(field)) {
+                int value = requireCredits(data, field);
+                credits.setRequiredCredits(field, value);
+                data.put(field, value);
+            }
+        }
+        Integer totalCredits = null;
+        if (data.containsKey("totalCredits")) {
+            totalCredits = requireCredits(data, "totalCredits");
+            if (totalCredits == 0) {
+                throw new IllegalArgumentException("totalCredits가 0");
+            }
+        } else if (!merge) {
+            totalCredits = DEFAULT_TOTAL_CREDITS;
+        }
+
+        GraduationRules rules = new GraduationRules(cohort, department, track);
+        rules.setCreditRequirements(credits);
+        if (totalCredits != null) {
+            credits.setTotal(totalCredits);
+            rules.setTotalCredits(totalCredits);
+            int sum = 0;
+            for (String field : CurriculumFileReader.CREDIT_FIELDS) {
+                sum += rules.getCreditRequirements().getRequiredCredits(field);
+            }
+            if (sum > rules.getTotalCredits()) {
+                throw new IllegalArgumentException("카테고리 학점 합계(" + sum + ")가 총학점("
+                        + rules.getTotalCredits() + ")보다 큼");
+            }
+            data.put("totalCredits", totalCredits);
+        }
+
+        String expectedId = "졸업요건_" + department + "_" + track + "_" + cohort;
+        if (documentId != null && !documentId.isEmpty() && !documentId.equals(expectedId)) {
+            throw new IllegalArgumentException("문서 ID가 학부/트랙/학번과 맞지 않음 (" + documentId
+                    + ", 예상: " + expectedId + ")");
+        }
+
+        data.put("department", department);
+        data.put("track", track);
+        data.put("cohort", cohort);
+        data.put("updatedAt", Timestamp.now());
+        if (!merge) {
+            data.put("docType", "graduation");
+            data.put("version", "v3");
+            if (!data.containsKey("majorDocRef")) {
+                data.put("majorDocRef", department + "_" + track + "_" + cohort);
+            }
+            if (!data.containsKey("generalDocRef")) {
+                data.put("generalDocRef", "교양_공통_" + cohort);
+            }
+            if (!data.containsKey("replacementRules")) {
+                data.put("replacementRules", new ArrayList<>());
+            }
+        }
+        Object replacementRules = data.get("replacementRules");
+        if (replacementRules != null && !(replacementRules instanceof List)) {
+            throw new IllegalArgumentException("replacementRules는 목록이어야 함");
+        }
+        return expectedId;
+    }
+
+    /** 학부/트랙 이름 (문서 ID를 "_"로 나눠 읽으므로 "_"와 "/"는 허용하지 않음) */
+    private static String requireName(Map<String, Object> data, String field) {
+        Object value = data.get(field);
+        String name = value != null ? value.toString().trim() : "";
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException(field + " 없음");
+        }
+        if (name.contains("_") || name.contains("/")) {
+            throw new IllegalArgumentException(field + "에 '_'나 '/'를 쓸 수 없음: " + name);
+        }
+        return name;
+    }
+
+    /** 2자리 학번은 4자리로 (25 → 2025), 2000~2099만 허용 */
+    private static int normalizeCohort(Object value) {
+        int cohort;
+        try {
+            cohort = value instanceof Number ? ((Number) value).intValue()
+                    : Integer.parseInt(String.valueOf(value).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("학번이 숫자가 아님: " + value);
+        }
+        if (cohort >= 0 && cohort < 100) {
+            cohort += 2000;
+        }
+        if (cohort < 2000 || cohort > 2099) {
+            throw new IllegalArgumentException("학번 범위 오류: " + value);
+        }
+        return cohort;
+    }
+
+    private static int requireCredits(Map<String, Object> data, String field) {
+        Object value = data.get(field);
+        if (!(value instanceof Number) || ((Number) value).doubleValue() != ((Number) value).intValue()) {
+            throw new IllegalArgumentException(field + "은(는) 정수여야 함: " + value);
+        }
+        int credits = ((Number) value).intValue();
+        if (credits < 0) {
+            throw new IllegalArgumentException(field + "이(가) 음수: " + credits);
+        }
+        return credits;
+    }
+
+    /** 기타 졸업요건 문서 (OtherRequirementGroup 형식) */
+    private static void checkOtherRequirementsGroup(Map<String, Object> data) {
+        requireName(data, "department");
+        requireName(data, "track");
+        Object studentYear = data.get("studentYear");
+        if (studentYear == null || studentYear.toString().trim().isEmpty()) {
+            throw new IllegalArgumentException("studentYear 없음");
+        }
+        Object requirements = data.get("requirements");
+        if (!(requirements instanceof List)) {
+            throw new IllegalArgumentException("requirements 목록 없음");
+        }
+        for (Object item : (List<?>) requirements) {
+            Object name = item instanceof Map ? ((Map<?, ?>) item).get("name") : null;
+            if (name == null || name.toString().trim().isEmpty()) {
+                throw new IllegalArgumentException("이름 없는 요건 항목");
+            }
+        }
+    }
+
+    // ── 파일 정보 ─────────────────────────────────────────
+
+    private static String queryDisplayName(ContentResolver resolver, Uri uri) {
+        try (Cursor cursor = resolver.query(uri, new String[]{OpenableColumns.DISPLAY_NAME}, null, null, null)) {
+            if (cursor != null && cursor.moveToFirst() && !cursor.isNull(0)) {
+                return cursor.getString(0);
+            }
+        } catch (RuntimeException e) {
+            Log.w(TAG, "파일 이름 조회 실패: " + uri, e);
+        }
+        return uri.getLastPathSegment();
+    }
+
+    private static long querySize(ContentResolver resolver, Uri uri) {
+        try (Cursor cursor = resolver.query(uri, new String[]{OpenableColumns.SIZE}, null, null, null)) {
+            if (cursor != null && cursor.moveToFirst() && !cursor.isNull(0)) {
+                return cursor.getLong(0);
+            }
+        } catch (RuntimeException e) {
+            Log.w(TAG, "파일 크기 조회 실패: " + uri, e);
+        }
+        return -1;
+    }
+
+    /**
+     * 커밋이 끝난 묶음 번호 기록 (filesDir/curriculum_import/)
+     * 파일 형식: 첫 줄 작업 키(파일 Uri/이름/크기/형식), 둘째 줄 묶음 크기, 이후 한 줄에 묶음 번호 하나
+     * 작업 키나 묶음 크기가 다르면 다른 작업으로 보고 처음부터 진행
+     */
+    private static final class Checkpoint {
+        private final AtomicFile file;
+        private final String key;
+        private final Set<Integer> chunks = new HashSet<>();
+
+        private Checkpoint(AtomicFile file, String key) {
+            this.file = file;
+            this.key = key;
+        }
+
+        static Checkpoint open(Context context, String key) {
+            File dir = new File(context.getFilesDir(), CHECKPOINT_DIR);
+            if (!dir.exists() && !dir.mkdirs()) {
+                Log.w(TAG, "체크포인트 폴더 생성 실패: " + dir);
+            }
+            String name = Integer.toHexString(key.hashCode()) + ".chk";
+            Checkpoint checkpoint = new Checkpoint(new AtomicFile(new File(dir, name)), key);
+            checkpoint.load();
+            return checkpoint;
+        }
+
+        private void load() {
+            if (!file.getBaseFile().exists()) {
+                return;
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new ByteArrayInputStream(file.readFully()), StandardCharsets.UTF_8))) {
+                if (!key.equals(reader.readLine())
+                        || !String.valueOf(MAX_BATCH_OPERATIONS).equals(reader.readLine())) {
+                    return;
+                }
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isEmpty()) {
+                        chunks.add(Integer.parseInt(line));
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                Log.w(TAG, "체크포인트 읽기 실패 - 처음부터 진행", e);
+                chunks.clear();
+            }
+        }
+
+        boolean isEmpty() { return chunks.isEmpty(); }
+
+        int size() { return chunks.size(); }
+
+        boolean contains(int chunk) { return chunks.contains(chunk); }
+
+        boolean add(int chunk) { return chunks.add(chunk); }
+
+        void save() throws IOException {
+            StringBuilder sb = new StringBuilder();
+            sb.append(key).append('\n').append(MAX_BATCH_OPERATIONS).append('\n');
+            for (Integer chunk : chunks) {
+                sb.append(chunk).append('\n');
+            }
+            FileOutputStream out = file.startWrite();
+            try {
+                out.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+                file.finishWrite(out);
+            } catch (IOException e) {
+                file.failWrite(out);
+                throw e;
+            }
+        }
+
+        void delete() {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package sprout.app.sakmvp1.managers;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.QueryDocumentSnapshot;
+import sprout.app.sakmvp1.FirebaseDataManager;
+import sprout.app.sakmvp1.models.GraduationAudit;
+import sprout.app.sakmvp1.models.GraduationRules;
+import sprout.app.sakmvp1.models.TakenCourse;
+import sprout.app.sakmvp1.utils.TaskScope;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 전체 학생 졸업요건 일괄 검사 (관리자용)
+ *
+ * 1. users 컬렉션을 한 번 조회해 학생별 저장된 수강 과목(savedGraduationAnalysis.courses)을 수집
+ * 2. (학번, 학과, 트랙) 그룹마다 FirebaseDataManager.getGraduationRules를 한 번씩만 호출 (모든 그룹 동시 로드)
+ * 3. GraduationAudit으로 백그라운드에서 병렬 평가 후 메인 스레드로 결과 전달
+ */
+public class GraduationAuditManager {
+    private static final String TAG = "GraduationAuditManager";
+
+    private final FirebaseFirestore db;
+    private final FirebaseDataManager dataManager;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final TaskScope scope = new TaskScope();
+
+    public GraduationAuditManager() {
+        this.db = FirebaseFirestore.getInstance();
+        this.dataManager = FirebaseDataManager.getInstance();
+    }
+
+    /**
+     * 전체 학생 일괄 검사 실행
+     */
+    public void runAudit(OnAuditCompleteListener listener) {
+        scope.bind(db.collection("users").get())
+            .addOnSuccessListener(queryDocumentSnapshots -> {
+                List<GraduationAudit.Target> targets = new ArrayList<>();
+                int skipped = 0;
+                for (QueryDocumentSnapshot document : queryDocumentSnapshots) {
+                    GraduationAudit.Target target = toTarget(document);
+                    if (target != null) {
+                        targets.add(target);
+                    } else {
+                        skipped++;
+                    }
+                }
+                Log.d(TAG, "일괄 검사 대상: " + targets.size() + "명 (저장된 과목 없음: " + skipped + "명)");
+                loadRulesAndRun(targets, listener);
+            })
+            .addOnFailureListener(e -> {
+                Log.e(TAG, "학생 데이터 로드 실패", e);
+                listener.onFailure(e);
+            });
+    }
+
+    /**
+     * 진행 중인 로드 취소 및 작업 스레드 정리 (Activity 종료 시 호출)
+     */
+    public void shutdown() {
+        scope.cancel();
+        executor.shutdownNow();
+    }
+
+    /**
+     * users 문서를 감사 대상으로 변환 (학번/학과/트랙 또는 저장된 과목이 없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    private GraduationAudit.Target toTarget(QueryDocumentSnapshot document) {
+        String studentYear = document.getString("studentYear");
+        String department = document.getString("department");
+        String track = document.getString("track");
+        if (studentYear == null || department == null || track == null) {
+            return null;
+        }
+
+        Map<String, Object> savedAnalysis = (Map<String, Object>) document.get("savedGraduationAnalysis");
+        if (savedAnalysis == null) {
+            return null;
+        }
+        List<Map<String, Object>> coursesList = (List<Map<String, Object>>) savedAnalysis.get("courses");
+        if (coursesList == null || coursesList.isEmpty()) {
+            return null;
+        }
+
+        List<TakenCourse> courses = new ArrayList<>(coursesList.size());
+        for (Map<String, Object> courseMap : coursesList) {
+            String category = (String) courseMap.get("category");
+            String name = (String) courseMap.get("name");
+            Object creditsObj = courseMap.get("credits");
+            int credits = creditsObj instanceof Number ? ((Number) creditsObj).intValue() : 0;
+            if (category != null && name != null) {
+                courses.add(TakenCourse.of(category, name, credits));
+            }
+        }
+
+        return new GraduationAudit.Target(document.getId(), document.getString("name"),
+            studentYear, department, track, courses);
+    }
+
+    /**
+     * 그룹별 졸업요건을 한 번씩 동시에 로드한 뒤 평가 실행
+     * 로드에 실패한 그룹은 결과의 missingRules로 보고
+     */
+    private void loadRulesAndRun(List<GraduationAudit.Target> targets, OnAuditCompleteListener listener) {
+        Map<String, GraduationAudit.Target> groups = new LinkedHashMap<>();
+        for (GraduationAudit.Target target : targets) {
+            if (!groups.containsKey(target.getGroupKey())) {
+                groups.put(target.getGroupKey(), target);
+            }
+        }
+
+        List<String> keys = new ArrayList<>(groups.keySet());
+        List<Task<GraduationRules>> loads = new ArrayList<>(keys.size());
+        for (GraduationAudit.Target sample : groups.values()) {
+            loads.add(dataManager.getGraduationRules(sample.getCohort(), sample.getDepartment(), sample.getTrack(),
+                scope.getToken()));
+        }
+
+        Tasks.whenAllComplete(loads).addOnSuccessListener(done -> {
+            if (scope.isCancelled()) {
+                return;
+            }
+            Map<String, GraduationRules> rulesByGroup = new HashMap<>();
+            for (int i = 0; i < loads.size(); i++) {
+                Task<GraduationRules> load = loads.get(i);
+                if (load.isSuccessful()) {
+                    rulesByGroup.put(keys.get(i), load.getResult());
+                } else {
+                    Log.w(TAG, "졸업요건 로드 실패: " + keys.get(i) + " - " + load.getException());
+                }
+            }
+            evaluate(rulesByGroup, targets, listener);
+        });
+    }
+
+    private void evaluate(Map<String, GraduationRules> rulesByGroup, List<GraduationAudit.Target> targets,
+                          OnAuditCompleteListener listener) {
+        try {
+            executor.execute(() -> {
+                try {
+                    GraduationAudit.Report report = GraduationAudit.run(rulesByGroup, targets);
+                    Log.d(TAG, "일괄 검사 완료: " + report.getStudentCount() + "명, " + report.getElapsedMillis() + "ms");
+                    mainHandler.post(() -> listener.onSuccess(report));
+                } catch (RuntimeException e) {
+                    Log.e(TAG, "일괄 검사 실패", e);
+                    mainHandler.post(() -> listener.onFailure(e));
+                }
+            });
+        } catch (java.util.concurrent.RejectedExecutionException e) {
+            // shutdown() 이후 도착한 콜백은 무시
+            Log.d(TAG, "일괄 검사 취소됨");
+        }
+    }
+
+    public interface OnAuditCompleteListener {
+        void onSuccess(GraduationAudit.Report report);
+        void onFailure(Exception e);
+    }
+}
@@ -0,0 +1,530 @@
+package sprout.app.sakmvp1.managers;
+
+import android.content.ContentResolver;
+import android.content.ContentValues;
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.net.Uri;
+import android.os.Build;
+import android.os.Environment;
+import android.os.Handler;
+import android.os.Looper;
+import android.provider.DocumentsContract;
+import android.provider.MediaStore;
+import android.util.Log;
+import androidx.core.content.FileProvider;
+import com.google.android.gms.tasks.CancellationToken;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.TextAlignment;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 졸업요건 분석 결과 PDF 생성기
+ *
+ * 1. 한글 폰트(fonts/NanumGothic.ttf)는 프로세스당 한 번만 읽어 파싱해 두고 문서마다 재사용
+ *    (압축되지 않은 asset이면 메모리 매핑으로 읽음, 문서에는 사용한 글자만 서브셋으로 포함)
+ * 2. 페이지는 완성되는 대로 MediaStore(다운로드)/SAF 출력 스트림으로 바로 기록
+ * 3. 모든 작업은 전용 작업 스레드에서 실행되고 진행률은 메인 스레드로 전달
+ *
+ * 여러 학생의 보고서를 renderBatch로 한 번에 생성할 수 있음 (상담 세션 일괄 저장 등)
+ */
+public class GraduationReportRenderer {
+    private static final String TAG = "GraduationReportRenderer";
+    private static final String FONT_ASSET = "fonts/NanumGothic.ttf";
+    private static final String MIME_PDF = "application/pdf";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 폰트 프로그램을 여러 문서가 공유하므로 렌더링은 한 번에 하나씩만 실행
+    private static final ExecutorService RENDER_EXECUTOR = Executors.newSingleThreadExecutor();
+    private static volatile FontProgram fontProgram;
+
+    private final Context context;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    public GraduationReportRenderer(Context context) {
+        this.context = context.getApplicationContext();
+    }
+
+    /**
+     * 보고서 한 건의 내용
+     * 메인 스레드에서 채운 뒤 render/renderBatch에 넘기고, 그 이후에는 수정하지 말 것
+     */
+    public static final class Report {
+        private final String fileName;
+        private String title = "졸업요건 분석 결과";
+        private final List<String[]> info = new ArrayList<>();
+        private boolean hasOverall;
+        private int totalEarned;
+        private int totalRequired;
+        private double overallPercent;
+        private final List<ProgressRow> progressRows = new ArrayList<>();
+        private final Map<String, List<CourseRow>> coursesByCategory = new LinkedHashMap<>();
+        private final List<String[]> extras = new ArrayList<>();
+
+        public Report(String fileName) {
+            this.fileName = fileName;
+        }
+
+        public String getFileName() { return fileName; }
+
+        public Report setTitle(String title) {
+            this.title = title;
+            return this;
+        }
+
+        /** 학생 정보 항목 (학번, 학과 등) */
+        public Report addInfo(String key, String value) {
+            info.add(new String[]{key, value});
+            return this;
+        }
+
+        /** 전체 졸업 진행도 */
+        public Report setOverall(int earned, int required, double percent) {
+            this.hasOverall = true;
+            this.totalEarned = earned;
+            this.totalRequired = required;
+            this.overallPercent = percent;
+            return this;
+        }
+
+        /** 카테고리별 이수현황 행 */
+        public Report addProgress(String category, int earned, int required) {
+            progressRows.add(new ProgressRow(category, earned, required));
+            return this;
+        }
+
+        /** 수강 과목 (카테고리별로 묶여 처음 추가된 순서대로 출력) */
+        public Report addCourse(String category, String name, int credits) {
+            List<CourseRow> courses = coursesByCategory.get(category);
+            if (courses == null) {
+                courses = new ArrayList<>();
+                coursesByCategory.put(category, courses);
+            }
+            courses.add(new CourseRow(name, credits));
+            return this;
+        }
+
+        /** 추가 졸업요건 항목 (TLC, 채플 등) */
+        public Report addExtra(String key, String value) {
+            extras.add(new String[]{key, value});
+            return this;
+        }
+    }
+
+    private static final class ProgressRow {
+        final String category;
+        final int earned;
+        final int required;
+
+        ProgressRow(String category, int earned, int required) {
+            this.category = category;
+            this.earned = earned;
+            this.required = required;
+        }
+    }
+
+    private static final class CourseRow {
+        final String name;
+        final int credits;
+
+        CourseRow(String name, int credits) {
+            this.name = name;
+            this.credits = credits;
+        }
+    }
+
+    /**
+     * 저장 위치
+     */
+    public static final class Destination {
+        private final Uri uri;
+        private final boolean tree;
+
+        private Destination(Uri uri, boolean tree) {
+            this.uri = uri;
+            this.tree = tree;
+        }
+
+        /** 공용 다운로드 폴더 (Android 10 이상은 MediaStore, 그 이전은 파일로 직접 저장) */
+        public static Destination downloads() {
+            return new Destination(null, false);
+        }
+
+        /** ACTION_CREATE_DOCUMENT로 받은 문서 하나 (render 전용) */
+        public static Destination document(Uri documentUri) {
+            return new Destination(documentUri, false);
+        }
+
+        /** ACTION_OPEN_DOCUMENT_TREE로 받은 폴더 (보고서마다 새 문서 생성) */
+        public static Destination tree(Uri treeUri) {
+            return new Destination(treeUri, true);
+        }
+
+        boolean isDownloads() {
+            return uri == null;
+        }
+    }
+
+    /**
+     * 일괄 생성 결과
+     */
+    public static final class BatchResult {
+        private final List<Uri> uris = new ArrayList<>();
+        private final List<String> failedFileNames = new ArrayList<>();
+
+        public List<Uri> getUris() { return Collections.unmodifiableList(uris); }
+        public List<String> getFailedFileNames() { return Collections.unmodifiableList(failedFileNames); }
+    }
+
+    public interface OnProgressListener {
+        /** 메인 스레드에서 보고서 한 건이 끝날 때마다 호출 */
+        void onProgress(int completed, int total);
+    }
+
+    /**
+     * 보고서 한 건 생성, 성공 시 공유 가능한 content Uri 반환
+     */
+    public Task<Uri> render(Report report, Destination destination) {
+        return Tasks.call(RENDER_EXECUTOR, () -> renderOne(report, destination));
+    }
+
+    /**
+     * 보고서 여러 건을 순서대로 생성
+     * 한 건이 실패해도 나머지는 계속 만들고 실패한 파일 이름을 결과에 담음
+     * token이 취소되면 진행 중인 보고서까지만 만들고 CancellationException으로 끝남
+     */
+    public Task<BatchResult> renderBatch(List<Report> reports, Destination destination,
+                                         CancellationToken token, OnProgressListener listener) {
+        if (!destination.isDownloads() && !destination.tree) {
+            return Tasks.forException(new IllegalArgumentException("일괄 저장은 다운로드 폴더나 폴더 선택만 지원"));
+        }
+        List<Report> snapshot = new ArrayList<>(reports);
+        return Tasks.call(RENDER_EXECUTOR, () -> {
+            long start = System.currentTimeMillis();
+            BatchResult result = new BatchResult();
+            for (int i = 0; i < snapshot.size(); i++) {
+                if (token != null && token.isCancellationRequested()) {
+                    throw new CancellationException("PDF 일괄 생성 취소됨");
+                }
+                Report report = snapshot.get(i);
+                try {
+                    result.uris.add(renderOne(report, destination));
+                } catch (IOException | RuntimeException e) {
+                    Log.e(TAG, "PDF 생성 실패: " + report.fileName, e);
+                    result.failedFileNames.add(report.fileName);
+                }
+                if (listener != null) {
+                    int completed = i + 1;
+                    mainHandler.post(() -> listener.onProgress(completed, snapshot.size()));
+                }
+            }
+            Log.d(TAG, "PDF 일괄 생성 완료: " + result.uris.size() + "/" + snapshot.size() + "건, "
+                + (System.currentTimeMillis() - start) + "ms");
+            return result;
+        });
+    }
+
+    // ── 렌더링 (작업 스레드) ──
+
+    private Uri renderOne(Report report, Destination destination) throws IOException {
+        Output output = openOutput(report.fileName, destination);
+        boolean written = false;
+        try {
+            try (OutputStream stream = output.stream) {
+                // Document 기본값(immediateFlush)으로 완성된 페이지는 바로 스트림에 기록됨
+                PdfDocument pdf = new PdfDocument(new PdfWriter(new BufferedOutputStream(stream, BUFFER_SIZE)));
+                Document document = new Document(pdf);
+                // PdfFont는 문서마다 새로 만들어야 하지만 파싱된 폰트 프로그램은 공유 (서브셋은 기본값)
+                PdfFont font = PdfFontFactory.createFont(getFontProgram(), PdfEncodings.IDENTITY_H,
+                    PdfFontFactory.EmbeddingStrategy.PREFER_EMBEDDED);
+                document.setFont(font);
+                writeReport(document, report);
+                document.close();
+            }
+            output.commit();
+            written = true;
+            Log.d(TAG, "PDF 저장 완료: " + report.fileName);
+            return output.uri;
+        } finally {
+            if (!written) {
+                output.abort();
+            }
+        }
+    }
+
+    private static void writeReport(Document document, Report report) {
+        document.add(new Paragraph(report.title)
+            .setFontSize(20)
+            .setBold()
+            .setTextAlignment(TextAlignment.CENTER)
+            .setMarginBottom(20));
+
+        // 학생 정보
+        if (!report.info.isEmpty()) {
+            addSectionTitle(document, "학생 정보");
+            for (String[] entry : report.info) {
+                addKeyValue(document, entry[0], entry[1]);
+            }
+            document.add(new Paragraph("").setMarginBottom(10));
+        }
+
+        // 전체 진행도 + 카테고리별 이수현황
+        if (report.hasOverall) {
+            addSectionTitle(document, "전체 졸업 진행도");
+            addKeyValue(document, "총 이수학점", report.totalEarned + " / " + report.totalRequired + " 학점");
+            addKeyValue(document, "진행률", String.format(Locale.KOREA, "%.1f%%", report.overallPercent));
+            document.add(new Paragraph("").setMarginBottom(10));
+        }
+        if (!report.progressRows.isEmpty()) {
+            addSectionTitle(document, "카테고리별 이수현황");
+            Table progressTable = new Table(3)
+                .useAllAvailableWidth()
+                .setMarginBottom(15);
+            progressTable.addHeaderCell(createCell("구분", true));
+            progressTable.addHeaderCell(createCell("이수/요구", true));
+            progressTable.addHeaderCell(createCell("상태", true));
+            for (ProgressRow row : report.progressRows) {
+                progressTable.addCell(createCell(row.category, false));
+                progressTable.addCell(createCell(row.earned + " / " + row.required + " 학점", false));
+                String status = row.earned >= row.required
+                    ? "✓ 완료" : "○ " + (row.required - row.earned) + "학점 부족";
+                progressTable.addCell(createCell(status, false));
+            }
+            document.add(progressTable);
+        }
+
+        // 수강 과목 목록
+        addSectionTitle(document, "수강 과목 목록");
+        for (Map.Entry<String, List<CourseRow>> entry : report.coursesByCategory.entrySet()) {
+            document.add(new Paragraph("▶ " + entry.getKey() + " (" + entry.getValue().size() + "과목)")
+                .setBold()
+                .setFontSize(11)
+                .setMarginTop(10));
+
+            Table courseTable = new Table(2)
+                .useAllAvailableWidth()
+                .setMarginBottom(10);
+            courseTable.addHeaderCell(createCell("과목명", true));
+            courseTable.addHeaderCell(createCell("학점", true));
+
+            int categoryCredits = 0;
+            for (CourseRow course : entry.getValue()) {
+                courseTable.addCell(createCell(course.name, false));
+                courseTable.addCell(createCell(course.credits + "학점", false));
+                categoryCredits += course.credits;
+            }
+            courseTable.addCell(createCell("소계", true));
+            courseTable.addCell(createCell(categoryCredits + "학점", true));
+            document.add(courseTable);
+        }
+
+        // 추가 요건
+        if (!report.extras.isEmpty()) {
+            addSectionTitle(document, "추가 졸업요건");
+            for (String[] entry : report.extras) {
+                addKeyValue(document, entry[0], entry[1]);
+            }
+        }
+    }
+
+    private static void addSectionTitle(Document document, String title) {
+        document.add(new Paragraph("【 " + title + " 】")
+            .setBold()
+            .setFontSize(14)
+            .setMarginTop(15)
+            .setMarginBottom(5));
+    }
+
+    private static void addKeyValue(Document document, String key, String value) {
+        document.add(new Paragraph("  " + key + ": " + value)
+            .setFontSize(11));
+    }
+
+    private static Cell createCell(String text, boolean isHeader) {
+        Cell cell = new Cell()
+            .add(new Paragraph(text))
+            .setFontSize(10)
+            .setPadding(5);
+        if (isHeader) {
+            cell.setBold()
+                .setBackgroundColor(ColorConstants.LIGHT_GRAY);
+        }
+        return cell;
+    }
+
+    // ── 폰트 ──
+
+    private FontProgram getFontProgram() throws IOException {
+        FontProgram program = fontProgram;
+        if (program == null) {
+            synchronized (GraduationReportRenderer.class) {
+                program = fontProgram;
+                if (program == null) {
+                    long start = System.currentTimeMillis();
+                    program = FontProgramFactory.createFont(readFontAsset(), false);
+                    fontProgram = program;
+                    Log.d(TAG, "한글 폰트 로드: " + (System.currentTimeMillis() - start) + "ms");
+                }
+            }
+        }
+        return program;
+    }
+
+    /**
+     * 폰트 asset을 바이트 배열로 읽음
+     * 압축되지 않은 asset(build.gradle의 noCompress)은 APK 안의 위치를 그대로 매핑해 한 번에 복사하고,
+     * 압축된 경우(openFd 불가)에만 스트림으로 읽음
+     */
+    private byte[] readFontAsset() throws IOException {
+        try (AssetFileDescriptor afd = context.getAssets().openFd(FONT_ASSET);
+             FileInputStream input = new FileInputStream(afd.getFileDescriptor());
+             FileChannel channel = input.getChannel()) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY,
+                afd.getStartOffset(), afd.getLength());
+            byte[] bytes = new byte[mapped.remaining()];
+            mapped.get(bytes);
+            return bytes;
+        } catch (FileNotFoundException e) {
+            Log.d(TAG, "압축된 폰트 asset, 스트림으로 읽음");
+        }
+
+        try (InputStream input = context.getAssets().open(FONT_ASSET)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(input.available(), BUFFER_SIZE));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int len;
+            while ((len = input.read(buffer)) != -1) {
+                out.write(buffer, 0, len);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    // ── 출력 위치 ──
+
+    /**
+     * 열린 출력 스트림과 완료/실패 시 정리 방법
+     */
+    private final class Output {
+        final Uri uri;
+        final OutputStream stream;
+        final boolean pending;   // MediaStore IS_PENDING 해제 필요
+        final boolean removable; // 실패 시 만든 항목 삭제 가능
+        final File file;         // Android 9 이하 다운로드 폴더
+
+        Output(Uri uri, OutputStream stream, boolean pending, boolean removable, File file) {
+            this.uri = uri;
+            this.stream = stream;
+            this.pending = pending;
+            this.removable = removable;
+            this.file = file;
+        }
+
+        void commit() {
+            if (pending) {
+                ContentValues values = new ContentValues();
+                values.put(MediaStore.MediaColumns.IS_PENDING, 0);
+                context.getContentResolver().update(uri, values, null, null);
+            }
+        }
+
+        void abort() {
+            try {
+                if (file != null) {
+                    if (!file.delete()) {
+                        Log.w(TAG, "미완성 파일 삭제 실패: " + file.getName());
+                    }
+                } else if (removable) {
+                    ContentResolver resolver = context.getContentResolver();
+                    if (pending) {
+                        resolver.delete(uri, null, null);
+                    } else {
+                        DocumentsContract.deleteDocument(resolver, uri);
+                    }
+                }
+            } catch (Exception e) {
+                Log.w(TAG, "미완성 문서 정리 실패: " + uri, e);
+            }
+        }
+    }
+
+    private Output openOutput(String fileName, Destination destination) throws IOException {
+        ContentResolver resolver = context.getContentResolver();
+
+        if (destination.tree) {
+            Uri parent = DocumentsContract.buildDocumentUriUsingTree(destination.uri,
+                DocumentsContract.getTreeDocumentId(destination.uri));
+            Uri document = DocumentsContract.createDocument(resolver, parent, MIME_PDF, fileName);
+            if (document == null) {
+                throw new IOException("문서 생성 실패: " + fileName);
+            }
+            return new Output(document, openStream(resolver, document), false, true, null);
+        }
+
+        if (!destination.isDownloads()) {
+            return new Output(destination.uri, openStream(resolver, destination.uri), false, false, null);
+        }
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            ContentValues values = new ContentValues();
+            values.put(MediaStore.MediaColumns.DISPLAY_NAME, fileName);
+            values.put(MediaStore.MediaColumns.MIME_TYPE, MIME_PDF);
+            values.put(MediaStore.MediaColumns.RELATIVE_PATH, Environment.DIRECTORY_DOWNLOADS);
+            values.put(MediaStore.MediaColumns.IS_PENDING, 1);
+            Uri item = resolver.insert(MediaStore.Downloads.EXTERNAL_CONTENT_URI, values);
+            if (item == null) {
+                throw new IOException("다운로드 항목 생성 실패: " + fileName);
+            }
+            try {
+                return new Output(item, openStream(resolver, item), true, true, null);
+            } catch (IOException e) {
+                resolver.delete(item, null, null);
+                throw e;
+            }
+        }
+
+        File downloadsDir = Environment.getExternalStoragePublicDirectory(Environment.DIRECTORY_DOWNLOADS);
+        File file = new File(downloadsDir, fileName);
+        Uri uri = FileProvider.getUriForFile(context, context.getPackageName() + ".fileprovider", file);
+        return new Output(uri, new FileOutputStream(file), false, true, file);
+    }
+
+    private static OutputStream openStream(ContentResolver resolver, Uri uri) throws IOException {
+        OutputStream stream = resolver.openOutputStream(uri, "wt");
+        if (stream == null) {
+            throw new IOException("출력 스트림 열기 실패: " + uri);
+        }
+        return stream;
+    }
+}
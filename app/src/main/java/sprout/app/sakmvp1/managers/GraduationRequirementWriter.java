@@ -0,0 +1,263 @@
+package sprout.app.sakmvp1.managers;
+
+import android.util.Log;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.FieldPath;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.SetOptions;
+import com.google.firebase.firestore.WriteBatch;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 졸업요건 편집 내용을 WriteBatch 하나로 저장
+ *
+ * 1. 문서를 로드할 때 remember()로 필드 값을 스냅샷으로 보관
+ * 2. 저장할 때 update()/merge()로 문서별 새 필드 값을 넘기면 RequirementFieldDiff로 스냅샷과 비교해
+ *    바뀐 가장 깊은 경로만 기록 대상에 남김 (과목 하나를 바꾸면 "rules.{학기}.{카테고리}" 목록 하나만 기록)
+ * 3. commit() 전에 preview()로 바뀔 내용을 보여줄 수 있음
+ * 4. commit()은 바뀐 문서마다 updatedAt과 rulesRevision(+1)을 더해 한 번에 커밋
+ *    주 문서(편집 중인 졸업요건 문서)는 다른 문서만 바뀌어도 함께 올려 클라이언트 캐시가 변경을 알 수 있게 함
+ *
+ * 중간에 실패해도 일부 문서만 바뀐 상태가 남지 않음
+ * 스냅샷이 없는 문서(로드 실패 등)는 넘긴 필드를 모두 기록
+ */
+public class GraduationRequirementWriter {
+    private static final String TAG = "GradReqWriter";
+
+    /** 저장할 때마다 1씩 증가하는 개정 번호 (FirebaseDataManager 캐시 stamp에 포함) */
+    public static final String FIELD_REVISION = "rulesRevision";
+
+    private final FirebaseFirestore db;
+    private final DocumentReference primary;
+    private final Map<String, Map<String, Object>> snapshots = new HashMap<>();  // 문서 경로 -> 로드 시점 필드
+    private final Map<String, Change> changes = new LinkedHashMap<>();
+
+    /**
+     * 문서 하나에 기록할 필드 경로
+     */
+    private static final class Change {
+        final DocumentReference ref;
+        final boolean createIfMissing;
+        final List<RequirementFieldDiff.Entry> entries = new ArrayList<>();
+
+        Change(DocumentReference ref, boolean createIfMissing) {
+            this.ref = ref;
+            this.createIfMissing = createIfMissing;
+        }
+    }
+
+    public GraduationRequirementWriter(FirebaseFirestore db, DocumentReference primary) {
+        this.db = db;
+        this.primary = primary;
+    }
+
+    /**
+     * 로드한 문서의 필드 기억 (문서가 없으면 data에 null을 넘겨 빈 문서로 취급)
+     */
+    public void remember(DocumentReference ref, Map<String, Object> data) {
+        snapshots.put(ref.getPath(), data != null ? deepCopy(data) : new HashMap<>());
+    }
+
+    /**
+     * 기존 문서 필드 갱신 (문서가 없으면 커밋 전체가 실패)
+     */
+    public void update(DocumentReference ref, Map<String, Object> fields) {
+        stage(ref, fields, false);
+    }
+
+    /**
+     * 문서가 없으면 새로 만드는 필드 갱신 (넘긴 필드만 덮어쓰고 나머지 필드는 유지)
+     */
+    public void merge(DocumentReference ref, Map<String, Object> fields) {
+        stage(ref, fields, true);
+    }
+
+    private void stage(DocumentReference ref, Map<String, Object> fields, boolean createIfMissing) {
+        Map<String, Object> snapshot = snapshots.get(ref.getPath());
+        List<RequirementFieldDiff.Entry> entries = new ArrayList<>();
+        List<String> path = new ArrayList<>();
+        for (Map.Entry<String, Object> field : fields.entrySet()) {
+            path.add(field.getKey());
+            if (snapshot != null) {
+                RequirementFieldDiff.diff(path, snapshot.get(field.getKey()), field.getValue(), entries);
+            } else {
+                entries.add(new RequirementFieldDiff.Entry(path, null, field.getValue(), false));
+            }
+            path.clear();
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Change change = changes.get(ref.getPath());
+        if (change == null) {
+            change = new Change(ref, createIfMissing);
+            changes.put(ref.getPath(), change);
+        }
+        change.entries.addAll(entries);
+    }
+
+    /** 아직 커밋하지 않은 변경 내용 버림 (저장 확인을 취소한 뒤 다시 비교할 때) */
+    public void discardChanges() {
+        changes.clear();
+    }
+
+    public boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+
+    /** 로그용 변경 요약 ("문서경로: 필드.경로, 필드.경로") */
+    public String describeChanges() {
+        return describe(changes);
+    }
+
+    /**
+     * 저장 전 확인용 변경 내용 (문서별 제목 + 바뀐 필드마다 한 줄)
+     */
+    public String preview() {
+        StringBuilder sb = new StringBuilder();
+        for (Change change : changes.values()) {
+            if (sb.length() > 0) {
+                sb.append("\n");
+            }
+            sb.append("■ ").append(change.ref.getId()).append("\n");
+            for (RequirementFieldDiff.Entry entry : change.entries) {
+                sb.append("  • ").append(RequirementFieldDiff.describe(entry)).append("\n");
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 바뀐 필드를 WriteBatch 하나로 커밋 (바뀐 것이 없으면 아무것도 쓰지 않고 성공)
+     * 성공하면 스냅샷을 커밋한 값으로 갱신하므로 같은 객체로 다시 저장해도 됨
+     */
+    public Task<Void> commit() {
+        if (changes.isEmpty()) {
+            Log.d(TAG, "변경 사항 없음 - 커밋 생략");
+            return Tasks.forResult(null);
+        }
+        if (!changes.containsKey(primary.getPath())) {
+            changes.put(primary.getPath(), new Change(primary, false));
+        }
+
+        WriteBatch batch = db.batch();
+        for (Change change : changes.values()) {
+            if (change.createIfMissing) {
+                Map<String, Object> data = new HashMap<>();
+                List<FieldPath> mask = new ArrayList<>();
+                for (RequirementFieldDiff.Entry entry : change.entries) {
+                    put(data, entry.path, entry.removed ? FieldValue.delete() : entry.after);
+                    mask.add(fieldPath(entry.path));
+                }
+                data.put("updatedAt", FieldValue.serverTimestamp());
+                data.put(FIELD_REVISION, FieldValue.increment(1));
+                mask.add(FieldPath.of("updatedAt"));
+                mask.add(FieldPath.of(FIELD_REVISION));
+                batch.set(change.ref, data, SetOptions.mergeFieldPaths(mask));
+            } else {
+                List<Object> moreFieldsAndValues = new ArrayList<>();
+                for (RequirementFieldDiff.Entry entry : change.entries) {
+                    moreFieldsAndValues.add(fieldPath(entry.path));
+                    moreFieldsAndValues.add(entry.removed ? FieldValue.delete() : entry.after);
+                }
+                moreFieldsAndValues.add(FieldPath.of(FIELD_REVISION));
+                moreFieldsAndValues.add(FieldValue.increment(1));
+                batch.update(change.ref, FieldPath.of("updatedAt"), FieldValue.serverTimestamp(),
+                    moreFieldsAndValues.toArray());
+            }
+        }
+
+        Map<String, Change> committed = new LinkedHashMap<>(changes);
+        changes.clear();
+        String summary = describe(committed);
+        Log.d(TAG, "졸업요건 일괄 저장 시작: " + summary);
+        return batch.commit()
+            .addOnSuccessListener(unused -> {
+                for (Change change : committed.values()) {
+                    Map<String, Object> snapshot = snapshots.get(change.ref.getPath());
+                    if (snapshot == null) {
+                        continue;
+                    }
+                    for (RequirementFieldDiff.Entry entry : change.entries) {
+                        if (entry.removed) {
+                            remove(snapshot, entry.path);
+                        } else {
+                            put(snapshot, entry.path, entry.after);
+                        }
+                    }
+                }
+                Log.d(TAG, "졸업요건 일괄 저장 성공: " + committed.size() + "개 문서");
+            })
+            .addOnFailureListener(e -> {
+                // 아무것도 기록되지 않았으므로 스냅샷은 그대로 두고, 다음 저장에서 다시 비교
+                Log.e(TAG, "졸업요건 일괄 저장 실패: " + summary, e);
+            });
+    }
+
+    private static String describe(Map<String, Change> changes) {
+        StringBuilder sb = new StringBuilder();
+        for (Change change : changes.values()) {
+            if (sb.length() > 0) {
+                sb.append(" / ");
+            }
+            List<String> paths = new ArrayList<>();
+            for (RequirementFieldDiff.Entry entry : change.entries) {
+                paths.add(String.join(".", entry.path));
+            }
+            sb.append(change.ref.getPath()).append(": ").append(String.join(", ", paths));
+        }
+        return sb.toString();
+    }
+
+    // 학기 이름처럼 공백이 들어간 키도 그대로 쓸 수 있도록 점 표기 대신 FieldPath 사용
+    private static FieldPath fieldPath(List<String> path) {
+        return FieldPath.of(path.toArray(new String[0]));
+    }
+
+    /** 경로 위치에 값 기록 (중간 Map이 없으면 생성) */
+    @SuppressWarnings("unchecked")
+    private static void put(Map<String, Object> root, List<String> path, Object value) {
+        Map<String, Object> current = root;
+        for (int i = 0; i < path.size() - 1; i++) {
+            Object child = current.get(path.get(i));
+            if (!(child instanceof Map)) {
+                child = new HashMap<String, Object>();
+                current.put(path.get(i), child);
+            }
+            current = (Map<String, Object>) child;
+        }
+        current.put(path.get(path.size() - 1), value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void remove(Map<String, Object> root, List<String> path) {
+        Map<String, Object> current = root;
+        for (int i = 0; i < path.size() - 1; i++) {
+            Object child = current.get(path.get(i));
+            if (!(child instanceof Map)) {
+                return;
+            }
+            current = (Map<String, Object>) child;
+        }
+        current.remove(path.get(path.size() - 1));
+    }
+
+    /** 스냅샷은 Map 구조만 복사해 두고 커밋 후 경로 단위로 갱신 */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> deepCopy(Map<String, Object> source) {
+        Map<String, Object> copy = new HashMap<>(source.size());
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            Object value = entry.getValue();
+            copy.put(entry.getKey(), value instanceof Map ? deepCopy((Map<String, Object>) value) : value);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,144 @@
+package sprout.app.sakmvp1.managers;
+
+import android.content.Context;
+import android.util.AtomicFile;
+import android.util.Log;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializer;
+import sprout.app.sakmvp1.models.GraduationRules;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * 조합된 GraduationRules의 디스크 캐시
+ *
+ * 졸업요건 문서 ID("졸업요건_{학부}_{트랙}_{학번}")마다 파일 하나에 JSON으로 저장하고,
+ * 저장 시점 졸업요건 문서의 updatedAt/version 등을 stamp로 함께 기록
+ * 프로세스가 새로 시작돼도 분석 화면을 디스크에서 바로 열 수 있고, 오프라인에서도 동작
+ *
+ * 모든 메서드는 파일 I/O를 하므로 메인 스레드에서 호출하지 말 것
+ */
+public class GraduationRulesDiskCache {
+    private static final String TAG = "GradRulesDiskCache";
+    private static final String DIR_NAME = "graduation_rules";
+
+    /** 저장 형식 버전 (GraduationRules 구조가 바뀌면 올려서 기존 파일을 무시) */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * 디스크에 저장된 항목
+     */
+    public static class Entry {
+        int formatVersion;
+        String stamp;
+        long savedAt;
+        GraduationRules rules;
+
+        public String getStamp() { return stamp; }
+        public long getSavedAt() { return savedAt; }
+        public GraduationRules getRules() { return rules; }
+    }
+
+    private final File dir;
+    private final Gson gson;
+
+    public GraduationRulesDiskCache(Context context) {
+        this.dir = new File(context.getFilesDir(), DIR_NAME);
+        // Date는 기본 직렬화 형식이 로캘에 따라 달라지므로 epoch millis로 저장
+        this.gson = new GsonBuilder()
+            .registerTypeAdapter(Date.class,
+                (JsonSerializer<Date>) (src, type, ctx) -> new JsonPrimitive(src.getTime()))
+            .registerTypeAdapter(Date.class,
+                (JsonDeserializer<Date>) (json, type, ctx) -> new Date(json.getAsLong()))
+            .create();
+    }
+
+    /**
+     * 저장된 규칙 읽기
+     * @return 저장된 항목, 없거나 읽을 수 없으면 null
+     */
+    public Entry read(String gradDocId) {
+        AtomicFile file = fileFor(gradDocId);
+        if (!file.getBaseFile().exists()) {
+            return null;
+        }
+        try {
+            String json = new String(file.readFully(), StandardCharsets.UTF_8);
+            Entry entry = gson.fromJson(json, Entry.class);
+            if (entry == null || entry.rules == null || entry.formatVersion != FORMAT_VERSION) {
+                file.delete();
+                return null;
+            }
+            return entry;
+        } catch (IOException | RuntimeException e) {
+            // 손상된 파일은 지우고 네트워크에서 다시 받음
+            Log.w(TAG, "디스크 캐시 읽기 실패: " + gradDocId, e);
+            file.delete();
+            return null;
+        }
+    }
+
+    /**
+     * 규칙 저장 (임시 파일에 쓴 뒤 교체하므로 중간에 종료돼도 기존 파일이 깨지지 않음)
+     */
+    public void write(String gradDocId, String stamp, GraduationRules rules) {
+        Entry entry = new Entry();
+        entry.formatVersion = FORMAT_VERSION;
+        entry.stamp = stamp;
+        entry.savedAt = System.currentTimeMillis();
+        entry.rules = rules;
+
+        if (!dir.exists() && !dir.mkdirs()) {
+            Log.w(TAG, "디스크 캐시 디렉터리 생성 실패: " + dir);
+            return;
+        }
+
+        AtomicFile file = fileFor(gradDocId);
+        FileOutputStream out = null;
+        try {
+            byte[] bytes = gson.toJson(entry).getBytes(StandardCharsets.UTF_8);
+            out = file.startWrite();
+            out.write(bytes);
+            file.finishWrite(out);
+            Log.d(TAG, "디스크 캐시 저장: " + gradDocId + " (" + bytes.length + " bytes)");
+        } catch (IOException | RuntimeException e) {
+            Log.w(TAG, "디스크 캐시 저장 실패: " + gradDocId, e);
+            if (out != null) {
+                file.failWrite(out);
+            }
+        }
+    }
+
+    public void remove(String gradDocId) {
+        fileFor(gradDocId).delete();
+    }
+
+    public void clear() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                if (!f.delete()) {
+                    Log.w(TAG, "디스크 캐시 파일 삭제 실패: " + f);
+                }
+            }
+        }
+    }
+
+    private AtomicFile fileFor(String gradDocId) {
+        String name;
+        try {
+            name = URLEncoder.encode(gradDocId, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            name = Integer.toHexString(gradDocId.hashCode());
+        }
+        return new AtomicFile(new File(dir, name + ".json"));
+    }
+}
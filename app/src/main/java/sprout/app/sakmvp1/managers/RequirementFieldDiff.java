@@ -0,0 +1,227 @@
+package sprout.app.sakmvp1.managers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 졸업요건 문서 필드의 구조 비교
+ *
+ * 저장된 값과 새 값이 둘 다 Map이면 키별로 내려가며 비교하고, 그 외(List, 숫자, 문자열)는 값 전체를 한 단위로 비교
+ * 결과는 바뀐 가장 깊은 경로 목록이므로 "rules.1학년 1학기.전공필수"처럼 필요한 필드만 갱신할 수 있음
+ * 새 Map에 없는 키는 삭제 항목으로 보고 (문서 구조를 통째로 덮어쓰던 기존 저장과 같은 결과)
+ */
+final class RequirementFieldDiff {
+
+    /** 미리보기에서 한 항목에 나열할 최대 과목 수 */
+    private static final int PREVIEW_MAX_ITEMS = 5;
+
+    private RequirementFieldDiff() {
+    }
+
+    /**
+     * 바뀐 필드 하나
+     */
+    static final class Entry {
+        final List<String> path;
+        final Object before;
+        final Object after;
+        final boolean removed;
+
+        Entry(List<String> path, Object before, Object after, boolean removed) {
+            this.path = Collections.unmodifiableList(new ArrayList<>(path));
+            this.before = before;
+            this.after = after;
+            this.removed = removed;
+        }
+    }
+
+    /**
+     * before(저장된 값)와 after(새 값)를 비교해 바뀐 경로를 out에 추가
+     */
+    static void diff(List<String> path, Object before, Object after, List<Entry> out) {
+        if (sameValue(before, after)) {
+            return;
+        }
+        if (before instanceof Map && after instanceof Map) {
+            Map<?, ?> beforeMap = (Map<?, ?>) before;
+            Map<?, ?> afterMap = (Map<?, ?>) after;
+            for (Map.Entry<?, ?> entry : afterMap.entrySet()) {
+                path.add(String.valueOf(entry.getKey()));
+                diff(path, beforeMap.get(entry.getKey()), entry.getValue(), out);
+                path.remove(path.size() - 1);
+            }
+            for (Map.Entry<?, ?> entry : beforeMap.entrySet()) {
+                if (!afterMap.containsKey(entry.getKey()) && !isEmptyValue(entry.getValue())) {
+                    path.add(String.valueOf(entry.getKey()));
+                    out.add(new Entry(path, entry.getValue(), null, true));
+                    path.remove(path.size() - 1);
+                }
+            }
+            return;
+        }
+        out.add(new Entry(path, before, after, false));
+    }
+
+    /**
+     * 미리보기용 한 줄 설명
+     * 과목 목록은 추가/삭제된 과목만, 값은 "이전 → 이후"로 표시
+     */
+    static String describe(Entry entry) {
+        String label = String.join(" › ", entry.path);
+        if (entry.removed) {
+            return label + ": 삭제";
+        }
+        if (entry.before instanceof List && entry.after instanceof List) {
+            List<?> before = (List<?>) entry.before;
+            List<?> after = (List<?>) entry.after;
+            List<String> parts = new ArrayList<>();
+            appendListChanges(parts, "+", after, before);
+            appendListChanges(parts, "-", before, after);
+            if (parts.isEmpty()) {
+                return label + ": 순서 변경";
+            }
+            return label + ": " + String.join(", ", parts);
+        }
+        if (entry.after instanceof List && isEmptyValue(entry.before)) {
+            List<String> parts = new ArrayList<>();
+            appendListChanges(parts, "+", (List<?>) entry.after, Collections.emptyList());
+            return label + ": " + String.join(", ", parts);
+        }
+        return label + ": " + valueLabel(entry.before) + " → " + valueLabel(entry.after);
+    }
+
+    /** source에는 있고 other에는 없는 원소를 prefix와 함께 추가 (같은 원소가 여러 번이면 개수만큼) */
+    private static void appendListChanges(List<String> parts, String prefix, List<?> source, List<?> other) {
+        List<Object> remaining = new ArrayList<>(other);
+        int shown = 0;
+        int hidden = 0;
+        for (Object element : source) {
+            int match = indexOfSame(remaining, element);
+            if (match >= 0) {
+                remaining.remove(match);
+                continue;
+            }
+            if (shown < PREVIEW_MAX_ITEMS) {
+                parts.add(prefix + elementLabel(element));
+                shown++;
+            } else {
+                hidden++;
+            }
+        }
+        if (hidden > 0) {
+            parts.add(prefix + " 외 " + hidden + "개");
+        }
+    }
+
+    private static int indexOfSame(List<Object> list, Object element) {
+        for (int i = 0; i < list.size(); i++) {
+            if (sameValue(list.get(i), element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** 과목 Map은 이름(학점)으로, 그 외는 값 그대로 */
+    private static String elementLabel(Object element) {
+        if (element instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) element;
+            Object name = firstNonNull(map.get("과목명"), map.get("name"));
+            Object credits = firstNonNull(map.get("학점"), map.get("credit"), map.get("credits"));
+            if (name == null && map.get("discontinuedCourse") instanceof Map) {
+                name = ((Map<?, ?>) map.get("discontinuedCourse")).get("name");
+            }
+            if (name == null && map.get("options") instanceof List) {
+                name = "택1(" + ((List<?>) map.get("options")).size() + "과목)";
+            }
+            if (name != null) {
+                return credits != null ? name + "(" + credits + ")" : String.valueOf(name);
+            }
+        }
+        return valueLabel(element);
+    }
+
+    private static String valueLabel(Object value) {
+        if (value == null) {
+            return "없음";
+        }
+        if (value instanceof List) {
+            return ((List<?>) value).size() + "개 항목";
+        }
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).size() + "개 필드";
+        }
+        return String.valueOf(value);
+    }
+
+    private static Object firstNonNull(Object... values) {
+        for (Object value : values) {
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Firestore에서 읽은 값과 저장할 값 비교
+     * 숫자는 타입과 관계없이 값으로(Firestore는 정수를 Long으로 돌려줌), Map은 순서 무관, List는 순서대로 비교
+     * 없는 필드와 빈 List/Map은 같은 값으로 취급
+     */
+    static boolean sameValue(Object stored, Object value) {
+        if (isEmptyValue(stored) && isEmptyValue(value)) {
+            return true;
+        }
+        if (stored instanceof Number && value instanceof Number) {
+            Number a = (Number) stored;
+            Number b = (Number) value;
+            if (isIntegral(a) && isIntegral(b)) {
+                return a.longValue() == b.longValue();
+            }
+            return Double.compare(a.doubleValue(), b.doubleValue()) == 0;
+        }
+        if (stored instanceof Map && value instanceof Map) {
+            Map<?, ?> a = (Map<?, ?>) stored;
+            Map<?, ?> b = (Map<?, ?>) value;
+            for (Map.Entry<?, ?> entry : b.entrySet()) {
+                if (!sameValue(a.get(entry.getKey()), entry.getValue())) {
+                    return false;
+                }
+            }
+            for (Map.Entry<?, ?> entry : a.entrySet()) {
+                if (!b.containsKey(entry.getKey()) && !isEmptyValue(entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (stored instanceof List && value instanceof List) {
+            List<?> a = (List<?>) stored;
+            List<?> b = (List<?>) value;
+            if (a.size() != b.size()) {
+                return false;
+            }
+            for (int i = 0; i < a.size(); i++) {
+                if (!sameValue(a.get(i), b.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return Objects.equals(stored, value);
+    }
+
+    static boolean isEmptyValue(Object value) {
+        return value == null
+            || (value instanceof List && ((List<?>) value).isEmpty())
+            || (value instanceof Map && ((Map<?, ?>) value).isEmpty());
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Long || number instanceof Integer
+            || number instanceof Short || number instanceof Byte;
+    }
+}
@@ -0,0 +1,371 @@
+package sprout.app.sakmvp1.managers;
+
+import android.util.Log;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldPath;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QueryDocumentSnapshot;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.SetOptions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import sprout.app.sakmvp1.models.Student;
+import sprout.app.sakmvp1.utils.TaskScope;
+
+/**
+ * 학생 목록 페이지 조회 (관리자용)
+ *
+ * - users 컬렉션을 학번/학과/트랙 조건으로 서버에서 걸러 문서 ID 순으로 PAGE_SIZE명씩 조회
+ *   (조건 조합별 복합 색인은 firestore.indexes.json)
+ * - 스피너 값은 admin_stats/student_facets 문서 하나에서 읽음
+ *   { years: [..], departments: [..], tracksByDepartment: { 학과: [..] } }
+ *   학생이 학적 정보를 저장할 때 recordProfile로 값을 추가하고,
+ *   문서가 없으면 처음 한 번만 users 전체를 페이지 단위로 훑어 만듦
+ */
+public class StudentDirectoryManager {
+    private static final String TAG = "StudentDirectoryManager";
+
+    public static final int PAGE_SIZE = 50;
+
+    private static final String FACETS_COLLECTION = "admin_stats";
+    private static final String FACETS_DOCUMENT = "student_facets";
+
+    /** 패싯 문서를 처음 만들 때 한 번에 읽는 학생 수 */
+    private static final int FACET_SCAN_PAGE_SIZE = 500;
+
+    private final FirebaseFirestore db;
+    private final TaskScope scope = new TaskScope();
+
+    // 현재 조회 조건과 다음 페이지 커서 (조건이 바뀌면 generation을 올려 늦게 온 응답은 버림)
+    private Query currentQuery;
+    private DocumentSnapshot lastDocument;
+    private boolean hasMore;
+    private boolean loading;
+    private int generation;
+
+    /**
+     * 조회 조건 (null이면 전체)
+     */
+    public static class Filter {
+        final String studentYear;
+        final String department;
+        final String track;
+
+        public Filter(String studentYear, String department, String track) {
+            this.studentYear = studentYear;
+            this.department = department;
+            this.track = track;
+        }
+    }
+
+    /**
+     * 스피너 값 (모두 정렬됨)
+     */
+    public static class Facets {
+        private final List<String> years;
+        private final List<String> departments;
+        private final Map<String, List<String>> tracksByDepartment;
+
+        Facets(List<String> years, List<String> departments, Map<String, List<String>> tracksByDepartment) {
+            this.years = years;
+            this.departments = departments;
+            this.tracksByDepartment = tracksByDepartment;
+        }
+
+        public List<String> getYears() { return years; }
+        public List<String> getDepartments() { return departments; }
+
+        /** 학과의 트랙 (null이면 모든 학과의 트랙) */
+        public List<String> getTracks(String department) {
+            if (department != null) {
+                List<String> tracks = tracksByDepartment.get(department);
+                return tracks != null ? tracks : Collections.emptyList();
+            }
+            TreeSet<String> all = new TreeSet<>();
+            for (List<String> tracks : tracksByDepartment.values()) {
+                all.addAll(tracks);
+            }
+            return new ArrayList<>(all);
+        }
+    }
+
+    public interface OnPageLoadedListener {
+        /**
+         * @param students 이번 페이지 학생
+         * @param firstPage 새 조건의 첫 페이지면 true (목록을 교체)
+         * @param hasMore 다음 페이지가 있으면 true
+         */
+        void onSuccess(List<Student> students, boolean firstPage, boolean hasMore);
+        void onFailure(Exception e);
+    }
+
+    public interface OnFacetsLoadedListener {
+        void onSuccess(Facets facets);
+        void onFailure(Exception e);
+    }
+
+    public StudentDirectoryManager() {
+        this.db = FirebaseFirestore.getInstance();
+    }
+
+    /**
+     * 새 조건으로 첫 페이지 조회 (진행 중인 이전 조회 결과는 버림)
+     */
+    public void search(Filter filter, OnPageLoadedListener listener) {
+        currentQuery = toQuery(filter).orderBy(FieldPath.documentId());
+        lastDocument = null;
+        hasMore = true;
+        loading = false;
+        generation++;
+        loadPage(listener);
+    }
+
+    private Query toQuery(Filter filter) {
+        Query query = db.collection("users");
+        if (filter.studentYear != null) {
+            query = query.whereEqualTo("studentYear", filter.studentYear);
+        }
+        if (filter.department != null) {
+            query = query.whereEqualTo("department", filter.department);
+        }
+        if (filter.track != null) {
+            query = query.whereEqualTo("track", filter.track);
+        }
+        return query;
+    }
+
+    /**
+     * 다음 페이지 조회 (조회 중이거나 더 없으면 무시)
+     */
+    public void loadNextPage(OnPageLoadedListener listener) {
+        if (currentQuery == null || !hasMore || loading) {
+            return;
+        }
+        loadPage(listener);
+    }
+
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    public boolean isLoading() {
+        return loading;
+    }
+
+    /**
+     * 진행 중인 조회 취소 (Activity 종료 시 호출)
+     */
+    public void shutdown() {
+        scope.cancel();
+    }
+
+    private void loadPage(OnPageLoadedListener listener) {
+        int requestGeneration = generation;
+        boolean firstPage = lastDocument == null;
+        Query pageQuery = firstPage ? currentQuery : currentQuery.startAfter(lastDocument);
+        loading = true;
+
+        scope.bind(pageQuery.limit(PAGE_SIZE).get())
+                .addOnSuccessListener(snapshots -> {
+                    if (requestGeneration != generation) {
+                        return;
+                    }
+                    loading = false;
+                    List<Student> students = new ArrayList<>();
+                    for (QueryDocumentSnapshot document : snapshots) {
+                        students.add(toStudent(document));
+                    }
+                    List<DocumentSnapshot> documents = snapshots.getDocuments();
+                    if (!documents.isEmpty()) {
+                        lastDocument = documents.get(documents.size() - 1);
+                    }
+                    hasMore = documents.size() == PAGE_SIZE;
+                    Log.d(TAG, "학생 페이지 로드: " + students.size() + "명" + (hasMore ? " (다음 페이지 있음)" : ""));
+                    listener.onSuccess(students, firstPage, hasMore);
+                })
+                .addOnFailureListener(e -> {
+                    if (requestGeneration != generation) {
+                        return;
+                    }
+                    loading = false;
+                    Log.e(TAG, "학생 페이지 로드 실패", e);
+                    listener.onFailure(e);
+                });
+    }
+
+    /**
+     * 스피너 값 조회 (패싯 문서가 없으면 한 번 만들어 저장)
+     */
+    public void loadFacets(OnFacetsLoadedListener listener) {
+        scope.bind(loadFacets())
+                .addOnSuccessListener(listener::onSuccess)
+                .addOnFailureListener(e -> {
+                    Log.e(TAG, "학생 패싯 로드 실패", e);
+                    listener.onFailure(e);
+                });
+    }
+
+    public Task<Facets> loadFacets() {
+        DocumentReference facetsRef = db.collection(FACETS_COLLECTION).document(FACETS_DOCUMENT);
+        return facetsRef.get().onSuccessTask(snapshot -> {
+            if (snapshot.exists()) {
+                return Tasks.forResult(toFacets(snapshot.getData()));
+            }
+            Log.d(TAG, "학생 패싯 문서 없음, users에서 생성");
+            return buildFacets(facetsRef);
+        });
+    }
+
+    /**
+     * 조건에 맞는 학생 수 (문서를 받지 않고 count() 집계로)
+     */
+    public Task<Long> count(Filter filter) {
+        return StudentStatsManager.count(toQuery(filter));
+    }
+
+    /**
+     * 학생이 학적 정보를 저장할 때 패싯 문서에 값 추가 (이미 있으면 변화 없음)
+     */
+    public static Task<Void> recordProfile(FirebaseFirestore db, String studentYear, String department, String track) {
+        Map<String, Object> update = new HashMap<>();
+        if (studentYear != null) {
+            update.put("years", FieldValue.arrayUnion(studentYear));
+        }
+        if (department != null) {
+            update.put("departments", FieldValue.arrayUnion(department));
+            if (track != null) {
+                Map<String, Object> tracks = new HashMap<>();
+                tracks.put(department, FieldValue.arrayUnion(track));
+                update.put("tracksByDepartment", tracks);
+            }
+        }
+        if (update.isEmpty()) {
+            return Tasks.forResult(null);
+        }
+        return db.collection(FACETS_COLLECTION).document(FACETS_DOCUMENT)
+                .set(update, SetOptions.merge())
+                .addOnFailureListener(e -> Log.w(TAG, "학생 패싯 갱신 실패", e));
+    }
+
+    /**
+     * users를 페이지 단위로 훑어 패싯 문서 생성 (패싯 문서가 없을 때 한 번만)
+     */
+    private Task<Facets> buildFacets(DocumentReference facetsRef) {
+        TreeSet<String> years = new TreeSet<>();
+        TreeSet<String> departments = new TreeSet<>();
+        Map<String, TreeSet<String>> tracks = new TreeMap<>();
+        return scanUsers(null, years, departments, tracks).onSuccessTask(v -> {
+            Map<String, Object> data = new HashMap<>();
+            data.put("years", new ArrayList<>(years));
+            data.put("departments", new ArrayList<>(departments));
+            Map<String, Object> trackData = new HashMap<>();
+            for (Map.Entry<String, TreeSet<String>> entry : tracks.entrySet()) {
+                trackData.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+            }
+            data.put("tracksByDepartment", trackData);
+            return facetsRef.set(data, SetOptions.merge())
+                    .continueWith(task -> {
+                        if (!task.isSuccessful()) {
+                            Log.w(TAG, "학생 패싯 저장 실패 (이번 조회 결과만 사용)", task.getException());
+                        }
+                        return toFacets(data);
+                    });
+        });
+    }
+
+    private Task<Void> scanUsers(DocumentSnapshot after, TreeSet<String> years, TreeSet<String> departments,
+                                 Map<String, TreeSet<String>> tracks) {
+        Query query = db.collection("users").orderBy(FieldPath.documentId()).limit(FACET_SCAN_PAGE_SIZE);
+        if (after != null) {
+            query = query.startAfter(after);
+        }
+        return query.get().onSuccessTask(snapshots -> {
+            for (QueryDocumentSnapshot document : snapshots) {
+                String studentYear = document.getString("studentYear");
+                String department = document.getString("department");
+                String track = document.getString("track");
+                if (studentYear != null) {
+                    years.add(studentYear);
+                }
+                if (department != null) {
+                    departments.add(department);
+                    if (track != null) {
+                        tracks.computeIfAbsent(department, k -> new TreeSet<>()).add(track);
+                    }
+                }
+            }
+            List<DocumentSnapshot> documents = snapshots.getDocuments();
+            if (documents.size() < FACET_SCAN_PAGE_SIZE) {
+                return Tasks.forResult(null);
+            }
+            return scanUsers(documents.get(documents.size() - 1), years, departments, tracks);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Facets toFacets(Map<String, Object> data) {
+        List<String> years = new ArrayList<>(new TreeSet<>(toStringList(data != null ? data.get("years") : null)));
+        List<String> departments = new ArrayList<>(new TreeSet<>(toStringList(data != null ? data.get("departments") : null)));
+        Map<String, List<String>> tracksByDepartment = new TreeMap<>();
+        Object rawTracks = data != null ? data.get("tracksByDepartment") : null;
+        if (rawTracks instanceof Map) {
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) rawTracks).entrySet()) {
+                tracksByDepartment.put(entry.getKey(), new ArrayList<>(new TreeSet<>(toStringList(entry.getValue()))));
+            }
+        }
+        return new Facets(years, departments, tracksByDepartment);
+    }
+
+    private static List<String> toStringList(Object raw) {
+        List<String> values = new ArrayList<>();
+        if (raw instanceof List) {
+            for (Object value : (List<?>) raw) {
+                if (value instanceof String) {
+                    values.add((String) value);
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * users 문서 → Student
+     */
+    public static Student toStudent(DocumentSnapshot document) {
+        Student student = new Student();
+        student.setUserId(document.getId());
+        student.setStudentYear(document.getString("studentYear"));
+        student.setDepartment(document.getString("department"));
+        student.setTrack(document.getString("track"));
+        student.setName(document.getString("name"));  // name이 null이면 Student.getName()에서 "이름 없음" 반환
+        student.setEmail(document.getString("email"));
+
+        Long updatedAt = document.getLong("updatedAt");
+        if (updatedAt != null) {
+            student.setUpdatedAt(updatedAt);
+        }
+
+        // 졸업요건 검사 이력 데이터
+        Long lastCheckDate = document.getLong("lastGraduationCheckDate");
+        if (lastCheckDate != null) {
+            student.setLastGraduationCheckDate(lastCheckDate);
+            student.setHasGraduationCheckHistory(true);
+        } else {
+            student.setHasGraduationCheckHistory(false);
+        }
+        return student;
+    }
+}
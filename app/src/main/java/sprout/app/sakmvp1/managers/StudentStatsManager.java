@@ -0,0 +1,429 @@
+package sprout.app.sakmvp1.managers;
+
+import android.util.Log;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.AggregateSource;
+import com.google.firebase.firestore.CollectionReference;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QueryDocumentSnapshot;
+import com.google.firebase.firestore.SetOptions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import sprout.app.sakmvp1.utils.TaskScope;
+
+/**
+ * 학생 통계 (관리자 화면 요약용)
+ *
+ * admin_stats/student_counts/shards 컬렉션 하나에 모든 값을 둠
+ *   base      : count() 집계로 다시 계산한 기준 값 (rebuild)
+ *   0 ~ N-1   : 이후 학생 저장마다 더해지는 증감분 (여러 문서에 나눠 써서 쓰기 경합 방지)
+ *   각 문서 { total, graduationChecked, departments: { 학과: n }, years: { 학번: n } }
+ * 요약은 이 컬렉션을 한 번 읽어 합산하고, base가 없거나 REBUILD_INTERVAL_MS보다 오래되면 rebuild
+ *
+ * - total: 학과가 입력된 학생 수
+ * - graduationChecked: lastGraduationCheckDate가 있는 학생 수
+ * 증감분은 saveUserProfile이 users 문서 저장과 같은 트랜잭션에서 이전 값과 비교해 계산하므로,
+ * 이 경로를 거치지 않은 저장(오프라인 대체 저장, 콘솔 수정 등)은 다음 rebuild 때 반영됨
+ */
+public class StudentStatsManager {
+    private static final String TAG = "StudentStatsManager";
+
+    private static final String STATS_COLLECTION = "admin_stats";
+    private static final String COUNTERS_DOCUMENT = "student_counts";
+    private static final String SHARDS_COLLECTION = "shards";
+    private static final String BASE_SHARD = "base";
+    private static final int SHARD_COUNT = 10;
+
+    /** base를 다시 계산하는 주기 (증감분에 빠진 저장으로 어긋난 값을 맞춤) */
+    private static final long REBUILD_INTERVAL_MS = 24L * 60 * 60 * 1000;
+
+    private static final String FIELD_TOTAL = "total";
+    private static final String FIELD_GRADUATION_CHECKED = "graduationChecked";
+    private static final String FIELD_DEPARTMENTS = "departments";
+    private static final String FIELD_YEARS = "years";
+    private static final String FIELD_REBUILT_AT = "rebuiltAt";
+
+    private static final Random RANDOM = new Random();
+
+    private final FirebaseFirestore db;
+    private final TaskScope scope = new TaskScope();
+
+    /**
+     * 학생 통계 요약
+     */
+    public static class Summary {
+        private final long total;
+        private final long graduationChecked;
+        private final Map<String, Long> byDepartment;
+        private final Map<String, Long> byYear;
+
+        Summary(long total, long graduationChecked, Map<String, Long> byDepartment, Map<String, Long> byYear) {
+            this.total = total;
+            this.graduationChecked = graduationChecked;
+            this.byDepartment = byDepartment;
+            this.byYear = byYear;
+        }
+
+        public long getTotal() { return total; }
+        public long getGraduationChecked() { return graduationChecked; }
+        /** 학과 → 학생 수 (많은 순) */
+        public Map<String, Long> getByDepartment() { return byDepartment; }
+        /** 학번 → 학생 수 (학번 순) */
+        public Map<String, Long> getByYear() { return byYear; }
+    }
+
+    public interface OnSummaryLoadedListener {
+        void onSuccess(Summary summary);
+        void onFailure(Exception e);
+    }
+
+    public StudentStatsManager() {
+        this.db = FirebaseFirestore.getInstance();
+    }
+
+    /**
+     * 통계 요약 조회 (shards 컬렉션 한 번 읽기, base가 없거나 오래되면 rebuild)
+     */
+    public void loadSummary(OnSummaryLoadedListener listener) {
+        scope.bind(shardsRef(db).get().onSuccessTask(snapshots -> {
+                    Map<String, Object> base = null;
+                    List<Map<String, Object>> increments = new ArrayList<>();
+                    for (QueryDocumentSnapshot shard : snapshots) {
+                        if (BASE_SHARD.equals(shard.getId())) {
+                            base = shard.getData();
+                        } else {
+                            increments.add(shard.getData());
+                        }
+                    }
+                    if (base == null) {
+                        Log.d(TAG, "기준 통계 없음, count() 집계로 생성");
+                        return rebuild(increments);
+                    }
+                    long age = System.currentTimeMillis() - toLong(base.get(FIELD_REBUILT_AT));
+                    if (age > REBUILD_INTERVAL_MS) {
+                        Log.d(TAG, "기준 통계가 오래됨 (" + age / 60_000 + "분), count() 집계로 재계산");
+                        return rebuild(increments);
+                    }
+                    List<Map<String, Object>> shards = new ArrayList<>(increments);
+                    shards.add(base);
+                    return Tasks.forResult(sum(shards));
+                }))
+                .addOnSuccessListener(listener::onSuccess)
+                .addOnFailureListener(e -> {
+                    Log.e(TAG, "학생 통계 로드 실패", e);
+                    listener.onFailure(e);
+                });
+    }
+
+    /**
+     * count() 집계로 기준 값을 다시 계산하고 증감분 문서를 비움 (관리자 새로고침 등)
+     */
+    public Task<Summary> rebuild() {
+        return shardsRef(db).get().onSuccessTask(snapshots -> {
+            List<Map<String, Object>> increments = new ArrayList<>();
+            for (QueryDocumentSnapshot shard : snapshots) {
+                if (!BASE_SHARD.equals(shard.getId())) {
+                    increments.add(shard.getData());
+                }
+            }
+            return rebuild(increments);
+        });
+    }
+
+    /**
+     * count() 집계로 기준 값을 다시 계산하고 증감분 문서를 비움
+     * (학과/학번 목록은 StudentDirectoryManager의 패싯 문서 사용)
+     *
+     * 집계 중에도 saveUserProfile이 증감분을 더할 수 있으므로, 증감분 문서를 트랜잭션에서 다시 읽어
+     * 집계 전에 읽은 값(before)보다 늘어난 만큼을 새 base에 더한 뒤 비움 (그 사이 증감분을 잃지 않도록)
+     */
+    private Task<Summary> rebuild(List<Map<String, Object>> before) {
+        CollectionReference users = db.collection("users");
+        Task<Long> totalTask = count(users.whereGreaterThan("department", ""));
+        Task<Long> checkedTask = count(users.whereGreaterThan("lastGraduationCheckDate", 0));
+
+        return new StudentDirectoryManager().loadFacets().onSuccessTask(facets -> {
+            Map<String, Task<Long>> departmentTasks = new LinkedHashMap<>();
+            for (String department : facets.getDepartments()) {
+                departmentTasks.put(department, count(users.whereEqualTo("department", department)));
+            }
+            Map<String, Task<Long>> yearTasks = new LinkedHashMap<>();
+            for (String year : facets.getYears()) {
+                yearTasks.put(year, count(users.whereEqualTo("studentYear", year)));
+            }
+            List<Task<Long>> all = new ArrayList<>();
+            all.add(totalTask);
+            all.add(checkedTask);
+            all.addAll(departmentTasks.values());
+            all.addAll(yearTasks.values());
+
+            return Tasks.whenAllSuccess(all).onSuccessTask(done -> {
+                Map<String, Object> counted = new HashMap<>();
+                counted.put(FIELD_TOTAL, totalTask.getResult());
+                counted.put(FIELD_GRADUATION_CHECKED, checkedTask.getResult());
+                counted.put(FIELD_DEPARTMENTS, results(departmentTasks));
+                counted.put(FIELD_YEARS, results(yearTasks));
+                Log.d(TAG, "학생 통계 재계산: 집계 " + all.size() + "회");
+
+                return db.runTransaction(tx -> {
+                    List<DocumentReference> shardRefs = new ArrayList<>(SHARD_COUNT);
+                    List<Map<String, Object>> current = new ArrayList<>(SHARD_COUNT);
+                    for (int i = 0; i < SHARD_COUNT; i++) {
+                        DocumentReference shardRef = shardsRef(db).document(String.valueOf(i));
+                        shardRefs.add(shardRef);
+                        current.add(tx.get(shardRef).getData());
+                    }
+                    // 새 base = 집계 값 + (지금 증감분 - 집계 전 증감분)
+                    Counts base = new Counts();
+                    base.add(counted, 1);
+                    for (Map<String, Object> shard : current) {
+                        base.add(shard, 1);
+                    }
+                    for (Map<String, Object> shard : before) {
+                        base.add(shard, -1);
+                    }
+                    Map<String, Object> baseData = base.toMap();
+                    baseData.put(FIELD_REBUILT_AT, System.currentTimeMillis());
+
+                    tx.set(shardsRef(db).document(BASE_SHARD), baseData);
+                    for (DocumentReference shardRef : shardRefs) {
+                        tx.delete(shardRef);
+                    }
+                    return baseData;
+                }).continueWith(task -> {
+                    if (!task.isSuccessful()) {
+                        Log.w(TAG, "학생 통계 저장 실패 (이번 계산 결과만 사용)", task.getException());
+                        return sum(Collections.singletonList(counted));
+                    }
+                    return sum(Collections.singletonList(task.getResult()));
+                });
+            });
+        });
+    }
+
+    /**
+     * 진행 중인 조회 취소 (Activity 종료 시 호출)
+     */
+    public void shutdown() {
+        scope.cancel();
+    }
+
+    /**
+     * 문서를 받지 않고 count() 집계로 개수 조회
+     */
+    public static Task<Long> count(Query query) {
+        return query.count().get(AggregateSource.SERVER)
+                .continueWith(task -> {
+                    if (!task.isSuccessful()) {
+                        throw task.getException();
+                    }
+                    return task.getResult().getCount();
+                });
+    }
+
+    /**
+     * users/{userId}를 merge로 저장하면서 같은 트랜잭션에서 통계 증감분 기록
+     * (트랜잭션이 실패하면(오프라인 등) 통계 없이 저장만 하고, 어긋난 값은 다음 rebuild 때 맞춰짐)
+     */
+    public static Task<Void> saveUserProfile(FirebaseFirestore db, String userId, Map<String, Object> fields) {
+        DocumentReference userRef = db.collection("users").document(userId);
+        DocumentReference shardRef = shardsRef(db).document(String.valueOf(RANDOM.nextInt(SHARD_COUNT)));
+
+        Task<Void> transaction = db.runTransaction(tx -> {
+            DocumentSnapshot snapshot = tx.get(userRef);
+            Contribution before = Contribution.of(snapshot.exists() ? snapshot.getData() : null);
+            Map<String, Object> merged = new HashMap<>();
+            if (snapshot.exists() && snapshot.getData() != null) {
+                merged.putAll(snapshot.getData());
+            }
+            merged.putAll(fields);
+            Contribution after = Contribution.of(merged);
+
+            tx.set(userRef, fields, SetOptions.merge());
+            Map<String, Object> delta = before.deltaTo(after);
+            if (!delta.isEmpty()) {
+                tx.set(shardRef, delta, SetOptions.merge());
+            }
+            return null;
+        });
+
+        return transaction.continueWithTask(task -> {
+            if (task.isSuccessful()) {
+                return Tasks.forResult(null);
+            }
+            Log.w(TAG, "통계 트랜잭션 실패, 통계 없이 저장", task.getException());
+            return userRef.set(fields, SetOptions.merge());
+        });
+    }
+
+    private static CollectionReference shardsRef(FirebaseFirestore db) {
+        return db.collection(STATS_COLLECTION).document(COUNTERS_DOCUMENT).collection(SHARDS_COLLECTION);
+    }
+
+    private static Map<String, Object> results(Map<String, Task<Long>> tasks) {
+        Map<String, Object> values = new HashMap<>();
+        for (Map.Entry<String, Task<Long>> entry : tasks.entrySet()) {
+            values.put(entry.getKey(), entry.getValue().getResult());
+        }
+        return values;
+    }
+
+    /**
+     * base + 증감분 문서 합산
+     */
+    private static Summary sum(List<Map<String, Object>> shards) {
+        Counts counts = new Counts();
+        for (Map<String, Object> shard : shards) {
+            counts.add(shard, 1);
+        }
+        Map<String, Long> byDepartment = counts.byDepartment;
+        Map<String, Long> byYear = counts.byYear;
+
+        List<Map.Entry<String, Long>> departments = new ArrayList<>(byDepartment.entrySet());
+        departments.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        Map<String, Long> sortedDepartments = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : departments) {
+            if (entry.getValue() > 0) {
+                sortedDepartments.put(entry.getKey(), entry.getValue());
+            }
+        }
+        List<String> years = new ArrayList<>(byYear.keySet());
+        Collections.sort(years);
+        Map<String, Long> sortedYears = new LinkedHashMap<>();
+        for (String year : years) {
+            if (byYear.get(year) > 0) {
+                sortedYears.put(year, byYear.get(year));
+            }
+        }
+        return new Summary(counts.total, counts.graduationChecked, sortedDepartments, sortedYears);
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    /**
+     * 통계 문서(base/증감분) 값을 더하고 빼는 합계
+     */
+    private static class Counts {
+        long total;
+        long graduationChecked;
+        final Map<String, Long> byDepartment = new HashMap<>();
+        final Map<String, Long> byYear = new HashMap<>();
+
+        /** sign: 1이면 더하고 -1이면 뺌 (null 문서는 무시) */
+        void add(Map<String, Object> shard, int sign) {
+            if (shard == null) {
+                return;
+            }
+            total += sign * toLong(shard.get(FIELD_TOTAL));
+            graduationChecked += sign * toLong(shard.get(FIELD_GRADUATION_CHECKED));
+            addAll(byDepartment, shard.get(FIELD_DEPARTMENTS), sign);
+            addAll(byYear, shard.get(FIELD_YEARS), sign);
+        }
+
+        /** base 문서 형식 (값이 0인 학과/학번은 뺌) */
+        Map<String, Object> toMap() {
+            Map<String, Object> data = new HashMap<>();
+            data.put(FIELD_TOTAL, total);
+            data.put(FIELD_GRADUATION_CHECKED, graduationChecked);
+            data.put(FIELD_DEPARTMENTS, nonZero(byDepartment));
+            data.put(FIELD_YEARS, nonZero(byYear));
+            return data;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static void addAll(Map<String, Long> target, Object raw, int sign) {
+            if (!(raw instanceof Map)) {
+                return;
+            }
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) raw).entrySet()) {
+                target.merge(entry.getKey(), sign * toLong(entry.getValue()), Long::sum);
+            }
+        }
+
+        private static Map<String, Object> nonZero(Map<String, Long> values) {
+            Map<String, Object> result = new HashMap<>();
+            for (Map.Entry<String, Long> entry : values.entrySet()) {
+                if (entry.getValue() != 0) {
+                    result.put(entry.getKey(), entry.getValue());
+                }
+            }
+            return result;
+        }
+    }
+
+
+    /**
+     * 학생 한 명이 통계에 기여하는 값
+     */
+    private static class Contribution {
+        final String department;
+        final String studentYear;
+        final boolean graduationChecked;
+
+        private Contribution(String department, String studentYear, boolean graduationChecked) {
+            this.department = department;
+            this.studentYear = studentYear;
+            this.graduationChecked = graduationChecked;
+        }
+
+        static Contribution of(Map<String, Object> data) {
+            if (data == null) {
+                return new Contribution(null, null, false);
+            }
+            Object department = data.get("department");
+            Object studentYear = data.get("studentYear");
+            return new Contribution(
+                    department instanceof String && !((String) department).isEmpty() ? (String) department : null,
+                    studentYear instanceof String ? (String) studentYear : null,
+                    data.get("lastGraduationCheckDate") != null);
+        }
+
+        /**
+         * this → after 로 바뀔 때의 증감분 (FieldValue.increment, 변화 없으면 빈 맵)
+         */
+        Map<String, Object> deltaTo(Contribution after) {
+            Map<String, Object> delta = new HashMap<>();
+            boolean counted = department != null;
+            boolean counts = after.department != null;
+            if (counted != counts) {
+                delta.put(FIELD_TOTAL, FieldValue.increment(counts ? 1 : -1));
+            }
+            if (graduationChecked != after.graduationChecked) {
+                delta.put(FIELD_GRADUATION_CHECKED, FieldValue.increment(after.graduationChecked ? 1 : -1));
+            }
+            putMoved(delta, FIELD_DEPARTMENTS, department, after.department);
+            putMoved(delta, FIELD_YEARS, studentYear, after.studentYear);
+            return delta;
+        }
+
+        private static void putMoved(Map<String, Object> delta, String field, String from, String to) {
+            if (Objects.equals(from, to)) {
+                return;
+            }
+            Map<String, Object> moves = new HashMap<>();
+            if (from != null) {
+                moves.put(from, FieldValue.increment(-1));
+            }
+            if (to != null) {
+                moves.put(to, FieldValue.increment(1));
+            }
+            delta.put(field, moves);
+        }
+    }
+}
@@ -18,7 +18,6 @@ import android.widget.Toast;
 
 import androidx.appcompat.app.AppCompatActivity;
 
-import java.util.ArrayList;
 import java.util.Random;
 
 import sprout.app.sakmvp1.BaseActivity;
@@ -38,11 +37,11 @@ public class AddScheduleActivity extends BaseActivity {
     private static final int START_TIME_HOUR = 9;
     private static final int END_TIME_HOUR = 18;
 
-    // 수업 정보를 저장할 데이터 리스트
-    private ArrayList<ScheduleData> scheduleList = new ArrayList<>();
+    // 수업 정보를 저장할 요일별 구간 색인
+    private final ScheduleIndex<ScheduleData> scheduleIndex = new ScheduleIndex<>();
 
     // 수업 정보를 담을 간단한 내부 클래스
-    private static class ScheduleData {
+    private static class ScheduleData implements ScheduleIndex.TimeRange {
         int dayIndex; // 0=월, 1=화...
         int startTotalMinutes;
         int endTotalMinutes;
@@ -52,6 +51,10 @@ public class AddScheduleActivity extends BaseActivity {
             this.startTotalMinutes = startHour * 60 + startMinute;
             this.endTotalMinutes = endHour * 60 + endMinute;
         }
+
+        @Override public int getDayIndex() { return dayIndex; }
+        @Override public int getStartTotalMinutes() { return startTotalMinutes; }
+        @Override public int getEndTotalMinutes() { return endTotalMinutes; }
     }
 
     @Override
@@ -195,16 +198,8 @@ public class AddScheduleActivity extends BaseActivity {
         int newStartTotalMinutes = newStartHour * 60 + newStartMinute;
         int newEndTotalMinutes = newEndHour * 60 + newEndMinute;
 
-        for (ScheduleData existingSchedule : scheduleList) {
-            // 1. 요일이 같은지 확인
-            if (existingSchedule.dayIndex == newDay) {
-                // 2. 시간이 겹치는지 확인 (새 수업 시작시간 < 기존 수업 종료시간 AND 새 수업 종료시간 > 기존 수업 시작시간)
-                if (newStartTotalMinutes < existingSchedule.endTotalMinutes && newEndTotalMinutes > existingSchedule.startTotalMinutes) {
-                    return true; // 시간이 겹칩니다!
-                }
-            }
-        }
-        return false; // 겹치는 시간이 없습니다.
+        // 같은 요일에서 (새 수업 시작시간 < 기존 수업 종료시간 AND 새 수업 종료시간 > 기존 수업 시작시간)인 수업이 있는지 확인
+        return scheduleIndex.overlaps(newDay, newStartTotalMinutes, newEndTotalMinutes);
     }
 
     private void addScheduleBlockToView() {
@@ -243,7 +238,7 @@ public class AddScheduleActivity extends BaseActivity {
 
         // 겹치지 않아 정상 추가된 경우, 데이터 리스트에도 저장합니다.
         ScheduleData newScheduleData = new ScheduleData(dayIndex, startHour, startMinute, endHour, endMinute);
-        scheduleList.add(newScheduleData);
+        scheduleIndex.add(newScheduleData);
 
         Toast.makeText(this, "수업이 추가되었습니다.", Toast.LENGTH_SHORT).show();
     }
@@ -9,6 +9,8 @@ import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 import androidx.core.content.ContextCompat;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import java.time.LocalDate;
@@ -17,10 +19,13 @@ import java.util.List;
 
 import sprout.app.sakmvp1.R;
 
-public class CalendarAdapter extends RecyclerView.Adapter<CalendarAdapter.DayViewHolder> {
-
-    private final ArrayList<LocalDate> days;
-    private final List<CalendarEvent> events;
+/**
+ * 월간 달력 그리드 어댑터
+ *
+ * 날짜 칸마다 그날 표시할 일정을 미리 묶은 DayCell 목록을 submitList로 받고,
+ * DiffUtil로 바뀐 칸만 다시 그림 (달 이동/일정 동기화 때 어댑터를 새로 만들지 않음)
+ */
+public class CalendarAdapter extends ListAdapter<CalendarAdapter.DayCell, CalendarAdapter.DayViewHolder> {
 
     // [추가됨] 클릭 리스너 인터페이스 정의
     public interface OnEventClickListener {
@@ -28,13 +33,106 @@ public class CalendarAdapter extends RecyclerView.Adapter<CalendarAdapter.DayVie
     }
     private final OnEventClickListener listener;
 
-    // 생성자 수정 (리스너 받도록)
-    public CalendarAdapter(ArrayList<LocalDate> days, List<CalendarEvent> events, OnEventClickListener listener) {
-        this.days = days;
-        this.events = events;
+    /**
+     * 달력 한 칸 (date가 null이면 첫 주 앞쪽 빈칸)
+     */
+    public static class DayCell {
+        final int position;
+        final LocalDate date;
+        final List<CalendarEvent> events;
+        // 칸 내용 요약 (DiffUtil 내용 비교용, 클릭 시 넘기는 일정 정보까지 포함)
+        final String signature;
+
+        DayCell(int position, LocalDate date, List<CalendarEvent> events) {
+            this.position = position;
+            this.date = date;
+            this.events = events;
+            StringBuilder sb = new StringBuilder();
+            for (CalendarEvent event : events) {
+                sb.append(event.documentId).append('|').append(event.title).append('|')
+                        .append(event.startDate).append('|').append(event.endDate).append('|')
+                        .append(event.startTime).append('|').append(event.endTime).append('|')
+                        .append(event.description).append('|').append(event.isYearly).append('|')
+                        .append(event.color).append(';');
+            }
+            this.signature = sb.toString();
+        }
+    }
+
+    private static final DiffUtil.ItemCallback<DayCell> DIFF_CALLBACK = new DiffUtil.ItemCallback<DayCell>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull DayCell oldItem, @NonNull DayCell newItem) {
+            return oldItem.date == null || newItem.date == null
+                    ? oldItem.date == newItem.date && oldItem.position == newItem.position
+                    : oldItem.date.equals(newItem.date);
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull DayCell oldItem, @NonNull DayCell newItem) {
+            return oldItem.signature.equals(newItem.signature);
+        }
+    };
+
+    public CalendarAdapter(OnEventClickListener listener) {
+        super(DIFF_CALLBACK);
         this.listener = listener;
     }
 
+    /**
+     * 한 달 칸 목록 생성 (days: 빈칸은 null, 일정은 날짜마다 한 번만 걸러 둠)
+     */
+    public static List<DayCell> buildCells(List<LocalDate> days, List<CalendarEvent> events) {
+        // 이 달에 걸친 일정만 먼저 추림 (로컬에는 다른 달 일정도 쌓여 있음)
+        LocalDate first = null, last = null;
+        for (LocalDate date : days) {
+            if (date != null) {
+                if (first == null) first = date;
+                last = date;
+            }
+        }
+        List<CalendarEvent> monthEvents = new ArrayList<>();
+        for (CalendarEvent event : events) {
+            if (event.startDate == null || event.endDate == null) continue;
+            if (event.isYearly || first == null
+                    || (!event.getEndLocalDate().isBefore(first) && !event.getStartLocalDate().isAfter(last))) {
+                monthEvents.add(event);
+            }
+        }
+
+        List<DayCell> cells = new ArrayList<>(days.size());
+        for (int i = 0; i < days.size(); i++) {
+            LocalDate date = days.get(i);
+            List<CalendarEvent> dayEvents = new ArrayList<>();
+            if (date != null) {
+                for (CalendarEvent event : monthEvents) {
+                    if (occursOn(event, date)) {
+                        dayEvents.add(event);
+                    }
+                }
+            }
+            cells.add(new DayCell(i, date, dayEvents));
+        }
+        return cells;
+    }
+
+    private static boolean occursOn(CalendarEvent event, LocalDate date) {
+        LocalDate start = event.getStartLocalDate();
+        LocalDate end = event.getEndLocalDate();
+
+        if (event.isYearly) {
+            // [매년 반복] 연도 무시하고 월/일만 비교
+            // 현재 날짜(date)의 연도를 일정의 연도로 바꿔서 비교 (가상의 날짜 생성)
+            LocalDate virtualDate = date.withYear(start.getYear());
+
+            // 가상 날짜가 시작일~종료일 사이에 있는지 확인
+            return (virtualDate.isEqual(start) || virtualDate.isAfter(start)) &&
+                    (virtualDate.isEqual(end) || virtualDate.isBefore(end));
+        }
+        // [일반] 정확한 날짜 비교
+        return (date.isEqual(start) || date.isAfter(start)) &&
+                (date.isEqual(end) || date.isBefore(end));
+    }
+
     @NonNull
     @Override
     public DayViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
@@ -47,42 +145,17 @@ public class CalendarAdapter extends RecyclerView.Adapter<CalendarAdapter.DayVie
 
     @Override
     public void onBindViewHolder(@NonNull DayViewHolder holder, int position) {
-        LocalDate date = days.get(position);
+        DayCell cell = getItem(position);
         holder.eventLayout.removeAllViews();
 
-        if (date == null) {
+        if (cell.date == null) {
             holder.dayText.setText("");
             return;
         }
-        holder.dayText.setText(String.valueOf(date.getDayOfMonth()));
-
-        for (CalendarEvent event : events) {
-            LocalDate start = event.getStartLocalDate();
-            LocalDate end = event.getEndLocalDate();
+        holder.dayText.setText(String.valueOf(cell.date.getDayOfMonth()));
 
-            boolean isInclude = false;
-
-            if (event.isYearly) {
-                // [매년 반복] 연도 무시하고 월/일만 비교
-                // 현재 날짜(date)의 연도를 일정의 연도로 바꿔서 비교 (가상의 날짜 생성)
-                LocalDate virtualDate = date.withYear(start.getYear());
-
-                // 가상 날짜가 시작일~종료일 사이에 있는지 확인
-                if ((virtualDate.isEqual(start) || virtualDate.isAfter(start)) &&
-                        (virtualDate.isEqual(end) || virtualDate.isBefore(end))) {
-                    isInclude = true;
-                }
-            } else {
-                // [일반] 정확한 날짜 비교
-                if ((date.isEqual(start) || date.isAfter(start)) &&
-                        (date.isEqual(end) || date.isBefore(end))) {
-                    isInclude = true;
-                }
-            }
-
-            if (isInclude) {
-                addEventBar(holder, date, event);
-            }
+        for (CalendarEvent event : cell.events) {
+            addEventBar(holder, cell.date, event);
         }
     }
 
@@ -130,9 +203,6 @@ public class CalendarAdapter extends RecyclerView.Adapter<CalendarAdapter.DayVie
         holder.eventLayout.addView(bar);
     }
 
-    @Override
-    public int getItemCount() { return days.size(); }
-
     static class DayViewHolder extends RecyclerView.ViewHolder {
         TextView dayText;
         LinearLayout eventLayout;
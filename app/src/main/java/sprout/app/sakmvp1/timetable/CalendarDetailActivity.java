@@ -19,10 +19,13 @@ import com.google.android.material.appbar.MaterialToolbar;
 import com.google.android.material.button.MaterialButton;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.firestore.CollectionReference; // [필수 임포트]
+import com.google.firebase.firestore.FieldValue;
 import com.google.firebase.firestore.FirebaseFirestore;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
 
 import sprout.app.sakmvp1.BaseActivity;
@@ -45,6 +48,8 @@ public class CalendarDetailActivity extends BaseActivity {
 
     // [중요] 저장할 위치(경로)를 담아둘 변수
     private CollectionReference eventsCollectionRef;
+    // 그룹 캘린더면 그룹 ID (일정에 groupId/days 색인을 함께 저장)
+    private String groupId;
 
     @Override
     protected void onCreate(@Nullable Bundle savedInstanceState) {
@@ -132,6 +137,7 @@ public class CalendarDetailActivity extends BaseActivity {
         if (isGroupCalendar) {
             // 그룹 캘린더 경로: groups -> {그룹ID} -> calendar_events
             eventsCollectionRef = db.collection("groups").document(calendarId).collection("calendar_events");
+            groupId = calendarId;
         } else {
             // 내 캘린더 경로: users -> {내ID} -> calendar_events
             eventsCollectionRef = db.collection("users").document(userId).collection("calendar_events");
@@ -224,18 +230,36 @@ public class CalendarDetailActivity extends BaseActivity {
 
             CalendarEvent newEvent = new CalendarEvent(title, tempStartDate.toString(), tempEndDate.toString(),
                     startTimeStr, endTimeStr, editDesc.getText().toString(), randomColor, isYearly);
+            newEvent.months = CalendarEventStore.monthBuckets(newEvent.startDate, newEvent.endDate);
+            if (groupId != null) {
+                newEvent.groupId = groupId;
+                newEvent.days = GroupEventRepository.dayBuckets(newEvent.startDate, newEvent.endDate);
+            }
 
             // [수정됨] setupCalendarPath에서 만든 경로(eventsCollectionRef)에 바로 추가
             eventsCollectionRef.add(newEvent)
-                    .addOnSuccessListener(doc -> finish());
+                    .addOnSuccessListener(doc -> onEventChanged());
         } else {
             // [수정]
+            Map<String, Object> updates = new HashMap<>();
+            updates.put("title", title);
+            updates.put("description", editDesc.getText().toString());
+            updates.put("startDate", tempStartDate.toString());
+            updates.put("endDate", tempEndDate.toString());
+            updates.put("startTime", startTimeStr);
+            updates.put("endTime", endTimeStr);
+            updates.put("isYearly", isYearly);
+            updates.put(CalendarEventStore.FIELD_MONTHS,
+                    CalendarEventStore.monthBuckets(tempStartDate.toString(), tempEndDate.toString()));
+            updates.put(CalendarEventStore.FIELD_UPDATED_AT, FieldValue.serverTimestamp());
+            if (groupId != null) {
+                updates.put(GroupEventRepository.FIELD_GROUP_ID, groupId);
+                updates.put(GroupEventRepository.FIELD_DAYS,
+                        GroupEventRepository.dayBuckets(tempStartDate.toString(), tempEndDate.toString()));
+            }
             eventsCollectionRef.document(currentEvent.documentId)
-                    .update("title", title, "description", editDesc.getText().toString(),
-                            "startDate", tempStartDate.toString(), "endDate", tempEndDate.toString(),
-                            "startTime", startTimeStr, "endTime", endTimeStr,
-                            "isYearly", isYearly)
-                    .addOnSuccessListener(v -> finish());
+                    .update(updates)
+                    .addOnSuccessListener(v -> onEventChanged());
         }
     }
 
@@ -246,6 +270,16 @@ public class CalendarDetailActivity extends BaseActivity {
         // [수정됨] 설정된 경로에서 삭제
         eventsCollectionRef.document(currentEvent.documentId)
                 .delete()
-                .addOnSuccessListener(v -> finish());
+                .addOnSuccessListener(v -> {
+                    CalendarEventStore.get(this, userId, groupId).removeLocal(currentEvent.documentId);
+                    onEventChanged();
+                });
+    }
+
+    private void onEventChanged() {
+        if (groupId != null) {
+            GroupEventRepository.getInstance().invalidate();
+        }
+        finish();
     }
 }
\ No newline at end of file
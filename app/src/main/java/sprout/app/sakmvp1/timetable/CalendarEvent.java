@@ -1,7 +1,11 @@
 package sprout.app.sakmvp1.timetable;
 
+import com.google.firebase.firestore.ServerTimestamp;
+
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
 
 public class CalendarEvent implements Serializable {
     public String documentId;
@@ -13,6 +17,11 @@ public class CalendarEvent implements Serializable {
     public String description;
     public int color;
     public boolean isYearly;    // [추가] 매년 반복 여부
+    public String groupId;      // 그룹 일정일 때만 (날짜 색인 조회용)
+    public List<String> days;   // 일정이 걸친 날짜들 "2025-11-10", ... (GroupEventRepository.dayBuckets)
+    public List<String> months; // 일정이 걸친 달들 "2025-11", ... (CalendarEventStore.monthBuckets)
+    @ServerTimestamp
+    public Date updatedAt;      // 마지막 수정 시각 (변경분 동기화용, 저장 시 서버가 채움)
 
     public CalendarEvent() {}
 
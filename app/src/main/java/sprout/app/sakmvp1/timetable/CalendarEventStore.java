@@ -0,0 +1,412 @@
+package sprout.app.sakmvp1.timetable;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.CollectionReference;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.QueryDocumentSnapshot;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.WriteBatch;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import sprout.app.sakmvp1.utils.RecordStore;
+
+/**
+ * 캘린더 하나(내 캘린더 또는 그룹 캘린더)의 일정 저장소
+ *
+ * - 일정 문서에 걸친 달 목록(months: ["2025-11", ...])을 저장해 두고, 보고 있는 달 ±1개월만 조회
+ *   (whereArrayContainsAny("months", ...)), 매년 반복 일정은 따로 한 번 조회
+ * - 받은 일정은 RecordStore에 캘린더별로 저장해 다음에 열 때 바로 표시
+ * - 상세 화면에서 돌아오면 updatedAt이 마지막 동기화 이후인 일정만 다시 받음
+ * - months가 없는 예전 일정은 캘린더마다 한 번만 전체를 읽어 채워 넣음
+ *   채워 넣기는 기다리지 않으며(오프라인이면 서버 응답이 오지 않으므로), 소유 문서에 색인 버전이
+ *   기록되기 전까지는 전체 일정을 받아 날짜로 걸러 표시
+ *
+ * 다른 사람이 지운 일정은 그 달을 이번 실행에서 처음 조회할 때 반영됨
+ */
+public class CalendarEventStore {
+    private static final String TAG = "CalendarEventStore";
+
+    public static final String FIELD_MONTHS = "months";
+    public static final String FIELD_UPDATED_AT = "updatedAt";
+
+    /** 캘린더 소유 문서(users/{uid}, groups/{id})에 기록하는 달 색인 버전 */
+    private static final String FIELD_INDEX_VERSION = "eventMonthIndexVersion";
+    private static final long INDEX_VERSION = 1;
+
+    /** 보고 있는 달 앞뒤로 미리 받아 둘 개월 수 */
+    private static final int WINDOW_RADIUS = 1;
+
+    /** months에 기록하는 최대 개월 수 */
+    private static final int MAX_INDEXED_MONTHS = 24;
+
+    /** whereArrayContainsAny 값 개수 제한 */
+    private static final int ARRAY_CONTAINS_ANY_LIMIT = 30;
+
+    private static final int BATCH_LIMIT = 500;
+
+    private static final String PREF_NAME = "calendar_event_sync";
+    private static final String RECORD_DIR = "calendar_events";
+
+    private static final Map<String, CalendarEventStore> INSTANCES = new HashMap<>();
+
+    private final DocumentReference ownerRef;
+    private final CollectionReference eventsRef;
+    private final RecordStore<CalendarEvent> cache;
+    private final SharedPreferences prefs;
+    private final String syncKey;
+
+    // 아래 상태는 메인 스레드에서만 사용 (이번 실행 동안 서버 기준으로 맞춘 범위)
+    private final Set<YearMonth> loadedMonths = new HashSet<>();
+    private final Set<YearMonth> loadingMonths = new HashSet<>();
+    private boolean yearlyLoaded;
+    private boolean monthIndexed;
+    private Task<Void> backfillTask;
+
+    private CalendarEventStore(Context context, FirebaseFirestore db, String ownerCollection, String ownerId) {
+        ownerRef = db.collection(ownerCollection).document(ownerId);
+        eventsRef = ownerRef.collection("calendar_events");
+        syncKey = ownerCollection + "_" + ownerId;
+        prefs = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+        cache = RecordStore.open(new File(context.getFilesDir(), RECORD_DIR + "/" + syncKey + ".log"),
+                new CalendarEventCodec(), null);
+    }
+
+    /**
+     * 캘린더 저장소 (같은 캘린더는 같은 인스턴스)
+     *
+     * @param groupId 그룹 캘린더면 그룹 ID, 내 캘린더면 null
+     */
+    public static synchronized CalendarEventStore get(Context context, String userId, String groupId) {
+        String ownerCollection = groupId != null ? "groups" : "users";
+        String ownerId = groupId != null ? groupId : userId;
+        String key = ownerCollection + "/" + ownerId;
+        CalendarEventStore store = INSTANCES.get(key);
+        if (store == null) {
+            store = new CalendarEventStore(context.getApplicationContext(), FirebaseFirestore.getInstance(),
+                    ownerCollection, ownerId);
+            INSTANCES.put(key, store);
+        }
+        return store;
+    }
+
+    /**
+     * 일정이 걸친 달 목록 ("yyyy-MM", 최대 MAX_INDEXED_MONTHS개)
+     */
+    public static List<String> monthBuckets(String startDate, String endDate) {
+        List<String> months = new ArrayList<>();
+        if (startDate == null || endDate == null) {
+            return months;
+        }
+        try {
+            YearMonth month = YearMonth.from(LocalDate.parse(startDate));
+            YearMonth end = YearMonth.from(LocalDate.parse(endDate));
+            while (!month.isAfter(end) && months.size() < MAX_INDEXED_MONTHS) {
+                months.add(month.toString());
+                month = month.plusMonths(1);
+            }
+        } catch (DateTimeParseException e) {
+            Log.w(TAG, "날짜 형식 오류: " + startDate + " ~ " + endDate);
+        }
+        return months;
+    }
+
+    /**
+     * 로컬에 있는 일정 전체 (첫 호출은 파일 읽기를 기다림)
+     */
+    public List<CalendarEvent> getEvents() {
+        return cache.values();
+    }
+
+    /**
+     * 상세 화면에서 지운 일정을 로컬에서도 제거
+     */
+    public void removeLocal(String documentId) {
+        if (documentId != null) {
+            cache.remove(documentId);
+        }
+    }
+
+    /**
+     * center 달 ±WINDOW_RADIUS개월 중 이번 실행에서 아직 받지 않은 달만 조회
+     */
+    public Task<Void> loadWindow(YearMonth center) {
+        List<YearMonth> missing = new ArrayList<>();
+        for (int offset = -WINDOW_RADIUS; offset <= WINDOW_RADIUS; offset++) {
+            YearMonth month = center.plusMonths(offset);
+            if (!loadedMonths.contains(month) && !loadingMonths.contains(month)) {
+                missing.add(month);
+            }
+        }
+        boolean needYearly = !yearlyLoaded;
+        if (missing.isEmpty() && !needYearly) {
+            return Tasks.forResult(null);
+        }
+        loadingMonths.addAll(missing);
+
+        return checkMonthIndex()
+                .onSuccessTask(indexed -> {
+                    if (!indexed) {
+                        return loadUnindexed(missing, needYearly);
+                    }
+                    List<Task<Void>> loads = new ArrayList<>();
+                    for (int i = 0; i < missing.size(); i += ARRAY_CONTAINS_ANY_LIMIT) {
+                        loads.add(loadMonths(missing.subList(i, Math.min(i + ARRAY_CONTAINS_ANY_LIMIT, missing.size()))));
+                    }
+                    if (needYearly) {
+                        loads.add(loadYearly());
+                    }
+                    return Tasks.whenAll(loads);
+                })
+                .addOnCompleteListener(task -> loadingMonths.removeAll(missing));
+    }
+
+    /**
+     * 화면을 열거나 돌아왔을 때 갱신: 마지막 동기화 이후 수정/추가된 일정(updatedAt 기준)과
+     * 아직 받지 않은 앞뒤 달만 조회 (updatedAt을 본 적이 없는 캘린더는 보고 있는 범위를 다시 조회)
+     */
+    public Task<Void> refresh(YearMonth center) {
+        long lastSync = prefs.getLong(syncKey, 0);
+        if (lastSync == 0) {
+            loadedMonths.clear();
+            yearlyLoaded = false;
+            return loadWindow(center);
+        }
+        Task<Void> changes = eventsRef.whereGreaterThan(FIELD_UPDATED_AT, new Date(lastSync))
+                .get()
+                .onSuccessTask(snapshots -> {
+                    for (QueryDocumentSnapshot doc : snapshots) {
+                        putEvent(doc);
+                    }
+                    Log.d(TAG, syncKey + " 변경분 " + snapshots.size() + "건");
+                    return Tasks.forResult(null);
+                });
+        return Tasks.whenAll(changes, loadWindow(center));
+    }
+
+    private Task<Void> loadMonths(List<YearMonth> months) {
+        List<String> keys = new ArrayList<>();
+        for (YearMonth month : months) {
+            keys.add(month.toString());
+        }
+        return eventsRef.whereArrayContainsAny(FIELD_MONTHS, keys)
+                .get()
+                .onSuccessTask(snapshots -> {
+                    // 받은 달에 걸친 일정은 서버 결과로 교체 (그사이 삭제된 일정 제거)
+                    Set<String> received = new HashSet<>();
+                    for (QueryDocumentSnapshot doc : snapshots) {
+                        received.add(putEvent(doc).documentId);
+                    }
+                    for (CalendarEvent cached : cache.values()) {
+                        if (!cached.isYearly && !received.contains(cached.documentId) && overlaps(cached, months)) {
+                            cache.remove(cached.documentId);
+                        }
+                    }
+                    loadedMonths.addAll(months);
+                    Log.d(TAG, syncKey + " " + keys + " 일정 " + snapshots.size() + "건");
+                    return Tasks.forResult(null);
+                });
+    }
+
+    private Task<Void> loadYearly() {
+        return eventsRef.whereEqualTo("isYearly", true)
+                .get()
+                .onSuccessTask(snapshots -> {
+                    Set<String> received = new HashSet<>();
+                    for (QueryDocumentSnapshot doc : snapshots) {
+                        received.add(putEvent(doc).documentId);
+                    }
+                    for (CalendarEvent cached : cache.values()) {
+                        if (cached.isYearly && !received.contains(cached.documentId)) {
+                            cache.remove(cached.documentId);
+                        }
+                    }
+                    yearlyLoaded = true;
+                    return Tasks.forResult(null);
+                });
+    }
+
+    /**
+     * 달 색인이 없는 캘린더: 전체 일정을 받아 요청한 달(과 매년 반복 일정)만 저장하고 채워 넣기 시작
+     */
+    private Task<Void> loadUnindexed(List<YearMonth> months, boolean withYearly) {
+        return eventsRef.get()
+                .onSuccessTask(snapshots -> {
+                    Set<String> received = new HashSet<>();
+                    for (QueryDocumentSnapshot doc : snapshots) {
+                        CalendarEvent event = toEvent(doc);
+                        if (event.isYearly ? withYearly : overlaps(event, months)) {
+                            putEvent(event);
+                            received.add(event.documentId);
+                        }
+                    }
+                    for (CalendarEvent cached : cache.values()) {
+                        boolean inRange = cached.isYearly ? withYearly : overlaps(cached, months);
+                        if (inRange && !received.contains(cached.documentId)) {
+                            cache.remove(cached.documentId);
+                        }
+                    }
+                    loadedMonths.addAll(months);
+                    if (withYearly) {
+                        yearlyLoaded = true;
+                    }
+                    Log.d(TAG, syncKey + " 색인 없이 " + months + " 일정 " + received.size() + "/" + snapshots.size() + "건");
+                    startBackfill(snapshots);
+                    return Tasks.forResult(null);
+                });
+    }
+
+    private CalendarEvent putEvent(QueryDocumentSnapshot doc) {
+        CalendarEvent event = toEvent(doc);
+        putEvent(event);
+        return event;
+    }
+
+    private static CalendarEvent toEvent(QueryDocumentSnapshot doc) {
+        CalendarEvent event = doc.toObject(CalendarEvent.class);
+        event.documentId = doc.getId();
+        return event;
+    }
+
+    /**
+     * 일정을 로컬에 저장하고 마지막 동기화 시각 갱신
+     */
+    private void putEvent(CalendarEvent event) {
+        cache.put(event.documentId, event);
+        if (event.updatedAt != null && event.updatedAt.getTime() > prefs.getLong(syncKey, 0)) {
+            prefs.edit().putLong(syncKey, event.updatedAt.getTime()).apply();
+        }
+    }
+
+    private static boolean overlaps(CalendarEvent event, List<YearMonth> months) {
+        try {
+            YearMonth start = YearMonth.from(event.getStartLocalDate());
+            YearMonth end = YearMonth.from(event.getEndLocalDate());
+            for (YearMonth month : months) {
+                if (!month.isBefore(start) && !month.isAfter(end)) {
+                    return true;
+                }
+            }
+        } catch (RuntimeException e) {
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 소유 문서에 달 색인 버전이 기록되어 있는지 (기록된 것을 본 뒤에는 다시 읽지 않음)
+     */
+    private Task<Boolean> checkMonthIndex() {
+        if (monthIndexed) {
+            return Tasks.forResult(true);
+        }
+        return ownerRef.get().onSuccessTask(owner -> {
+            Long version = owner.getLong(FIELD_INDEX_VERSION);
+            monthIndexed = version != null && version >= INDEX_VERSION;
+            return Tasks.forResult(monthIndexed);
+        });
+    }
+
+    /**
+     * 채워 넣기 시작 (진행 중이거나 이미 끝났으면 무시, 실패하면 다음 조회 때 다시 시도)
+     */
+    private void startBackfill(QuerySnapshot snapshots) {
+        if (backfillTask != null && (!backfillTask.isComplete() || backfillTask.isSuccessful())) {
+            return;
+        }
+        backfillTask = backfillMonths(snapshots)
+                .addOnFailureListener(e -> Log.w(TAG, syncKey + " 달 색인 채우기 실패", e));
+    }
+
+    /**
+     * months가 없는 예전 일정에 months/updatedAt를 채우고 소유 문서에 색인 버전 기록 (캘린더당 한 번)
+     */
+    private Task<Void> backfillMonths(QuerySnapshot snapshots) {
+        FirebaseFirestore db = FirebaseFirestore.getInstance();
+        List<Task<Void>> commits = new ArrayList<>();
+        WriteBatch batch = db.batch();
+        int pending = 0;
+        int updated = 0;
+        for (QueryDocumentSnapshot doc : snapshots) {
+            if (doc.contains(FIELD_MONTHS)) {
+                continue;
+            }
+            updated++;
+            batch.update(doc.getReference(),
+                    FIELD_MONTHS, monthBuckets(doc.getString("startDate"), doc.getString("endDate")),
+                    FIELD_UPDATED_AT, FieldValue.serverTimestamp());
+            if (++pending == BATCH_LIMIT - 1) {
+                commits.add(batch.commit());
+                batch = db.batch();
+                pending = 0;
+            }
+        }
+        batch.update(ownerRef, FIELD_INDEX_VERSION, INDEX_VERSION);
+        commits.add(batch.commit());
+        Log.d(TAG, syncKey + " 달 색인 채움: " + updated + "/" + snapshots.size() + "건");
+        return Tasks.whenAll(commits);
+    }
+
+    /**
+     * CalendarEvent ↔ 바이트 (필드 순서대로 기록, 형식이 바뀌면 VERSION을 올리고 read에서 분기)
+     */
+    private static class CalendarEventCodec implements RecordStore.Codec<CalendarEvent> {
+        private static final int VERSION = 1;
+
+        @Override
+        public void write(DataOutputStream out, CalendarEvent event) throws IOException {
+            out.writeByte(VERSION);
+            RecordStore.writeNullableString(out, event.documentId);
+            RecordStore.writeNullableString(out, event.title);
+            RecordStore.writeNullableString(out, event.startDate);
+            RecordStore.writeNullableString(out, event.endDate);
+            RecordStore.writeNullableString(out, event.startTime);
+            RecordStore.writeNullableString(out, event.endTime);
+            RecordStore.writeNullableString(out, event.description);
+            out.writeInt(event.color);
+            out.writeBoolean(event.isYearly);
+            out.writeLong(event.updatedAt != null ? event.updatedAt.getTime() : 0);
+        }
+
+        @Override
+        public CalendarEvent read(DataInputStream in) throws IOException {
+            int version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 일정 형식: " + version);
+            }
+            CalendarEvent event = new CalendarEvent();
+            event.documentId = RecordStore.readNullableString(in);
+            event.title = RecordStore.readNullableString(in);
+            event.startDate = RecordStore.readNullableString(in);
+            event.endDate = RecordStore.readNullableString(in);
+            event.startTime = RecordStore.readNullableString(in);
+            event.endTime = RecordStore.readNullableString(in);
+            event.description = RecordStore.readNullableString(in);
+            event.color = in.readInt();
+            event.isYearly = in.readBoolean();
+            long updatedAt = in.readLong();
+            event.updatedAt = updatedAt != 0 ? new Date(updatedAt) : null;
+            return event;
+        }
+    }
+}
@@ -17,21 +17,19 @@ import androidx.appcompat.app.AppCompatActivity;
 import androidx.recyclerview.widget.GridLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
+import com.google.android.gms.tasks.Task;
 import com.google.android.material.appbar.MaterialToolbar;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.firestore.CollectionReference; // [필수 임포트]
-import com.google.firebase.firestore.FirebaseFirestore;
-import com.google.firebase.firestore.QueryDocumentSnapshot;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.List;
 
 import sprout.app.sakmvp1.BaseActivity;
 import sprout.app.sakmvp1.R;
+import sprout.app.sakmvp1.utils.TaskScope;
 
 public class CommonCalendarActivity extends BaseActivity {
 
@@ -41,17 +39,17 @@ public class CommonCalendarActivity extends BaseActivity {
     private FloatingActionButton fabAddEvent;
     private ImageButton btnPrevMonth, btnNextMonth;
 
-    private FirebaseFirestore db;
     private String userId; // 내 ID
     private String currentCalendarId; // 현재 보고 있는 캘린더 ID (내 ID 혹은 그룹 ID)
-    private List<CalendarEvent> allEvents = new ArrayList<>();
+    private CalendarEventStore eventStore; // 보고 있는 달 ±1개월 조회 + 로컬 캐시
+    private CalendarAdapter adapter;
+    private TaskScope taskScope;
 
     @Override
     protected void onCreate(@Nullable Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_common_calendar);
 
-        db = FirebaseFirestore.getInstance();
         if (FirebaseAuth.getInstance().getCurrentUser() != null) {
             userId = FirebaseAuth.getInstance().getCurrentUser().getUid();
         } else { finish(); return; }
@@ -63,6 +61,8 @@ public class CommonCalendarActivity extends BaseActivity {
         } else {
             currentCalendarId = userId; // 내 캘린더
         }
+        eventStore = CalendarEventStore.get(this, userId, groupId);
+        taskScope = TaskScope.of(this);
 
         MaterialToolbar toolbar = findViewById(R.id.toolbar);
         setSupportActionBar(toolbar);
@@ -77,6 +77,18 @@ public class CommonCalendarActivity extends BaseActivity {
         btnNextMonth = findViewById(R.id.btnNextMonth);
         selectedDate = LocalDate.now();
 
+        adapter = new CalendarAdapter(event -> {
+            // 일정 수정 화면으로 이동
+            Intent intent = new Intent(this, CalendarDetailActivity.class);
+            intent.putExtra("event_data", event);
+            // 수정 시에도 이 이벤트가 어느 캘린더 소속인지 알려줘야 함
+            intent.putExtra("IS_GROUP_CALENDAR", !currentCalendarId.equals(userId));
+            intent.putExtra("CALENDAR_ID_TO_SAVE", currentCalendarId);
+            startActivity(intent);
+        });
+        recyclerCalendar.setLayoutManager(new GridLayoutManager(this, 7));
+        recyclerCalendar.setAdapter(adapter);
+
         // 새 글 쓰기
         fabAddEvent.setOnClickListener(v -> {
             Intent intent = new Intent(this, CalendarDetailActivity.class);
@@ -88,11 +100,11 @@ public class CommonCalendarActivity extends BaseActivity {
 
         btnPrevMonth.setOnClickListener(v -> {
             selectedDate = selectedDate.minusMonths(1);
-            updateCalendarView();
+            onMonthChanged();
         });
         btnNextMonth.setOnClickListener(v -> {
             selectedDate = selectedDate.plusMonths(1);
-            updateCalendarView();
+            onMonthChanged();
         });
         textMonthYear.setOnClickListener(v -> showYearMonthPicker());
     }
@@ -100,7 +112,9 @@ public class CommonCalendarActivity extends BaseActivity {
     @Override
     protected void onResume() {
         super.onResume();
-        loadEventsFromFirestore(); // 화면 돌아올 때마다 새로고침
+        // 로컬에 있던 일정을 바로 그리고, 바뀐 일정 + 아직 안 받은 앞뒤 달만 조회
+        updateCalendarView();
+        handleLoad(eventStore.refresh(YearMonth.from(selectedDate)));
     }
 
     @Override
@@ -114,52 +128,27 @@ public class CommonCalendarActivity extends BaseActivity {
     }
 
     /**
-     * [수정됨] Firestore 로드 경로를 올바르게 수정
+     * 달이 바뀌면 로컬 일정으로 먼저 그리고, 앞뒤 달까지 아직 안 받은 달만 조회
      */
-    private void loadEventsFromFirestore() {
-        CollectionReference eventsCollectionRef; // [수정] 경로를 담을 변수
-
-        if (currentCalendarId.equals(userId)) {
-            // "내 캘린더": users -> {내ID} -> calendar_events
-            eventsCollectionRef = db.collection("users").document(userId).collection("calendar_events");
-        } else {
-            // "그룹 캘린더": groups -> {그룹ID} -> calendar_events
-            eventsCollectionRef = db.collection("groups").document(currentCalendarId).collection("calendar_events");
-        }
+    private void onMonthChanged() {
+        updateCalendarView();
+        handleLoad(eventStore.loadWindow(YearMonth.from(selectedDate)));
+    }
 
-        // [수정] 올바른 경로(eventsCollectionRef)에서 데이터 가져오기
-        eventsCollectionRef.get()
-                .addOnSuccessListener(qs -> {
-                    allEvents.clear();
-                    for (QueryDocumentSnapshot doc : qs) {
-                        CalendarEvent ev = doc.toObject(CalendarEvent.class);
-                        ev.documentId = doc.getId();
-                        allEvents.add(ev);
-                    }
-                    updateCalendarView(); // 캘린더 UI 갱신
-                })
+    private void handleLoad(Task<Void> load) {
+        taskScope.bind(load)
+                .addOnSuccessListener(v -> updateCalendarView())
                 .addOnFailureListener(e -> {
-                    Toast.makeText(this, "일정을 불러오는데 실패했습니다.", Toast.LENGTH_SHORT).show();
-                    allEvents.clear();
-                    updateCalendarView();
+                    if (!taskScope.isCancelled()) {
+                        Toast.makeText(this, "일정을 불러오는데 실패했습니다.", Toast.LENGTH_SHORT).show();
+                    }
                 });
     }
 
     private void updateCalendarView() {
         textMonthYear.setText(selectedDate.format(DateTimeFormatter.ofPattern("yyyy년 MM월")));
         ArrayList<LocalDate> days = daysInMonthArray(selectedDate);
-
-        CalendarAdapter adapter = new CalendarAdapter(days, allEvents, event -> {
-            // 일정 수정 화면으로 이동
-            Intent intent = new Intent(this, CalendarDetailActivity.class);
-            intent.putExtra("event_data", event);
-            // 수정 시에도 이 이벤트가 어느 캘린더 소속인지 알려줘야 함
-            intent.putExtra("IS_GROUP_CALENDAR", !currentCalendarId.equals(userId));
-            intent.putExtra("CALENDAR_ID_TO_SAVE", currentCalendarId);
-            startActivity(intent);
-        });
-        recyclerCalendar.setLayoutManager(new GridLayoutManager(this, 7));
-        recyclerCalendar.setAdapter(adapter);
+        adapter.submitList(CalendarAdapter.buildCells(days, eventStore.getEvents()));
     }
 
     // (showYearMonthPicker, daysInMonthArray 메서드는 변경 없음)
@@ -176,7 +165,7 @@ public class CommonCalendarActivity extends BaseActivity {
         AlertDialog dialog = builder.create();
         view.findViewById(R.id.btnDialogConfirm).setOnClickListener(v -> {
             selectedDate = LocalDate.of(pickerYear.getValue(), pickerMonth.getValue(), 1);
-            updateCalendarView();
+            onMonthChanged();
             dialog.dismiss();
         });
         view.findViewById(R.id.btnDialogCancel).setOnClickListener(v -> dialog.dismiss());
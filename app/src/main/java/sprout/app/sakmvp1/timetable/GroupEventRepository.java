@@ -0,0 +1,341 @@
+package sprout.app.sakmvp1.timetable;
+
+import android.util.Log;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.QueryDocumentSnapshot;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.WriteBatch;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import sprout.app.sakmvp1.utils.CacheStore;
+
+/**
+ * 날짜별 그룹 일정 조회 (체크리스트 화면용)
+ *
+ * 그룹 일정 문서에 일정이 걸친 날짜 목록(days: ["2025-11-10", ...])과 groupId를 함께 저장해 두고,
+ * 특정 날짜의 일정은 calendar_events 컬렉션 그룹에 대한 쿼리 한 번으로 가져옴
+ *   collectionGroup("calendar_events").whereArrayContains("days", 날짜).whereIn("groupId", 내 그룹들)
+ * (firestore.indexes.json의 calendar_events 컬렉션 그룹 색인 필요)
+ *
+ * - 내 그룹 목록과 날짜별 결과는 메모리에 잠시 캐시 (일정 저장/삭제 시 invalidate())
+ * - days 필드가 없는 예전 일정은 그룹마다 한 번만 전체를 읽어 채워 넣음(backfill)
+ *   채워 넣기는 기다리지 않고 시작만 하며(오프라인이면 서버 응답이 오지 않으므로),
+ *   그룹 문서에 색인 버전이 기록되기 전까지 그 그룹은 그룹별 조회로 읽어 색인 쿼리 결과와 합침
+ * - 컬렉션 그룹 쿼리가 실패하면(색인 배포 전 등) 그룹별 조회 방식으로 대체
+ */
+public class GroupEventRepository {
+    private static final String TAG = "GroupEventRepository";
+
+    public static final String FIELD_DAYS = "days";
+    public static final String FIELD_GROUP_ID = "groupId";
+
+    /** 그룹 문서에 기록하는 날짜 색인 버전 (이 값 이상이면 모든 일정에 days가 있음) */
+    private static final String FIELD_INDEX_VERSION = "eventDayIndexVersion";
+    private static final long INDEX_VERSION = 1;
+
+    /** days에 기록하는 최대 일수 (이보다 긴 일정은 앞부분만 색인) */
+    public static final int MAX_INDEXED_DAYS = 366;
+
+    /** whereIn 값 개수 제한 */
+    private static final int WHERE_IN_LIMIT = 30;
+
+    /** Firestore batch 쓰기 제한 */
+    private static final int BATCH_LIMIT = 500;
+
+    private static final long CACHE_TTL_MS = 5 * 60 * 1000;
+
+    private static GroupEventRepository instance;
+
+    private final FirebaseFirestore db;
+    private final CacheStore cacheStore = new CacheStore();
+    private final CacheStore.Namespace<MyGroups> groupsCache;
+    private final CacheStore.Namespace<List<DayEvent>> dayCache;
+
+    /** 채워 넣기가 진행 중인 그룹 (같은 그룹을 동시에 두 번 채우지 않도록, 메인 스레드에서만 사용) */
+    private final Set<String> backfillsInFlight = new HashSet<>();
+
+    /**
+     * 내 그룹 ID → 이름, 그리고 날짜 색인이 끝난 그룹 ID
+     */
+    private static class MyGroups {
+        final Map<String, String> names = new LinkedHashMap<>();
+        final Set<String> indexed = new HashSet<>();
+
+        boolean isFullyIndexed() {
+            return indexed.size() == names.size();
+        }
+    }
+
+    /**
+     * 특정 날짜의 그룹 일정 한 건
+     */
+    public static class DayEvent {
+        public String id;
+        public String groupId;
+        public String groupName;
+        public String title;
+        public String startTime;
+        public String endTime;
+        public String description;
+    }
+
+    public interface OnDayEventsLoadedListener {
+        void onSuccess(List<DayEvent> events);
+        void onFailure(Exception e);
+    }
+
+    private GroupEventRepository() {
+        db = FirebaseFirestore.getInstance();
+        groupsCache = cacheStore.namespace("myGroups", CACHE_TTL_MS, 8, CacheStore.unitWeigher());
+        dayCache = cacheStore.namespace("groupEventsByDay", CACHE_TTL_MS, 62, CacheStore.unitWeigher());
+    }
+
+    public static synchronized GroupEventRepository getInstance() {
+        if (instance == null) {
+            instance = new GroupEventRepository();
+        }
+        return instance;
+    }
+
+    // ---------- 쓰기 쪽 도우미 ----------
+
+    /**
+     * 일정이 걸친 날짜 목록 ("yyyy-MM-dd", 최대 MAX_INDEXED_DAYS일)
+     */
+    public static List<String> dayBuckets(String startDate, String endDate) {
+        List<String> days = new ArrayList<>();
+        if (startDate == null || endDate == null) {
+            return days;
+        }
+        try {
+            LocalDate day = LocalDate.parse(startDate);
+            LocalDate end = LocalDate.parse(endDate);
+            while (!day.isAfter(end) && days.size() < MAX_INDEXED_DAYS) {
+                days.add(day.toString());
+                day = day.plusDays(1);
+            }
+        } catch (DateTimeParseException e) {
+            Log.w(TAG, "날짜 형식 오류: " + startDate + " ~ " + endDate);
+        }
+        return days;
+    }
+
+    /**
+     * 일정이 추가/수정/삭제되어 캐시를 비움
+     */
+    public void invalidate() {
+        dayCache.clear();
+    }
+
+    // ---------- 조회 ----------
+
+    /**
+     * 내가 속한 그룹들의 dateKey("yyyy-MM-dd") 일정 조회
+     */
+    public void loadEventsForDay(String userId, String dateKey, OnDayEventsLoadedListener listener) {
+        String cacheKey = userId + "|" + dateKey;
+        List<DayEvent> cached = dayCache.get(cacheKey);
+        if (cached != null) {
+            listener.onSuccess(cached);
+            return;
+        }
+
+        loadMyGroups(userId)
+                .onSuccessTask(groups -> groups.names.isEmpty()
+                        ? Tasks.forResult(Collections.<DayEvent>emptyList())
+                        : queryDay(groups, dateKey))
+                .addOnSuccessListener(events -> {
+                    List<DayEvent> result = Collections.unmodifiableList(new ArrayList<>(events));
+                    dayCache.put(cacheKey, result);
+                    listener.onSuccess(result);
+                })
+                .addOnFailureListener(listener::onFailure);
+    }
+
+    /**
+     * 내 그룹 목록 (날짜 색인이 없는 그룹은 채워 넣기를 시작만 하고 기다리지 않음)
+     * 모든 그룹의 색인이 끝난 경우에만 캐시 (아니면 다음 조회에서 색인 버전을 다시 확인)
+     */
+    private Task<MyGroups> loadMyGroups(String userId) {
+        MyGroups cached = groupsCache.get(userId);
+        if (cached != null) {
+            return Tasks.forResult(cached);
+        }
+
+        return db.collection("groups")
+                .whereArrayContains("members", userId)
+                .get()
+                .onSuccessTask(groupSnapshots -> {
+                    MyGroups groups = new MyGroups();
+                    for (QueryDocumentSnapshot groupDoc : groupSnapshots) {
+                        groups.names.put(groupDoc.getId(), groupDoc.getString("name"));
+                        Long version = groupDoc.getLong(FIELD_INDEX_VERSION);
+                        if (version != null && version >= INDEX_VERSION) {
+                            groups.indexed.add(groupDoc.getId());
+                        } else {
+                            startBackfill(groupDoc.getId());
+                        }
+                    }
+                    if (groups.isFullyIndexed()) {
+                        groupsCache.put(userId, groups);
+                    }
+                    return Tasks.forResult(groups);
+                });
+    }
+
+    /**
+     * 색인이 끝난 그룹은 날짜 색인 쿼리로, 아직인 그룹은 그룹별 조회로 읽어 합침
+     */
+    private Task<List<DayEvent>> queryDay(MyGroups groups, String dateKey) {
+        Map<String, String> indexed = new LinkedHashMap<>();
+        Map<String, String> unindexed = new LinkedHashMap<>();
+        for (Map.Entry<String, String> group : groups.names.entrySet()) {
+            (groups.indexed.contains(group.getKey()) ? indexed : unindexed).put(group.getKey(), group.getValue());
+        }
+
+        List<Task<List<DayEvent>>> parts = new ArrayList<>();
+        if (!indexed.isEmpty()) {
+            parts.add(queryDayIndexed(indexed, dateKey));
+        }
+        if (!unindexed.isEmpty()) {
+            parts.add(queryDayPerGroup(unindexed, dateKey));
+        }
+        return Tasks.<List<DayEvent>>whenAllSuccess(parts).continueWith(task -> {
+            List<DayEvent> events = new ArrayList<>();
+            for (List<DayEvent> part : task.getResult()) {
+                events.addAll(part);
+            }
+            return events;
+        });
+    }
+
+    /**
+     * 날짜 색인 쿼리 (그룹이 30개를 넘으면 30개씩 나눠 조회)
+     */
+    private Task<List<DayEvent>> queryDayIndexed(Map<String, String> groups, String dateKey) {
+        List<String> groupIds = new ArrayList<>(groups.keySet());
+        List<Task<QuerySnapshot>> queries = new ArrayList<>();
+        for (int i = 0; i < groupIds.size(); i += WHERE_IN_LIMIT) {
+            List<String> chunk = groupIds.subList(i, Math.min(i + WHERE_IN_LIMIT, groupIds.size()));
+            queries.add(db.collectionGroup("calendar_events")
+                    .whereArrayContains(FIELD_DAYS, dateKey)
+                    .whereIn(FIELD_GROUP_ID, new ArrayList<>(chunk))
+                    .get());
+        }
+
+        return Tasks.<QuerySnapshot>whenAllSuccess(queries)
+                .continueWithTask(task -> {
+                    if (!task.isSuccessful()) {
+                        Log.w(TAG, "날짜 색인 쿼리 실패, 그룹별 조회로 대체", task.getException());
+                        return queryDayPerGroup(groups, dateKey);
+                    }
+                    List<DayEvent> events = new ArrayList<>();
+                    for (QuerySnapshot result : task.getResult()) {
+                        for (QueryDocumentSnapshot eventDoc : result) {
+                            String groupId = eventDoc.getString(FIELD_GROUP_ID);
+                            events.add(toDayEvent(eventDoc, groupId, groups.get(groupId)));
+                        }
+                    }
+                    Log.d(TAG, dateKey + " 그룹 일정 " + events.size() + "건 (쿼리 " + queries.size() + "회)");
+                    return Tasks.forResult(events);
+                });
+    }
+
+    /**
+     * 색인 쿼리를 쓸 수 없을 때의 예전 방식 (그룹마다 전체 일정을 받아 날짜 비교)
+     */
+    private Task<List<DayEvent>> queryDayPerGroup(Map<String, String> groups, String dateKey) {
+        List<String> groupIds = new ArrayList<>(groups.keySet());
+        List<Task<QuerySnapshot>> queries = new ArrayList<>();
+        for (String groupId : groupIds) {
+            queries.add(db.collection("groups").document(groupId).collection("calendar_events").get());
+        }
+        return Tasks.whenAllComplete(queries).continueWith(done -> {
+            List<DayEvent> events = new ArrayList<>();
+            for (int i = 0; i < queries.size(); i++) {
+                Task<QuerySnapshot> query = queries.get(i);
+                if (!query.isSuccessful()) {
+                    continue;
+                }
+                String groupId = groupIds.get(i);
+                for (QueryDocumentSnapshot eventDoc : query.getResult()) {
+                    String startDate = eventDoc.getString("startDate");
+                    String endDate = eventDoc.getString("endDate");
+                    if (startDate != null && endDate != null
+                            && dateKey.compareTo(startDate) >= 0 && dateKey.compareTo(endDate) <= 0) {
+                        events.add(toDayEvent(eventDoc, groupId, groups.get(groupId)));
+                    }
+                }
+            }
+            return events;
+        });
+    }
+
+    /**
+     * 채워 넣기 시작 (이미 진행 중이면 무시)
+     * 성공하면 그룹 문서에 색인 버전이 남으므로 다음 그룹 목록 조회부터 색인 쿼리를 사용
+     * 실패하면 다음 조회 때 다시 시도
+     */
+    private void startBackfill(String groupId) {
+        if (!backfillsInFlight.add(groupId)) {
+            return;
+        }
+        backfillGroup(groupId).addOnCompleteListener(task -> backfillsInFlight.remove(groupId));
+    }
+
+    /**
+     * 그룹의 예전 일정에 days/groupId를 채우고 그룹 문서에 색인 버전 기록 (그룹당 한 번)
+     */
+    private Task<Void> backfillGroup(String groupId) {
+        return db.collection("groups").document(groupId).collection("calendar_events")
+                .get()
+                .onSuccessTask(eventSnapshots -> {
+                    List<Task<Void>> commits = new ArrayList<>();
+                    WriteBatch batch = db.batch();
+                    int pending = 0;
+                    for (QueryDocumentSnapshot eventDoc : eventSnapshots) {
+                        if (eventDoc.contains(FIELD_DAYS) && groupId.equals(eventDoc.getString(FIELD_GROUP_ID))) {
+                            continue;
+                        }
+                        batch.update(eventDoc.getReference(),
+                                FIELD_DAYS, dayBuckets(eventDoc.getString("startDate"), eventDoc.getString("endDate")),
+                                FIELD_GROUP_ID, groupId);
+                        if (++pending == BATCH_LIMIT - 1) {
+                            commits.add(batch.commit());
+                            batch = db.batch();
+                            pending = 0;
+                        }
+                    }
+                    batch.update(db.collection("groups").document(groupId), FIELD_INDEX_VERSION, INDEX_VERSION);
+                    commits.add(batch.commit());
+                    Log.d(TAG, "그룹 일정 날짜 색인 채움: " + groupId + " (" + eventSnapshots.size() + "건 확인)");
+                    return Tasks.whenAll(commits);
+                })
+                .addOnFailureListener(e -> Log.w(TAG, "그룹 일정 날짜 색인 채우기 실패: " + groupId, e));
+    }
+
+    private static DayEvent toDayEvent(DocumentSnapshot eventDoc, String groupId, String groupName) {
+        DayEvent event = new DayEvent();
+        event.id = eventDoc.getId();
+        event.groupId = groupId;
+        event.groupName = groupName;
+        event.title = eventDoc.getString("title");
+        event.startTime = eventDoc.getString("startTime");
+        event.endTime = eventDoc.getString("endTime");
+        event.description = eventDoc.getString("description");
+        return event;
+    }
+}
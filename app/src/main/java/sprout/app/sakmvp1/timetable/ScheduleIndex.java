@@ -0,0 +1,457 @@
+package sprout.app.sakmvp1.timetable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요일별 시간 구간 색인 (시간표 충돌 검사, 요일별 일정 조회, 빈 시간 조회)
+ *
+ * 요일마다 시작 시간 순으로 정렬된 균형 이진 트리(AVL)를 두고, 각 노드에 하위 트리의 최대 종료 시간을 저장
+ * 겹침 검사는 O(log n), 겹치는 일정 k개 조회는 O(log n + k)
+ * 구간은 [시작, 종료) 반열린 구간이므로 10:00에 끝나는 수업과 10:00에 시작하는 수업은 겹치지 않음
+ *
+ * 같은 객체를 두 번 추가할 수 없으며, 삭제는 객체 동일성(==)으로 찾음
+ * 스레드 안전하지 않으므로 메인 스레드에서만 사용할 것
+ */
+public final class ScheduleIndex<T extends ScheduleIndex.TimeRange> {
+
+    /** 요일 수 (0=월 ... 6=일) */
+    public static final int DAYS = 7;
+
+    /**
+     * 색인에 넣을 수 있는 시간 구간
+     */
+    public interface TimeRange {
+        /** 요일 (0=월, 1=화 ... 6=일) */
+        int getDayIndex();
+        /** 시작 시간 (자정부터 분) */
+        int getStartTotalMinutes();
+        /** 종료 시간 (자정부터 분, 시작보다 커야 함) */
+        int getEndTotalMinutes();
+    }
+
+    /**
+     * 빈 시간 구간 [start, end)
+     */
+    public static final class FreeSlot {
+        private final int dayIndex;
+        private final int start;
+        private final int end;
+
+        FreeSlot(int dayIndex, int start, int end) {
+            this.dayIndex = dayIndex;
+            this.start = start;
+            this.end = end;
+        }
+
+        public int getDayIndex() { return dayIndex; }
+        public int getStartTotalMinutes() { return start; }
+        public int getEndTotalMinutes() { return end; }
+        public int getLengthMinutes() { return end - start; }
+
+        @Override
+        public String toString() {
+            return String.format(java.util.Locale.US, "%02d:%02d-%02d:%02d", start / 60, start % 60, end / 60, end % 60);
+        }
+    }
+
+    private static final class Node<T> {
+        final T value;
+        final int start;
+        final int end;
+        final long seq;     // 시작/종료가 같은 구간의 순서 구분용
+        int maxEnd;
+        int height = 1;
+        Node<T> left;
+        Node<T> right;
+
+        Node(T value, int start, int end, long seq) {
+            this.value = value;
+            this.start = start;
+            this.end = end;
+            this.seq = seq;
+            this.maxEnd = end;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private final Node<T>[] roots = new Node[DAYS];
+    private final int[] daySizes = new int[DAYS];
+
+    // 삭제 시 노드를 찾기 위한 객체 → 순번 (추가 시점의 요일/시간도 함께 보관)
+    private final Map<T, long[]> entries = new IdentityHashMap<>();
+    private long nextSeq;
+
+    // ---------- 추가/삭제 ----------
+
+    /**
+     * 일정 추가
+     * @return 추가했으면 true, 이미 있거나 요일/시간이 잘못됐으면 false
+     */
+    public boolean add(T item) {
+        if (item == null || entries.containsKey(item) || !isValid(item)) {
+            return false;
+        }
+        int day = item.getDayIndex();
+        long seq = nextSeq++;
+        entries.put(item, new long[]{seq, day, item.getStartTotalMinutes(), item.getEndTotalMinutes()});
+        roots[day] = insert(roots[day], new Node<>(item, item.getStartTotalMinutes(), item.getEndTotalMinutes(), seq));
+        daySizes[day]++;
+        return true;
+    }
+
+    /**
+     * 여러 일정을 한 번에 추가
+     * 비어 있는 요일은 정렬 후 한 번에 균형 트리를 만들어 O(n log n) 한 번으로 끝냄
+     *
+     * @return 실제로 추가된 일정 수
+     */
+    public int addAll(Collection<? extends T> items) {
+        List<List<Node<T>>> bulk = new ArrayList<>(DAYS);
+        for (int d = 0; d < DAYS; d++) {
+            bulk.add(null);
+        }
+        int added = 0;
+        for (T item : items) {
+            if (item == null || entries.containsKey(item) || !isValid(item)) {
+                continue;
+            }
+            int day = item.getDayIndex();
+            long seq = nextSeq++;
+            entries.put(item, new long[]{seq, day, item.getStartTotalMinutes(), item.getEndTotalMinutes()});
+            Node<T> node = new Node<>(item, item.getStartTotalMinutes(), item.getEndTotalMinutes(), seq);
+            if (roots[day] == null) {
+                if (bulk.get(day) == null) {
+                    bulk.set(day, new ArrayList<>());
+                }
+                bulk.get(day).add(node);
+            } else {
+                roots[day] = insert(roots[day], node);
+            }
+            daySizes[day]++;
+            added++;
+        }
+        for (int d = 0; d < DAYS; d++) {
+            List<Node<T>> nodes = bulk.get(d);
+            if (nodes != null) {
+                Collections.sort(nodes, ScheduleIndex::compare);
+                roots[d] = build(nodes, 0, nodes.size());
+            }
+        }
+        return added;
+    }
+
+    /**
+     * 일정 삭제 (추가한 객체와 같은 객체여야 함)
+     * @return 삭제했으면 true
+     */
+    public boolean remove(T item) {
+        long[] entry = item != null ? entries.remove(item) : null;
+        if (entry == null) {
+            return false;
+        }
+        int day = (int) entry[1];
+        roots[day] = delete(roots[day], (int) entry[2], (int) entry[3], entry[0]);
+        daySizes[day]--;
+        return true;
+    }
+
+    /**
+     * 여러 일정 삭제
+     * @return 실제로 삭제된 일정 수
+     */
+    public int removeAll(Collection<? extends T> items) {
+        int removed = 0;
+        for (T item : items) {
+            if (remove(item)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public void clear() {
+        for (int d = 0; d < DAYS; d++) {
+            roots[d] = null;
+            daySizes[d] = 0;
+        }
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int size(int dayIndex) {
+        return isValidDay(dayIndex) ? daySizes[dayIndex] : 0;
+    }
+
+    public boolean contains(T item) {
+        return entries.containsKey(item);
+    }
+
+    // ---------- 조회 ----------
+
+    /**
+     * [start, end) 구간과 겹치는 일정이 있는지 확인 (O(log n))
+     */
+    public boolean overlaps(int dayIndex, int start, int end) {
+        return findOverlap(dayIndex, start, end) != null;
+    }
+
+    /**
+     * 새 일정과 겹치는 기존 일정이 있는지 확인
+     */
+    public boolean overlaps(TimeRange range) {
+        return findOverlap(range) != null;
+    }
+
+    /**
+     * [start, end) 구간과 겹치는 일정 하나 반환 (시작 시간이 가장 이른 것)
+     * @return 겹치는 일정, 없으면 null
+     */
+    public T findOverlap(int dayIndex, int start, int end) {
+        if (!isValidDay(dayIndex) || start >= end) {
+            return null;
+        }
+        Node<T> node = roots[dayIndex];
+        while (node != null) {
+            if (node.left != null && node.left.maxEnd > start) {
+                // 왼쪽에 start 이후에 끝나는 구간이 있으면 왼쪽만 보면 됨
+                // (왼쪽에서 못 찾으면 그 구간이 end 이후에 시작하므로 이 노드와 오른쪽도 겹치지 않음)
+                node = node.left;
+            } else if (node.start < end && start < node.end) {
+                return node.value;
+            } else if (node.start >= end) {
+                return null;
+            } else {
+                node = node.right;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 새 일정과 겹치는 기존 일정 하나 반환 (자기 자신은 제외하지 않음)
+     */
+    public T findOverlap(TimeRange range) {
+        return findOverlap(range.getDayIndex(), range.getStartTotalMinutes(), range.getEndTotalMinutes());
+    }
+
+    /**
+     * [start, end) 구간과 겹치는 모든 일정 (시작 시간 순, O(log n + k))
+     */
+    public List<T> findOverlaps(int dayIndex, int start, int end) {
+        List<T> result = new ArrayList<>();
+        if (isValidDay(dayIndex) && start < end) {
+            collectOverlaps(roots[dayIndex], start, end, result);
+        }
+        return result;
+    }
+
+    /**
+     * 해당 요일의 모든 일정 (시작 시간 순)
+     */
+    public List<T> getDay(int dayIndex) {
+        List<T> result = new ArrayList<>(size(dayIndex));
+        if (isValidDay(dayIndex)) {
+            collectAll(roots[dayIndex], result);
+        }
+        return result;
+    }
+
+    /**
+     * [from, to) 사이에서 일정이 없는 구간 (시작 시간 순)
+     *
+     * @param minLengthMinutes 이보다 짧은 빈 시간은 제외 (0이면 모두 포함)
+     */
+    public List<FreeSlot> findFreeSlots(int dayIndex, int from, int to, int minLengthMinutes) {
+        List<FreeSlot> slots = new ArrayList<>();
+        if (!isValidDay(dayIndex) || from >= to) {
+            return slots;
+        }
+        int cursor = from;
+        for (T busy : findOverlaps(dayIndex, from, to)) {
+            int busyStart = busy.getStartTotalMinutes();
+            if (busyStart > cursor) {
+                addSlot(slots, dayIndex, cursor, busyStart, minLengthMinutes);
+            }
+            cursor = Math.max(cursor, busy.getEndTotalMinutes());
+            if (cursor >= to) {
+                return slots;
+            }
+        }
+        addSlot(slots, dayIndex, cursor, to, minLengthMinutes);
+        return slots;
+    }
+
+    private static void addSlot(List<FreeSlot> slots, int day, int start, int end, int minLength) {
+        if (end > start && end - start >= minLength) {
+            slots.add(new FreeSlot(day, start, end));
+        }
+    }
+
+    // ---------- 트리 구현 ----------
+
+    private static boolean isValidDay(int dayIndex) {
+        return dayIndex >= 0 && dayIndex < DAYS;
+    }
+
+    private static boolean isValid(TimeRange range) {
+        return isValidDay(range.getDayIndex()) && range.getStartTotalMinutes() < range.getEndTotalMinutes();
+    }
+
+    private static int compare(Node<?> a, Node<?> b) {
+        return compare(a.start, a.end, a.seq, b);
+    }
+
+    private static int compare(int start, int end, long seq, Node<?> node) {
+        if (start != node.start) {
+            return Integer.compare(start, node.start);
+        }
+        if (end != node.end) {
+            return Integer.compare(end, node.end);
+        }
+        return Long.compare(seq, node.seq);
+    }
+
+    private void collectOverlaps(Node<T> node, int start, int end, List<T> out) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collectOverlaps(node.left, start, end, out);
+        if (node.start >= end) {
+            // 이 노드와 오른쪽 하위 트리는 모두 end 이후에 시작
+            return;
+        }
+        if (start < node.end) {
+            out.add(node.value);
+        }
+        collectOverlaps(node.right, start, end, out);
+    }
+
+    private void collectAll(Node<T> node, List<T> out) {
+        if (node == null) {
+            return;
+        }
+        collectAll(node.left, out);
+        out.add(node.value);
+        collectAll(node.right, out);
+    }
+
+    private Node<T> build(List<Node<T>> sorted, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        Node<T> node = sorted.get(mid);
+        node.left = build(sorted, from, mid);
+        node.right = build(sorted, mid + 1, to);
+        update(node);
+        return node;
+    }
+
+    private Node<T> insert(Node<T> node, Node<T> added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> delete(Node<T> node, int start, int end, long seq) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, end, seq, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, start, end, seq);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, start, end, seq);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // 오른쪽 하위 트리의 최소 노드로 교체
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> deleteMin(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private static int height(Node<?> node) {
+        return node != null ? node.height : 0;
+    }
+
+    private static <T> void update(Node<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        int max = node.end;
+        if (node.left != null && node.left.maxEnd > max) {
+            max = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd > max) {
+            max = node.right.maxEnd;
+        }
+        node.maxEnd = max;
+    }
+
+    private Node<T> rebalance(Node<T> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+}
@@ -34,11 +34,11 @@ import com.google.android.material.textfield.TextInputEditText;
 // Firestore 및 FirebaseAuth 임포트
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseUser;
-import com.google.firebase.firestore.FieldValue;
 import com.google.firebase.firestore.FirebaseFirestore;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
@@ -75,11 +75,12 @@ public class TimeTableFragment extends Fragment {
     private FirebaseFirestore db;
     private FirebaseAuth mAuth;
 
-    private final ArrayList<ScheduleData> scheduleList = new ArrayList<>();
+    // 현재 시간표의 수업 (요일별 구간 색인, 겹침 검사 O(log n))
+    private final ScheduleIndex<ScheduleData> scheduleIndex = new ScheduleIndex<>();
     private final Map<String, View> scheduleViewMap = new HashMap<>();
 
     // (ScheduleData 내부 클래스는 동일)
-    public static class ScheduleData {
+    public static class ScheduleData implements ScheduleIndex.TimeRange {
         public String documentId;
         public int dayIndex;
         public int startHour;
@@ -100,8 +101,9 @@ public class TimeTableFragment extends Fragment {
             this.professorName = professorName;
             this.location = location;
         }
-        public int getStartTotalMinutes() { return startHour * 60 + startMinute; }
-        public int getEndTotalMinutes() { return endHour * 60 + endMinute; }
+        @Override public int getDayIndex() { return dayIndex; }
+        @Override public int getStartTotalMinutes() { return startHour * 60 + startMinute; }
+        @Override public int getEndTotalMinutes() { return endHour * 60 + endMinute; }
     }
 
 
@@ -255,8 +257,9 @@ public class TimeTableFragment extends Fragment {
                 return;
             }
             ScheduleData newSchedule = new ScheduleData(dayIndex, startHour, startMinute, endHour, endMinute, subjectName, professorName, location);
-            if (checkOverlap(newSchedule)) {
-                Toast.makeText(requireContext(), "⚠️ 기존 수업과 시간이 겹칩니다!", Toast.LENGTH_LONG).show();
+            ScheduleData conflict = scheduleIndex.findOverlap(newSchedule);
+            if (conflict != null) {
+                Toast.makeText(requireContext(), "⚠️ 기존 수업(" + conflict.subjectName + ")과 시간이 겹칩니다!", Toast.LENGTH_LONG).show();
                 return;
             }
 
@@ -310,20 +313,6 @@ public class TimeTableFragment extends Fragment {
         dialog.show();
     }
 
-    private boolean checkOverlap(ScheduleData newSchedule) {
-        int newStartTotalMinutes = newSchedule.getStartTotalMinutes();
-        int newEndTotalMinutes = newSchedule.getEndTotalMinutes();
-        for (ScheduleData existingSchedule : scheduleList) {
-            if (existingSchedule.dayIndex == newSchedule.dayIndex) {
-                if (newStartTotalMinutes < existingSchedule.getEndTotalMinutes() && newEndTotalMinutes > existingSchedule.getStartTotalMinutes()) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
-
     private void addScheduleBlockToView(ScheduleData scheduleData) {
         if (scheduleData.documentId == null || scheduleViewMap.containsKey(scheduleData.documentId)) return;
 
@@ -386,19 +375,12 @@ public class TimeTableFragment extends Fragment {
                 newSchedule.professorName, newSchedule.location
         );
 
-        db.collection("users").document(userId)
-                .collection("timetables").document(activeTimetableId)
-                .update("schedules", FieldValue.arrayUnion(scheduleItem))
-                .addOnSuccessListener(aVoid -> {
-                    newSchedule.documentId = String.valueOf(System.currentTimeMillis());
-                    scheduleList.add(newSchedule);
-                    addScheduleBlockToView(newSchedule);
-                    Toast.makeText(requireContext(), "수업이 추가되었습니다.", Toast.LENGTH_SHORT).show();
-                })
-                .addOnFailureListener(e -> {
-                    Log.w("TimeTableFragment", "Error adding schedule", e);
-                    Toast.makeText(requireContext(), "수업 추가에 실패했습니다.", Toast.LENGTH_SHORT).show();
-                });
+        // 로컬 큐에 기록 후 바로 화면에 반영 (서버 전송은 TimetableSyncQueue가 모아서 처리)
+        TimetableSyncQueue.getInstance(requireContext()).enqueueAdd(userId, activeTimetableId, scheduleItem);
+        newSchedule.documentId = String.valueOf(System.currentTimeMillis());
+        scheduleIndex.add(newSchedule);
+        addScheduleBlockToView(newSchedule);
+        Toast.makeText(requireContext(), "수업이 추가되었습니다.", Toast.LENGTH_SHORT).show();
     }
 
 
@@ -422,16 +404,22 @@ public class TimeTableFragment extends Fragment {
                     if (documentSnapshot.exists()) {
                         SavedTimetable activeTimetable = documentSnapshot.toObject(SavedTimetable.class);
                         if (activeTimetable != null && activeTimetable.getSchedules() != null) {
-                            for (sprout.app.sakmvp1.ScheduleItem item : activeTimetable.getSchedules()) {
+                            // 아직 서버에 반영되지 않은 로컬 편집을 덧씌움
+                            List<sprout.app.sakmvp1.ScheduleItem> schedules = TimetableSyncQueue.getInstance(requireContext())
+                                    .applyPending(userId, activeTimetableId, activeTimetable.getSchedules());
+                            List<ScheduleData> loaded = new ArrayList<>(schedules.size());
+                            long baseId = System.currentTimeMillis();
+                            for (sprout.app.sakmvp1.ScheduleItem item : schedules) {
                                 ScheduleData data = new ScheduleData(
                                         item.getDayIndex(), item.getStartHour(), item.getStartMinute(),
                                         item.getEndHour(), item.getEndMinute(), item.getSubjectName(),
                                         item.getProfessorName(), item.getLocation()
                                 );
-                                data.documentId = String.valueOf(System.currentTimeMillis() + scheduleList.size());
-                                scheduleList.add(data);
+                                data.documentId = String.valueOf(baseId + loaded.size());
+                                loaded.add(data);
                                 addScheduleBlockToView(data);
                             }
+                            scheduleIndex.addAll(loaded);
                         }
                     } else {
                         Toast.makeText(requireContext(), "활성 시간표를 찾을 수 없습니다.", Toast.LENGTH_SHORT).show();
@@ -457,21 +445,14 @@ public class TimeTableFragment extends Fragment {
                 scheduleData.professorName, scheduleData.location
         );
 
-        db.collection("users").document(userId)
-                .collection("timetables").document(activeTimetableId)
-                .update("schedules", FieldValue.arrayRemove(scheduleItemToRemove))
-                .addOnSuccessListener(aVoid -> {
-                    View viewToRemove = scheduleViewMap.remove(scheduleData.documentId);
-                    if (viewToRemove != null) {
-                        timetableLayout.removeView(viewToRemove);
-                    }
-                    scheduleList.removeIf(schedule -> schedule.documentId != null && schedule.documentId.equals(scheduleData.documentId));
-                    Toast.makeText(requireContext(), "수업이 삭제되었습니다.", Toast.LENGTH_SHORT).show();
-                })
-                .addOnFailureListener(e -> {
-                    Log.w("TimeTableFragment", "Error deleting schedule", e);
-                    Toast.makeText(requireContext(), "수업 삭제에 실패했습니다.", Toast.LENGTH_SHORT).show();
-                });
+        // 로컬 큐에 기록 후 바로 화면에서 제거 (서버 전송은 TimetableSyncQueue가 모아서 처리)
+        TimetableSyncQueue.getInstance(requireContext()).enqueueRemove(userId, activeTimetableId, scheduleItemToRemove);
+        View viewToRemove = scheduleViewMap.remove(scheduleData.documentId);
+        if (viewToRemove != null) {
+            timetableLayout.removeView(viewToRemove);
+        }
+        scheduleIndex.remove(scheduleData);
+        Toast.makeText(requireContext(), "수업이 삭제되었습니다.", Toast.LENGTH_SHORT).show();
     }
 
     private void clearTimetableViews() {
@@ -479,7 +460,7 @@ public class TimeTableFragment extends Fragment {
             timetableLayout.removeView(view);
         }
         scheduleViewMap.clear();
-        scheduleList.clear();
+        scheduleIndex.clear();
     }
 
     private void showTimetableMenu(View anchor) {
@@ -0,0 +1,234 @@
+package sprout.app.sakmvp1.timetable;
+
+import android.util.Log;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.TaskCompletionSource;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.FirebaseFirestore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import sprout.app.sakmvp1.FirebaseDataManager;
+import sprout.app.sakmvp1.RecommendedCourse;
+import sprout.app.sakmvp1.ScheduleItem;
+import sprout.app.sakmvp1.managers.TimetableSolver;
+import sprout.app.sakmvp1.models.CourseSection;
+
+/**
+ * 추천 과목으로 겹치지 않는 시간표 자동 생성
+ *
+ * 개설 분반은 course_sections/{과목명} 문서의 sections 배열에서 읽음
+ *   문서 ID는 sectionDocId(과목명): 문서 ID에 쓸 수 없는 '/'는 '_'로 바꿈 (예: "C/C++" → "C_C++")
+ *   sections: [{ sectionId, professorName, location,
+ *                meetings: [{ dayIndex, startHour, startMinute, endHour, endMinute }] }]
+ * 탐색은 TimetableSolver가 백그라운드 스레드에서 수행하고,
+ * 사용자가 고른 결과는 users/{uid}/timetables에 SavedTimetable로 저장
+ */
+public class TimetableGenerator {
+    private static final String TAG = "TimetableGenerator";
+
+    public static final String SECTIONS_COLLECTION = "course_sections";
+
+    /** 탐색 시간 제한 (넘으면 그때까지 찾은 결과 사용) */
+    private static final long SOLVE_TIME_LIMIT_MS = 800;
+
+    private static final ExecutorService SOLVER_EXECUTOR = Executors.newSingleThreadExecutor();
+
+    private final FirebaseDataManager dataManager;
+    private final FirebaseFirestore db;
+
+    public TimetableGenerator() {
+        this.dataManager = FirebaseDataManager.getInstance();
+        this.db = FirebaseFirestore.getInstance();
+    }
+
+    /**
+     * 추천 과목의 개설 분반을 불러와 점수 상위 시간표 생성
+     *
+     * @param courses 추천 과목 (getPriority()는 RecommendationResultActivity.calculatePriority 결과)
+     * @param options 학점 범위, 막힌 시간, 결과 수
+     */
+    public Task<TimetableSolver.Result> generate(List<RecommendedCourse> courses, TimetableSolver.Options options) {
+        List<String> courseNames = new ArrayList<>();
+        for (RecommendedCourse course : courses) {
+            courseNames.add(course.getCourseName());
+        }
+        if (options.getTimeLimitMs() == 0) {
+            options.setTimeLimitMs(SOLVE_TIME_LIMIT_MS);
+        }
+
+        return loadSections(courseNames)
+                .onSuccessTask(SOLVER_EXECUTOR, sections -> {
+                    List<TimetableSolver.Candidate> candidates = toCandidates(courses, sections);
+                    Log.d(TAG, "시간표 생성 시작: 후보 " + candidates.size() + "과목");
+                    TimetableSolver.Result result = TimetableSolver.solve(candidates, options);
+                    Log.d(TAG, "시간표 생성 완료: " + result.getTimetables().size() + "개 (노드 " + result.getVisitedNodes()
+                            + (result.isComplete() ? "" : ", 시간 제한으로 중단") + ")");
+                    return Tasks.forResult(result);
+                });
+    }
+
+    /**
+     * 과목명 → course_sections 문서 ID
+     * 과목명의 '/'는 문서 경로 구분자로 해석되어 예외가 나므로 '_'로 바꿈
+     */
+    public static String sectionDocId(String courseName) {
+        return courseName != null ? courseName.replace('/', '_') : null;
+    }
+
+    /**
+     * 과목명 → 개설 분반 (분반 문서가 없는 과목은 빠짐)
+     */
+    public Task<Map<String, List<CourseSection>>> loadSections(Collection<String> courseNames) {
+        Map<String, String> docIds = new LinkedHashMap<>();
+        for (String courseName : courseNames) {
+            if (courseName != null) {
+                docIds.put(courseName, sectionDocId(courseName));
+            }
+        }
+        TaskCompletionSource<Map<String, List<CourseSection>>> source = new TaskCompletionSource<>();
+        dataManager.loadDocuments(SECTIONS_COLLECTION, new LinkedHashSet<>(docIds.values()),
+                new FirebaseDataManager.OnDocumentsLoadedListener() {
+                    @Override
+                    public void onSuccess(Map<String, Map<String, Object>> documents) {
+                        Map<String, List<CourseSection>> sections = new HashMap<>();
+                        for (Map.Entry<String, String> entry : docIds.entrySet()) {
+                            Map<String, Object> document = documents.get(entry.getValue());
+                            if (document == null) {
+                                continue;
+                            }
+                            List<CourseSection> parsed = parseSections(entry.getKey(), document.get("sections"));
+                            if (!parsed.isEmpty()) {
+                                sections.put(entry.getKey(), parsed);
+                            }
+                        }
+                        Log.d(TAG, "개설 분반 로드: " + sections.size() + "/" + courseNames.size() + "과목");
+                        source.setResult(sections);
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        Log.e(TAG, "개설 분반 로드 실패", e);
+                        source.setException(e);
+                    }
+                });
+        return source.getTask();
+    }
+
+    /**
+     * 추천 과목 + 분반 → 탐색 후보 (분반 정보가 없는 과목은 제외)
+     */
+    public static List<TimetableSolver.Candidate> toCandidates(List<RecommendedCourse> courses,
+                                                               Map<String, List<CourseSection>> sections) {
+        List<TimetableSolver.Candidate> candidates = new ArrayList<>();
+        for (RecommendedCourse course : courses) {
+            List<CourseSection> courseSections = sections.get(course.getCourseName());
+            if (courseSections == null || courseSections.isEmpty()) {
+                continue;
+            }
+            candidates.add(new TimetableSolver.Candidate(course.getCourseName(), course.getCategory(),
+                    course.getCredits(), course.getPriority(), courseSections));
+        }
+        return candidates;
+    }
+
+    /**
+     * 생성된 시간표 → 저장용 SavedTimetable (수업 시간마다 ScheduleItem 하나)
+     */
+    public static SavedTimetable toSavedTimetable(TimetableSolver.Timetable timetable, String name) {
+        List<ScheduleItem> schedules = new ArrayList<>();
+        for (CourseSection section : timetable.getSections()) {
+            for (CourseSection.Meeting meeting : section.getMeetings()) {
+                schedules.add(new ScheduleItem(
+                        meeting.getDayIndex(),
+                        meeting.getStartTotalMinutes() / 60, meeting.getStartTotalMinutes() % 60,
+                        meeting.getEndTotalMinutes() / 60, meeting.getEndTotalMinutes() % 60,
+                        section.getCourseName(), section.getProfessorName(), section.getLocation()));
+            }
+        }
+
+        SavedTimetable savedTimetable = new SavedTimetable();
+        savedTimetable.setName(name);
+        savedTimetable.setSavedDate(System.currentTimeMillis());
+        savedTimetable.setSchedules(schedules);
+        return savedTimetable;
+    }
+
+    /**
+     * users/{userId}/timetables에 새 시간표로 저장
+     */
+    public Task<DocumentReference> save(String userId, SavedTimetable timetable) {
+        return db.collection("users").document(userId)
+                .collection("timetables")
+                .add(timetable);
+    }
+
+    /**
+     * Firestore sections 배열 파싱 (필드가 빠졌거나 시간이 잘못된 분반은 건너뜀)
+     */
+    @SuppressWarnings("unchecked")
+    private static List<CourseSection> parseSections(String courseName, Object raw) {
+        List<CourseSection> sections = new ArrayList<>();
+        if (!(raw instanceof List)) {
+            return sections;
+        }
+        for (Object item : (List<Object>) raw) {
+            if (!(item instanceof Map)) {
+                continue;
+            }
+            Map<String, Object> sectionMap = (Map<String, Object>) item;
+            List<CourseSection.Meeting> meetings = new ArrayList<>();
+            Object rawMeetings = sectionMap.get("meetings");
+            if (rawMeetings instanceof List) {
+                for (Object rawMeeting : (List<Object>) rawMeetings) {
+                    CourseSection.Meeting meeting = parseMeeting(rawMeeting);
+                    if (meeting != null) {
+                        meetings.add(meeting);
+                    }
+                }
+            }
+            if (meetings.isEmpty()) {
+                Log.w(TAG, "수업 시간이 없는 분반 건너뜀: " + courseName + " " + sectionMap.get("sectionId"));
+                continue;
+            }
+            sections.add(new CourseSection(courseName,
+                    String.valueOf(sectionMap.get("sectionId")),
+                    (String) sectionMap.get("professorName"),
+                    (String) sectionMap.get("location"),
+                    meetings));
+        }
+        return sections;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CourseSection.Meeting parseMeeting(Object raw) {
+        if (!(raw instanceof Map)) {
+            return null;
+        }
+        Map<String, Object> map = (Map<String, Object>) raw;
+        Object dayIndex = map.get("dayIndex");
+        Object startHour = map.get("startHour");
+        Object startMinute = map.get("startMinute");
+        Object endHour = map.get("endHour");
+        Object endMinute = map.get("endMinute");
+        if (!(dayIndex instanceof Number) || !(startHour instanceof Number) || !(startMinute instanceof Number)
+                || !(endHour instanceof Number) || !(endMinute instanceof Number)) {
+            return null;
+        }
+        CourseSection.Meeting meeting = new CourseSection.Meeting(
+                ((Number) dayIndex).intValue(),
+                ((Number) startHour).intValue(), ((Number) startMinute).intValue(),
+                ((Number) endHour).intValue(), ((Number) endMinute).intValue());
+        return meeting.isValid() ? meeting : null;
+    }
+}
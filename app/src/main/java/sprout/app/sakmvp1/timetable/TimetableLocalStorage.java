@@ -6,108 +6,117 @@ import android.content.SharedPreferences;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+
+import sprout.app.sakmvp1.ScheduleItem;
+import sprout.app.sakmvp1.utils.RecordStore;
 
 /**
  * 로컬 저장소를 사용하여 시간표를 저장/불러오기/삭제하는 클래스
+ *
+ * 시간표는 RecordStore에 시간표 ID별 레코드로 저장하므로 저장/삭제/이름 수정이 해당 시간표만 기록함
+ * (예전 버전의 SharedPreferences JSON 목록은 처음 열 때 한 번 옮김)
  */
 public class TimetableLocalStorage {
     private static final String PREF_NAME = "saved_timetables";
     private static final String KEY_TIMETABLES = "timetables";
     private static final String KEY_ACTIVE_ID = "active_timetable_id";
+    private static final String RECORD_FILE = "timetables/saved_timetables.log";
 
     private SharedPreferences prefs;
-    private Gson gson;
+    private RecordStore<SavedTimetable> store;
 
     public TimetableLocalStorage(Context context) {
         prefs = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
-        gson = new Gson();
+        store = RecordStore.open(new File(context.getFilesDir(), RECORD_FILE), new TimetableCodec(),
+                new RecordStore.LegacySource<SavedTimetable>() {
+                    @Override
+                    public Map<String, SavedTimetable> load() {
+                        return loadLegacyTimetables();
+                    }
+
+                    @Override
+                    public void clear() {
+                        prefs.edit().remove(KEY_TIMETABLES).apply();
+                    }
+                });
     }
 
     /**
-     * 시간표 저장
+     * 시간표 저장 (같은 ID가 있으면 덮어씀)
      */
     public void saveTimetable(SavedTimetable timetable) {
-        List<SavedTimetable> timetables = getAllTimetables();
-
         // ID 자동 생성
         if (timetable.getId() == null || timetable.getId().isEmpty()) {
             timetable.setId(String.valueOf(System.currentTimeMillis()));
         }
 
-        timetables.add(timetable);
-        saveAllTimetables(timetables);
+        store.put(timetable.getId(), timetable);
     }
 
     /**
      * 모든 시간표 조회
      */
     public List<SavedTimetable> getAllTimetables() {
-        String json = prefs.getString(KEY_TIMETABLES, null);
-        if (json == null) {
-            return new ArrayList<>();
-        }
-
-        Type type = new TypeToken<List<SavedTimetable>>(){}.getType();
-        List<SavedTimetable> timetables = gson.fromJson(json, type);
-        return timetables != null ? timetables : new ArrayList<>();
+        return store.values();
     }
 
     /**
      * 시간표 삭제
      */
     public boolean deleteTimetable(String timetableId) {
-        List<SavedTimetable> timetables = getAllTimetables();
-        boolean removed = timetables.removeIf(t -> t.getId().equals(timetableId));
-
-        if (removed) {
-            saveAllTimetables(timetables);
-        }
-        return removed;
+        return store.remove(timetableId);
     }
 
     /**
      * 시간표 이름 수정
      */
     public boolean updateTimetableName(String timetableId, String newName) {
-        List<SavedTimetable> timetables = getAllTimetables();
-        boolean updated = false;
-
-        for (SavedTimetable timetable : timetables) {
-            if (timetable.getId().equals(timetableId)) {
-                timetable.setName(newName);
-                updated = true;
-                break;
-            }
+        SavedTimetable timetable = store.get(timetableId);
+        if (timetable == null) {
+            return false;
         }
 
-        if (updated) {
-            saveAllTimetables(timetables);
-        }
-        return updated;
+        timetable.setName(newName);
+        store.put(timetableId, timetable);
+        return true;
     }
 
     /**
      * 특정 시간표 조회
      */
     public SavedTimetable getTimetable(String timetableId) {
-        List<SavedTimetable> timetables = getAllTimetables();
-        for (SavedTimetable timetable : timetables) {
-            if (timetable.getId().equals(timetableId)) {
-                return timetable;
-            }
-        }
-        return null;
+        return store.get(timetableId);
     }
 
     /**
-     * 모든 시간표 저장 (내부용)
+     * 예전 형식(전체 목록 JSON) 읽기 (RecordStore로 옮길 때 한 번만 사용)
      */
-    private void saveAllTimetables(List<SavedTimetable> timetables) {
-        String json = gson.toJson(timetables);
-        prefs.edit().putString(KEY_TIMETABLES, json).apply();
+    private Map<String, SavedTimetable> loadLegacyTimetables() {
+        Map<String, SavedTimetable> timetables = new LinkedHashMap<>();
+        String json = prefs.getString(KEY_TIMETABLES, null);
+        if (json == null) {
+            return timetables;
+        }
+
+        Type type = new TypeToken<List<SavedTimetable>>(){}.getType();
+        List<SavedTimetable> list = new Gson().fromJson(json, type);
+        if (list != null) {
+            for (SavedTimetable timetable : list) {
+                if (timetable != null && timetable.getId() != null) {
+                    timetables.put(timetable.getId(), timetable);
+                }
+            }
+        }
+        return timetables;
     }
 
     /**
@@ -129,5 +138,64 @@ public class TimetableLocalStorage {
      */
     public void clearAll() {
         prefs.edit().clear().apply();
+        store.clear();
+    }
+
+    /**
+     * SavedTimetable ↔ 바이트 (필드 순서대로 기록, 형식이 바뀌면 VERSION을 올리고 read에서 분기)
+     */
+    private static class TimetableCodec implements RecordStore.Codec<SavedTimetable> {
+        private static final int VERSION = 1;
+
+        @Override
+        public void write(DataOutputStream out, SavedTimetable timetable) throws IOException {
+            out.writeByte(VERSION);
+            RecordStore.writeNullableString(out, timetable.getId());
+            RecordStore.writeNullableString(out, timetable.getName());
+            out.writeLong(timetable.getSavedDate());
+
+            List<ScheduleItem> schedules = timetable.getSchedules();
+            out.writeInt(schedules != null ? schedules.size() : -1);
+            if (schedules != null) {
+                for (ScheduleItem item : schedules) {
+                    out.writeByte(item.getDayIndex());
+                    out.writeByte(item.getStartHour());
+                    out.writeByte(item.getStartMinute());
+                    out.writeByte(item.getEndHour());
+                    out.writeByte(item.getEndMinute());
+                    RecordStore.writeNullableString(out, item.getSubjectName());
+                    RecordStore.writeNullableString(out, item.getProfessorName());
+                    RecordStore.writeNullableString(out, item.getLocation());
+                }
+            }
+        }
+
+        @Override
+        public SavedTimetable read(DataInputStream in) throws IOException {
+            int version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 시간표 형식: " + version);
+            }
+            SavedTimetable timetable = new SavedTimetable();
+            timetable.setId(RecordStore.readNullableString(in));
+            timetable.setName(RecordStore.readNullableString(in));
+            timetable.setSavedDate(in.readLong());
+
+            int count = in.readInt();
+            if (count >= 0) {
+                List<ScheduleItem> schedules = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    int dayIndex = in.readByte();
+                    int startHour = in.readByte();
+                    int startMinute = in.readByte();
+                    int endHour = in.readByte();
+                    int endMinute = in.readByte();
+                    schedules.add(new ScheduleItem(dayIndex, startHour, startMinute, endHour, endMinute,
+                            RecordStore.readNullableString(in), RecordStore.readNullableString(in), RecordStore.readNullableString(in)));
+                }
+                timetable.setSchedules(schedules);
+            }
+            return timetable;
+        }
     }
 }
@@ -0,0 +1,376 @@
+package sprout.app.sakmvp1.timetable;
+
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.FirebaseFirestoreException;
+import com.google.firebase.firestore.WriteBatch;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import sprout.app.sakmvp1.ScheduleItem;
+import sprout.app.sakmvp1.utils.RecordStore;
+
+/**
+ * 시간표 수업 추가/삭제를 로컬 큐에 쌓았다가 시간표별 WriteBatch로 묶어 Firestore에 반영
+ *
+ * - 변경은 RecordStore(파일)에 먼저 기록하므로 앱이 종료되거나 오프라인이어도 사라지지 않음
+ * - 마지막 변경 후 FLUSH_DELAY_MS 동안 모아서 시간표 하나당 batch 한 번으로 전송
+ *   (같은 수업에 대한 변경은 마지막 것만 남김 → 추가 후 삭제는 삭제 하나)
+ * - arrayRemove/arrayUnion은 같은 값을 여러 번 적용해도 결과가 같으므로,
+ *   커밋 직후 종료돼 같은 변경이 다시 전송돼도 안전 (멱등 재전송)
+ * - 실패하면 지수 백오프로 재시도하고, 네트워크가 다시 연결되면 바로 재시도
+ *   권한 없음/문서 없음처럼 재시도해도 소용없는 오류는 해당 변경을 버림
+ *
+ * 모든 메서드는 메인 스레드에서 호출
+ */
+public class TimetableSyncQueue {
+    private static final String TAG = "TimetableSyncQueue";
+    private static final String RECORD_FILE = "timetables/sync_queue.log";
+
+    /** 연속 편집을 한 번에 보내기 위한 대기 시간 */
+    private static final long FLUSH_DELAY_MS = 1500;
+    private static final long INITIAL_BACKOFF_MS = 2000;
+    private static final long MAX_BACKOFF_MS = 5 * 60 * 1000;
+
+    private static final int OP_ADD = 1;
+    private static final int OP_REMOVE = 2;
+
+    private static TimetableSyncQueue instance;
+
+    private final RecordStore<Mutation> store;
+    private final FirebaseFirestore db;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Random random = new Random();
+    private final Runnable flushRunnable = this::flush;
+
+    private boolean flushing;
+    private long backoffMs = INITIAL_BACKOFF_MS;
+
+    private TimetableSyncQueue(Context context) {
+        store = RecordStore.open(new File(context.getFilesDir(), RECORD_FILE), new MutationCodec(), null);
+        db = FirebaseFirestore.getInstance();
+        registerNetworkCallback(context);
+        // 이전 실행에서 못 보낸 변경이 있으면 전송
+        scheduleFlush(0);
+    }
+
+    public static synchronized TimetableSyncQueue getInstance(Context context) {
+        if (instance == null) {
+            instance = new TimetableSyncQueue(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * 수업 추가 예약
+     */
+    public void enqueueAdd(String userId, String timetableId, ScheduleItem item) {
+        enqueue(userId, timetableId, OP_ADD, item);
+    }
+
+    /**
+     * 수업 삭제 예약
+     */
+    public void enqueueRemove(String userId, String timetableId, ScheduleItem item) {
+        enqueue(userId, timetableId, OP_REMOVE, item);
+    }
+
+    /** 아직 서버에 반영되지 않은 변경 수 */
+    public int getPendingCount() {
+        return store.size();
+    }
+
+    /**
+     * 서버에서 읽은 수업 목록에 아직 반영되지 않은 변경을 덧씌움
+     * (오프라인 편집 후 시간표를 다시 열어도 편집 내용이 보이도록)
+     */
+    public List<ScheduleItem> applyPending(String userId, String timetableId, List<ScheduleItem> schedules) {
+        Map<String, Mutation> pending = coalesce(pendingFor(userId, timetableId));
+        if (pending.isEmpty()) {
+            return schedules;
+        }
+
+        Map<String, ScheduleItem> merged = new LinkedHashMap<>();
+        if (schedules != null) {
+            for (ScheduleItem item : schedules) {
+                merged.put(itemKey(item), item);
+            }
+        }
+        for (Map.Entry<String, Mutation> entry : pending.entrySet()) {
+            if (entry.getValue().op == OP_ADD) {
+                merged.put(entry.getKey(), entry.getValue().item);
+            } else {
+                merged.remove(entry.getKey());
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private void enqueue(String userId, String timetableId, int op, ScheduleItem item) {
+        Mutation mutation = new Mutation();
+        mutation.id = UUID.randomUUID().toString();
+        mutation.userId = userId;
+        mutation.timetableId = timetableId;
+        mutation.op = op;
+        mutation.item = item;
+        mutation.createdAt = System.currentTimeMillis();
+        store.put(mutation.id, mutation);
+
+        // 새 편집이 들어오면 백오프를 초기화하고 잠시 모았다가 전송
+        backoffMs = INITIAL_BACKOFF_MS;
+        scheduleFlush(FLUSH_DELAY_MS);
+    }
+
+    private void scheduleFlush(long delayMs) {
+        mainHandler.removeCallbacks(flushRunnable);
+        mainHandler.postDelayed(flushRunnable, delayMs);
+    }
+
+    /**
+     * 대기 중인 변경을 시간표별로 묶어 전송
+     */
+    private void flush() {
+        if (flushing) {
+            return;
+        }
+        List<Mutation> pending = store.values();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 시간표별로 묶기 (users/{userId}/timetables/{timetableId})
+        Map<String, List<Mutation>> byTimetable = new LinkedHashMap<>();
+        for (Mutation mutation : pending) {
+            String key = mutation.userId + "/" + mutation.timetableId;
+            List<Mutation> group = byTimetable.get(key);
+            if (group == null) {
+                group = new ArrayList<>();
+                byTimetable.put(key, group);
+            }
+            group.add(mutation);
+        }
+
+        flushing = true;
+        final int[] remaining = {byTimetable.size()};
+        final boolean[] retry = {false};
+        for (List<Mutation> group : byTimetable.values()) {
+            commitGroup(group, shouldRetry -> {
+                retry[0] |= shouldRetry;
+                if (--remaining[0] == 0) {
+                    onFlushFinished(retry[0]);
+                }
+            });
+        }
+    }
+
+    private interface GroupCallback {
+        void onDone(boolean shouldRetry);
+    }
+
+    private void commitGroup(List<Mutation> group, GroupCallback callback) {
+        Mutation first = group.get(0);
+        DocumentReference ref = db.collection("users").document(first.userId)
+                .collection("timetables").document(first.timetableId);
+
+        List<Object> removes = new ArrayList<>();
+        List<Object> adds = new ArrayList<>();
+        for (Mutation mutation : coalesce(group).values()) {
+            if (mutation.op == OP_ADD) {
+                adds.add(mutation.item);
+            } else {
+                removes.add(mutation.item);
+            }
+        }
+
+        WriteBatch batch = db.batch();
+        if (!removes.isEmpty()) {
+            batch.update(ref, "schedules", FieldValue.arrayRemove(removes.toArray()));
+        }
+        if (!adds.isEmpty()) {
+            batch.update(ref, "schedules", FieldValue.arrayUnion(adds.toArray()));
+        }
+
+        batch.commit()
+                .addOnSuccessListener(aVoid -> {
+                    Log.d(TAG, "시간표 변경 " + group.size() + "건 반영 (" + first.timetableId
+                            + ": 추가 " + adds.size() + ", 삭제 " + removes.size() + ")");
+                    removeAll(group);
+                    callback.onDone(false);
+                })
+                .addOnFailureListener(e -> {
+                    if (isPermanentFailure(e)) {
+                        Log.e(TAG, "재시도할 수 없는 오류로 변경 " + group.size() + "건 버림: " + first.timetableId, e);
+                        removeAll(group);
+                        callback.onDone(false);
+                    } else {
+                        Log.w(TAG, "시간표 변경 전송 실패, 나중에 재시도: " + first.timetableId, e);
+                        callback.onDone(true);
+                    }
+                });
+    }
+
+    private void onFlushFinished(boolean retry) {
+        flushing = false;
+        if (retry) {
+            // 여러 기기/화면이 동시에 재시도하지 않도록 약간의 무작위 지연 추가
+            long delay = backoffMs + random.nextInt((int) Math.min(backoffMs, 1000));
+            backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            Log.d(TAG, delay + "ms 후 재시도 (대기 " + store.size() + "건)");
+            scheduleFlush(delay);
+        } else {
+            backoffMs = INITIAL_BACKOFF_MS;
+            if (store.size() > 0) {
+                // 전송 중에 들어온 변경
+                scheduleFlush(FLUSH_DELAY_MS);
+            }
+        }
+    }
+
+    private void removeAll(List<Mutation> mutations) {
+        for (Mutation mutation : mutations) {
+            store.remove(mutation.id);
+        }
+    }
+
+    private List<Mutation> pendingFor(String userId, String timetableId) {
+        List<Mutation> result = new ArrayList<>();
+        for (Mutation mutation : store.values()) {
+            if (mutation.userId.equals(userId) && mutation.timetableId.equals(timetableId)) {
+                result.add(mutation);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 같은 수업(모든 필드가 같은 항목)에 대한 변경은 마지막 것만 남김
+     * 추가/삭제를 서로 상쇄하지 않고 마지막 상태를 그대로 보내므로 이미 일부가 반영됐어도 결과가 같음
+     */
+    private static Map<String, Mutation> coalesce(List<Mutation> mutations) {
+        Map<String, Mutation> latest = new LinkedHashMap<>();
+        for (Mutation mutation : mutations) {
+            String key = itemKey(mutation.item);
+            latest.remove(key);
+            latest.put(key, mutation);
+        }
+        return latest;
+    }
+
+    private static String itemKey(ScheduleItem item) {
+        return item.getDayIndex() + "|" + item.getStartHour() + ":" + item.getStartMinute()
+                + "|" + item.getEndHour() + ":" + item.getEndMinute()
+                + "|" + item.getSubjectName() + "|" + item.getProfessorName() + "|" + item.getLocation();
+    }
+
+    private static boolean isPermanentFailure(Exception e) {
+        if (!(e instanceof FirebaseFirestoreException)) {
+            return false;
+        }
+        switch (((FirebaseFirestoreException) e).getCode()) {
+            case NOT_FOUND:          // 시간표가 삭제됨
+            case PERMISSION_DENIED:  // 다른 계정의 변경 등
+            case INVALID_ARGUMENT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void registerNetworkCallback(Context context) {
+        ConnectivityManager connectivityManager = context.getSystemService(ConnectivityManager.class);
+        if (connectivityManager == null) {
+            return;
+        }
+        try {
+            connectivityManager.registerDefaultNetworkCallback(new ConnectivityManager.NetworkCallback() {
+                @Override
+                public void onAvailable(Network network) {
+                    // 콜백은 백그라운드 스레드에서 오므로 메인 스레드로 넘겨서 처리
+                    mainHandler.post(() -> {
+                        if (!flushing && store.size() > 0) {
+                            backoffMs = INITIAL_BACKOFF_MS;
+                            scheduleFlush(0);
+                        }
+                    });
+                }
+            });
+        } catch (RuntimeException e) {
+            Log.w(TAG, "네트워크 콜백 등록 실패, 백오프 재시도만 사용", e);
+        }
+    }
+
+    /**
+     * 대기 중인 변경 한 건
+     */
+    private static class Mutation {
+        String id;
+        String userId;
+        String timetableId;
+        int op;
+        ScheduleItem item;
+        long createdAt;
+    }
+
+    private static class MutationCodec implements RecordStore.Codec<Mutation> {
+        private static final int VERSION = 1;
+
+        @Override
+        public void write(DataOutputStream out, Mutation mutation) throws IOException {
+            out.writeByte(VERSION);
+            out.writeUTF(mutation.id);
+            out.writeUTF(mutation.userId);
+            out.writeUTF(mutation.timetableId);
+            out.writeByte(mutation.op);
+            out.writeLong(mutation.createdAt);
+            ScheduleItem item = mutation.item;
+            out.writeByte(item.getDayIndex());
+            out.writeByte(item.getStartHour());
+            out.writeByte(item.getStartMinute());
+            out.writeByte(item.getEndHour());
+            out.writeByte(item.getEndMinute());
+            RecordStore.writeNullableString(out, item.getSubjectName());
+            RecordStore.writeNullableString(out, item.getProfessorName());
+            RecordStore.writeNullableString(out, item.getLocation());
+        }
+
+        @Override
+        public Mutation read(DataInputStream in) throws IOException {
+            int version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 변경 형식: " + version);
+            }
+            Mutation mutation = new Mutation();
+            mutation.id = in.readUTF();
+            mutation.userId = in.readUTF();
+            mutation.timetableId = in.readUTF();
+            mutation.op = in.readByte();
+            mutation.createdAt = in.readLong();
+            int dayIndex = in.readByte();
+            int startHour = in.readByte();
+            int startMinute = in.readByte();
+            int endHour = in.readByte();
+            int endMinute = in.readByte();
+            mutation.item = new ScheduleItem(dayIndex, startHour, startMinute, endHour, endMinute,
+                    RecordStore.readNullableString(in), RecordStore.readNullableString(in),
+                    RecordStore.readNullableString(in));
+            return mutation;
+        }
+    }
+}
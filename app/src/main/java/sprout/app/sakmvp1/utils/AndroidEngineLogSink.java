@@ -0,0 +1,29 @@
+package sprout.app.sakmvp1.utils;
+
+import android.util.Log;
+import sprout.app.sakmvp1.engine.EngineLog;
+
+/**
+ * 졸업요건 엔진 로그를 android.util.Log(Logcat)로 전달
+ * 디버그 빌드에서만 SakApplication이 설치함
+ */
+public class AndroidEngineLogSink implements EngineLog.Sink {
+
+    @Override
+    public void log(int level, String tag, String message, Throwable error) {
+        switch (level) {
+            case EngineLog.ERROR:
+                Log.e(tag, message, error);
+                break;
+            case EngineLog.WARN:
+                Log.w(tag, message);
+                break;
+            case EngineLog.INFO:
+                Log.i(tag, message);
+                break;
+            default:
+                Log.d(tag, message);
+                break;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package sprout.app.sakmvp1.utils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 네임스페이스별 메모리 캐시
+ *
+ * 네임스페이스마다 유효 시간(TTL)과 최대 용량(가중치 합계)을 따로 지정
+ * 용량을 넘으면 가장 오래 사용하지 않은 항목부터 제거(LRU)하고,
+ * 유효 시간이 지난 항목은 get()에서 반환되지 않음
+ *
+ * stale-while-revalidate가 필요한 네임스페이스는 최대 보관 시간(maxAgeMs)을 TTL보다 길게 지정하고
+ * lookup()으로 조회하면 TTL이 지난 항목도 stale 표시와 함께 받을 수 있음
+ *
+ * 모든 네임스페이스는 자체 잠금으로 보호되므로 여러 스레드에서 동시에 사용 가능
+ */
+public final class CacheStore {
+
+    /**
+     * 항목의 가중치(대략적인 메모리 크기) 계산
+     */
+    public interface Weigher<V> {
+        int weigh(V value);
+    }
+
+    /** 모든 항목을 가중치 1로 취급 (항목 수 제한) */
+    public static <V> Weigher<V> unitWeigher() {
+        return value -> 1;
+    }
+
+    private final List<Namespace<?>> namespaces = new ArrayList<>();
+
+    /**
+     * 네임스페이스 생성
+     *
+     * @param name 통계/로그에 표시할 이름
+     * @param ttlMs 유효 시간 (밀리초)
+     * @param maxWeight 최대 가중치 합계
+     * @param weigher 항목 가중치 계산기
+     */
+    public synchronized <V> Namespace<V> namespace(String name, long ttlMs, long maxWeight, Weigher<V> weigher) {
+        return namespace(name, ttlMs, ttlMs, maxWeight, weigher);
+    }
+
+    /**
+     * stale 항목을 보관하는 네임스페이스 생성
+     *
+     * @param ttlMs 유효 시간 (이후에는 stale)
+     * @param maxAgeMs 최대 보관 시간 (이후에는 완전히 제거)
+     */
+    public synchronized <V> Namespace<V> namespace(String name, long ttlMs, long maxAgeMs, long maxWeight,
+                                                   Weigher<V> weigher) {
+        Namespace<V> namespace = new Namespace<>(name, ttlMs, Math.max(ttlMs, maxAgeMs), maxWeight, weigher);
+        namespaces.add(namespace);
+        return namespace;
+    }
+
+    /** 모든 네임스페이스 비우기 */
+    public synchronized void clearAll() {
+        for (Namespace<?> namespace : namespaces) {
+            namespace.clear();
+        }
+    }
+
+    /**
+     * 모든 네임스페이스를 최대 용량의 일정 비율까지 줄임 (메모리 부족 시)
+     * @param fraction 남길 비율 (0이면 전부 제거)
+     */
+    public synchronized void trimAll(float fraction) {
+        for (Namespace<?> namespace : namespaces) {
+            namespace.trimTo((long) (namespace.maxWeight * fraction));
+        }
+    }
+
+    /** 네임스페이스별 통계 요약 */
+    public synchronized String statsSummary() {
+        StringBuilder sb = new StringBuilder();
+        for (Namespace<?> namespace : namespaces) {
+            sb.append(namespace.stats()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * lookup() 결과 (값 + stale 여부)
+     */
+    public static final class Lookup<V> {
+        private final V value;
+        private final boolean stale;
+
+        Lookup(V value, boolean stale) {
+            this.value = value;
+            this.stale = stale;
+        }
+
+        public V getValue() { return value; }
+
+        /** 유효 시간이 지나 새로고침이 필요한 값인지 여부 */
+        public boolean isStale() { return stale; }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final int weight;
+        final long createdAt;
+
+        Entry(V value, int weight, long createdAt) {
+            this.value = value;
+            this.weight = weight;
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * TTL + LRU(가중치 기반) 캐시 한 구역
+     */
+    public static final class Namespace<V> {
+        private final String name;
+        private final long ttlMs;
+        private final long maxAgeMs;
+        private final long maxWeight;
+        private final Weigher<V> weigher;
+
+        // accessOrder=true: get() 시 맨 뒤로 이동하므로 맨 앞이 가장 오래 사용하지 않은 항목
+        private final LinkedHashMap<String, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long totalWeight;
+
+        private long hitCount;
+        private long staleHitCount;
+        private long missCount;
+        private long evictionCount;
+        private long expirationCount;
+
+        Namespace(String name, long ttlMs, long maxAgeMs, long maxWeight, Weigher<V> weigher) {
+            this.name = name;
+            this.ttlMs = ttlMs;
+            this.maxAgeMs = maxAgeMs;
+            this.maxWeight = maxWeight;
+            this.weigher = weigher;
+        }
+
+        /**
+         * 유효한 항목 조회
+         * @return 캐시된 값, 없거나 만료되었으면 null
+         */
+        public synchronized V get(String key) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                missCount++;
+                return null;
+            }
+            long now = System.currentTimeMillis();
+            if (isExpired(entry, now)) {
+                removeEntry(key, entry);
+                expirationCount++;
+                missCount++;
+                return null;
+            }
+            if (isStale(entry, now)) {
+                missCount++;
+                return null;
+            }
+            hitCount++;
+            return entry.value;
+        }
+
+        /**
+         * stale 항목까지 포함해 조회 (stale-while-revalidate용)
+         * @return 조회 결과, 없거나 최대 보관 시간이 지났으면 null
+         */
+        public synchronized Lookup<V> lookup(String key) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                missCount++;
+                return null;
+            }
+            long now = System.currentTimeMillis();
+            if (isExpired(entry, now)) {
+                removeEntry(key, entry);
+                expirationCount++;
+                missCount++;
+                return null;
+            }
+            boolean stale = isStale(entry, now);
+            if (stale) {
+                staleHitCount++;
+            } else {
+                hitCount++;
+            }
+            return new Lookup<>(entry.value, stale);
+        }
+
+        public synchronized void put(String key, V value) {
+            if (value == null) {
+                remove(key);
+                return;
+            }
+            int weight = Math.max(1, weigher.weigh(value));
+            Entry<V> previous = entries.put(key, new Entry<>(value, weight, System.currentTimeMillis()));
+            if (previous != null) {
+                totalWeight -= previous.weight;
+            }
+            totalWeight += weight;
+            trimTo(maxWeight);
+        }
+
+        public synchronized void remove(String key) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                removeEntry(key, entry);
+            }
+        }
+
+        public synchronized void clear() {
+            entries.clear();
+            totalWeight = 0;
+        }
+
+        /** 현재 저장된 항목 수 (만료된 항목 포함) */
+        public synchronized int size() {
+            return entries.size();
+        }
+
+        public synchronized long getHitCount() { return hitCount; }
+        public synchronized long getStaleHitCount() { return staleHitCount; }
+        public synchronized long getMissCount() { return missCount; }
+        public synchronized long getEvictionCount() { return evictionCount; }
+        public synchronized long getExpirationCount() { return expirationCount; }
+
+        public synchronized String stats() {
+            return name + ": " + entries.size() + "개, " + totalWeight + "/" + maxWeight
+                + " (hit " + hitCount + ", stale " + staleHitCount + ", miss " + missCount
+                + ", evict " + evictionCount + ", expire " + expirationCount + ")";
+        }
+
+        /**
+         * 가중치 합계가 limit 이하가 될 때까지 정리
+         * 만료된 항목을 먼저 제거하고, 그래도 넘치면 LRU 순서로 제거
+         */
+        synchronized void trimTo(long limit) {
+            if (totalWeight <= limit) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            Iterator<Map.Entry<String, Entry<V>>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                Entry<V> entry = it.next().getValue();
+                if (isExpired(entry, now)) {
+                    it.remove();
+                    totalWeight -= entry.weight;
+                    expirationCount++;
+                }
+            }
+            it = entries.entrySet().iterator();
+            while (totalWeight > limit && it.hasNext()) {
+                Entry<V> entry = it.next().getValue();
+                it.remove();
+                totalWeight -= entry.weight;
+                evictionCount++;
+            }
+        }
+
+        private boolean isStale(Entry<V> entry, long now) {
+            return now - entry.createdAt >= ttlMs;
+        }
+
+        private boolean isExpired(Entry<V> entry, long now) {
+            return now - entry.createdAt >= maxAgeMs;
+        }
+
+        private void removeEntry(String key, Entry<V> entry) {
+            entries.remove(key);
+            totalWeight -= entry.weight;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package sprout.app.sakmvp1.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 입력 중인 검색어로 바로 찾을 수 있는 한글 검색 색인 (메인 스레드 전용)
+ *
+ * 글자를 자모 단위로 풀어서 비교하므로 조합 중인 글자도 찾을 수 있음 ("정보철" → "정보처리")
+ * 검색어가 초성만으로 되어 있으면 초성으로 비교 ("ㅈㅂㅊㄹ" → "정보처리기사")
+ * 자모 2-gram → 항목 ID 역색인으로 후보를 좁힌 뒤 후보만 실제 포함 여부를 확인하므로
+ * 항목 수가 많아도 글자를 칠 때마다 전체 문자열을 훑지 않음
+ *
+ * 대소문자와 공백은 무시
+ */
+public final class HangulSearchIndex {
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_LAST = 0xD7A3;
+
+    private static final String[] CHOSEONG = {"ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    // 겹모음/겹받침은 입력 순서대로 풀어 둠 (ㅘ → ㅗㅏ, ㄺ → ㄹㄱ)
+    private static final String[] JUNGSEONG = {"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONGSEONG = {"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ",
+            "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    /** 검색어에 직접 입력된 겹자모 (호환 자모) */
+    private static final Map<Character, String> COMPOUND_JAMO = new HashMap<>();
+
+    static {
+        String[][] pairs = {{"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"},
+                {"ㄼ", "ㄹㅂ"}, {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"},
+                {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"},
+                {"ㅢ", "ㅡㅣ"}};
+        for (String[] pair : pairs) {
+            COMPOUND_JAMO.put(pair[0].charAt(0), pair[1]);
+        }
+    }
+
+    /**
+     * 항목 하나의 검색용 문자열
+     */
+    private static final class Entry {
+        final String jamo;
+        final String choseong;
+
+        Entry(String jamo, String choseong) {
+            this.jamo = jamo;
+            this.choseong = choseong;
+        }
+    }
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<String, Set<String>> jamoPostings = new HashMap<>();
+    private final Map<String, Set<String>> choseongPostings = new HashMap<>();
+
+    /**
+     * 항목 추가/교체 (texts는 이어 붙여 하나의 검색 대상으로 취급, null은 무시)
+     */
+    public void put(String id, String... texts) {
+        StringBuilder jamo = new StringBuilder();
+        StringBuilder choseong = new StringBuilder();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            // 필드 경계를 넘는 일치를 막기 위해 구분 문자 삽입
+            if (jamo.length() > 0) {
+                jamo.append('\n');
+                choseong.append('\n');
+            }
+            jamo.append(toJamo(text));
+            choseong.append(toChoseong(text));
+        }
+        Entry entry = new Entry(jamo.toString(), choseong.toString());
+        Entry previous = entries.get(id);
+        if (previous != null) {
+            if (previous.jamo.equals(entry.jamo)) {
+                return;  // 검색 대상 문자열이 그대로면 색인도 그대로 (북마크 수만 바뀐 경우 등)
+            }
+            remove(id);
+        }
+        entries.put(id, entry);
+        addPostings(jamoPostings, entry.jamo, id);
+        addPostings(choseongPostings, entry.choseong, id);
+    }
+
+    public void remove(String id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        removePostings(jamoPostings, entry.jamo, id);
+        removePostings(choseongPostings, entry.choseong, id);
+    }
+
+    public void clear() {
+        entries.clear();
+        jamoPostings.clear();
+        choseongPostings.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 검색어를 포함하는 항목 ID
+     * @return 검색어가 비어 있으면 null (걸러낼 필요 없음)
+     */
+    public Set<String> search(String query) {
+        if (query == null) {
+            return null;
+        }
+        boolean choseongOnly = isChoseongOnly(query);
+        String key = choseongOnly ? toChoseong(query) : toJamo(query);
+        if (key.isEmpty()) {
+            return null;
+        }
+        Map<String, Set<String>> postings = choseongOnly ? choseongPostings : jamoPostings;
+
+        // 후보: 검색어 2-gram마다 게시 목록을 교집합 (가장 짧은 목록부터)
+        Set<String> candidates;
+        if (key.length() < 2) {
+            candidates = entries.keySet();
+        } else {
+            List<Set<String>> lists = new ArrayList<>();
+            for (int i = 0; i + 1 < key.length(); i++) {
+                Set<String> ids = postings.get(key.substring(i, i + 2));
+                if (ids == null) {
+                    return Collections.emptySet();
+                }
+                lists.add(ids);
+            }
+            Collections.sort(lists, (a, b) -> Integer.compare(a.size(), b.size()));
+            candidates = lists.get(0);
+        }
+
+        // 2-gram이 모두 있어도 순서대로 이어져 있는지는 실제 문자열로 확인
+        Set<String> result = new HashSet<>();
+        for (String id : candidates) {
+            Entry entry = entries.get(id);
+            String text = choseongOnly ? entry.choseong : entry.jamo;
+            if (text.contains(key)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private static void addPostings(Map<String, Set<String>> postings, String text, String id) {
+        for (int i = 0; i + 1 < text.length(); i++) {
+            String gram = text.substring(i, i + 2);
+            Set<String> ids = postings.get(gram);
+            if (ids == null) {
+                ids = new HashSet<>();
+                postings.put(gram, ids);
+            }
+            ids.add(id);
+        }
+    }
+
+    private static void removePostings(Map<String, Set<String>> postings, String text, String id) {
+        for (int i = 0; i + 1 < text.length(); i++) {
+            String gram = text.substring(i, i + 2);
+            Set<String> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * 완성형 글자를 자모로 풀어 씀 (소문자, 공백 제거)
+     */
+    public static String toJamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                sb.append(CHOSEONG[index / 588])
+                        .append(JUNGSEONG[(index % 588) / 28])
+                        .append(JONGSEONG[index % 28]);
+            } else {
+                String compound = COMPOUND_JAMO.get(c);
+                sb.append(compound != null ? compound : String.valueOf(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 완성형 글자는 초성만 남김 (그 외 문자는 그대로, 공백 제거)
+     */
+    public static String toChoseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                sb.append(CHOSEONG[(c - SYLLABLE_BASE) / 588]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 공백을 뺀 모든 글자가 자음(ㄱ~ㅎ)이고 두 글자 이상이면 초성 검색 */
+    private static boolean isChoseongOnly(String query) {
+        int count = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < 'ㄱ' || c > 'ㅎ' || COMPOUND_JAMO.containsKey(c)) {
+                return false;
+            }
+            count++;
+        }
+        return count >= 2;
+    }
+}
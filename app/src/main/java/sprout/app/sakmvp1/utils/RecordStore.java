@@ -0,0 +1,487 @@
+package sprout.app.sakmvp1.utils;
+
+import android.util.AtomicFile;
+import android.util.Log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+
+/**
+ * 키별 레코드 저장소 (추가 전용 변경 로그 + 백그라운드 압축)
+ *
+ * 파일 전체를 다시 쓰지 않고 변경 한 건(PUT/REMOVE/CLEAR)을 로그 끝에 덧붙이므로 수정 한 번의 I/O가 O(1)
+ * 메모리에는 키 → 인코딩된 바이트를 보관해 조회는 파일을 읽지 않고, 디코딩한 새 객체를 돌려줌
+ * (반환된 객체를 고쳐도 저장소에는 반영되지 않으므로 put으로 다시 저장)
+ *
+ * 파일 I/O는 모두 전용 스레드에서 순서대로 처리하므로 메인 스레드에서 호출해도 됨
+ * 로그 항목이 살아 있는 레코드 수의 두 배를 넘으면 현재 상태만 담은 파일로 다시 씀(압축)
+ *
+ * 로그 항목 형식: [본문 길이 int][CRC32 int][op byte][key UTF][값 바이트]
+ * 마지막 항목이 쓰다 끊긴 경우(앱 종료 등) 그 항목부터 잘라내고 이전 상태로 복구
+ */
+public final class RecordStore<V> {
+    private static final String TAG = "RecordStore";
+
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+    private static final byte OP_CLEAR = 3;
+
+    /** 이보다 로그 항목이 적으면 압축하지 않음 */
+    private static final int COMPACT_MIN_ENTRIES = 64;
+
+    /** 같은 파일은 프로세스에서 하나의 인스턴스만 사용 (화면마다 new 해도 상태 공유) */
+    private static final Map<String, RecordStore<?>> OPEN_STORES = new HashMap<>();
+
+    /** 모든 저장소가 공유하는 파일 I/O 스레드 */
+    private static final ExecutorService IO_EXECUTOR = Executors.newSingleThreadExecutor();
+
+    /**
+     * 값 ↔ 바이트 변환
+     */
+    public interface Codec<V> {
+        void write(DataOutputStream out, V value) throws IOException;
+
+        V read(DataInputStream in) throws IOException;
+    }
+
+    /**
+     * 로그 파일이 아직 없을 때 한 번 가져올 기존 데이터 (예: SharedPreferences의 JSON)
+     */
+    public interface LegacySource<V> {
+        /** 키 → 값 (순서 유지) */
+        Map<String, V> load();
+
+        /** 가져온 뒤 기존 데이터 삭제 */
+        void clear();
+    }
+
+    private final AtomicFile file;
+    private final Codec<V> codec;
+    private final LinkedHashMap<String, byte[]> records = new LinkedHashMap<>();
+    private final CountDownLatch loaded = new CountDownLatch(1);
+
+    // 아래 필드는 IO_EXECUTOR에서만 사용
+    private DataOutputStream appender;
+    private int logEntries;
+
+    private RecordStore(File file, Codec<V> codec) {
+        this.file = new AtomicFile(file);
+        this.codec = codec;
+    }
+
+    /**
+     * 저장소 열기 (파일 읽기는 백그라운드에서 시작하고, 첫 조회가 읽기 완료를 기다림)
+     *
+     * @param legacy 로그 파일이 없을 때 가져올 기존 데이터 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> RecordStore<V> open(File file, Codec<V> codec, LegacySource<V> legacy) {
+        synchronized (OPEN_STORES) {
+            RecordStore<?> existing = OPEN_STORES.get(file.getAbsolutePath());
+            if (existing != null) {
+                return (RecordStore<V>) existing;
+            }
+            RecordStore<V> store = new RecordStore<>(file, codec);
+            OPEN_STORES.put(file.getAbsolutePath(), store);
+            IO_EXECUTOR.execute(() -> store.load(legacy));
+            return store;
+        }
+    }
+
+    // ---------- 조회 ----------
+
+    public V get(String key) {
+        byte[] bytes;
+        awaitLoaded();
+        synchronized (this) {
+            bytes = records.get(key);
+        }
+        return bytes != null ? decode(bytes) : null;
+    }
+
+    public boolean contains(String key) {
+        awaitLoaded();
+        synchronized (this) {
+            return records.containsKey(key);
+        }
+    }
+
+    /** 모든 값 (저장 순서) */
+    public List<V> values() {
+        List<byte[]> snapshot;
+        awaitLoaded();
+        synchronized (this) {
+            snapshot = new ArrayList<>(records.values());
+        }
+        List<V> values = new ArrayList<>(snapshot.size());
+        for (byte[] bytes : snapshot) {
+            V value = decode(bytes);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    public int size() {
+        awaitLoaded();
+        synchronized (this) {
+            return records.size();
+        }
+    }
+
+    // ---------- 변경 ----------
+
+    public void put(String key, V value) {
+        byte[] bytes = encode(value);
+        byte[] entry = entry(OP_PUT, key, bytes);
+        awaitLoaded();
+        synchronized (this) {
+            records.put(key, bytes);
+            enqueue(entry);
+        }
+    }
+
+    /**
+     * @return 삭제했으면 true
+     */
+    public boolean remove(String key) {
+        byte[] entry = entry(OP_REMOVE, key, null);
+        awaitLoaded();
+        synchronized (this) {
+            if (records.remove(key) == null) {
+                return false;
+            }
+            enqueue(entry);
+            return true;
+        }
+    }
+
+    public void clear() {
+        byte[] entry = entry(OP_CLEAR, "", null);
+        awaitLoaded();
+        synchronized (this) {
+            if (records.isEmpty()) {
+                return;
+            }
+            records.clear();
+            enqueue(entry);
+        }
+    }
+
+    /**
+     * 전체를 주어진 값들로 교체 (CLEAR + PUT들을 한 번에 덧붙임)
+     */
+    public void replaceAll(Map<String, V> values) {
+        LinkedHashMap<String, byte[]> encoded = new LinkedHashMap<>();
+        ByteArrayOutputStream batch = new ByteArrayOutputStream();
+        try {
+            batch.write(entry(OP_CLEAR, "", null));
+            for (Map.Entry<String, V> e : values.entrySet()) {
+                byte[] bytes = encode(e.getValue());
+                encoded.put(e.getKey(), bytes);
+                batch.write(entry(OP_PUT, e.getKey(), bytes));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        awaitLoaded();
+        synchronized (this) {
+            records.clear();
+            records.putAll(encoded);
+            enqueue(batch.toByteArray(), 1 + encoded.size());
+        }
+    }
+
+    // ---------- Codec 도우미 ----------
+
+    /** null을 허용하는 문자열 쓰기 (존재 여부 boolean + UTF) */
+    public static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    public static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    // ---------- 내부: 메모리 ----------
+
+    // 파일 읽기가 끝날 때까지 대기 (읽는 쪽이 잠금을 쓰므로 잠금 밖에서 호출)
+    private void awaitLoaded() {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                loaded.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private byte[] encode(V value) {
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(buffer);
+            codec.write(out, value);
+            out.flush();
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("레코드 인코딩 실패", e);
+        }
+    }
+
+    private V decode(byte[] bytes) {
+        try {
+            return codec.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        } catch (IOException e) {
+            Log.w(TAG, "레코드 디코딩 실패", e);
+            return null;
+        }
+    }
+
+    private static byte[] entry(byte op, String key, byte[] value) {
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            DataOutputStream bodyOut = new DataOutputStream(body);
+            bodyOut.writeByte(op);
+            bodyOut.writeUTF(key);
+            if (value != null) {
+                bodyOut.write(value);
+            }
+            bodyOut.flush();
+            byte[] bodyBytes = body.toByteArray();
+
+            CRC32 crc = new CRC32();
+            crc.update(bodyBytes);
+
+            ByteArrayOutputStream entry = new ByteArrayOutputStream(bodyBytes.length + 8);
+            DataOutputStream entryOut = new DataOutputStream(entry);
+            entryOut.writeInt(bodyBytes.length);
+            entryOut.writeInt((int) crc.getValue());
+            entryOut.write(bodyBytes);
+            entryOut.flush();
+            return entry.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ---------- 내부: 파일 (IO_EXECUTOR) ----------
+
+    private void enqueue(byte[] entry) {
+        enqueue(entry, 1);
+    }
+
+    // 메모리 변경과 같은 잠금 안에서 호출되므로 파일에도 같은 순서로 기록됨
+    private void enqueue(byte[] bytes, int entryCount) {
+        IO_EXECUTOR.execute(() -> append(bytes, entryCount));
+    }
+
+    private void load(LegacySource<V> legacy) {
+        try {
+            File base = file.getBaseFile();
+            if (!base.exists() && legacy != null && !new File(base.getPath() + ".bak").exists()) {
+                importLegacy(legacy);
+            } else {
+                replay();
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "레코드 파일 읽기 실패: " + file.getBaseFile(), e);
+        } finally {
+            loaded.countDown();
+        }
+    }
+
+    private void importLegacy(LegacySource<V> legacy) throws IOException {
+        Map<String, V> values = legacy.load();
+        synchronized (this) {
+            for (Map.Entry<String, V> e : values.entrySet()) {
+                records.put(e.getKey(), encode(e.getValue()));
+            }
+        }
+        writeSnapshot();
+        legacy.clear();
+        Log.d(TAG, "기존 데이터 " + values.size() + "건을 레코드 파일로 옮김: " + file.getBaseFile().getName());
+    }
+
+    private void replay() throws IOException {
+        long validLength = 0;
+        int entries = 0;
+        boolean truncated = false;
+        try (InputStream raw = file.openRead();
+             DataInputStream in = new DataInputStream(new BufferedInputStream(raw))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (length <= 0) {
+                    truncated = true;
+                    break;
+                }
+                int expectedCrc;
+                byte[] body = new byte[length];
+                try {
+                    expectedCrc = in.readInt();
+                    in.readFully(body);
+                } catch (EOFException e) {
+                    truncated = true;
+                    break;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(body);
+                if ((int) crc.getValue() != expectedCrc) {
+                    truncated = true;
+                    break;
+                }
+                apply(body);
+                validLength += 8 + length;
+                entries++;
+            }
+        } catch (FileNotFoundException e) {
+            return;
+        }
+
+        logEntries = entries;
+        if (truncated) {
+            Log.w(TAG, "손상된 로그 항목 잘라냄: " + file.getBaseFile().getName() + " @" + validLength);
+            try (RandomAccessFile raf = new RandomAccessFile(file.getBaseFile(), "rw")) {
+                raf.setLength(validLength);
+            }
+        }
+        maybeCompact();
+    }
+
+    private void apply(byte[] body) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        byte op = in.readByte();
+        String key = in.readUTF();
+        synchronized (this) {
+            switch (op) {
+                case OP_PUT:
+                    int offset = body.length - in.available();
+                    records.put(key, Arrays.copyOfRange(body, offset, body.length));
+                    break;
+                case OP_REMOVE:
+                    records.remove(key);
+                    break;
+                case OP_CLEAR:
+                    records.clear();
+                    break;
+                default:
+                    throw new IOException("알 수 없는 로그 항목: " + op);
+            }
+        }
+    }
+
+    private void append(byte[] bytes, int entryCount) {
+        try {
+            if (appender == null) {
+                ensureParentDir();
+                appender = new DataOutputStream(new BufferedOutputStream(
+                    new FileOutputStream(file.getBaseFile(), true)));
+            }
+            appender.write(bytes);
+            appender.flush();
+            logEntries += entryCount;
+        } catch (IOException e) {
+            Log.e(TAG, "로그 추가 실패: " + file.getBaseFile().getName(), e);
+            closeAppender();
+            return;
+        }
+        maybeCompact();
+    }
+
+    private void maybeCompact() {
+        int live;
+        synchronized (this) {
+            live = records.size();
+        }
+        if (logEntries < COMPACT_MIN_ENTRIES || logEntries <= live * 2) {
+            return;
+        }
+        try {
+            writeSnapshot();
+        } catch (IOException e) {
+            Log.e(TAG, "로그 압축 실패: " + file.getBaseFile().getName(), e);
+        }
+    }
+
+    /**
+     * 현재 메모리 상태를 PUT 항목들로 새 파일에 기록 후 교체
+     * 대기 중인 변경은 이후에 다시 덧붙여지며, 같은 변경을 두 번 적용해도 결과는 같음
+     */
+    private void writeSnapshot() throws IOException {
+        List<byte[]> entries = new ArrayList<>();
+        synchronized (this) {
+            for (Map.Entry<String, byte[]> e : records.entrySet()) {
+                entries.add(entry(OP_PUT, e.getKey(), e.getValue()));
+            }
+        }
+
+        closeAppender();
+        ensureParentDir();
+        FileOutputStream out = file.startWrite();
+        try {
+            BufferedOutputStream buffered = new BufferedOutputStream(out);
+            for (byte[] entry : entries) {
+                buffered.write(entry);
+            }
+            buffered.flush();
+            file.finishWrite(out);
+        } catch (IOException e) {
+            file.failWrite(out);
+            throw e;
+        }
+        int before = logEntries;
+        logEntries = entries.size();
+        Log.d(TAG, "로그 압축: " + file.getBaseFile().getName() + " " + before + " → " + logEntries + "건");
+    }
+
+    private void ensureParentDir() throws IOException {
+        File dir = file.getBaseFile().getParentFile();
+        if (dir != null && !dir.exists() && !dir.mkdirs()) {
+            throw new IOException("디렉터리 생성 실패: " + dir);
+        }
+    }
+
+    private void closeAppender() {
+        if (appender != null) {
+            try {
+                appender.close();
+            } catch (IOException ignored) {
+            }
+            appender = null;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package sprout.app.sakmvp1.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
+import com.google.android.gms.tasks.CancellationToken;
+import com.google.android.gms.tasks.CancellationTokenSource;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.TaskCompletionSource;
+import com.google.android.gms.tasks.Tasks;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 화면 수명에 묶인 비동기 작업 범위
+ *
+ * bind()로 감싼 Task는 범위가 취소되면(Activity onDestroy) 바로 취소 상태로 끝나므로
+ * 성공/실패 리스너가 더 이상 호출되지 않고, 이어지는 단계(onSuccessTask 등)도 실행되지 않음
+ * 마감 시간을 지정하면 그 안에 끝나지 않은 Task는 TimeoutException으로 실패
+ *
+ * 사용 예:
+ *   taskScope = TaskScope.of(this);
+ *   taskScope.bind(dataManager.getGraduationRules(..., taskScope.getToken()), 20_000)
+ *       .addOnSuccessListener(rules -> ...)
+ */
+public final class TaskScope implements DefaultLifecycleObserver {
+
+    /** 리스너를 완료한 스레드에서 바로 실행 (가벼운 결과 전달용) */
+    private static final Executor DIRECT = Runnable::run;
+
+    private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+
+    private final CancellationTokenSource cancellation = new CancellationTokenSource();
+
+    /**
+     * LifecycleOwner(Activity/Fragment)가 destroy되면 자동으로 취소되는 범위 생성
+     */
+    public static TaskScope of(LifecycleOwner owner) {
+        TaskScope scope = new TaskScope();
+        owner.getLifecycle().addObserver(scope);
+        return scope;
+    }
+
+    /** 수동으로 cancel()을 호출해야 하는 범위 (매니저 등 수명 주기가 없는 곳) */
+    public TaskScope() {
+    }
+
+    /** FirebaseDataManager 등 작업을 시작하는 쪽에 넘겨줄 취소 토큰 */
+    public CancellationToken getToken() {
+        return cancellation.getToken();
+    }
+
+    public boolean isCancelled() {
+        return cancellation.getToken().isCancellationRequested();
+    }
+
+    public void cancel() {
+        cancellation.cancel();
+    }
+
+    @Override
+    public void onDestroy(@NonNull LifecycleOwner owner) {
+        owner.getLifecycle().removeObserver(this);
+        cancel();
+    }
+
+    /**
+     * 범위가 취소되면 함께 취소되는 Task 반환
+     */
+    public <T> Task<T> bind(Task<T> task) {
+        return cancellable(task, getToken());
+    }
+
+    /**
+     * 범위 취소 + 마감 시간이 적용된 Task 반환
+     * 범위 취소가 마감 시간 바깥에 있어야 취소가 실패(CancellationException)로 바뀌지 않음
+     */
+    public <T> Task<T> bind(Task<T> task, long timeoutMs) {
+        return cancellable(withDeadline(task, timeoutMs, null), getToken());
+    }
+
+    // ---------- 정적 도우미 ----------
+
+    /**
+     * 토큰이 취소되면 원래 Task와 상관없이 취소 상태로 끝나는 Task
+     * 원래 Task가 취소되면 CancellationException으로 실패
+     * (같은 토큰으로 원래 Task가 먼저 취소된 경우는 실패로 넘기지 않고 토큰에 의한 취소를 기다림)
+     */
+    public static <T> Task<T> cancellable(Task<T> task, @Nullable CancellationToken token) {
+        if (token == null) {
+            return task;
+        }
+        if (token.isCancellationRequested()) {
+            return Tasks.forCanceled();
+        }
+        TaskCompletionSource<T> source = new TaskCompletionSource<>(token);
+        task.addOnCompleteListener(DIRECT, done -> {
+            if (!token.isCancellationRequested()) {
+                complete(source, done);
+            }
+        });
+        return source.getTask();
+    }
+
+    /**
+     * timeoutMs 안에 끝나지 않으면 TimeoutException으로 실패하는 Task
+     *
+     * @param onTimeout 시간 초과 시 함께 취소할 작업 (없으면 null)
+     */
+    public static <T> Task<T> withDeadline(Task<T> task, long timeoutMs,
+                                           @Nullable CancellationTokenSource onTimeout) {
+        if (task.isComplete()) {
+            return task;
+        }
+        TaskCompletionSource<T> source = new TaskCompletionSource<>();
+        Runnable timeout = () -> {
+            if (source.trySetException(new TimeoutException(timeoutMs + "ms 안에 완료되지 않음"))
+                    && onTimeout != null) {
+                onTimeout.cancel();
+            }
+        };
+        MAIN_HANDLER.postDelayed(timeout, timeoutMs);
+        task.addOnCompleteListener(DIRECT, done -> {
+            MAIN_HANDLER.removeCallbacks(timeout);
+            complete(source, done);
+        });
+        return source.getTask();
+    }
+
+    private static <T> void complete(TaskCompletionSource<T> source, Task<T> done) {
+        if (done.isCanceled()) {
+            source.trySetException(new CancellationException("작업이 취소됨"));
+        } else if (done.isSuccessful()) {
+            source.trySetResult(done.getResult());
+        } else {
+            Exception e = done.getException();
+            source.trySetException(e != null ? e : new Exception("알 수 없는 오류"));
+        }
+    }
+}
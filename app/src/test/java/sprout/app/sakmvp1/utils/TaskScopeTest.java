@@ -0,0 +1,92 @@
+package sprout.app.sakmvp1.utils;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.TaskCompletionSource;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * TaskScope.bind()가 범위 취소 뒤에 성공/실패 리스너를 호출하지 않는지 확인
+ * 리스너는 메인 스레드 대신 호출한 스레드에서 바로 실행 (로컬 JVM 테스트)
+ */
+public class TaskScopeTest {
+
+    private static final Executor DIRECT = Runnable::run;
+    private static final long TIMEOUT_MS = 60_000;
+
+    @Test
+    public void cancelDuringTimedBind_firesNoFailureListener() {
+        TaskScope scope = new TaskScope();
+        TaskCompletionSource<String> load = new TaskCompletionSource<>();
+        List<String> calls = new ArrayList<>();
+
+        Task<String> bound = scope.bind(load.getTask(), TIMEOUT_MS)
+                .addOnSuccessListener(DIRECT, result -> calls.add("success"))
+                .addOnFailureListener(DIRECT, e -> calls.add("failure: " + e));
+
+        // 화면이 닫히면 범위가 취소되고, 같은 토큰을 받은 로드도 취소 예외로 끝남
+        scope.cancel();
+        load.trySetException(new CancellationException("작업이 취소됨"));
+
+        assertTrue(scope.isCancelled());
+        assertFalse(bound.isSuccessful());
+        assertTrue(calls.toString(), calls.isEmpty());
+    }
+
+    @Test
+    public void cancelDuringTimedBind_ignoresLateResult() {
+        TaskScope scope = new TaskScope();
+        TaskCompletionSource<String> load = new TaskCompletionSource<>();
+        List<String> calls = new ArrayList<>();
+
+        Task<String> bound = scope.bind(load.getTask(), TIMEOUT_MS)
+                .addOnSuccessListener(DIRECT, result -> calls.add("success"))
+                .addOnFailureListener(DIRECT, e -> calls.add("failure: " + e));
+
+        scope.cancel();
+        load.trySetResult("늦은 결과");
+
+        assertFalse(bound.isSuccessful());
+        assertTrue(calls.toString(), calls.isEmpty());
+    }
+
+    @Test
+    public void timedBind_passesFailureWhileScopeIsActive() {
+        TaskScope scope = new TaskScope();
+        TaskCompletionSource<String> load = new TaskCompletionSource<>();
+        List<Exception> failures = new ArrayList<>();
+
+        scope.bind(load.getTask(), TIMEOUT_MS)
+                .addOnFailureListener(DIRECT, failures::add);
+
+        Exception error = new Exception("졸업요건 문서를 찾을 수 없습니다");
+        load.trySetException(error);
+
+        assertEquals(1, failures.size());
+        assertSame(error, failures.get(0));
+    }
+
+    @Test
+    public void timedBind_passesResultWhileScopeIsActive() {
+        TaskScope scope = new TaskScope();
+        TaskCompletionSource<String> load = new TaskCompletionSource<>();
+        List<String> results = new ArrayList<>();
+
+        scope.bind(load.getTask(), TIMEOUT_MS)
+                .addOnSuccessListener(DIRECT, results::add);
+        load.trySetResult("규칙");
+
+        assertEquals(1, results.size());
+        assertEquals("규칙", results.get(0));
+    }
+}
@@ -0,0 +1,35 @@
+plugins {
+    java
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+}
+
+dependencies {
+    implementation(project(":grad-engine"))
+    jmhImplementation(testFixtures(project(":grad-engine")))
+}
+
+// 실행: ./gradlew :engine-bench:jmh
+// 특정 벤치마크만: ./gradlew :engine-bench:jmh -PjmhIncludes=GraduationRulesBenchmark
+// 결과: engine-bench/build/results/jmh/results.json
+jmh {
+    jmhVersion.set("1.37")
+    benchmarkMode.set(listOf("thrpt", "avgt"))
+    timeUnit.set("ns")
+    profilers.add("gc")
+    fork.set(1)
+    warmupIterations.set(3)
+    warmup.set("1s")
+    iterations.set(5)
+    timeOnIteration.set("1s")
+    resultFormat.set("JSON")
+    (project.findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+}
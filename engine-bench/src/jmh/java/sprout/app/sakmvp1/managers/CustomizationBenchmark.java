@@ -0,0 +1,35 @@
+package sprout.app.sakmvp1.managers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import sprout.app.sakmvp1.models.GraduationRules;
+import sprout.app.sakmvp1.models.SyntheticCohorts;
+import sprout.app.sakmvp1.models.UserCustomizedRequirements;
+
+/**
+ * CustomizedRequirementsManager.applyCustomizations 벤치마크
+ * (Firebase 없이 동일 로직인 RequirementCustomizer.apply 측정)
+ */
+@State(Scope.Thread)
+public class CustomizationBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    public SyntheticCohorts.Size size;
+
+    private GraduationRules baseRules;
+    private UserCustomizedRequirements customizations;
+
+    @Setup
+    public void setUp() {
+        baseRules = SyntheticCohorts.rules(size, 42L);
+        customizations = SyntheticCohorts.customizations(baseRules);
+    }
+
+    @Benchmark
+    public GraduationRules applyCustomizations() {
+        return RequirementCustomizer.apply(baseRules, customizations, "major");
+    }
+}
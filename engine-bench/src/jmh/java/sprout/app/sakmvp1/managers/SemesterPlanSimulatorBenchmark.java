@@ -0,0 +1,68 @@
+package sprout.app.sakmvp1.managers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import sprout.app.sakmvp1.models.GraduationRules;
+import sprout.app.sakmvp1.models.SyntheticCohorts;
+import sprout.app.sakmvp1.models.TakenCourse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * SemesterPlanSimulator.simulate 벤치마크
+ * 앞 1~2학기를 공유하는 4학기 계획 변형 planCount개 (학기당 6과목)
+ */
+@State(Scope.Thread)
+public class SemesterPlanSimulatorBenchmark {
+
+    @Param({"100", "500"})
+    public int planCount;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private GraduationRules rules;
+    private List<TakenCourse> takenCourses;
+    private List<SemesterPlanSimulator.Plan> plans;
+    private SemesterPlanSimulator.Options options;
+
+    @Setup
+    public void setUp() {
+        rules = SyntheticCohorts.rules(SyntheticCohorts.Size.MEDIUM, 42L);
+        List<TakenCourse> pool = SyntheticCohorts.takenCourses(rules, 160, 7L);
+        takenCourses = new ArrayList<>(pool.subList(0, 60));
+        List<TakenCourse> future = pool.subList(60, pool.size());
+
+        Random random = new Random(42L);
+        List<SemesterPlanSimulator.Semester> shared = new ArrayList<>();
+        for (int s = 0; s < 2; s++) {
+            shared.add(semester("공통" + s, future, random));
+        }
+        plans = new ArrayList<>(planCount);
+        for (int p = 0; p < planCount; p++) {
+            List<SemesterPlanSimulator.Semester> semesters = new ArrayList<>(shared.subList(0, 1 + random.nextInt(2)));
+            while (semesters.size() < 4) {
+                semesters.add(semester("학기" + semesters.size(), future, random));
+            }
+            plans.add(new SemesterPlanSimulator.Plan("계획" + p, semesters));
+        }
+        options = new SemesterPlanSimulator.Options().setParallelism(parallelism);
+    }
+
+    private static SemesterPlanSimulator.Semester semester(String label, List<TakenCourse> future, Random random) {
+        List<TakenCourse> courses = new ArrayList<>();
+        for (int c = 0; c < 6; c++) {
+            courses.add(future.get(random.nextInt(future.size())));
+        }
+        return new SemesterPlanSimulator.Semester(label, courses);
+    }
+
+    @Benchmark
+    public SemesterPlanSimulator.Result simulate() {
+        return SemesterPlanSimulator.simulate(rules, takenCourses, plans, options);
+    }
+}
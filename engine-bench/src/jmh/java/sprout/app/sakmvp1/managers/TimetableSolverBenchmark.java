@@ -0,0 +1,72 @@
+package sprout.app.sakmvp1.managers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import sprout.app.sakmvp1.models.CourseSection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * TimetableSolver.solve 벤치마크
+ * 추천 과목 30개 이상, 과목당 분반 3~4개(주 2회 75분 수업) 기준
+ */
+@State(Scope.Thread)
+public class TimetableSolverBenchmark {
+
+    private static final String[] CATEGORIES = {"교양필수", "전공필수", "학부공통", "전공선택", "소양", "교양선택"};
+
+    @Param({"32", "48"})
+    public int courseCount;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private List<TimetableSolver.Candidate> candidates;
+    private TimetableSolver.Options options;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        candidates = new ArrayList<>(courseCount);
+        for (int i = 0; i < courseCount; i++) {
+            String name = "과목" + i;
+            List<CourseSection> sections = new ArrayList<>();
+            int sectionCount = 3 + random.nextInt(2);
+            for (int s = 0; s < sectionCount; s++) {
+                int day = random.nextInt(5);
+                int start = (9 + random.nextInt(8)) * 60 + (random.nextBoolean() ? 0 : 30);
+                sections.add(new CourseSection(name, "0" + (s + 1), "교수" + s, "강의실" + s, Arrays.asList(
+                    new CourseSection.Meeting(day, start, start + 75),
+                    new CourseSection.Meeting((day + 2) % 5, start, start + 75))));
+            }
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            int priority = priorityOf(category, random);
+            candidates.add(new TimetableSolver.Candidate(name, category, 2 + random.nextInt(2), priority, sections));
+        }
+        options = new TimetableSolver.Options()
+            .setMinCredits(15)
+            .setMaxCredits(21)
+            .setMaxResults(10)
+            .setBlockedSlots(Arrays.asList(new CourseSection.Meeting(2, 12 * 60, 13 * 60)))
+            .setParallelism(parallelism);
+    }
+
+    @Benchmark
+    public TimetableSolver.Result solveTop10() {
+        return TimetableSolver.solve(candidates, options);
+    }
+
+    /**
+     * RecommendationResultActivity.calculatePriority와 같은 분포의 우선순위
+     * (카테고리 기본값 + 부족 학점 구간 0/10/20)
+     */
+    private static int priorityOf(String category, Random random) {
+        int base = Arrays.asList(CATEGORIES).indexOf(category) + 1;
+        return base + 10 * random.nextInt(3);
+    }
+}
@@ -0,0 +1,62 @@
+package sprout.app.sakmvp1.models;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 감사 벤치마크
+ * 학기 말 전체 학생(수천 명) 검사 시나리오: 4개 그룹 × students명
+ */
+@State(Scope.Benchmark)
+public class GraduationAuditBenchmark {
+
+    private static final String[] TRACKS = {"인공지능", "멀티미디어", "소프트웨어", "정보보안"};
+
+    @Param({"500", "3000"})
+    public int students;
+
+    private Map<String, GraduationRules> rulesByGroup;
+    private List<GraduationAudit.Target> targets;
+
+    @Setup
+    public void setUp() {
+        rulesByGroup = new HashMap<>();
+        List<GraduationRules> groupRules = new ArrayList<>();
+        for (int g = 0; g < TRACKS.length; g++) {
+            GraduationRules rules = SyntheticCohorts.rules(SyntheticCohorts.Size.MEDIUM, 42L + g);
+            rulesByGroup.put(GraduationAudit.groupKey("2024", "IT학부", TRACKS[g]), rules);
+            groupRules.add(rules);
+        }
+
+        targets = new ArrayList<>(students);
+        for (int i = 0; i < students; i++) {
+            int g = i % TRACKS.length;
+            targets.add(new GraduationAudit.Target("user" + i, "학생" + i, "2024", "IT학부", TRACKS[g],
+                SyntheticCohorts.takenCourses(groupRules.get(g), 40 + i % 60, i)));
+        }
+    }
+
+    @Benchmark
+    public GraduationAudit.Report run() {
+        return GraduationAudit.run(rulesByGroup, targets);
+    }
+
+    /** 비교 기준: 학생마다 analyze() 결과 객체 생성 (순차) */
+    @Benchmark
+    public int analyzeEach() {
+        int ready = 0;
+        for (GraduationAudit.Target target : targets) {
+            if (rulesByGroup.get(target.getGroupKey()).analyze(target.getCourses()).isGraduationReady()) {
+                ready++;
+            }
+        }
+        return ready;
+    }
+}
@@ -0,0 +1,108 @@
+package sprout.app.sakmvp1.models;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GraduationRules 분석 단계별 벤치마크
+ * 졸업요건 규모(size) × 수강 과목 수(takenCount) 조합으로 측정
+ */
+@State(Scope.Thread)
+public class GraduationRulesBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    public SyntheticCohorts.Size size;
+
+    @Param({"10", "40", "80", "120"})
+    public int takenCount;
+
+    private GraduationRules rules;
+    private List<TakenCourse> takenCourses;
+    private List<? extends TakenCourse> adjustedCourses;
+    private CompiledGraduationRules compiled;
+    private CompiledGraduationRules.Evaluation evaluation;
+    private CompiledGraduationRules.Incremental incremental;
+    private TakenCourse whatIfCourse;
+    private GraduationAnalysisResult overflowResult;
+    private Map<String, CategoryAnalysisResult> overflowCategoryResults;
+
+    @Setup
+    public void setUp() {
+        rules = SyntheticCohorts.rules(size, 42L);
+        takenCourses = SyntheticCohorts.takenCourses(rules, takenCount, 7L);
+        compiled = rules.compile();
+        evaluation = compiled.newEvaluation();
+        incremental = compiled.newIncremental(takenCourses);
+        whatIfCourse = SyntheticCohorts.takenCourses(rules, takenCount + 1, 11L).get(takenCount);
+        adjustedCourses = rules.applyReplacementRules(takenCourses, null);
+
+        // handleOverflowCredits 입력: 카테고리 분석까지 끝난 상태
+        overflowResult = new GraduationAnalysisResult();
+        overflowCategoryResults = new HashMap<>();
+        for (RequirementCategory category : rules.getCategories()) {
+            CategoryAnalysisResult categoryResult = category.analyze(adjustedCourses);
+            overflowCategoryResults.put(category.getId(), categoryResult);
+            overflowResult.addCategoryResult(categoryResult);
+        }
+    }
+
+    /** 앱에서 사용하는 경로 (캐시된 컴파일 결과 + 결과 객체 생성) */
+    @Benchmark
+    public GraduationAnalysisResult analyze() {
+        return rules.analyze(takenCourses);
+    }
+
+    /** 기존 해석 방식 (비교 기준) */
+    @Benchmark
+    public GraduationAnalysisResult analyzeInterpreted() {
+        return rules.analyzeInterpreted(takenCourses);
+    }
+
+    /** 결과 객체 없이 학점/이수 여부만 평가 */
+    @Benchmark
+    public boolean evaluate() {
+        compiled.evaluate(takenCourses, evaluation);
+        return evaluation.isGraduationReady();
+    }
+
+    /** 과목 하나 추가 후 삭제 (입력 화면의 실시간 진행률 갱신 경로) */
+    @Benchmark
+    public boolean incrementalAddRemove() {
+        incremental.add(whatIfCourse);
+        boolean ready = incremental.getEvaluation().isGraduationReady();
+        incremental.remove(whatIfCourse);
+        return ready;
+    }
+
+    /** 과목 하나 추가 후 결과 객체까지 생성 (변경된 카테고리만 다시 만듦) */
+    @Benchmark
+    public GraduationAnalysisResult incrementalResult() {
+        incremental.add(whatIfCourse);
+        incremental.getResult();
+        incremental.remove(whatIfCourse);
+        return incremental.getResult();
+    }
+
+    @Benchmark
+    public CompiledGraduationRules compile() {
+        return CompiledGraduationRules.compile(rules);
+    }
+
+    @Benchmark
+    public List<? extends TakenCourse> applyReplacementRules() {
+        return rules.applyReplacementRules(takenCourses, null);
+    }
+
+    /** 목적지(잔여학점) 카테고리가 없으므로 매 호출마다 새로 만들어 같은 키로 덮어씀 */
+    @Benchmark
+    public GraduationAnalysisResult handleOverflowCredits() {
+        rules.handleOverflowCredits(overflowResult, overflowCategoryResults);
+        return overflowResult;
+    }
+}
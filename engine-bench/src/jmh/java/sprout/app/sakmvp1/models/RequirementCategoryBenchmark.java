@@ -0,0 +1,48 @@
+package sprout.app.sakmvp1.models;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.List;
+
+/**
+ * RequirementCategory 타입별 분석 벤치마크 (oneOf, group)
+ */
+@State(Scope.Thread)
+public class RequirementCategoryBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    public SyntheticCohorts.Size size;
+
+    @Param({"10", "40", "80", "120"})
+    public int takenCount;
+
+    private RequirementCategory group;
+    private RequirementCategory oneOf;
+    private List<TakenCourse> takenCourses;
+
+    @Setup
+    public void setUp() {
+        GraduationRules rules = SyntheticCohorts.rules(size, 42L);
+        takenCourses = SyntheticCohorts.takenCourses(rules, takenCount, 7L);
+        for (RequirementCategory category : rules.getCategories()) {
+            if ("group".equals(category.getType())) {
+                group = category;
+                break;
+            }
+        }
+        oneOf = group.getSubgroups().get(0);
+    }
+
+    @Benchmark
+    public CategoryAnalysisResult analyzeOneOf() {
+        return oneOf.analyzeOneOf(takenCourses);
+    }
+
+    @Benchmark
+    public CategoryAnalysisResult analyzeGroup() {
+        return group.analyzeGroup(takenCourses);
+    }
+}
@@ -0,0 +1,22 @@
+plugins {
+    `java-library`
+    `java-test-fixtures`
+}
+
+// 졸업요건 분석 엔진 (순수 Java, 안드로이드 의존성 없음)
+// app 모듈과 서버/배치 분석, engine-bench가 함께 사용
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+    options.compilerArgs.addAll(listOf("-Xlint:unchecked", "-Xlint:deprecation"))
+}
+
+// 실행: ./gradlew :grad-engine:test
+// 합성 졸업요건/수강 이력(SyntheticCohorts)은 testFixtures에 두고 engine-bench 벤치마크와 함께 사용
+dependencies {
+    testImplementation(libs.junit)
+}
@@ -0,0 +1,69 @@
+package sprout.app.sakmvp1.engine;
+
+/**
+ * 졸업요건 엔진 로그 출력 지점
+ *
+ * 엔진은 android.util.Log에 직접 의존하지 않고 이 클래스를 통해 로그를 남김
+ * 기본값은 비활성(출력 없음)이며, 앱에서는 AndroidEngineLogSink를, 서버/배치에서는 원하는 Sink를 설치
+ *
+ * 비활성 상태에서 비용이 없도록 호출부는 반드시 isEnabled()로 감싼 뒤 메시지를 만들어야 함
+ * <pre>
+ * if (EngineLog.isEnabled()) {
+ *     EngineLog.d(TAG, "Analyzing category: " + name);
+ * }
+ * </pre>
+ */
+public final class EngineLog {
+
+    public static final int DEBUG = 3;
+    public static final int INFO = 4;
+    public static final int WARN = 5;
+    public static final int ERROR = 6;
+
+    /**
+     * 로그를 받아 실제로 출력하는 대상
+     */
+    public interface Sink {
+        void log(int level, String tag, String message, Throwable error);
+    }
+
+    private static volatile Sink sink;
+
+    private EngineLog() {
+    }
+
+    /**
+     * 로그 출력 대상 설치
+     * @param newSink 출력 대상, null이면 로그 비활성화
+     */
+    public static void setSink(Sink newSink) {
+        sink = newSink;
+    }
+
+    public static boolean isEnabled() {
+        return sink != null;
+    }
+
+    public static void d(String tag, String message) {
+        log(DEBUG, tag, message, null);
+    }
+
+    public static void i(String tag, String message) {
+        log(INFO, tag, message, null);
+    }
+
+    public static void w(String tag, String message) {
+        log(WARN, tag, message, null);
+    }
+
+    public static void e(String tag, String message, Throwable error) {
+        log(ERROR, tag, message, error);
+    }
+
+    private static void log(int level, String tag, String message, Throwable error) {
+        Sink current = sink;
+        if (current != null) {
+            current.log(level, tag, message, error);
+        }
+    }
+}
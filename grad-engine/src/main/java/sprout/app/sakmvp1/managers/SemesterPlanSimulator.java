@@ -0,0 +1,611 @@
+package sprout.app.sakmvp1.managers;
+
+import sprout.app.sakmvp1.engine.EngineLog;
+import sprout.app.sakmvp1.models.CompiledGraduationRules;
+import sprout.app.sakmvp1.models.CourseRequirement;
+import sprout.app.sakmvp1.models.GraduationRules;
+import sprout.app.sakmvp1.models.RequirementCategory;
+import sprout.app.sakmvp1.models.TakenCourse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 앞으로의 학기별 수강 계획을 가정해 졸업요건을 미리 계산하는 순수 로직 (what-if)
+ *
+ * - 현재 수강 이력 + 여러 수강 계획(학기별 과목 목록)을 받아 계획마다 학기별 남은 학점을 계산
+ * - 가장 빨리 졸업 가능한 계획, oneOf 그룹에서 이미 충족한 선택지를 또 수강하는 계획을 함께 보고
+ * - 계획들을 학기 단위 트리(trie)로 합쳐, 앞 학기가 같은 계획은 그 학기까지의 분석 상태를 공유
+ *   (CompiledGraduationRules.Incremental로 학기 과목을 더하고, 형제 계획으로 넘어갈 때 다시 빼서 되돌림)
+ * - 트리 윗부분을 펼친 하위 트리를 스레드 풀에서 병렬로 평가
+ *
+ * 학기 안의 과목 순서는 결과에 영향을 주지 않으므로 같은 과목 구성의 학기는 같은 노드로 합침
+ */
+public final class SemesterPlanSimulator {
+    private static final String TAG = "SemesterPlanSimulator";
+
+    /** 스레드당 하위 트리 수 (작업량 편차를 줄이기 위해 여유 있게 나눔) */
+    private static final int TASKS_PER_THREAD = 8;
+
+    /**
+     * 병렬 평가용 공유 스레드 풀 (호출마다 풀을 만들지 않도록)
+     * 동시에 쓰는 스레드 수는 호출마다 Options.parallelism으로 제한, 쉬는 스레드는 잠시 뒤 종료
+     */
+    private static final ExecutorService POOL = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, TAG + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private SemesterPlanSimulator() {
+    }
+
+    /**
+     * 한 학기 수강 계획
+     */
+    public static final class Semester {
+        private final String label;
+        private final List<TakenCourse> courses;
+
+        public Semester(String label, List<? extends TakenCourse> courses) {
+            this.label = label;
+            this.courses = courses != null
+                ? Collections.unmodifiableList(new ArrayList<>(courses))
+                : Collections.<TakenCourse>emptyList();
+        }
+
+        public String getLabel() { return label; }
+        public List<TakenCourse> getCourses() { return courses; }
+
+        public int getCredits() {
+            int credits = 0;
+            for (TakenCourse course : courses) {
+                credits += course.getCredits();
+            }
+            return credits;
+        }
+    }
+
+    /**
+     * 수강 계획 하나 (학기 순서대로)
+     */
+    public static final class Plan {
+        private final String name;
+        private final List<Semester> semesters;
+
+        public Plan(String name, List<Semester> semesters) {
+            this.name = name;
+            this.semesters = semesters != null
+                ? Collections.unmodifiableList(new ArrayList<>(semesters))
+                : Collections.<Semester>emptyList();
+        }
+
+        public String getName() { return name; }
+        public List<Semester> getSemesters() { return semesters; }
+
+        public int getCredits() {
+            int credits = 0;
+            for (Semester semester : semesters) {
+                credits += semester.getCredits();
+            }
+            return credits;
+        }
+    }
+
+    /**
+     * 시뮬레이션 조건
+     */
+    public static final class Options {
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /** 평가 스레드 수 (1이면 호출한 스레드에서 평가) */
+        public Options setParallelism(int parallelism) {
+            this.parallelism = Math.max(1, parallelism);
+            return this;
+        }
+
+        public int getParallelism() { return parallelism; }
+    }
+
+    /**
+     * 어느 시점(현재 또는 계획한 학기를 마친 뒤)의 졸업요건 상태
+     * 앞 학기가 같은 계획끼리 같은 객체를 공유하므로 불변
+     */
+    public static final class Snapshot {
+        private final int totalEarnedCredits;
+        private final int totalRequiredCredits;
+        private final boolean graduationReady;
+        private final Map<String, Integer> remainingCredits;
+
+        Snapshot(CompiledGraduationRules.Evaluation eval) {
+            this.totalEarnedCredits = eval.getTotalEarnedCredits();
+            this.totalRequiredCredits = eval.getTotalRequiredCredits();
+            this.graduationReady = eval.isGraduationReady();
+
+            Map<String, Integer> remaining = new LinkedHashMap<>();
+            for (int i = 0; i < eval.getCategoryCount(); i++) {
+                String name = eval.getCategoryName(i);
+                if (name == null || remaining.containsKey(name)) {
+                    continue;  // 같은 이름이 다시 나오면 앞 카테고리 기준
+                }
+                remaining.put(name, Math.max(0, eval.getRequiredCredits(i) - eval.getEarnedCredits(i)));
+            }
+            this.remainingCredits = Collections.unmodifiableMap(remaining);
+        }
+
+        public int getTotalEarnedCredits() { return totalEarnedCredits; }
+        public int getTotalRequiredCredits() { return totalRequiredCredits; }
+        public boolean isGraduationReady() { return graduationReady; }
+
+        public int getRemainingTotalCredits() {
+            return Math.max(0, totalRequiredCredits - totalEarnedCredits);
+        }
+
+        /** 카테고리명 → 남은 학점 (최상위 카테고리 순서) */
+        public Map<String, Integer> getRemainingCredits() { return remainingCredits; }
+    }
+
+    /**
+     * oneOf 그룹에서 이미 충족한(또는 같은 학기에 함께 넣은) 선택지를 또 수강하는 경우
+     * 나중 과목은 그 그룹 학점으로 인정되지 않음
+     */
+    public static final class OneOfConflict {
+        private final int semesterIndex;
+        private final String groupName;
+        private final String selectedCourse;
+        private final String redundantCourse;
+
+        OneOfConflict(int semesterIndex, String groupName, String selectedCourse, String redundantCourse) {
+            this.semesterIndex = semesterIndex;
+            this.groupName = groupName;
+            this.selectedCourse = selectedCourse;
+            this.redundantCourse = redundantCourse;
+        }
+
+        /** 계획 안의 학기 인덱스 (0부터) */
+        public int getSemesterIndex() { return semesterIndex; }
+        public String getGroupName() { return groupName; }
+        public String getSelectedCourse() { return selectedCourse; }
+        public String getRedundantCourse() { return redundantCourse; }
+    }
+
+    /**
+     * 계획 하나의 시뮬레이션 결과
+     */
+    public static final class PlanOutcome {
+        private final Plan plan;
+        private final List<Snapshot> semesters;
+        private final List<OneOfConflict> conflicts;
+        private final int graduatingSemester;
+
+        PlanOutcome(Plan plan, Snapshot current, List<Snapshot> semesters, List<OneOfConflict> conflicts) {
+            this.plan = plan;
+            this.semesters = Collections.unmodifiableList(semesters);
+            this.conflicts = Collections.unmodifiableList(conflicts);
+
+            int graduating = current.isGraduationReady() ? 0 : -1;
+            for (int i = 0; i < semesters.size() && graduating < 0; i++) {
+                if (semesters.get(i).isGraduationReady()) {
+                    graduating = i + 1;
+                }
+            }
+            this.graduatingSemester = graduating;
+        }
+
+        public Plan getPlan() { return plan; }
+
+        /** plan.getSemesters()와 같은 순서로, 각 학기를 마친 뒤의 상태 */
+        public List<Snapshot> getSemesters() { return semesters; }
+
+        public List<OneOfConflict> getConflicts() { return conflicts; }
+
+        public boolean breaksOneOf() { return !conflicts.isEmpty(); }
+
+        /** 졸업 요건을 처음 충족하는 학기 수 (이미 충족이면 0, 계획 안에서 충족하지 못하면 -1) */
+        public int getGraduatingSemester() { return graduatingSemester; }
+
+        /** 마지막 학기를 마친 뒤의 상태 (학기가 없으면 null) */
+        public Snapshot getFinalSnapshot() {
+            return semesters.isEmpty() ? null : semesters.get(semesters.size() - 1);
+        }
+    }
+
+    /**
+     * 시뮬레이션 결과
+     */
+    public static final class Result {
+        private final Snapshot current;
+        private final List<PlanOutcome> outcomes;
+        private final PlanOutcome earliest;
+        private final int evaluatedSemesters;
+
+        Result(Snapshot current, List<PlanOutcome> outcomes, int evaluatedSemesters) {
+            this.current = current;
+            this.outcomes = Collections.unmodifiableList(outcomes);
+            this.evaluatedSemesters = evaluatedSemesters;
+
+            // 가장 빨리 졸업하는 계획 (같으면 oneOf 충돌이 없는 쪽, 계획 학점이 적은 쪽, 입력 순서)
+            PlanOutcome best = null;
+            for (PlanOutcome outcome : outcomes) {
+                if (outcome.getGraduatingSemester() < 0) {
+                    continue;
+                }
+                if (best == null || compareEarliest(outcome, best) < 0) {
+                    best = outcome;
+                }
+            }
+            this.earliest = best;
+        }
+
+        private static int compareEarliest(PlanOutcome a, PlanOutcome b) {
+            if (a.getGraduatingSemester() != b.getGraduatingSemester()) {
+                return Integer.compare(a.getGraduatingSemester(), b.getGraduatingSemester());
+            }
+            if (a.breaksOneOf() != b.breaksOneOf()) {
+                return a.breaksOneOf() ? 1 : -1;
+            }
+            return Integer.compare(a.getPlan().getCredits(), b.getPlan().getCredits());
+        }
+
+        /** 현재 수강 이력만의 상태 */
+        public Snapshot getCurrent() { return current; }
+
+        /** 입력한 계획 순서 */
+        public List<PlanOutcome> getOutcomes() { return outcomes; }
+
+        /** 가장 빨리 졸업하는 계획, 계획 안에서 졸업하는 계획이 없으면 null */
+        public PlanOutcome getEarliest() { return earliest; }
+
+        /** 실제로 평가한 학기 수 (앞 학기가 같은 계획은 한 번만 평가) */
+        public int getEvaluatedSemesters() { return evaluatedSemesters; }
+    }
+
+    // ---------- 시뮬레이션 ----------
+
+    /**
+     * 수강 계획 시뮬레이션
+     *
+     * @param rules 졸업요건
+     * @param takenCourses 현재까지 수강한 과목
+     * @param plans 비교할 수강 계획
+     * @throws CancellationException 병렬 평가를 기다리는 중 스레드가 인터럽트됨 (인터럽트 상태는 유지)
+     */
+    public static Result simulate(GraduationRules rules, List<? extends TakenCourse> takenCourses,
+                                  List<Plan> plans, Options options) {
+        long startedAt = System.nanoTime();
+        CompiledGraduationRules compiled = rules.compile();
+        OneOfIndex oneOfIndex = new OneOfIndex(rules);
+
+        // 1. 계획들을 학기 단위 트리로 합침
+        Node root = new Node(null, -1, null);
+        List<List<Node>> paths = new ArrayList<>(plans.size());
+        int nodeCount = 0;
+        for (Plan plan : plans) {
+            List<Node> path = new ArrayList<>(plan.getSemesters().size());
+            Node node = root;
+            for (Semester semester : plan.getSemesters()) {
+                String key = semesterKey(semester);
+                Node child = node.children.get(key);
+                if (child == null) {
+                    child = new Node(node, path.size(), semester.getCourses());
+                    node.children.put(key, child);
+                    nodeCount++;
+                }
+                path.add(child);
+                node = child;
+            }
+            paths.add(path);
+        }
+
+        // 2. 현재 상태 평가 후 트리 평가
+        Walker walker = new Walker(compiled, oneOfIndex, takenCourses);
+        Snapshot current = new Snapshot(walker.session.getEvaluation());
+        if (options.getParallelism() <= 1 || nodeCount < 2) {
+            walker.walk(root, Integer.MAX_VALUE);
+        } else {
+            evaluateParallel(root, walker, compiled, oneOfIndex, takenCourses, options.getParallelism());
+        }
+
+        // 3. 계획별 결과 조립
+        List<PlanOutcome> outcomes = new ArrayList<>(plans.size());
+        for (int p = 0; p < plans.size(); p++) {
+            List<Node> path = paths.get(p);
+            List<Snapshot> snapshots = new ArrayList<>(path.size());
+            List<OneOfConflict> conflicts = new ArrayList<>();
+            for (Node node : path) {
+                snapshots.add(node.snapshot);
+                conflicts.addAll(node.conflicts);
+            }
+            outcomes.add(new PlanOutcome(plans.get(p), current, snapshots, conflicts));
+        }
+
+        Result result = new Result(current, outcomes, nodeCount);
+        if (EngineLog.isEnabled()) {
+            PlanOutcome earliest = result.getEarliest();
+            EngineLog.d(TAG, "수강 계획 시뮬레이션: 계획 " + plans.size() + "개, 평가 학기 " + nodeCount + "개, "
+                + (System.nanoTime() - startedAt) / 1_000_000 + "ms, 최단 졸업 "
+                + (earliest != null ? earliest.getPlan().getName() + " (" + earliest.getGraduatingSemester() + "학기)" : "없음"));
+        }
+        return result;
+    }
+
+    /**
+     * 트리 윗부분은 호출한 스레드에서 평가하고, 그 아래 하위 트리를 스레드 풀에서 평가
+     */
+    private static void evaluateParallel(Node root, Walker walker, CompiledGraduationRules compiled,
+                                         OneOfIndex oneOfIndex, List<? extends TakenCourse> takenCourses,
+                                         int threads) {
+        int target = threads * TASKS_PER_THREAD;
+        // 하위 트리가 target개 이상이 되는 깊이까지 펼침
+        int depth = 0;
+        List<Node> frontier = new ArrayList<>(root.children.values());
+        while (frontier.size() < target) {
+            List<Node> next = new ArrayList<>();
+            for (Node node : frontier) {
+                next.addAll(node.children.values());
+            }
+            if (next.isEmpty()) {
+                break;
+            }
+            frontier = next;
+            depth++;
+        }
+
+        // 학기 인덱스가 depth보다 작은 노드는 여기서 평가
+        walker.walk(root, depth);
+
+        List<Node> subtrees = new ArrayList<>();
+        walker.collect(root, depth, subtrees);
+        if (subtrees.isEmpty()) {
+            return;
+        }
+
+        // 작업마다 Walker 하나를 두고 남은 하위 트리를 차례로 가져감 (공유 풀 스레드에 Walker를 남기지 않도록)
+        int workers = Math.min(threads, subtrees.size());
+        AtomicInteger next = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(() -> {
+                Walker worker = new Walker(compiled, oneOfIndex, takenCourses);
+                int index;
+                while ((index = next.getAndIncrement()) < subtrees.size()) {
+                    worker.walkSubtree(subtrees.get(index));
+                }
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> future : POOL.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            // invokeAll이 끝나지 않은 작업은 취소함
+            Thread.currentThread().interrupt();
+            throw new CancellationException("수강 계획 시뮬레이션 중단");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /** 학기 과목 구성 키 (순서 무관) */
+    private static String semesterKey(Semester semester) {
+        List<String> keys = new ArrayList<>(semester.getCourses().size());
+        for (TakenCourse course : semester.getCourses()) {
+            keys.add(course.getCategory() + '\u0001' + course.getName() + '\u0001' + course.getCredits());
+        }
+        Collections.sort(keys);
+        return String.join("\u0002", keys);
+    }
+
+    /**
+     * 학기 트리 노드 (루트는 현재 상태)
+     */
+    private static final class Node {
+        final Node parent;
+        final int semesterIndex;
+        final List<TakenCourse> courses;
+        final Map<String, Node> children = new LinkedHashMap<>();
+
+        Snapshot snapshot;
+        List<OneOfConflict> conflicts = Collections.emptyList();
+
+        Node(Node parent, int semesterIndex, List<TakenCourse> courses) {
+            this.parent = parent;
+            this.semesterIndex = semesterIndex;
+            this.courses = courses;
+        }
+    }
+
+    /**
+     * 트리를 깊이 우선으로 내려가며 학기 과목을 더하고, 올라올 때 빼서 되돌리는 평가기 (스레드별로 하나)
+     */
+    private static final class Walker {
+        final CompiledGraduationRules.Incremental session;
+        final OneOfIndex oneOfIndex;
+        final int[] oneOfTaken;      // oneOf 그룹별 수강한 선택지 수
+        final String[] oneOfFirst;   // oneOf 그룹별 처음 수강한 선택지
+
+        Walker(CompiledGraduationRules compiled, OneOfIndex oneOfIndex, List<? extends TakenCourse> takenCourses) {
+            this.session = compiled.newIncremental(takenCourses);
+            this.oneOfIndex = oneOfIndex;
+            this.oneOfTaken = new int[oneOfIndex.groupNames.length];
+            this.oneOfFirst = new String[oneOfIndex.groupNames.length];
+            for (TakenCourse course : takenCourses) {
+                recordOneOf(course.getName(), -1);
+            }
+        }
+
+        /**
+         * node 아래에서 학기 인덱스가 maxIndex보다 작은 노드를 모두 평가
+         */
+        void walk(Node node, int maxIndex) {
+            for (Node child : node.children.values()) {
+                if (child.semesterIndex >= maxIndex) {
+                    continue;
+                }
+                enter(child, true);
+                walk(child, maxIndex);
+                leave(child);
+            }
+        }
+
+        /** 병렬 평가할 하위 트리 루트 (학기 인덱스가 depth인 노드) 수집 */
+        void collect(Node node, int depth, List<Node> out) {
+            for (Node child : node.children.values()) {
+                if (child.semesterIndex == depth) {
+                    out.add(child);
+                } else if (child.semesterIndex < depth) {
+                    collect(child, depth, out);
+                }
+            }
+        }
+
+        /** 상위 학기(이미 평가됨)를 다시 적용한 뒤 하위 트리 전체 평가 */
+        void walkSubtree(Node subtree) {
+            List<Node> ancestors = new ArrayList<>();
+            for (Node node = subtree.parent; node != null && node.courses != null; node = node.parent) {
+                ancestors.add(node);
+            }
+            Collections.reverse(ancestors);
+            for (Node ancestor : ancestors) {
+                enter(ancestor, false);
+            }
+            enter(subtree, true);
+            walk(subtree, Integer.MAX_VALUE);
+            leave(subtree);
+            for (int i = ancestors.size() - 1; i >= 0; i--) {
+                leave(ancestors.get(i));
+            }
+        }
+
+        private void enter(Node node, boolean record) {
+            List<OneOfConflict> conflicts = null;
+            for (TakenCourse course : node.courses) {
+                session.add(course);
+                OneOfConflict conflict = recordOneOf(course.getName(), node.semesterIndex);
+                if (conflict != null && record) {
+                    if (conflicts == null) {
+                        conflicts = new ArrayList<>();
+                    }
+                    conflicts.add(conflict);
+                }
+            }
+            if (record) {
+                node.snapshot = new Snapshot(session.getEvaluation());
+                node.conflicts = conflicts != null ? conflicts : Collections.<OneOfConflict>emptyList();
+            }
+        }
+
+        private void leave(Node node) {
+            for (int i = node.courses.size() - 1; i >= 0; i--) {
+                TakenCourse course = node.courses.get(i);
+                session.remove(course);
+                int[] groups = oneOfIndex.groupsOf(course.getName());
+                for (int g : groups) {
+                    if (--oneOfTaken[g] == 0) {
+                        oneOfFirst[g] = null;
+                    }
+                }
+            }
+        }
+
+        /** oneOf 선택지 수강 기록, 이미 다른(또는 같은) 선택지를 수강한 그룹이면 충돌 반환 */
+        private OneOfConflict recordOneOf(String courseName, int semesterIndex) {
+            OneOfConflict conflict = null;
+            for (int g : oneOfIndex.groupsOf(courseName)) {
+                if (oneOfTaken[g]++ == 0) {
+                    oneOfFirst[g] = courseName;
+                } else if (conflict == null && semesterIndex >= 0) {
+                    conflict = new OneOfConflict(semesterIndex, oneOfIndex.groupNames[g], oneOfFirst[g], courseName);
+                }
+            }
+            return conflict;
+        }
+    }
+
+    /**
+     * 과목명 → 그 과목이 선택지로 들어 있는 oneOf 그룹
+     */
+    private static final class OneOfIndex {
+        private static final int[] NONE = new int[0];
+
+        final String[] groupNames;
+        final Map<String, int[]> groupsByCourse = new HashMap<>();
+
+        OneOfIndex(GraduationRules rules) {
+            List<String> names = new ArrayList<>();
+            Map<String, List<Integer>> byCourse = new HashMap<>();
+            if (rules.getCategories() != null) {
+                for (RequirementCategory category : rules.getCategories()) {
+                    collect(category, names, byCourse);
+                }
+            }
+            groupNames = names.toArray(new String[0]);
+            for (Map.Entry<String, List<Integer>> entry : byCourse.entrySet()) {
+                int[] groups = new int[entry.getValue().size()];
+                for (int i = 0; i < groups.length; i++) {
+                    groups[i] = entry.getValue().get(i);
+                }
+                groupsByCourse.put(entry.getKey(), groups);
+            }
+        }
+
+        private static void collect(RequirementCategory category, List<String> names,
+                                    Map<String, List<Integer>> byCourse) {
+            if ("oneOf".equals(category.getType()) && category.getCourses() != null) {
+                int group = names.size();
+                names.add(category.getId() != null ? category.getId() : category.getName());
+                for (CourseRequirement course : category.getCourses()) {
+                    if (course.getName() == null) {
+                        continue;
+                    }
+                    List<Integer> groups = byCourse.get(course.getName());
+                    if (groups == null) {
+                        groups = new ArrayList<>();
+                        byCourse.put(course.getName(), groups);
+                    }
+                    if (!groups.contains(group)) {
+                        groups.add(group);
+                    }
+                }
+            }
+            if ("group".equals(category.getType()) && category.getSubgroups() != null) {
+                for (RequirementCategory subgroup : category.getSubgroups()) {
+                    collect(subgroup, names, byCourse);
+                }
+            }
+        }
+
+        int[] groupsOf(String courseName) {
+            if (courseName == null) {
+                return NONE;
+            }
+            int[] groups = groupsByCourse.get(courseName);
+            return groups != null ? groups : NONE;
+        }
+    }
+}
@@ -0,0 +1,729 @@
+package sprout.app.sakmvp1.managers;
+
+import sprout.app.sakmvp1.engine.EngineLog;
+import sprout.app.sakmvp1.models.CourseSection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 추천 과목의 개설 분반으로 겹치지 않는 시간표를 만들어 점수 순 상위 N개를 찾는 순수 로직
+ *
+ * 과목마다 "분반 하나 선택" 또는 "수강 안 함"을 고르는 분기 한정(branch-and-bound) 탐색
+ * - 점수: 선택한 과목의 학점 × 우선순위 가중치(PRIORITY_CEILING - priority) 합계
+ *   calculatePriority는 숫자가 작을수록 중요하므로 가중치가 큼
+ * - 한계값: 남은 과목을 학점당 가중치 순으로 남은 학점만큼 채운 값(분할 배낭)
+ *   현재 점수 + 한계값이 상위 N개의 최저 점수 이하이면 가지치기
+ * - 충돌 검사: 모든 수업 시간의 경계 시각으로 하루를 잘게 나눈 구간 비트마스크의 AND
+ * - 병렬화: 앞쪽 몇 과목의 선택을 미리 펼친 하위 문제를 스레드 풀에서 탐색하고 상위 N개 기준 점수를 공유
+ *
+ * 같은 과목 조합이 분반만 다르게 여러 번 나오면 앞쪽 분반 조합 하나만 결과에 남김
+ */
+public final class TimetableSolver {
+    private static final String TAG = "TimetableSolver";
+
+    /** 우선순위 → 학점당 가중치 기준값 (calculatePriority 결과는 이보다 작음) */
+    public static final int PRIORITY_CEILING = 200;
+
+    /** 시간 제한 확인 간격 (탐색 노드 수) */
+    private static final int TIME_CHECK_INTERVAL = 1024;
+
+    /** 스레드당 하위 문제 수 (작업량 편차를 줄이기 위해 여유 있게 나눔) */
+    private static final int TASKS_PER_THREAD = 8;
+
+    private TimetableSolver() {
+    }
+
+    /**
+     * 시간표 후보 과목 (추천 과목 + 개설 분반)
+     */
+    public static final class Candidate {
+        private final String courseName;
+        private final String category;
+        private final int credits;
+        private final int priority;
+        private final List<CourseSection> sections;
+
+        public Candidate(String courseName, String category, int credits, int priority,
+                         List<CourseSection> sections) {
+            this.courseName = courseName;
+            this.category = category;
+            this.credits = credits;
+            this.priority = priority;
+            this.sections = sections != null ? sections : Collections.emptyList();
+        }
+
+        public String getCourseName() { return courseName; }
+        public String getCategory() { return category; }
+        public int getCredits() { return credits; }
+        public int getPriority() { return priority; }
+        public List<CourseSection> getSections() { return sections; }
+
+        /** 학점당 가중치 (우선순위 숫자가 작을수록 큼, 최소 1) */
+        public int getWeight() {
+            return Math.max(1, PRIORITY_CEILING - priority);
+        }
+    }
+
+    /**
+     * 탐색 조건
+     */
+    public static final class Options {
+        private int minCredits = 0;
+        private int maxCredits = 21;
+        private int maxResults = 10;
+        private List<CourseSection.Meeting> blockedSlots = new ArrayList<>();
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private long timeLimitMs = 0;
+
+        /** 최소 학점 (미만인 시간표는 결과에서 제외) */
+        public Options setMinCredits(int minCredits) {
+            this.minCredits = minCredits;
+            return this;
+        }
+
+        /** 최대 학점 */
+        public Options setMaxCredits(int maxCredits) {
+            this.maxCredits = maxCredits;
+            return this;
+        }
+
+        /** 반환할 시간표 수 */
+        public Options setMaxResults(int maxResults) {
+            this.maxResults = Math.max(1, maxResults);
+            return this;
+        }
+
+        /** 수업을 넣지 않을 시간 (아르바이트, 점심시간 등) */
+        public Options setBlockedSlots(List<CourseSection.Meeting> blockedSlots) {
+            this.blockedSlots = blockedSlots != null ? blockedSlots : new ArrayList<>();
+            return this;
+        }
+
+        /** 탐색 스레드 수 (1이면 호출한 스레드에서 탐색) */
+        public Options setParallelism(int parallelism) {
+            this.parallelism = Math.max(1, parallelism);
+            return this;
+        }
+
+        /** 탐색 시간 제한 (0이면 제한 없음), 초과하면 그때까지 찾은 결과 반환 */
+        public Options setTimeLimitMs(long timeLimitMs) {
+            this.timeLimitMs = Math.max(0, timeLimitMs);
+            return this;
+        }
+
+        public int getMinCredits() { return minCredits; }
+        public int getMaxCredits() { return maxCredits; }
+        public int getMaxResults() { return maxResults; }
+        public List<CourseSection.Meeting> getBlockedSlots() { return blockedSlots; }
+        public int getParallelism() { return parallelism; }
+        public long getTimeLimitMs() { return timeLimitMs; }
+    }
+
+    /**
+     * 생성된 시간표 하나 (과목은 가중치 순)
+     */
+    public static final class Timetable {
+        private final long score;
+        private final int credits;
+        private final List<Candidate> courses;
+        private final List<CourseSection> sections;
+
+        Timetable(long score, int credits, List<Candidate> courses, List<CourseSection> sections) {
+            this.score = score;
+            this.credits = credits;
+            this.courses = Collections.unmodifiableList(courses);
+            this.sections = Collections.unmodifiableList(sections);
+        }
+
+        public long getScore() { return score; }
+        public int getCredits() { return credits; }
+        public List<Candidate> getCourses() { return courses; }
+
+        /** getCourses()와 같은 순서의 선택된 분반 */
+        public List<CourseSection> getSections() { return sections; }
+    }
+
+    /**
+     * 탐색 결과
+     */
+    public static final class Result {
+        private final List<Timetable> timetables;
+        private final List<String> unschedulableCourses;
+        private final boolean complete;
+        private final long visitedNodes;
+
+        Result(List<Timetable> timetables, List<String> unschedulableCourses, boolean complete, long visitedNodes) {
+            this.timetables = Collections.unmodifiableList(timetables);
+            this.unschedulableCourses = Collections.unmodifiableList(unschedulableCourses);
+            this.complete = complete;
+            this.visitedNodes = visitedNodes;
+        }
+
+        /** 점수 높은 순 (같으면 학점 많은 순) */
+        public List<Timetable> getTimetables() { return timetables; }
+
+        /** 분반이 없거나 모든 분반이 막힌 시간과 겹쳐 배치할 수 없는 과목 */
+        public List<String> getUnschedulableCourses() { return unschedulableCourses; }
+
+        /** 시간 제한에 걸리지 않고 끝까지 탐색했는지 여부 */
+        public boolean isComplete() { return complete; }
+
+        public long getVisitedNodes() { return visitedNodes; }
+    }
+
+    // ---------- 탐색 ----------
+
+    /**
+     * 상위 N개 시간표 탐색
+     */
+    public static Result solve(List<Candidate> candidates, Options options) {
+        long startedAt = System.nanoTime();
+        Problem problem = new Problem(candidates, options);
+
+        TopTimetables top = new TopTimetables(options.getMaxResults(), problem.courses.length);
+        long deadline = options.getTimeLimitMs() > 0
+            ? startedAt + options.getTimeLimitMs() * 1_000_000L
+            : Long.MAX_VALUE;
+        SearchControl control = new SearchControl(deadline);
+
+        long visited;
+        if (options.getParallelism() <= 1 || problem.courses.length < 2) {
+            Search search = new Search(problem, top, control);
+            search.dfs(0);
+            visited = search.nodes;
+        } else {
+            visited = solveParallel(problem, top, control, options.getParallelism());
+        }
+
+        Result result = new Result(top.toTimetables(problem), problem.unschedulable, !control.stopped, visited);
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "시간표 생성: 과목 " + problem.courses.length + "개, 결과 " + result.timetables.size()
+                + "개, 노드 " + visited + ", " + (System.nanoTime() - startedAt) / 1_000_000 + "ms"
+                + (result.complete ? "" : " (시간 제한으로 중단)"));
+        }
+        return result;
+    }
+
+    /**
+     * 앞쪽 과목의 선택을 미리 펼쳐 하위 문제로 나눈 뒤 스레드 풀에서 탐색
+     */
+    private static long solveParallel(Problem problem, TopTimetables top, SearchControl control, int threads) {
+        int target = threads * TASKS_PER_THREAD;
+        int depth = 0;
+        long width = 1;
+        while (depth < problem.courses.length - 1 && width < target) {
+            width *= problem.courses[depth].sections.length + 1;
+            depth++;
+        }
+
+        List<Search> prefixes = new ArrayList<>();
+        new Search(problem, top, control).expand(0, depth, prefixes);
+
+        List<Callable<Void>> tasks = new ArrayList<>(prefixes.size());
+        for (Search prefix : prefixes) {
+            int from = depth;
+            tasks.add(() -> {
+                prefix.dfs(from);
+                return null;
+            });
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, tasks.size())));
+        try {
+            pool.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            control.stopped = true;
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long visited = 0;
+        for (Search prefix : prefixes) {
+            visited += prefix.nodes;
+        }
+        return visited;
+    }
+
+    /**
+     * 입력을 탐색용 배열로 변환한 문제 (모든 스레드가 읽기 전용으로 공유)
+     */
+    private static final class Problem {
+        final Course[] courses;
+        final int words;
+        final int minCredits;
+        final int maxCredits;
+        final int[] prefixCredits;   // prefixCredits[k] = 0..k-1번 과목 학점 합
+        final long[] prefixValue;    // prefixValue[k] = 0..k-1번 과목 점수 합
+        final List<String> unschedulable = new ArrayList<>();
+
+        Problem(List<Candidate> candidates, Options options) {
+            minCredits = options.getMinCredits();
+            maxCredits = options.getMaxCredits();
+
+            // 같은 과목이 여러 번 들어오면 우선순위가 높은(숫자가 작은) 쪽만 사용
+            Map<String, Candidate> unique = new LinkedHashMap<>();
+            for (Candidate candidate : candidates) {
+                if (candidate == null || candidate.getCourseName() == null) {
+                    continue;
+                }
+                Candidate existing = unique.get(candidate.getCourseName());
+                if (existing == null || candidate.getPriority() < existing.getPriority()) {
+                    unique.put(candidate.getCourseName(), candidate);
+                }
+            }
+
+            TimeGrid grid = new TimeGrid(unique.values(), options.getBlockedSlots());
+            words = grid.words;
+            long[] blocked = grid.maskOf(options.getBlockedSlots(), false);
+
+            List<Course> usable = new ArrayList<>();
+            for (Candidate candidate : unique.values()) {
+                List<Section> sections = new ArrayList<>();
+                if (candidate.getCredits() > 0 && candidate.getCredits() <= maxCredits) {
+                    for (CourseSection section : candidate.getSections()) {
+                        long[] mask = section != null ? grid.maskOf(section.getMeetings(), true) : null;
+                        if (mask != null && !intersects(mask, blocked)) {
+                            sections.add(new Section(section, mask));
+                        }
+                    }
+                }
+                if (sections.isEmpty()) {
+                    unschedulable.add(candidate.getCourseName());
+                } else {
+                    usable.add(new Course(candidate, sections.toArray(new Section[0])));
+                }
+            }
+
+            // 학점당 가중치 내림차순 (분할 배낭 한계값의 전제), 같으면 분반이 적은 과목부터
+            usable.sort(Comparator.comparingInt((Course c) -> -c.weight)
+                .thenComparingInt(c -> c.sections.length)
+                .thenComparing(c -> c.candidate.getCourseName()));
+            courses = usable.toArray(new Course[0]);
+
+            prefixCredits = new int[courses.length + 1];
+            prefixValue = new long[courses.length + 1];
+            for (int i = 0; i < courses.length; i++) {
+                prefixCredits[i + 1] = prefixCredits[i] + courses[i].credits;
+                prefixValue[i + 1] = prefixValue[i] + courses[i].value;
+            }
+        }
+
+        /**
+         * k번 과목부터 남은 학점 capacity 안에서 얻을 수 있는 점수의 상한 (시간 충돌 무시)
+         */
+        long bound(int k, int capacity) {
+            if (capacity <= 0) {
+                return 0;
+            }
+            // 학점 누적합은 증가하므로 capacity 안에 통째로 들어가는 마지막 위치를 이분 탐색
+            int base = prefixCredits[k];
+            int lo = k;
+            int hi = courses.length;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (prefixCredits[mid] - base <= capacity) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            long value = prefixValue[lo] - prefixValue[k];
+            if (lo < courses.length) {
+                value += (long) (capacity - (prefixCredits[lo] - base)) * courses[lo].weight;
+            }
+            return value;
+        }
+    }
+
+    private static final class Course {
+        final Candidate candidate;
+        final Section[] sections;
+        final int credits;
+        final int weight;
+        final long value;
+
+        Course(Candidate candidate, Section[] sections) {
+            this.candidate = candidate;
+            this.sections = sections;
+            this.credits = candidate.getCredits();
+            this.weight = candidate.getWeight();
+            this.value = (long) credits * weight;
+        }
+    }
+
+    private static final class Section {
+        final CourseSection source;
+        final int[] wordIndex;   // 비트가 있는 워드 위치만 보관 (대부분 1~2개)
+        final long[] wordBits;
+
+        Section(CourseSection source, long[] mask) {
+            this.source = source;
+            int count = 0;
+            for (long bits : mask) {
+                if (bits != 0) {
+                    count++;
+                }
+            }
+            wordIndex = new int[count];
+            wordBits = new long[count];
+            int i = 0;
+            for (int w = 0; w < mask.length; w++) {
+                if (mask[w] != 0) {
+                    wordIndex[i] = w;
+                    wordBits[i] = mask[w];
+                    i++;
+                }
+            }
+        }
+    }
+
+    /**
+     * 요일별 경계 시각으로 나눈 시간 구간 → 비트 위치
+     * 모든 입력 시각이 경계이므로 구간 비트가 겹치는 것과 시간이 겹치는 것이 정확히 일치
+     */
+    private static final class TimeGrid {
+        final int[][] bounds = new int[7][];
+        final int[] offset = new int[7];
+        final int words;
+
+        TimeGrid(Iterable<Candidate> candidates, List<CourseSection.Meeting> blocked) {
+            List<TreeSet<Integer>> perDay = new ArrayList<>(7);
+            for (int d = 0; d < 7; d++) {
+                perDay.add(new TreeSet<>());
+            }
+            for (Candidate candidate : candidates) {
+                for (CourseSection section : candidate.getSections()) {
+                    if (section != null) {
+                        collect(perDay, section.getMeetings());
+                    }
+                }
+            }
+            collect(perDay, blocked);
+
+            int total = 0;
+            for (int d = 0; d < 7; d++) {
+                TreeSet<Integer> set = perDay.get(d);
+                int[] dayBounds = new int[set.size()];
+                int i = 0;
+                for (int minute : set) {
+                    dayBounds[i++] = minute;
+                }
+                bounds[d] = dayBounds;
+                offset[d] = total;
+                total += Math.max(0, dayBounds.length - 1);
+            }
+            words = Math.max(1, (total + 63) / 64);
+        }
+
+        private static void collect(List<TreeSet<Integer>> perDay, List<CourseSection.Meeting> meetings) {
+            if (meetings == null) {
+                return;
+            }
+            for (CourseSection.Meeting meeting : meetings) {
+                if (meeting != null && meeting.isValid()) {
+                    TreeSet<Integer> set = perDay.get(meeting.getDayIndex());
+                    set.add(meeting.getStartTotalMinutes());
+                    set.add(meeting.getEndTotalMinutes());
+                }
+            }
+        }
+
+        /**
+         * 수업 시간 목록의 비트마스크
+         * @param strict true면 잘못된 시간이 있거나 서로 겹치는 수업 시간이 있을 때 null
+         */
+        long[] maskOf(List<CourseSection.Meeting> meetings, boolean strict) {
+            long[] mask = new long[words];
+            if (meetings == null || meetings.isEmpty()) {
+                return strict ? null : mask;
+            }
+            for (CourseSection.Meeting meeting : meetings) {
+                if (meeting == null || !meeting.isValid()) {
+                    if (strict) {
+                        return null;
+                    }
+                    continue;
+                }
+                int day = meeting.getDayIndex();
+                int from = offset[day] + Arrays.binarySearch(bounds[day], meeting.getStartTotalMinutes());
+                int to = offset[day] + Arrays.binarySearch(bounds[day], meeting.getEndTotalMinutes());
+                for (int bit = from; bit < to; bit++) {
+                    long flag = 1L << (bit & 63);
+                    if (strict && (mask[bit >>> 6] & flag) != 0) {
+                        return null;
+                    }
+                    mask[bit >>> 6] |= flag;
+                }
+            }
+            return mask;
+        }
+    }
+
+    private static boolean intersects(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if ((a[i] & b[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 스레드 간 공유하는 중단 상태 */
+    private static final class SearchControl {
+        final long deadline;
+        volatile boolean stopped;
+
+        SearchControl(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * 한 스레드의 탐색 상태 (점유 비트마스크 + 과목별 선택 분반)
+     */
+    private static final class Search {
+        final Problem problem;
+        final TopTimetables top;
+        final SearchControl control;
+        final long[] occupied;
+        final int[] choice;   // 과목별 선택한 분반 위치, -1이면 수강 안 함
+        int credits;
+        long score;
+        long nodes;
+
+        Search(Problem problem, TopTimetables top, SearchControl control) {
+            this.problem = problem;
+            this.top = top;
+            this.control = control;
+            this.occupied = new long[problem.words];
+            this.choice = new int[problem.courses.length];
+            Arrays.fill(choice, -1);
+        }
+
+        private Search copy() {
+            Search copy = new Search(problem, top, control);
+            System.arraycopy(occupied, 0, copy.occupied, 0, occupied.length);
+            System.arraycopy(choice, 0, copy.choice, 0, choice.length);
+            copy.credits = credits;
+            copy.score = score;
+            return copy;
+        }
+
+        /**
+         * 0..depth-1번 과목의 가능한 선택을 모두 펼쳐 하위 문제 목록에 추가 (좋은 선택부터)
+         */
+        void expand(int k, int depth, List<Search> out) {
+            if (k == depth) {
+                out.add(copy());
+                return;
+            }
+            Course course = problem.courses[k];
+            if (credits + course.credits <= problem.maxCredits) {
+                for (int s = 0; s < course.sections.length; s++) {
+                    Section section = course.sections[s];
+                    if (fits(section)) {
+                        take(k, s, section, course);
+                        expand(k + 1, depth, out);
+                        release(k, section, course);
+                    }
+                }
+            }
+            expand(k + 1, depth, out);
+        }
+
+        void dfs(int k) {
+            if (control.stopped) {
+                return;
+            }
+            if (++nodes % TIME_CHECK_INTERVAL == 0 && System.nanoTime() > control.deadline) {
+                control.stopped = true;
+                return;
+            }
+
+            Problem p = problem;
+            // 남은 과목을 모두 들어도 최소 학점에 못 미치면 중단
+            if (credits + p.prefixCredits[p.courses.length] - p.prefixCredits[k] < p.minCredits) {
+                return;
+            }
+            // 상한이 현재 상위 N개의 최저 점수를 넘지 못하면 중단
+            if (score + p.bound(k, p.maxCredits - credits) <= top.threshold) {
+                return;
+            }
+            if (k == p.courses.length) {
+                if (credits > 0) {
+                    top.offer(score, credits, choice);
+                }
+                return;
+            }
+
+            // 1. 이 과목을 넣는 경우 (분반별)
+            Course course = p.courses[k];
+            if (credits + course.credits <= p.maxCredits) {
+                for (int s = 0; s < course.sections.length; s++) {
+                    Section section = course.sections[s];
+                    if (fits(section)) {
+                        take(k, s, section, course);
+                        dfs(k + 1);
+                        release(k, section, course);
+                    }
+                }
+            }
+
+            // 2. 이 과목을 빼는 경우
+            dfs(k + 1);
+        }
+
+        private boolean fits(Section section) {
+            for (int i = 0; i < section.wordIndex.length; i++) {
+                if ((occupied[section.wordIndex[i]] & section.wordBits[i]) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void take(int k, int s, Section section, Course course) {
+            for (int i = 0; i < section.wordIndex.length; i++) {
+                occupied[section.wordIndex[i]] |= section.wordBits[i];
+            }
+            choice[k] = s;
+            credits += course.credits;
+            score += course.value;
+        }
+
+        private void release(int k, Section section, Course course) {
+            for (int i = 0; i < section.wordIndex.length; i++) {
+                occupied[section.wordIndex[i]] &= ~section.wordBits[i];
+            }
+            choice[k] = -1;
+            credits -= course.credits;
+            score -= course.value;
+        }
+    }
+
+    /**
+     * 점수 상위 N개 시간표 (여러 스레드가 공유)
+     * threshold는 가득 찼을 때의 최저 점수로, 잠금 없이 읽어 가지치기에 사용
+     */
+    private static final class TopTimetables {
+        private final int capacity;
+        private final int courseCount;
+        private final PriorityQueue<Entry> heap;
+        private final Map<BitSet, Entry> byCourseSet = new HashMap<>();
+        volatile long threshold = Long.MIN_VALUE;
+
+        TopTimetables(int capacity, int courseCount) {
+            this.capacity = capacity;
+            this.courseCount = courseCount;
+            // 머리에 가장 낮은 순위 (점수 낮은 순, 같으면 선택 배열이 뒤쪽인 것)
+            this.heap = new PriorityQueue<>(capacity + 1, (a, b) -> -compareRank(a, b));
+        }
+
+        void offer(long score, int credits, int[] choice) {
+            if (score <= threshold) {
+                return;
+            }
+            synchronized (this) {
+                if (heap.size() >= capacity && score <= heap.peek().score) {
+                    return;
+                }
+                BitSet courseSet = new BitSet(courseCount);
+                for (int k = 0; k < choice.length; k++) {
+                    if (choice[k] >= 0) {
+                        courseSet.set(k);
+                    }
+                }
+                Entry existing = byCourseSet.get(courseSet);
+                if (existing != null) {
+                    // 같은 과목 조합은 앞쪽 분반 조합 하나만 유지
+                    if (compareChoice(choice, existing.choice) < 0) {
+                        heap.remove(existing);
+                        existing.choice = choice.clone();
+                        heap.add(existing);
+                    }
+                    return;
+                }
+                Entry entry = new Entry(score, credits, choice.clone(), courseSet);
+                heap.add(entry);
+                byCourseSet.put(courseSet, entry);
+                if (heap.size() > capacity) {
+                    byCourseSet.remove(heap.poll().courseSet);
+                }
+                if (heap.size() >= capacity) {
+                    threshold = heap.peek().score;
+                }
+            }
+        }
+
+        synchronized List<Timetable> toTimetables(Problem problem) {
+            List<Entry> entries = new ArrayList<>(heap);
+            entries.sort(TopTimetables::compareRank);
+            List<Timetable> timetables = new ArrayList<>(entries.size());
+            for (Entry entry : entries) {
+                List<Candidate> courses = new ArrayList<>();
+                List<CourseSection> sections = new ArrayList<>();
+                for (int k = 0; k < entry.choice.length; k++) {
+                    if (entry.choice[k] >= 0) {
+                        Course course = problem.courses[k];
+                        courses.add(course.candidate);
+                        sections.add(course.sections[entry.choice[k]].source);
+                    }
+                }
+                timetables.add(new Timetable(entry.score, entry.credits, courses, sections));
+            }
+            return timetables;
+        }
+
+        /** 순위 비교 (앞설수록 음수): 점수 높은 순 → 학점 많은 순 → 선택 배열 사전순 */
+        private static int compareRank(Entry a, Entry b) {
+            int c = Long.compare(b.score, a.score);
+            if (c != 0) {
+                return c;
+            }
+            c = Integer.compare(b.credits, a.credits);
+            if (c != 0) {
+                return c;
+            }
+            return compareChoice(a.choice, b.choice);
+        }
+
+        /** 과목 순서대로 비교, 수강(분반 번호 작은 순)이 미수강(-1)보다 앞섬 */
+        private static int compareChoice(int[] a, int[] b) {
+            for (int k = 0; k < a.length; k++) {
+                if (a[k] != b[k]) {
+                    int x = a[k] < 0 ? Integer.MAX_VALUE : a[k];
+                    int y = b[k] < 0 ? Integer.MAX_VALUE : b[k];
+                    return Integer.compare(x, y);
+                }
+            }
+            return 0;
+        }
+
+        private static final class Entry {
+            final long score;
+            final int credits;
+            final BitSet courseSet;
+            int[] choice;
+
+            Entry(long score, int credits, int[] choice, BitSet courseSet) {
+                this.score = score;
+                this.credits = credits;
+                this.choice = choice;
+                this.courseSet = courseSet;
+            }
+        }
+    }
+}
@@ -0,0 +1,1253 @@
+package sprout.app.sakmvp1.models;
+
+import sprout.app.sakmvp1.engine.EngineLog;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 컴파일된 졸업요건 규칙
+ * GraduationRules를 한 번 전처리하여 반복 분석을 빠르게 수행
+ *
+ * - 과목명을 int ID로 인턴(intern)하고, 수강 여부는 long[] 비트셋으로 관리
+ * - 카테고리 트리는 후위 순회 순서의 노드 배열로 평탄화
+ * - evaluate()는 수강 목록을 한 번만 순회하며, 카테고리마다 Map/Set을 만들지 않음
+ *
+ * 분석 결과는 GraduationRules.analyzeInterpreted()와 동일해야 함
+ * 컴파일된 객체는 불변이므로 여러 스레드에서 공유 가능 (Evaluation은 스레드별로 사용)
+ */
+public final class CompiledGraduationRules {
+    private static final String TAG = "CompiledGradRules";
+
+    static final byte TYPE_NONE = 0;         // type이 null이거나 알 수 없는 경우
+    static final byte TYPE_LIST = 1;
+    static final byte TYPE_ONE_OF = 2;
+    static final byte TYPE_GROUP = 3;
+    static final byte TYPE_COMPETENCY = 4;
+    static final byte TYPE_ELECTIVE = 5;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final GraduationRules source;
+
+    // 과목명 → ID, 카테고리명 → 슬롯
+    private final Map<String, Integer> courseIds;
+    private final Map<String, Integer> categorySlots;
+    private final String[] courseNames;
+    private final int takenWords;
+
+    // 카테고리 노드 (후위 순회 순서: 자식이 항상 부모보다 앞)
+    private final int nodeCount;
+    private final RequirementCategory[] nodeCategories;
+    private final byte[] nodeTypes;
+    private final int[] nodeRequired;
+    private final boolean[] nodeCountsCourses; // list/oneOf에서 requiredType == "courses"
+    private final int[] nodeRequiredCourses;   // CategoryAnalysisResult.requiredCourses와 동일 (그 외 0)
+    private final int[][] nodeCourseIds;       // list/oneOf: 등록 과목 ID (순서 유지)
+    private final int[][] nodeCourseCredits;
+    private final long[][] nodeRegistered;     // list: 등록 과목 비트셋 (직접 입력 과목 판별용)
+    private final int[][] nodeChildren;        // group: 서브그룹 노드 인덱스
+    private final int[][] slotNodes;           // 카테고리명 슬롯 → 이름으로 학점을 합산하는 노드들
+
+    // 최상위 카테고리
+    private final int[] topNodes;
+    private final boolean[] topEffective;      // 같은 id가 뒤에 다시 나오면 false (HashMap 덮어쓰기와 동일)
+    private final int[] topResultNodes;        // categoryResults.get(category.getId())가 가리키는 노드
+
+    // 대체과목 규칙
+    private final ReplacementRule[] rules;
+    private final int[] ruleDiscontinuedIds;
+    private final int[][] ruleReplacementIds;
+    private final int[] ruleDiscontinuedSlots;
+    private final int[] ruleDiscontinuedCredits;
+
+    // 증분 분석용 역색인
+    private final int[] nodeParents;           // 상위 노드, 최상위면 -1
+    private final int[][] courseNodes;         // 과목 ID → 그 과목이 등록된 list/oneOf 노드
+    private final int[][] courseRules;         // 과목 ID → 그 과목을 폐강/대체 과목으로 가진 규칙
+    private final int[][] nodeTops;            // 노드 → topNodes/topResultNodes로 가리키는 최상위 인덱스
+
+    private CompiledGraduationRules(GraduationRules source) {
+        this.source = source;
+        this.courseIds = new HashMap<>();
+        this.categorySlots = new HashMap<>();
+
+        List<RequirementCategory> categories = source.getCategories() != null
+            ? source.getCategories() : new ArrayList<>();
+        List<ReplacementRule> replacementRules = source.getReplacementRules() != null
+            ? source.getReplacementRules() : new ArrayList<>();
+
+        // 1. 카테고리 트리 평탄화 (후위 순회)
+        List<RequirementCategory> flat = new ArrayList<>();
+        List<int[]> children = new ArrayList<>();
+        topNodes = new int[categories.size()];
+        for (int i = 0; i < categories.size(); i++) {
+            topNodes[i] = flatten(categories.get(i), flat, children);
+        }
+
+        nodeCount = flat.size();
+        nodeCategories = flat.toArray(new RequirementCategory[0]);
+        nodeTypes = new byte[nodeCount];
+        nodeRequired = new int[nodeCount];
+        nodeCountsCourses = new boolean[nodeCount];
+        nodeRequiredCourses = new int[nodeCount];
+        nodeCourseIds = new int[nodeCount][];
+        nodeCourseCredits = new int[nodeCount][];
+        nodeChildren = children.toArray(new int[0][]);
+
+        List<List<Integer>> slotNodeLists = new ArrayList<>();
+        for (int n = 0; n < nodeCount; n++) {
+            RequirementCategory category = nodeCategories[n];
+            byte type = typeOf(category.getType());
+            nodeTypes[n] = type;
+            nodeRequired[n] = type == TYPE_NONE ? 0 : category.getRequired();
+            nodeCountsCourses[n] = (type == TYPE_LIST || type == TYPE_ONE_OF)
+                && "courses".equals(category.getRequiredType());
+            nodeRequiredCourses[n] = nodeCountsCourses[n] ? category.getRequired() : 0;
+
+            List<CourseRequirement> courses = category.getCourses();
+            if ((type == TYPE_LIST || type == TYPE_ONE_OF) && courses != null) {
+                int[] ids = new int[courses.size()];
+                int[] credits = new int[courses.size()];
+                for (int i = 0; i < courses.size(); i++) {
+                    ids[i] = intern(courses.get(i).getName());
+                    credits[i] = courses.get(i).getCredits();
+                }
+                nodeCourseIds[n] = ids;
+                nodeCourseCredits[n] = credits;
+            } else {
+                nodeCourseIds[n] = EMPTY;
+                nodeCourseCredits[n] = EMPTY;
+            }
+
+            // 카테고리 이름으로 학점을 합산하는 타입 (list의 직접 입력 과목, elective, competency)
+            int slot = type == TYPE_LIST || type == TYPE_ELECTIVE || type == TYPE_COMPETENCY
+                ? slotOf(category.getName()) : -1;
+            if (slot >= 0) {
+                while (slotNodeLists.size() <= slot) {
+                    slotNodeLists.add(new ArrayList<>());
+                }
+                slotNodeLists.get(slot).add(n);
+            }
+        }
+
+        // 2. 대체과목 규칙 (적용 범위가 document/department인 규칙만)
+        List<ReplacementRule> applicable = new ArrayList<>();
+        for (ReplacementRule rule : replacementRules) {
+            String scope = rule.getScope() != null ? rule.getScope() : "document";
+            if (("document".equals(scope) || "department".equals(scope))
+                    && rule.getDiscontinuedCourse() != null) {
+                applicable.add(rule);
+            }
+        }
+        rules = applicable.toArray(new ReplacementRule[0]);
+        ruleDiscontinuedIds = new int[rules.length];
+        ruleReplacementIds = new int[rules.length][];
+        ruleDiscontinuedSlots = new int[rules.length];
+        ruleDiscontinuedCredits = new int[rules.length];
+        for (int r = 0; r < rules.length; r++) {
+            ReplacementRule.CourseInfo discontinued = rules[r].getDiscontinuedCourse();
+            ruleDiscontinuedIds[r] = intern(discontinued.getName());
+            ruleDiscontinuedSlots[r] = findSlot(discontinued.getCategory());
+            ruleDiscontinuedCredits[r] = discontinued.getCredits();
+
+            List<ReplacementRule.CourseInfo> replacements = rules[r].getReplacementCourses();
+            int[] ids = new int[replacements != null ? replacements.size() : 0];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = intern(replacements.get(i).getName());
+            }
+            ruleReplacementIds[r] = ids;
+        }
+
+        // 3. 비트셋/슬롯 테이블 확정
+        courseNames = new String[courseIds.size()];
+        for (Map.Entry<String, Integer> entry : courseIds.entrySet()) {
+            courseNames[entry.getValue()] = entry.getKey();
+        }
+        takenWords = (courseNames.length + 63) >>> 6;
+
+        nodeRegistered = new long[nodeCount][];
+        for (int n = 0; n < nodeCount; n++) {
+            if (nodeTypes[n] == TYPE_LIST) {
+                long[] bits = new long[takenWords];
+                for (int id : nodeCourseIds[n]) {
+                    if (id >= 0) {
+                        bits[id >>> 6] |= 1L << id;
+                    }
+                }
+                nodeRegistered[n] = bits;
+            }
+        }
+
+        slotNodes = new int[categorySlots.size()][];
+        for (int s = 0; s < slotNodes.length; s++) {
+            List<Integer> nodes = s < slotNodeLists.size() ? slotNodeLists.get(s) : null;
+            if (nodes == null || nodes.isEmpty()) {
+                slotNodes[s] = EMPTY;
+            } else {
+                int[] arr = new int[nodes.size()];
+                for (int i = 0; i < arr.length; i++) {
+                    arr[i] = nodes.get(i);
+                }
+                slotNodes[s] = arr;
+            }
+        }
+
+        // 4. 최상위 카테고리: id 중복 시 마지막 카테고리의 결과만 유효
+        topEffective = new boolean[topNodes.length];
+        topResultNodes = new int[topNodes.length];
+        for (int i = 0; i < topNodes.length; i++) {
+            String id = nodeCategories[topNodes[i]].getId();
+            int last = i;
+            for (int j = i + 1; j < topNodes.length; j++) {
+                if (Objects.equals(id, nodeCategories[topNodes[j]].getId())) {
+                    last = j;
+                }
+            }
+            topEffective[i] = last == i;
+            topResultNodes[i] = topNodes[last];
+        }
+
+        // 5. 증분 분석용 역색인
+        nodeParents = new int[nodeCount];
+        Arrays.fill(nodeParents, -1);
+        for (int n = 0; n < nodeCount; n++) {
+            for (int child : nodeChildren[n]) {
+                nodeParents[child] = n;
+            }
+        }
+
+        List<List<Integer>> nodesByCourse = new ArrayList<>();
+        List<List<Integer>> rulesByCourse = new ArrayList<>();
+        for (int i = 0; i < courseNames.length; i++) {
+            nodesByCourse.add(new ArrayList<>());
+            rulesByCourse.add(new ArrayList<>());
+        }
+        for (int n = 0; n < nodeCount; n++) {
+            for (int id : nodeCourseIds[n]) {
+                if (id >= 0 && !nodesByCourse.get(id).contains(n)) {
+                    nodesByCourse.get(id).add(n);
+                }
+            }
+        }
+        for (int r = 0; r < rules.length; r++) {
+            if (ruleDiscontinuedIds[r] >= 0) {
+                rulesByCourse.get(ruleDiscontinuedIds[r]).add(r);
+            }
+            for (int id : ruleReplacementIds[r]) {
+                if (id >= 0 && !rulesByCourse.get(id).contains(r)) {
+                    rulesByCourse.get(id).add(r);
+                }
+            }
+        }
+        courseNodes = toArrays(nodesByCourse);
+        courseRules = toArrays(rulesByCourse);
+
+        List<List<Integer>> topsByNode = new ArrayList<>();
+        for (int n = 0; n < nodeCount; n++) {
+            topsByNode.add(new ArrayList<>());
+        }
+        for (int i = 0; i < topNodes.length; i++) {
+            topsByNode.get(topNodes[i]).add(i);
+            if (topResultNodes[i] != topNodes[i]) {
+                topsByNode.get(topResultNodes[i]).add(i);
+            }
+        }
+        nodeTops = toArrays(topsByNode);
+    }
+
+    private static int[][] toArrays(List<List<Integer>> lists) {
+        int[][] arrays = new int[lists.size()][];
+        for (int i = 0; i < arrays.length; i++) {
+            List<Integer> list = lists.get(i);
+            if (list.isEmpty()) {
+                arrays[i] = EMPTY;
+                continue;
+            }
+            arrays[i] = new int[list.size()];
+            for (int j = 0; j < arrays[i].length; j++) {
+                arrays[i][j] = list.get(j);
+            }
+        }
+        return arrays;
+    }
+
+    /**
+     * GraduationRules를 컴파일
+     * 규칙 구조(카테고리/과목/대체과목)만 고정되며, 학점 요건(creditRequirements, totalCredits)은 분석 시점에 읽음
+     */
+    public static CompiledGraduationRules compile(GraduationRules rules) {
+        return new CompiledGraduationRules(rules);
+    }
+
+    private int flatten(RequirementCategory category, List<RequirementCategory> flat, List<int[]> children) {
+        int[] childNodes = EMPTY;
+        if ("group".equals(category.getType()) && category.getSubgroups() != null) {
+            List<RequirementCategory> subgroups = category.getSubgroups();
+            childNodes = new int[subgroups.size()];
+            for (int i = 0; i < subgroups.size(); i++) {
+                childNodes[i] = flatten(subgroups.get(i), flat, children);
+            }
+        }
+        flat.add(category);
+        children.add(childNodes);
+        return flat.size() - 1;
+    }
+
+    private static byte typeOf(String type) {
+        if (type == null) {
+            return TYPE_NONE;
+        }
+        switch (type) {
+            case "list":
+                return TYPE_LIST;
+            case "oneOf":
+                return TYPE_ONE_OF;
+            case "group":
+                return TYPE_GROUP;
+            case "competency":
+                return TYPE_COMPETENCY;
+            case "elective":
+                return TYPE_ELECTIVE;
+            default:
+                return TYPE_NONE;
+        }
+    }
+
+    private int intern(String courseName) {
+        if (courseName == null) {
+            return -1;
+        }
+        Integer id = courseIds.get(courseName);
+        if (id == null) {
+            id = courseIds.size();
+            courseIds.put(courseName, id);
+        }
+        return id;
+    }
+
+    private int slotOf(String categoryName) {
+        if (categoryName == null) {
+            return -1;
+        }
+        Integer slot = categorySlots.get(categoryName);
+        if (slot == null) {
+            slot = categorySlots.size();
+            categorySlots.put(categoryName, slot);
+        }
+        return slot;
+    }
+
+    private int findSlot(String categoryName) {
+        if (categoryName == null) {
+            return -1;
+        }
+        Integer slot = categorySlots.get(categoryName);
+        return slot != null ? slot : -1;
+    }
+
+    private int courseIdOf(String courseName) {
+        if (courseName == null) {
+            return -1;
+        }
+        Integer id = courseIds.get(courseName);
+        return id != null ? id : -1;
+    }
+
+    private int slotIdOf(String categoryName) {
+        if (categoryName == null || slotNodes.length == 0) {
+            return -1;
+        }
+        Integer slot = categorySlots.get(categoryName);
+        return slot != null ? slot : -1;
+    }
+
+    private static boolean has(long[] bits, int id) {
+        return id >= 0 && (bits[id >>> 6] & (1L << id)) != 0;
+    }
+
+    // ========== 평가 (할당 없음) ==========
+
+    /**
+     * 재사용 가능한 평가 상태
+     * 한 Evaluation을 여러 번 evaluate()에 넘기면 추가 할당 없이 분석 가능
+     * 스레드 안전하지 않으므로 스레드별로 하나씩 사용
+     */
+    public static final class Evaluation {
+        final CompiledGraduationRules rules;
+        final long[] taken;
+        final boolean[] ruleApplied;
+        final int[] earnedCredits;
+        final int[] earnedCourses;
+        final boolean[] completed;
+        final int[] selected;         // oneOf: 선택된 과목의 인덱스, 없으면 -1
+
+        int totalEarnedCredits;
+        int totalRequiredCredits;
+        int overflowCredits;
+        int overflowNode;             // 넘치는 학점을 받은 노드, 목적지 카테고리가 없으면 -1
+        boolean overflowCompleted;    // 넘치는 학점 반영 후 목적지의 이수 여부
+        boolean overflowCategoryCreated;
+        boolean graduationReady;
+
+        Evaluation(CompiledGraduationRules rules) {
+            this.rules = rules;
+            this.taken = new long[rules.takenWords];
+            this.ruleApplied = new boolean[rules.rules.length];
+            this.earnedCredits = new int[rules.nodeCount];
+            this.earnedCourses = new int[rules.nodeCount];
+            this.completed = new boolean[rules.nodeCount];
+            this.selected = new int[rules.nodeCount];
+        }
+
+        public int getCategoryCount() {
+            return rules.topNodes.length;
+        }
+
+        public String getCategoryId(int index) {
+            return rules.nodeCategories[rules.topNodes[index]].getId();
+        }
+
+        public String getCategoryName(int index) {
+            return rules.nodeCategories[rules.topNodes[index]].getName();
+        }
+
+        public int getEarnedCredits(int index) {
+            int n = rules.topNodes[index];
+            return n == overflowNode ? earnedCredits[n] + overflowCredits : earnedCredits[n];
+        }
+
+        public int getRequiredCredits(int index) {
+            return rules.nodeRequired[rules.topNodes[index]];
+        }
+
+        public boolean isCompleted(int index) {
+            int n = rules.topNodes[index];
+            return n == overflowNode ? overflowCompleted : completed[n];
+        }
+
+        public int getTotalEarnedCredits() {
+            return totalEarnedCredits;
+        }
+
+        public int getTotalRequiredCredits() {
+            return totalRequiredCredits;
+        }
+
+        public int getOverflowCredits() {
+            return overflowCredits;
+        }
+
+        public boolean isGraduationReady() {
+            return graduationReady;
+        }
+    }
+
+    public Evaluation newEvaluation() {
+        return new Evaluation(this);
+    }
+
+    /**
+     * 수강 과목 목록을 평가 (결과 객체를 만들지 않음)
+     * 학점/이수 여부/졸업 가능 여부만 필요한 경우 analyze() 대신 사용
+     */
+    public void evaluate(List<? extends TakenCourse> takenCourses, Evaluation eval) {
+        if (eval.rules != this) {
+            throw new IllegalArgumentException("Evaluation belongs to different compiled rules");
+        }
+
+        Arrays.fill(eval.taken, 0L);
+        Arrays.fill(eval.earnedCredits, 0);
+        Arrays.fill(eval.earnedCourses, 0);
+        Arrays.fill(eval.completed, false);
+        Arrays.fill(eval.selected, -1);
+
+        // 1. 수강 과목 1회 순회: 비트셋 구성 + 카테고리명 기준 학점 합산
+        int size = takenCourses.size();
+        for (int i = 0; i < size; i++) {
+            TakenCourse course = takenCourses.get(i);
+            int id = courseIdOf(course.getName());
+            if (id >= 0) {
+                eval.taken[id >>> 6] |= 1L << id;
+            }
+            accumulateByCategory(eval, slotIdOf(course.getCategory()), id, course.getCredits());
+        }
+
+        // 2. 대체과목 규칙: 원래 수강 목록 기준으로 판정 후 폐강 과목을 가상 수강 처리
+        for (int r = 0; r < rules.length; r++) {
+            boolean apply = false;
+            if (!has(eval.taken, ruleDiscontinuedIds[r])) {
+                for (int replacementId : ruleReplacementIds[r]) {
+                    if (has(eval.taken, replacementId)) {
+                        apply = true;
+                        break;
+                    }
+                }
+            }
+            eval.ruleApplied[r] = apply;
+        }
+        for (int r = 0; r < rules.length; r++) {
+            if (eval.ruleApplied[r]) {
+                int id = ruleDiscontinuedIds[r];
+                eval.taken[id >>> 6] |= 1L << id;
+                accumulateByCategory(eval, ruleDiscontinuedSlots[r], id, ruleDiscontinuedCredits[r]);
+            }
+        }
+
+        // 3. 노드 평가 (후위 순서이므로 서브그룹이 먼저 계산됨)
+        for (int n = 0; n < nodeCount; n++) {
+            evaluateNode(eval, n);
+        }
+
+        // 4. 총 학점
+        int total = 0;
+        for (int i = 0; i < topNodes.length; i++) {
+            if (topEffective[i]) {
+                total += eval.earnedCredits[topNodes[i]];
+            }
+        }
+        eval.totalEarnedCredits = total;
+
+        CreditRequirements creditRequirements = source.getCreditRequirements();
+        if (source.getTotalCredits() > 0) {
+            eval.totalRequiredCredits = source.getTotalCredits();
+        } else if (creditRequirements != null && creditRequirements.getTotal() > 0) {
+            eval.totalRequiredCredits = creditRequirements.getTotal();
+        } else {
+            eval.totalRequiredCredits = 0;
+        }
+
+        // 5. 넘치는 학점 처리
+        evaluateOverflow(eval, creditRequirements);
+
+        // 6. 졸업 가능 여부
+        boolean ready = eval.totalEarnedCredits >= eval.totalRequiredCredits;
+        for (int i = 0; i < topNodes.length && ready; i++) {
+            if (topEffective[i] && nodeCategories[topNodes[i]].getId() != null && !eval.isCompleted(i)) {
+                ready = false;
+            }
+        }
+        if (ready && eval.overflowCategoryCreated) {
+            int required = creditRequirements.getRequiredCredits(source.getOverflowDestination());
+            ready = eval.overflowCredits >= required;
+        }
+        eval.graduationReady = ready;
+    }
+
+    private void accumulateByCategory(Evaluation eval, int slot, int courseId, int credits) {
+        if (slot < 0) {
+            return;
+        }
+        for (int n : slotNodes[slot]) {
+            if (nodeTypes[n] == TYPE_LIST && has(nodeRegistered[n], courseId)) {
+                continue;  // 등록된 과목은 이름 매칭으로 계산
+            }
+            eval.earnedCredits[n] += credits;
+            eval.earnedCourses[n]++;
+        }
+    }
+
+    private void evaluateNode(Evaluation eval, int n) {
+        int required = nodeRequired[n];
+        switch (nodeTypes[n]) {
+            case TYPE_LIST: {
+                int[] ids = nodeCourseIds[n];
+                int[] credits = nodeCourseCredits[n];
+                for (int i = 0; i < ids.length; i++) {
+                    if (has(eval.taken, ids[i])) {
+                        eval.earnedCredits[n] += credits[i];
+                        eval.earnedCourses[n]++;
+                    }
+                }
+                eval.completed[n] = nodeCountsCourses[n]
+                    ? eval.earnedCourses[n] >= required
+                    : eval.earnedCredits[n] >= required;
+                break;
+            }
+            case TYPE_ONE_OF: {
+                int[] ids = nodeCourseIds[n];
+                for (int i = 0; i < ids.length; i++) {
+                    if (has(eval.taken, ids[i])) {
+                        eval.selected[n] = i;
+                        eval.earnedCredits[n] = nodeCourseCredits[n][i];
+                        eval.earnedCourses[n] = 1;
+                        break;
+                    }
+                }
+                eval.completed[n] = nodeCountsCourses[n]
+                    ? eval.selected[n] >= 0 && eval.earnedCourses[n] >= required
+                    : eval.earnedCredits[n] >= required;
+                break;
+            }
+            case TYPE_GROUP: {
+                boolean allCompleted = true;
+                for (int child : nodeChildren[n]) {
+                    eval.earnedCredits[n] += eval.earnedCredits[child];
+                    eval.earnedCourses[n] += eval.earnedCourses[child];
+                    allCompleted &= eval.completed[child];
+                }
+                eval.completed[n] = allCompleted && eval.earnedCredits[n] >= required;
+                break;
+            }
+            case TYPE_COMPETENCY:
+            case TYPE_ELECTIVE:
+                eval.completed[n] = eval.earnedCredits[n] >= required;
+                break;
+            default:
+                eval.completed[n] = false;
+                break;
+        }
+    }
+
+    private void evaluateOverflow(Evaluation eval, CreditRequirements creditRequirements) {
+        eval.overflowCredits = 0;
+        eval.overflowNode = -1;
+        eval.overflowCompleted = false;
+        eval.overflowCategoryCreated = false;
+
+        String destination = source.getOverflowDestination();
+        if (destination == null || creditRequirements == null) {
+            return;
+        }
+
+        int totalOverflow = 0;
+        for (int i = 0; i < topNodes.length; i++) {
+            int earned = eval.earnedCredits[topResultNodes[i]];
+            int required = creditRequirements.getRequiredCredits(nodeCategories[topNodes[i]].getName());
+            if (earned > required && required > 0) {
+                totalOverflow += earned - required;
+            }
+        }
+        if (totalOverflow <= 0) {
+            return;
+        }
+
+        eval.overflowCredits = totalOverflow;
+        for (int i = topNodes.length - 1; i >= 0; i--) {
+            if (topEffective[i] && destination.equals(nodeCategories[topNodes[i]].getId())) {
+                eval.overflowNode = topNodes[i];
+                break;
+            }
+        }
+
+        if (eval.overflowNode >= 0) {
+            int n = eval.overflowNode;
+            // CategoryAnalysisResult.calculateCompletion()과 동일한 기준
+            eval.overflowCompleted = nodeRequiredCourses[n] > 0
+                ? eval.earnedCourses[n] >= nodeRequiredCourses[n]
+                : eval.earnedCredits[n] + totalOverflow >= nodeRequired[n];
+        } else {
+            eval.overflowCategoryCreated = true;
+        }
+    }
+
+    // ========== 결과 객체 생성 ==========
+
+    /**
+     * 졸업요건 분석 (GraduationRules.analyze()와 동일한 결과)
+     * @param takenCourses 사용자가 수강한 과목 목록
+     * @return 졸업요건 분석 결과
+     */
+    public GraduationAnalysisResult analyze(List<? extends TakenCourse> takenCourses) {
+        Evaluation eval = newEvaluation();
+        evaluate(takenCourses, eval);
+        GraduationAnalysisResult result = toResult(takenCourses, eval);
+
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "Analysis complete: " + source.getDocId() + " - " + takenCourses.size() + " courses, " +
+                  result.getTotalEarnedCredits() + "/" + result.getTotalRequiredCredits() +
+                  " credits, ready=" + result.isGraduationReady());
+        }
+        return result;
+    }
+
+    /**
+     * 평가 상태를 UI에서 사용하는 GraduationAnalysisResult로 변환
+     * @param takenCourses evaluate()에 넘긴 것과 같은 수강 과목 목록
+     */
+    public GraduationAnalysisResult toResult(List<? extends TakenCourse> takenCourses, Evaluation eval) {
+        CategoryAnalysisResult[] topResults = new CategoryAnalysisResult[topNodes.length];
+        for (int i = 0; i < topNodes.length; i++) {
+            topResults[i] = buildResult(topNodes[i], takenCourses, eval);
+        }
+        return assembleResult(topResults, eval);
+    }
+
+    /**
+     * 최상위 카테고리 결과들을 묶어 분석 결과 생성 (넘치는 학점/졸업 가능 여부 반영)
+     */
+    private GraduationAnalysisResult assembleResult(CategoryAnalysisResult[] topResults, Evaluation eval) {
+        GraduationAnalysisResult result = new GraduationAnalysisResult();
+        result.setDocId(source.getDocId());
+        result.setCohort(String.valueOf(source.getCohort()));
+        result.setDepartment(source.getDepartment());
+        result.setTrack(source.getTrack());
+
+        for (int r = 0; r < rules.length; r++) {
+            if (eval.ruleApplied[r]) {
+                result.addAppliedReplacement(rules[r]);
+            }
+        }
+
+        for (CategoryAnalysisResult topResult : topResults) {
+            result.addCategoryResult(topResult);
+        }
+
+        result.setTotalEarnedCredits(eval.totalEarnedCredits);
+        if (eval.totalRequiredCredits > 0) {
+            result.setTotalRequiredCredits(eval.totalRequiredCredits);
+        }
+
+        // 넘치는 학점 반영
+        if (eval.overflowCredits > 0) {
+            if (eval.overflowNode >= 0) {
+                for (int i = topNodes.length - 1; i >= 0; i--) {
+                    if (topNodes[i] == eval.overflowNode) {
+                        topResults[i].setEarnedCredits(eval.getEarnedCredits(i));
+                        topResults[i].calculateCompletion();
+                        break;
+                    }
+                }
+            } else {
+                String destination = source.getOverflowDestination();
+                CategoryAnalysisResult overflowCategory = new CategoryAnalysisResult(destination, destination);
+                overflowCategory.setRequiredCredits(source.getCreditRequirements().getRequiredCredits(destination));
+                overflowCategory.setEarnedCredits(eval.overflowCredits);
+                overflowCategory.calculateCompletion();
+                result.addCategoryResult(overflowCategory);
+            }
+        }
+
+        result.calculateGraduationReadiness();
+        return result;
+    }
+
+    private CategoryAnalysisResult buildResult(int n, List<? extends TakenCourse> takenCourses, Evaluation eval) {
+        RequirementCategory category = nodeCategories[n];
+        CategoryAnalysisResult result = new CategoryAnalysisResult(category.getId(), category.getName());
+        byte type = nodeTypes[n];
+        if (type == TYPE_NONE) {
+            return result;
+        }
+        result.setRequiredCredits(nodeRequired[n]);
+
+        switch (type) {
+            case TYPE_LIST: {
+                int[] ids = nodeCourseIds[n];
+                List<CourseRequirement> courses = category.getCourses();
+                for (int i = 0; i < ids.length; i++) {
+                    String name = courses.get(i).getName();
+                    result.addCourseCredit(name, nodeCourseCredits[n][i]);
+                    if (has(eval.taken, ids[i])) {
+                        result.addCompletedCourse(name);
+                    } else {
+                        result.addMissingCourse(name);
+                    }
+                }
+                addCoursesByCategory(n, takenCourses, eval, result, true);
+                if (nodeCountsCourses[n]) {
+                    result.setRequiredCourses(nodeRequiredCourses[n]);
+                }
+                break;
+            }
+            case TYPE_ONE_OF: {
+                List<CourseRequirement> courses = category.getCourses();
+                int selected = eval.selected[n];
+                if (selected >= 0) {
+                    result.addCompletedCourse(courses.get(selected).getName());
+                }
+                if (nodeCountsCourses[n]) {
+                    result.setRequiredCourses(nodeRequiredCourses[n]);
+                }
+                if (selected < 0) {
+                    for (CourseRequirement req : courses) {
+                        result.addMissingCourse(req.getName());
+                    }
+                }
+
+                CategoryAnalysisResult.SubgroupResult subResult =
+                    new CategoryAnalysisResult.SubgroupResult(category.getId(), category.getName());
+                subResult.setEarnedCredits(eval.earnedCredits[n]);
+                subResult.setRequiredCredits(nodeRequired[n]);
+                subResult.setCompleted(eval.completed[n]);
+                if (selected >= 0) {
+                    subResult.setSelectedCourse(courses.get(selected).getName());
+                }
+                List<String> availableCourseNames = new ArrayList<>(courses.size());
+                for (CourseRequirement req : courses) {
+                    availableCourseNames.add(req.getName());
+                    result.addCourseCredit(req.getName(), req.getCredits());
+                }
+                subResult.setAvailableCourses(availableCourseNames);
+                result.addSubgroupResult(subResult);
+                break;
+            }
+            case TYPE_GROUP: {
+                for (int child : nodeChildren[n]) {
+                    CategoryAnalysisResult childResult = buildResult(child, takenCourses, eval);
+                    result.addSubgroupResult(toSubgroupResult(childResult));
+                    result.getCompletedCourses().addAll(childResult.getCompletedCourses());
+                    result.getMissingCourses().addAll(childResult.getMissingCourses());
+                    if (childResult.getCourseCreditsMap() != null) {
+                        for (Map.Entry<String, Integer> entry : childResult.getCourseCreditsMap().entrySet()) {
+                            result.addCourseCredit(entry.getKey(), entry.getValue());
+                        }
+                    }
+                }
+                break;
+            }
+            case TYPE_ELECTIVE:
+                addCoursesByCategory(n, takenCourses, eval, result, true);
+                break;
+            case TYPE_COMPETENCY:
+                addCoursesByCategory(n, takenCourses, eval, result, false);
+                break;
+            default:
+                break;
+        }
+
+        result.setEarnedCredits(eval.earnedCredits[n]);
+        result.setEarnedCourses(eval.earnedCourses[n]);
+        result.setCompleted(eval.completed[n]);
+        return result;
+    }
+
+    /**
+     * 카테고리명이 일치하는 수강 과목(대체 적용된 가상 과목 포함)을 결과에 추가
+     * list 타입은 등록된 과목을 제외한 직접 입력 과목만 추가
+     */
+    private void addCoursesByCategory(int n, List<? extends TakenCourse> takenCourses, Evaluation eval,
+                                      CategoryAnalysisResult result, boolean withCredits) {
+        String name = nodeCategories[n].getName();
+        if (name == null) {
+            return;
+        }
+        boolean isList = nodeTypes[n] == TYPE_LIST;
+        for (int i = 0; i < takenCourses.size(); i++) {
+            TakenCourse course = takenCourses.get(i);
+            if (name.equals(course.getCategory())
+                    && !(isList && has(nodeRegistered[n], courseIdOf(course.getName())))) {
+                result.addCompletedCourse(course.getName());
+                if (withCredits) {
+                    result.addCourseCredit(course.getName(), course.getCredits());
+                }
+            }
+        }
+        for (int r = 0; r < rules.length; r++) {
+            ReplacementRule.CourseInfo discontinued = rules[r].getDiscontinuedCourse();
+            if (eval.ruleApplied[r] && name.equals(discontinued.getCategory())
+                    && !(isList && has(nodeRegistered[n], ruleDiscontinuedIds[r]))) {
+                result.addCompletedCourse(discontinued.getName());
+                if (withCredits) {
+                    result.addCourseCredit(discontinued.getName(), discontinued.getCredits());
+                }
+            }
+        }
+    }
+
+    /**
+     * CategoryAnalysisResult를 SubgroupResult로 변환 (RequirementCategory와 동일한 규칙)
+     */
+    private static CategoryAnalysisResult.SubgroupResult toSubgroupResult(CategoryAnalysisResult categoryResult) {
+        CategoryAnalysisResult.SubgroupResult subResult =
+            new CategoryAnalysisResult.SubgroupResult(categoryResult.getCategoryId(), categoryResult.getCategoryName());
+        subResult.setEarnedCredits(categoryResult.getEarnedCredits());
+        subResult.setRequiredCredits(categoryResult.getRequiredCredits());
+        subResult.setCompleted(categoryResult.isCompleted());
+        subResult.setCompletedCourses(categoryResult.getCompletedCourses());
+
+        if (categoryResult.getSubgroupResults() != null && !categoryResult.getSubgroupResults().isEmpty()) {
+            CategoryAnalysisResult.SubgroupResult firstSubgroup = categoryResult.getSubgroupResults().get(0);
+            if (firstSubgroup.getAvailableCourses() != null) {
+                subResult.setAvailableCourses(firstSubgroup.getAvailableCourses());
+            }
+            if (firstSubgroup.getSelectedCourse() != null) {
+                subResult.setSelectedCourse(firstSubgroup.getSelectedCourse());
+            }
+        }
+        return subResult;
+    }
+
+    // ========== 증분 분석 ==========
+
+    /**
+     * 증분 분석 세션
+     * 과목을 하나씩 추가/삭제할 때 영향을 받는 카테고리(그 과목이 등록된 노드, 카테고리명이 같은 노드와 상위 노드),
+     * 관련 대체과목 규칙, 총 학점/넘치는 학점만 다시 계산
+     *
+     * - 상태는 항상 같은 수강 목록으로 evaluate()를 호출한 결과와 동일 (getEvaluation()으로 조회)
+     * - getResult()는 마지막 결과를 보관하고, 변경된 최상위 카테고리의 결과만 다시 만듦
+     *   (변경되지 않은 CategoryAnalysisResult는 다음 결과와 공유되므로 수정하지 말 것)
+     * - 학점 요건(creditRequirements, totalCredits, overflowDestination)은 reset() 시점에 읽음
+     * - 스레드 안전하지 않음 (UI 스레드에서 사용)
+     */
+    public static final class Incremental {
+        private final CompiledGraduationRules rules;
+        private final Evaluation eval;
+        private final List<TakenCourse> courses = new ArrayList<>();
+
+        private final int[] takenCounts;       // 과목 ID별 수강 항목 수 (중복 입력 포함)
+        private final int[] virtualCounts;     // 과목 ID별로 적용된 대체과목 규칙 수
+        private final int[] directCredits;     // 노드별 카테고리명 기준 합산 학점 (등록 과목 제외)
+        private final int[] directCourses;
+        private final BitSet dirtyNodes;
+
+        // 최상위 카테고리별로 합계에 반영된 값
+        private final int[] topRequired;       // creditRequirements 기준 요구 학점 (넘치는 학점 계산용)
+        private final int[] topEarned;
+        private final int[] topOverflow;
+        private final boolean[] topIncomplete;
+        private int totalEarned;
+        private int totalOverflow;
+        private int incompleteCount;
+
+        private int destinationNode;           // 넘치는 학점 목적지 노드, 없으면 -1
+        private int destinationTop;
+        private int destinationRequired;
+        private boolean overflowEnabled;
+        private int requiredCredits;
+
+        // 결과 캐시
+        private final CategoryAnalysisResult[] topResults;
+        private final boolean[] topResultDirty;
+        private GraduationAnalysisResult result;
+
+        Incremental(CompiledGraduationRules rules) {
+            this.rules = rules;
+            this.eval = new Evaluation(rules);
+            this.takenCounts = new int[rules.courseNames.length];
+            this.virtualCounts = new int[rules.courseNames.length];
+            this.directCredits = new int[rules.nodeCount];
+            this.directCourses = new int[rules.nodeCount];
+            this.dirtyNodes = new BitSet(rules.nodeCount);
+            this.topRequired = new int[rules.topNodes.length];
+            this.topEarned = new int[rules.topNodes.length];
+            this.topOverflow = new int[rules.topNodes.length];
+            this.topIncomplete = new boolean[rules.topNodes.length];
+            this.topResults = new CategoryAnalysisResult[rules.topNodes.length];
+            this.topResultDirty = new boolean[rules.topNodes.length];
+        }
+
+        /**
+         * 수강 목록 전체로 다시 시작 (학점 요건도 다시 읽음)
+         */
+        public void reset(List<? extends TakenCourse> takenCourses) {
+            courses.clear();
+            Arrays.fill(takenCounts, 0);
+            Arrays.fill(virtualCounts, 0);
+            Arrays.fill(directCredits, 0);
+            Arrays.fill(directCourses, 0);
+            Arrays.fill(eval.taken, 0L);
+            Arrays.fill(eval.ruleApplied, false);
+            Arrays.fill(topEarned, 0);
+            Arrays.fill(topOverflow, 0);
+            Arrays.fill(topIncomplete, false);
+            Arrays.fill(topResultDirty, true);
+            totalEarned = 0;
+            totalOverflow = 0;
+            incompleteCount = 0;
+            readRequirements();
+
+            for (int i = 0; i < takenCourses.size(); i++) {
+                TakenCourse course = takenCourses.get(i);
+                courses.add(course);
+                applyCourse(course, 1);
+            }
+            dirtyNodes.set(0, rules.nodeCount);
+            update();
+        }
+
+        /**
+         * 과목 추가 (목록 끝에 추가)
+         */
+        public void add(TakenCourse course) {
+            courses.add(course);
+            applyCourse(course, 1);
+            update();
+        }
+
+        /**
+         * 과목 삭제 (같은 객체를 먼저 찾고, 없으면 카테고리/과목명/학점이 같은 첫 항목)
+         * @return 삭제한 항목이 있으면 true
+         */
+        public boolean remove(TakenCourse course) {
+            int index = -1;
+            for (int i = 0; i < courses.size(); i++) {
+                if (courses.get(i) == course) {
+                    index = i;
+                    break;
+                }
+            }
+            for (int i = 0; i < courses.size() && index < 0; i++) {
+                TakenCourse other = courses.get(i);
+                if (other.getCredits() == course.getCredits()
+                        && Objects.equals(other.getName(), course.getName())
+                        && Objects.equals(other.getCategory(), course.getCategory())) {
+                    index = i;
+                }
+            }
+            if (index < 0) {
+                return false;
+            }
+            applyCourse(courses.remove(index), -1);
+            update();
+            return true;
+        }
+
+        /** 현재 평가 상태 (총 학점/카테고리별 학점/졸업 가능 여부) */
+        public Evaluation getEvaluation() {
+            return eval;
+        }
+
+        public List<TakenCourse> getCourses() {
+            return Collections.unmodifiableList(courses);
+        }
+
+        /**
+         * 현재 수강 목록의 분석 결과 (변경이 없으면 마지막 결과를 그대로 반환)
+         */
+        public GraduationAnalysisResult getResult() {
+            if (result == null) {
+                for (int i = 0; i < topResults.length; i++) {
+                    if (topResultDirty[i] || topResults[i] == null) {
+                        topResults[i] = rules.buildResult(rules.topNodes[i], courses, eval);
+                        topResultDirty[i] = false;
+                    }
+                }
+                result = rules.assembleResult(topResults, eval);
+            }
+            return result;
+        }
+
+        private void readRequirements() {
+            GraduationRules source = rules.source;
+            CreditRequirements creditRequirements = source.getCreditRequirements();
+            String destination = source.getOverflowDestination();
+            overflowEnabled = destination != null && creditRequirements != null;
+
+            if (source.getTotalCredits() > 0) {
+                requiredCredits = source.getTotalCredits();
+            } else if (creditRequirements != null && creditRequirements.getTotal() > 0) {
+                requiredCredits = creditRequirements.getTotal();
+            } else {
+                requiredCredits = 0;
+            }
+
+            destinationNode = -1;
+            destinationTop = -1;
+            destinationRequired = 0;
+            for (int i = 0; i < rules.topNodes.length; i++) {
+                topRequired[i] = overflowEnabled
+                    ? creditRequirements.getRequiredCredits(rules.nodeCategories[rules.topNodes[i]].getName()) : 0;
+            }
+            if (overflowEnabled) {
+                destinationRequired = creditRequirements.getRequiredCredits(destination);
+                for (int i = rules.topNodes.length - 1; i >= 0; i--) {
+                    if (rules.topEffective[i] && destination.equals(rules.nodeCategories[rules.topNodes[i]].getId())) {
+                        destinationNode = rules.topNodes[i];
+                        destinationTop = i;
+                        break;
+                    }
+                }
+            }
+        }
+
+        /**
+         * 수강 항목 하나를 더하거나(+1) 빼고(-1), 영향받는 노드를 dirty로 표시
+         */
+        private void applyCourse(TakenCourse course, int sign) {
+            int id = rules.courseIdOf(course.getName());
+            accumulate(rules.slotIdOf(course.getCategory()), id, course.getCredits(), sign);
+            if (id < 0) {
+                return;
+            }
+            boolean wasTaken = takenCounts[id] > 0;
+            takenCounts[id] += sign;
+            if (wasTaken != takenCounts[id] > 0) {
+                updateTakenBit(id);
+                for (int r : rules.courseRules[id]) {
+                    updateRule(r);
+                }
+            }
+        }
+
+        /** evaluate()의 2단계와 같은 기준으로 규칙 적용 여부를 다시 판정 */
+        private void updateRule(int r) {
+            int discontinuedId = rules.ruleDiscontinuedIds[r];
+            boolean apply = false;
+            if (takenCounts[discontinuedId] == 0) {
+                for (int replacementId : rules.ruleReplacementIds[r]) {
+                    if (replacementId >= 0 && takenCounts[replacementId] > 0) {
+                        apply = true;
+                        break;
+                    }
+                }
+            }
+            if (apply == eval.ruleApplied[r]) {
+                return;
+            }
+            int sign = apply ? 1 : -1;
+            eval.ruleApplied[r] = apply;
+            virtualCounts[discontinuedId] += sign;
+            updateTakenBit(discontinuedId);
+            accumulate(rules.ruleDiscontinuedSlots[r], discontinuedId, rules.ruleDiscontinuedCredits[r], sign);
+        }
+
+        /** 실제 수강 또는 대체 적용 여부로 비트를 맞추고, 바뀌면 그 과목이 등록된 노드를 dirty로 표시 */
+        private void updateTakenBit(int id) {
+            boolean taken = takenCounts[id] > 0 || virtualCounts[id] > 0;
+            if (taken == has(eval.taken, id)) {
+                return;
+            }
+            eval.taken[id >>> 6] ^= 1L << id;
+            for (int n : rules.courseNodes[id]) {
+                dirtyNodes.set(n);
+            }
+        }
+
+        /** accumulateByCategory()와 같은 기준 */
+        private void accumulate(int slot, int courseId, int credits, int sign) {
+            if (slot < 0) {
+                return;
+            }
+            for (int n : rules.slotNodes[slot]) {
+                if (rules.nodeTypes[n] == TYPE_LIST && has(rules.nodeRegistered[n], courseId)) {
+                    continue;
+                }
+                directCredits[n] += sign * credits;
+                directCourses[n] += sign;
+                dirtyNodes.set(n);
+            }
+        }
+
+        /**
+         * dirty 노드를 후위 순서로 다시 계산하고 상위 노드로 전파한 뒤 합계 갱신
+         */
+        private void update() {
+            for (int n = dirtyNodes.nextSetBit(0); n >= 0; n = dirtyNodes.nextSetBit(n + 1)) {
+                int prevCredits = eval.earnedCredits[n];
+                int prevCourses = eval.earnedCourses[n];
+                boolean prevCompleted = eval.completed[n];
+                int prevSelected = eval.selected[n];
+
+                eval.earnedCredits[n] = directCredits[n];
+                eval.earnedCourses[n] = directCourses[n];
+                eval.completed[n] = false;
+                eval.selected[n] = -1;
+                rules.evaluateNode(eval, n);
+
+                // 학점이 같아도 완료/누락 과목 목록은 바뀌었을 수 있으므로 결과 객체는 항상 다시 만듦
+                markResultDirty(n);
+                int parent = rules.nodeParents[n];
+                if (parent >= 0 && (prevCredits != eval.earnedCredits[n] || prevCourses != eval.earnedCourses[n]
+                        || prevCompleted != eval.completed[n] || prevSelected != eval.selected[n])) {
+                    dirtyNodes.set(parent);
+                }
+                for (int i : rules.nodeTops[n]) {
+                    refreshTop(i);
+                }
+            }
+            dirtyNodes.clear();
+
+            eval.totalEarnedCredits = totalEarned;
+            eval.totalRequiredCredits = requiredCredits;
+            updateOverflow();
+
+            boolean ready = totalEarned >= requiredCredits && incompleteCount == 0;
+            if (ready && destinationTop >= 0) {
+                ready = eval.isCompleted(destinationTop);
+            }
+            if (ready && eval.overflowCategoryCreated) {
+                ready = eval.overflowCredits >= destinationRequired;
+            }
+            eval.graduationReady = ready;
+            result = null;
+        }
+
+        private void markResultDirty(int n) {
+            while (rules.nodeParents[n] >= 0) {
+                n = rules.nodeParents[n];
+            }
+            for (int i : rules.nodeTops[n]) {
+                if (rules.topNodes[i] == n) {
+                    topResultDirty[i] = true;
+                }
+            }
+        }
+
+        /** 최상위 카테고리 하나의 기여분(총 학점, 넘치는 학점, 미완료 수)을 다시 반영 */
+        private void refreshTop(int i) {
+            int n = rules.topNodes[i];
+            int earned = rules.topEffective[i] ? eval.earnedCredits[n] : 0;
+            totalEarned += earned - topEarned[i];
+            topEarned[i] = earned;
+
+            int resultEarned = eval.earnedCredits[rules.topResultNodes[i]];
+            int overflow = topRequired[i] > 0 && resultEarned > topRequired[i] ? resultEarned - topRequired[i] : 0;
+            totalOverflow += overflow - topOverflow[i];
+            topOverflow[i] = overflow;
+
+            boolean incomplete = rules.topEffective[i] && i != destinationTop
+                && rules.nodeCategories[n].getId() != null && !eval.completed[n];
+            if (incomplete != topIncomplete[i]) {
+                incompleteCount += incomplete ? 1 : -1;
+                topIncomplete[i] = incomplete;
+            }
+        }
+
+        /** evaluateOverflow()와 같은 기준 (합계는 refreshTop()에서 유지) */
+        private void updateOverflow() {
+            int previous = eval.overflowCredits;
+            eval.overflowCredits = 0;
+            eval.overflowNode = -1;
+            eval.overflowCompleted = false;
+            eval.overflowCategoryCreated = false;
+
+            if (overflowEnabled && totalOverflow > 0) {
+                eval.overflowCredits = totalOverflow;
+                if (destinationNode >= 0) {
+                    int n = destinationNode;
+                    eval.overflowNode = n;
+                    eval.overflowCompleted = rules.nodeRequiredCourses[n] > 0
+                        ? eval.earnedCourses[n] >= rules.nodeRequiredCourses[n]
+                        : eval.earnedCredits[n] + totalOverflow >= rules.nodeRequired[n];
+                } else {
+                    eval.overflowCategoryCreated = true;
+                }
+            }
+            if (destinationTop >= 0 && previous != eval.overflowCredits) {
+                topResultDirty[destinationTop] = true;
+            }
+        }
+    }
+
+    /**
+     * 증분 분석 세션 생성
+     * @param takenCourses 시작 수강 목록 (전체 평가 1회)
+     */
+    public Incremental newIncremental(List<? extends TakenCourse> takenCourses) {
+        Incremental incremental = new Incremental(this);
+        incremental.reset(takenCourses);
+        return incremental;
+    }
+
+    // ========== 조회 ==========
+
+    public GraduationRules getSource() {
+        return source;
+    }
+
+    /** 인턴된 과목 수 (등록 과목 + 대체과목 규칙에 등장하는 과목) */
+    public int getCourseCount() {
+        return courseNames.length;
+    }
+
+    public int getCategoryCount() {
+        return topNodes.length;
+    }
+}
@@ -33,6 +33,7 @@ public class CourseRequirement {
     }
 
     public void setName(String name) {
+        RuleStructure.changed();
         this.name = name;
     }
 
@@ -41,6 +42,7 @@ public class CourseRequirement {
     }
 
     public void setCredits(int credits) {
+        RuleStructure.changed();
         this.credits = credits;
     }
 
@@ -49,6 +51,7 @@ public class CourseRequirement {
     }
 
     public void setSemester(String semester) {
+        RuleStructure.changed();
         this.semester = semester;
     }
 
@@ -57,6 +60,7 @@ public class CourseRequirement {
     }
 
     public void setMandatory(boolean mandatory) {
+        RuleStructure.changed();
         this.mandatory = mandatory;
     }
 
@@ -0,0 +1,135 @@
+package sprout.app.sakmvp1.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 과목의 개설 분반 (시간표 자동 생성 입력)
+ *
+ * 한 분반은 여러 수업 시간(Meeting)을 가질 수 있음 (예: 월 09:00-10:15, 수 09:00-10:15)
+ * 시간 구간은 [시작, 종료) 반열린 구간이라 앞 수업 종료 시각에 바로 시작하는 수업은 겹치지 않음
+ */
+public class CourseSection {
+    private String courseName;       // 과목명
+    private String sectionId;        // 분반 (01, 02 ...)
+    private String professorName;    // 교수명
+    private String location;         // 강의실
+    private List<Meeting> meetings;  // 수업 시간 목록
+
+    public CourseSection() {
+        this.meetings = new ArrayList<>();
+    }
+
+    public CourseSection(String courseName, String sectionId, String professorName, String location,
+                         List<Meeting> meetings) {
+        this.courseName = courseName;
+        this.sectionId = sectionId;
+        this.professorName = professorName;
+        this.location = location;
+        this.meetings = meetings != null ? meetings : new ArrayList<>();
+    }
+
+    public String getCourseName() {
+        return courseName;
+    }
+
+    public void setCourseName(String courseName) {
+        this.courseName = courseName;
+    }
+
+    public String getSectionId() {
+        return sectionId;
+    }
+
+    public void setSectionId(String sectionId) {
+        this.sectionId = sectionId;
+    }
+
+    public String getProfessorName() {
+        return professorName;
+    }
+
+    public void setProfessorName(String professorName) {
+        this.professorName = professorName;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public List<Meeting> getMeetings() {
+        return meetings != null ? meetings : Collections.emptyList();
+    }
+
+    public void setMeetings(List<Meeting> meetings) {
+        this.meetings = meetings;
+    }
+
+    @Override
+    public String toString() {
+        return courseName + "(" + sectionId + ") " + getMeetings();
+    }
+
+    /**
+     * 한 번의 수업 시간 (요일 + 시작/종료 분)
+     */
+    public static class Meeting {
+        private int dayIndex;            // 요일 인덱스 (0=월 ... 6=일)
+        private int startTotalMinutes;   // 시작 (자정부터 분)
+        private int endTotalMinutes;     // 종료 (자정부터 분)
+
+        public Meeting() {
+        }
+
+        public Meeting(int dayIndex, int startTotalMinutes, int endTotalMinutes) {
+            this.dayIndex = dayIndex;
+            this.startTotalMinutes = startTotalMinutes;
+            this.endTotalMinutes = endTotalMinutes;
+        }
+
+        public Meeting(int dayIndex, int startHour, int startMinute, int endHour, int endMinute) {
+            this(dayIndex, startHour * 60 + startMinute, endHour * 60 + endMinute);
+        }
+
+        public int getDayIndex() {
+            return dayIndex;
+        }
+
+        public void setDayIndex(int dayIndex) {
+            this.dayIndex = dayIndex;
+        }
+
+        public int getStartTotalMinutes() {
+            return startTotalMinutes;
+        }
+
+        public void setStartTotalMinutes(int startTotalMinutes) {
+            this.startTotalMinutes = startTotalMinutes;
+        }
+
+        public int getEndTotalMinutes() {
+            return endTotalMinutes;
+        }
+
+        public void setEndTotalMinutes(int endTotalMinutes) {
+            this.endTotalMinutes = endTotalMinutes;
+        }
+
+        /** 요일 0~6, 시작 < 종료, 하루 안(0~1440분)인지 여부 */
+        public boolean isValid() {
+            return dayIndex >= 0 && dayIndex < 7
+                && startTotalMinutes >= 0 && endTotalMinutes <= 24 * 60
+                && startTotalMinutes < endTotalMinutes;
+        }
+
+        @Override
+        public String toString() {
+            return dayIndex + ":" + startTotalMinutes + "-" + endTotalMinutes;
+        }
+    }
+}
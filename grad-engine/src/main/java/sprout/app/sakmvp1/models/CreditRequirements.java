@@ -26,6 +26,7 @@ public class CreditRequirements {
     }
 
     public void setTotal(int total) {
+        RuleStructure.changed();
         this.total = total;
     }
 
@@ -34,6 +35,7 @@ public class CreditRequirements {
     }
 
     public void set전공필수(int 전공필수) {
+        RuleStructure.changed();
         this.전공필수 = 전공필수;
     }
 
@@ -42,6 +44,7 @@ public class CreditRequirements {
     }
 
     public void set전공선택(int 전공선택) {
+        RuleStructure.changed();
         this.전공선택 = 전공선택;
     }
 
@@ -50,6 +53,7 @@ public class CreditRequirements {
     }
 
     public void set교양필수(int 교양필수) {
+        RuleStructure.changed();
         this.교양필수 = 교양필수;
     }
 
@@ -58,6 +62,7 @@ public class CreditRequirements {
     }
 
     public void set교양선택(int 교양선택) {
+        RuleStructure.changed();
         this.교양선택 = 교양선택;
     }
 
@@ -66,6 +71,7 @@ public class CreditRequirements {
     }
 
     public void set소양(int 소양) {
+        RuleStructure.changed();
         this.소양 = 소양;
     }
 
@@ -74,6 +80,7 @@ public class CreditRequirements {
     }
 
     public void set학부공통(int 학부공통) {
+        RuleStructure.changed();
         this.학부공통 = 학부공통;
     }
 
@@ -82,6 +89,7 @@ public class CreditRequirements {
     }
 
     public void set자율선택(int 자율선택) {
+        RuleStructure.changed();
         this.자율선택 = 자율선택;
     }
 
@@ -93,6 +101,7 @@ public class CreditRequirements {
 
     @Deprecated
     public void set일반선택(int 일반선택) {
+        RuleStructure.changed();
         this.자율선택 = 일반선택;
     }
 
@@ -101,6 +110,7 @@ public class CreditRequirements {
     }
 
     public void set전공심화(int 전공심화) {
+        RuleStructure.changed();
         this.전공심화 = 전공심화;
     }
 
@@ -109,6 +119,7 @@ public class CreditRequirements {
     }
 
     public void set잔여학점(int 잔여학점) {
+        RuleStructure.changed();
         this.잔여학점 = 잔여학점;
     }
 
@@ -153,6 +164,7 @@ public class CreditRequirements {
      * @param credits 학점
      */
     public void setRequiredCredits(String categoryName, int credits) {
+        RuleStructure.changed();
         if (categoryName == null) {
             return;
         }
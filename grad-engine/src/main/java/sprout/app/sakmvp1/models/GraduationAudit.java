@@ -0,0 +1,352 @@
+package sprout.app.sakmvp1.models;
+
+import sprout.app.sakmvp1.engine.EngineLog;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 여러 학생의 졸업요건을 한 번에 검사하는 일괄 감사
+ *
+ * 학생을 (학번, 학과, 트랙) 그룹으로 묶고, 그룹별 GraduationRules를 한 번만 컴파일한 뒤
+ * ForkJoinPool에서 병렬로 평가. 결과 객체(GraduationAnalysisResult)는 만들지 않고
+ * 컴파일된 Evaluation만 재사용하므로 학생 수천 명도 수 초 안에 처리 가능
+ */
+public final class GraduationAudit {
+    private static final String TAG = "GraduationAudit";
+
+    // 한 작업 단위가 처리하는 최소 학생 수 (이보다 작으면 더 쪼개지 않음)
+    private static final int CHUNK_SIZE = 64;
+
+    private GraduationAudit() {
+    }
+
+    /**
+     * 그룹 키 (학번/학과/트랙) - 졸업요건 문서 ID와 같은 형식
+     */
+    public static String groupKey(String cohort, String department, String track) {
+        return department + "_" + track + "_" + cohort;
+    }
+
+    /**
+     * 감사 대상 학생
+     */
+    public static final class Target {
+        private final String userId;
+        private final String name;
+        private final String cohort;
+        private final String department;
+        private final String track;
+        private final List<? extends TakenCourse> courses;
+
+        public Target(String userId, String name, String cohort, String department, String track,
+                      List<? extends TakenCourse> courses) {
+            this.userId = userId;
+            this.name = name;
+            this.cohort = cohort;
+            this.department = department;
+            this.track = track;
+            this.courses = courses != null ? courses : Collections.<TakenCourse>emptyList();
+        }
+
+        public String getUserId() { return userId; }
+        public String getName() { return name; }
+        public String getCohort() { return cohort; }
+        public String getDepartment() { return department; }
+        public String getTrack() { return track; }
+        public List<? extends TakenCourse> getCourses() { return courses; }
+
+        public String getGroupKey() {
+            return groupKey(cohort, department, track);
+        }
+    }
+
+    /**
+     * 학생 한 명의 감사 결과
+     */
+    public static final class StudentResult {
+        private final Target target;
+        private final boolean graduationReady;
+        private final int totalEarnedCredits;
+        private final int totalRequiredCredits;
+        private final int[] earnedCredits;    // 그룹 카테고리 순서와 동일
+        private final int[] requiredCredits;
+
+        StudentResult(Target target, CompiledGraduationRules.Evaluation eval) {
+            this.target = target;
+            this.graduationReady = eval.isGraduationReady();
+            this.totalEarnedCredits = eval.getTotalEarnedCredits();
+            this.totalRequiredCredits = eval.getTotalRequiredCredits();
+            this.earnedCredits = new int[eval.getCategoryCount()];
+            this.requiredCredits = new int[earnedCredits.length];
+            for (int i = 0; i < earnedCredits.length; i++) {
+                earnedCredits[i] = eval.getEarnedCredits(i);
+                requiredCredits[i] = eval.getRequiredCredits(i);
+            }
+        }
+
+        public Target getTarget() { return target; }
+        public boolean isGraduationReady() { return graduationReady; }
+        public int getTotalEarnedCredits() { return totalEarnedCredits; }
+        public int getTotalRequiredCredits() { return totalRequiredCredits; }
+
+        public int getEarnedCredits(int categoryIndex) {
+            return earnedCredits[categoryIndex];
+        }
+
+        public int getRequiredCredits(int categoryIndex) {
+            return requiredCredits[categoryIndex];
+        }
+
+        public int getShortfall(int categoryIndex) {
+            return Math.max(0, requiredCredits[categoryIndex] - earnedCredits[categoryIndex]);
+        }
+
+        public int getTotalShortfall() {
+            return Math.max(0, totalRequiredCredits - totalEarnedCredits);
+        }
+    }
+
+    /**
+     * 그룹(학번/학과/트랙)별 요약
+     */
+    public static final class GroupSummary {
+        private final String key;
+        private final String cohort;
+        private final String department;
+        private final String track;
+        private final String[] categoryNames;
+        private final List<StudentResult> students = new ArrayList<>();
+        private int readyCount;
+        private final int[] shortStudentCounts;   // 카테고리별 미충족 학생 수
+        private final long[] shortfallSums;       // 카테고리별 부족 학점 합계
+
+        GroupSummary(Target first, CompiledGraduationRules.Evaluation eval) {
+            this.key = first.getGroupKey();
+            this.cohort = first.getCohort();
+            this.department = first.getDepartment();
+            this.track = first.getTrack();
+            this.categoryNames = new String[eval.getCategoryCount()];
+            for (int i = 0; i < categoryNames.length; i++) {
+                categoryNames[i] = eval.getCategoryName(i);
+            }
+            this.shortStudentCounts = new int[categoryNames.length];
+            this.shortfallSums = new long[categoryNames.length];
+        }
+
+        void add(StudentResult result) {
+            students.add(result);
+            if (result.isGraduationReady()) {
+                readyCount++;
+            }
+            for (int i = 0; i < categoryNames.length; i++) {
+                int shortfall = result.getShortfall(i);
+                if (shortfall > 0) {
+                    shortStudentCounts[i]++;
+                    shortfallSums[i] += shortfall;
+                }
+            }
+        }
+
+        public String getKey() { return key; }
+        public String getCohort() { return cohort; }
+        public String getDepartment() { return department; }
+        public String getTrack() { return track; }
+        public List<StudentResult> getStudents() { return students; }
+        public int getStudentCount() { return students.size(); }
+        public int getReadyCount() { return readyCount; }
+        public int getCategoryCount() { return categoryNames.length; }
+
+        public String getCategoryName(int index) {
+            return categoryNames[index];
+        }
+
+        /** 해당 카테고리를 채우지 못한 학생 수 */
+        public int getShortStudentCount(int index) {
+            return shortStudentCounts[index];
+        }
+
+        /** 해당 카테고리를 채우지 못한 학생들의 평균 부족 학점 */
+        public double getAverageShortfall(int index) {
+            return shortStudentCounts[index] == 0 ? 0 : (double) shortfallSums[index] / shortStudentCounts[index];
+        }
+    }
+
+    /**
+     * 일괄 감사 결과
+     */
+    public static final class Report {
+        private final List<GroupSummary> groups;
+        private final List<Target> missingRules;
+        private final long elapsedNanos;
+
+        Report(List<GroupSummary> groups, List<Target> missingRules, long elapsedNanos) {
+            this.groups = groups;
+            this.missingRules = missingRules;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public List<GroupSummary> getGroups() { return groups; }
+
+        /** 졸업요건 문서를 찾지 못해 검사하지 못한 학생 */
+        public List<Target> getMissingRules() { return missingRules; }
+
+        public long getElapsedMillis() {
+            return elapsedNanos / 1_000_000L;
+        }
+
+        public int getStudentCount() {
+            int count = 0;
+            for (GroupSummary group : groups) {
+                count += group.getStudentCount();
+            }
+            return count;
+        }
+
+        public int getReadyCount() {
+            int count = 0;
+            for (GroupSummary group : groups) {
+                count += group.getReadyCount();
+            }
+            return count;
+        }
+
+        /**
+         * 요약 표 (그룹별 졸업 가능 인원 + 카테고리별 미충족 인원/평균 부족 학점)
+         */
+        public String toSummaryTable() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("전체 ").append(getStudentCount()).append("명 중 졸업 가능 ")
+                .append(getReadyCount()).append("명");
+            if (!missingRules.isEmpty()) {
+                sb.append(" (졸업요건 없음 ").append(missingRules.size()).append("명)");
+            }
+            sb.append('\n');
+
+            for (GroupSummary group : groups) {
+                sb.append('\n')
+                    .append(group.getCohort()).append(" / ")
+                    .append(group.getDepartment()).append(" / ")
+                    .append(group.getTrack()).append(" : ")
+                    .append(group.getReadyCount()).append('/').append(group.getStudentCount())
+                    .append("명 졸업 가능\n");
+                for (int i = 0; i < group.getCategoryCount(); i++) {
+                    if (group.getShortStudentCount(i) == 0) {
+                        continue;
+                    }
+                    sb.append("  ").append(group.getCategoryName(i))
+                        .append(": 미충족 ").append(group.getShortStudentCount(i)).append("명, 평균 ")
+                        .append(String.format(java.util.Locale.US, "%.1f", group.getAverageShortfall(i)))
+                        .append("학점 부족\n");
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * 공용 ForkJoinPool에서 일괄 감사 실행
+     */
+    public static Report run(Map<String, GraduationRules> rulesByGroup, List<Target> targets) {
+        return run(rulesByGroup, targets, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 일괄 감사 실행 (호출 스레드는 완료될 때까지 대기하므로 UI 스레드에서 호출하지 말 것)
+     *
+     * @param rulesByGroup groupKey() → 해당 그룹의 졸업요건
+     * @param targets 감사 대상 학생
+     * @param pool 평가를 실행할 풀
+     */
+    public static Report run(Map<String, GraduationRules> rulesByGroup, List<Target> targets, ForkJoinPool pool) {
+        long start = System.nanoTime();
+
+        // 그룹별로 학생 분류 (규칙이 없는 학생은 따로 모음)
+        Map<String, List<Target>> grouped = new LinkedHashMap<>();
+        List<Target> missingRules = new ArrayList<>();
+        for (Target target : targets) {
+            String key = target.getGroupKey();
+            if (rulesByGroup.get(key) == null) {
+                missingRules.add(target);
+                continue;
+            }
+            List<Target> members = grouped.get(key);
+            if (members == null) {
+                members = new ArrayList<>();
+                grouped.put(key, members);
+            }
+            members.add(target);
+        }
+
+        // 그룹별 규칙은 한 번만 컴파일하고, 모든 그룹을 하나의 작업 트리로 병렬 평가
+        List<GroupTask> tasks = new ArrayList<>(grouped.size());
+        for (Map.Entry<String, List<Target>> entry : grouped.entrySet()) {
+            CompiledGraduationRules compiled = rulesByGroup.get(entry.getKey()).compile();
+            List<Target> members = entry.getValue();
+            tasks.add(new GroupTask(compiled, members, new StudentResult[members.size()], 0, members.size()));
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+
+        // 요약은 순차 집계 (평가에 비해 비용이 작음)
+        List<GroupSummary> summaries = new ArrayList<>(tasks.size());
+        for (GroupTask task : tasks) {
+            GroupSummary summary = new GroupSummary(task.targets.get(0), task.compiled.newEvaluation());
+            for (StudentResult result : task.results) {
+                summary.add(result);
+            }
+            summaries.add(summary);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        if (EngineLog.isEnabled()) {
+            EngineLog.i(TAG, "일괄 감사 완료: " + targets.size() + "명, " + summaries.size() + "개 그룹, "
+                + (elapsed / 1_000_000L) + "ms");
+        }
+        return new Report(summaries, missingRules, elapsed);
+    }
+
+    /**
+     * 한 그룹의 [from, to) 구간을 평가
+     * 구간이 CHUNK_SIZE 이하가 될 때까지 나누고, 리프에서는 Evaluation 하나를 재사용
+     */
+    private static final class GroupTask extends RecursiveAction {
+        final CompiledGraduationRules compiled;
+        final List<Target> targets;
+        final StudentResult[] results;
+        final int from;
+        final int to;
+
+        GroupTask(CompiledGraduationRules compiled, List<Target> targets, StudentResult[] results, int from, int to) {
+            this.compiled = compiled;
+            this.targets = targets;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                CompiledGraduationRules.Evaluation eval = compiled.newEvaluation();
+                for (int i = from; i < to; i++) {
+                    Target target = targets.get(i);
+                    compiled.evaluate(target.getCourses(), eval);
+                    results[i] = new StudentResult(target, eval);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new GroupTask(compiled, targets, results, from, mid),
+                new GroupTask(compiled, targets, results, mid, to));
+        }
+    }
+}
@@ -1,9 +1,8 @@
 package sprout.app.sakmvp1.models;
 
-import android.util.Log;
-import com.google.firebase.Timestamp;
-import sprout.app.sakmvp1.CourseInputActivity;
+import sprout.app.sakmvp1.engine.EngineLog;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,7 +20,7 @@ public class GraduationRules {
     private String department;
     private String track;
     private String version;
-    private Timestamp updatedAt;
+    private Date updatedAt;
     private String sourceDocumentName;
     private int totalCredits;  // Firestore의 totalCredits 필드
 
@@ -30,10 +29,14 @@ public class GraduationRules {
     private List<RequirementCategory> categories;
     private List<ReplacementRule> replacementRules;
 
+    // 컴파일된 규칙 캐시 (규칙 구조가 바뀌면 무효화)
+    private transient CompiledGraduationRules compiledRules;
+    private transient long compiledVersion;
+
     // Firestore 역직렬화를 위한 빈 생성자
     public GraduationRules() {
-        this.categories = new ArrayList<>();
-        this.replacementRules = new ArrayList<>();
+        this.categories = RuleStructure.track(new ArrayList<>());
+        this.replacementRules = RuleStructure.track(new ArrayList<>());
     }
 
     public GraduationRules(long cohort, String department, String track) {
@@ -41,28 +44,62 @@ public class GraduationRules {
         this.department = department;
         this.track = track;
         this.docId = cohort + "_" + department + "_" + track;
-        this.categories = new ArrayList<>();
-        this.replacementRules = new ArrayList<>();
+        this.categories = RuleStructure.track(new ArrayList<>());
+        this.replacementRules = RuleStructure.track(new ArrayList<>());
     }
 
     /**
      * 졸업요건 분석 (메인 메서드)
+     * 컴파일된 규칙으로 분석하며, 결과는 analyzeInterpreted()와 동일
      * @param takenCourses 사용자가 수강한 과목 목록
      * @return 졸업요건 분석 결과
      */
-    public GraduationAnalysisResult analyze(List<CourseInputActivity.Course> takenCourses) {
-        Log.d(TAG, "========================================");
-        Log.d(TAG, "Starting graduation analysis for: " + docId);
-        Log.d(TAG, "Taken courses: " + takenCourses.size());
-
-        // Log each input course with details
-        for (int i = 0; i < takenCourses.size(); i++) {
-            CourseInputActivity.Course course = takenCourses.get(i);
-            Log.d(TAG, "  Input course #" + (i+1) + ": [" + course.getCategory() + "] " +
-                  course.getName() + " (" + course.getCredits() + "학점)");
+    public GraduationAnalysisResult analyze(List<? extends TakenCourse> takenCourses) {
+        return compile().analyze(takenCourses);
+    }
+
+    /**
+     * 컴파일된 규칙 반환 (최초 호출 시 컴파일 후 캐시)
+     * 규칙 객체의 setter나 getter로 받은 카테고리/과목/대체과목 목록을 고치면 RuleStructure 번호가 바뀌어 다시 컴파일
+     */
+    public synchronized CompiledGraduationRules compile() {
+        // 컴파일 전에 번호를 읽어, 컴파일 중에 바뀐 내용은 다음 호출에서 다시 반영
+        long version = RuleStructure.version();
+        if (compiledRules == null || compiledVersion != version) {
+            compiledRules = CompiledGraduationRules.compile(this);
+            compiledVersion = version;
         }
+        return compiledRules;
+    }
+
+    /**
+     * 컴파일된 규칙 캐시 무효화
+     */
+    public synchronized void invalidateCompiledRules() {
+        compiledRules = null;
+    }
 
-        Log.d(TAG, "========================================");
+    /**
+     * 졸업요건 분석 (해석 방식, 상세 로그 포함)
+     * 컴파일된 분석기의 기준 구현으로 유지
+     * @param takenCourses 사용자가 수강한 과목 목록
+     * @return 졸업요건 분석 결과
+     */
+    GraduationAnalysisResult analyzeInterpreted(List<? extends TakenCourse> takenCourses) {
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "========================================");
+            EngineLog.d(TAG, "Starting graduation analysis for: " + docId);
+            EngineLog.d(TAG, "Taken courses: " + takenCourses.size());
+
+            // Log each input course with details
+            for (int i = 0; i < takenCourses.size(); i++) {
+                TakenCourse course = takenCourses.get(i);
+                EngineLog.d(TAG, "  Input course #" + (i+1) + ": [" + course.getCategory() + "] " +
+                      course.getName() + " (" + course.getCredits() + "학점)");
+            }
+
+            EngineLog.d(TAG, "========================================");
+        }
 
         GraduationAnalysisResult result = new GraduationAnalysisResult();
         result.setDocId(docId);
@@ -71,47 +108,63 @@ public class GraduationRules {
         result.setTrack(track);
 
         // 1. 대체과목 적용
-        List<CourseInputActivity.Course> adjustedCourses = applyReplacementRules(takenCourses, result);
+        List<? extends TakenCourse> adjustedCourses = applyReplacementRules(takenCourses, result);
 
         // 2. 각 카테고리 분석
         Map<String, CategoryAnalysisResult> categoryResults = new HashMap<>();
         for (RequirementCategory category : categories) {
-            Log.d(TAG, "Analyzing category: " + category.getName() + " (id=" + category.getId() +
-                  ", type=" + category.getType() + ", required=" + category.getRequired() + ")");
+            if (EngineLog.isEnabled()) {
+                EngineLog.d(TAG, "Analyzing category: " + category.getName() + " (id=" + category.getId() +
+                      ", type=" + category.getType() + ", required=" + category.getRequired() + ")");
+            }
 
             CategoryAnalysisResult categoryResult = category.analyze(adjustedCourses);
             categoryResults.put(category.getId(), categoryResult);
             result.addCategoryResult(categoryResult);
 
-            Log.d(TAG, "Category analyzed: " + category.getName() + " -> " +
-                  categoryResult.getEarnedCredits() + "/" + categoryResult.getRequiredCredits() +
-                  " (" + (categoryResult.isCompleted() ? "✓" : "✗") + ")" +
-                  " [completed: " + categoryResult.getCompletedCourses().size() +
-                  ", missing: " + categoryResult.getMissingCourses().size() + "]");
+            if (EngineLog.isEnabled()) {
+                EngineLog.d(TAG, "Category analyzed: " + category.getName() + " -> " +
+                      categoryResult.getEarnedCredits() + "/" + categoryResult.getRequiredCredits() +
+                      " (" + (categoryResult.isCompleted() ? "✓" : "✗") + ")" +
+                      " [completed: " + categoryResult.getCompletedCourses().size() +
+                      ", missing: " + categoryResult.getMissingCourses().size() + "]");
+            }
         }
 
         // 3. 총 학점 계산
         int totalEarnedCredits = 0;
-        Log.d(TAG, "Calculating total earned credits:");
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "Calculating total earned credits:");
+        }
         for (CategoryAnalysisResult categoryResult : categoryResults.values()) {
             int credits = categoryResult.getEarnedCredits();
             totalEarnedCredits += credits;
-            Log.d(TAG, "  + " + categoryResult.getCategoryName() + ": " + credits + "학점");
+            if (EngineLog.isEnabled()) {
+                EngineLog.d(TAG, "  + " + categoryResult.getCategoryName() + ": " + credits + "학점");
+            }
+        }
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "Total earned credits (before overflow): " + totalEarnedCredits);
         }
-        Log.d(TAG, "Total earned credits (before overflow): " + totalEarnedCredits);
         result.setTotalEarnedCredits(totalEarnedCredits);
 
         // totalCredits 필드 우선 사용 (Firestore 문서의 totalCredits)
         if (totalCredits > 0) {
             result.setTotalRequiredCredits(totalCredits);
-            Log.d(TAG, "Using totalCredits from document: " + totalCredits);
+            if (EngineLog.isEnabled()) {
+                EngineLog.d(TAG, "Using totalCredits from document: " + totalCredits);
+            }
         } else if (creditRequirements != null && creditRequirements.getTotal() > 0) {
             // totalCredits가 없으면 creditRequirements.total 사용 (하위 호환)
             result.setTotalRequiredCredits(creditRequirements.getTotal());
-            Log.d(TAG, "Using creditRequirements.total: " + creditRequirements.getTotal());
+            if (EngineLog.isEnabled()) {
+                EngineLog.d(TAG, "Using creditRequirements.total: " + creditRequirements.getTotal());
+            }
         } else {
-            Log.w(TAG, "No total credits found! totalCredits=" + totalCredits +
-                  ", creditRequirements=" + (creditRequirements != null ? creditRequirements.toString() : "null"));
+            if (EngineLog.isEnabled()) {
+                EngineLog.w(TAG, "No total credits found! totalCredits=" + totalCredits +
+                      ", creditRequirements=" + (creditRequirements != null ? creditRequirements.toString() : "null"));
+            }
         }
 
         // 4. 넘치는 학점 처리
@@ -120,11 +173,13 @@ public class GraduationRules {
         // 5. 졸업 가능 여부 계산
         result.calculateGraduationReadiness();
 
-        Log.d(TAG, "========================================");
-        Log.d(TAG, "Analysis complete: Total " + result.getTotalEarnedCredits() + "/" +
-              result.getTotalRequiredCredits() + " credits");
-        Log.d(TAG, "Graduation ready: " + result.isGraduationReady());
-        Log.d(TAG, "========================================");
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "========================================");
+            EngineLog.d(TAG, "Analysis complete: Total " + result.getTotalEarnedCredits() + "/" +
+                  result.getTotalRequiredCredits() + " credits");
+            EngineLog.d(TAG, "Graduation ready: " + result.isGraduationReady());
+            EngineLog.d(TAG, "========================================");
+        }
 
         return result;
     }
@@ -141,22 +196,26 @@ public class GraduationRules {
      * - scope가 "document"이면 해당 문서(학번/학과/트랙)에만 적용
      * - scope가 "department"이면 같은 학부의 모든 문서에 적용
      */
-    private List<CourseInputActivity.Course> applyReplacementRules(List<CourseInputActivity.Course> takenCourses,
-                                                                    GraduationAnalysisResult result) {
+    List<? extends TakenCourse> applyReplacementRules(List<? extends TakenCourse> takenCourses,
+                                                       GraduationAnalysisResult result) {
         if (replacementRules == null || replacementRules.isEmpty()) {
-            Log.d(TAG, "No replacement rules to apply");
+            if (EngineLog.isEnabled()) {
+                EngineLog.d(TAG, "No replacement rules to apply");
+            }
             return takenCourses;
         }
 
-        List<CourseInputActivity.Course> adjustedCourses = new ArrayList<>(takenCourses);
+        List<TakenCourse> adjustedCourses = new ArrayList<>(takenCourses);
         List<String> takenCourseNames = new ArrayList<>();
-        for (CourseInputActivity.Course course : takenCourses) {
+        for (TakenCourse course : takenCourses) {
             takenCourseNames.add(course.getName());
         }
 
-        Log.d(TAG, "========================================");
-        Log.d(TAG, "Applying " + replacementRules.size() + " replacement rules...");
-        Log.d(TAG, "Current document: " + docId + " (department: " + department + ")");
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "========================================");
+            EngineLog.d(TAG, "Applying " + replacementRules.size() + " replacement rules...");
+            EngineLog.d(TAG, "Current document: " + docId + " (department: " + department + ")");
+        }
 
         for (ReplacementRule rule : replacementRules) {
             // 적용 범위 체크
@@ -166,15 +225,21 @@ public class GraduationRules {
             if ("document".equals(scope)) {
                 // 해당 문서에만 적용
                 shouldApply = true;
-                Log.d(TAG, "Rule scope: document (applies to this document)");
+                if (EngineLog.isEnabled()) {
+                    EngineLog.d(TAG, "Rule scope: document (applies to this document)");
+                }
             } else if ("department".equals(scope)) {
                 // 학부 전체에 적용 (department가 같으면 적용)
                 shouldApply = true; // 현재 문서의 규칙이므로 department는 자동으로 같음
-                Log.d(TAG, "Rule scope: department (applies to entire department: " + department + ")");
+                if (EngineLog.isEnabled()) {
+                    EngineLog.d(TAG, "Rule scope: department (applies to entire department: " + department + ")");
+                }
             }
 
             if (!shouldApply) {
-                Log.d(TAG, "Skipping rule due to scope mismatch");
+                if (EngineLog.isEnabled()) {
+                    EngineLog.d(TAG, "Skipping rule due to scope mismatch");
+                }
                 continue;
             }
 
@@ -186,7 +251,7 @@ public class GraduationRules {
 
                 if (discontinuedCourse != null && takenReplacement != null) {
                     // 폐강된 과목을 가상으로 추가
-                    CourseInputActivity.Course virtualCourse = new CourseInputActivity.Course(
+                    TakenCourse virtualCourse = TakenCourse.of(
                         discontinuedCourse.getCategory(),
                         discontinuedCourse.getName(),
                         discontinuedCourse.getCredits()
@@ -198,21 +263,25 @@ public class GraduationRules {
                         result.addAppliedReplacement(rule);
                     }
 
-                    Log.d(TAG, "✓ Replacement applied:");
-                    Log.d(TAG, "  Discontinued: " + discontinuedCourse.getName() + " (" + discontinuedCourse.getCategory() + ")");
-                    Log.d(TAG, "  Used for replacement: " + takenReplacement);
+                    if (EngineLog.isEnabled()) {
+                        EngineLog.d(TAG, "✓ Replacement applied:");
+                        EngineLog.d(TAG, "  Discontinued: " + discontinuedCourse.getName() + " (" + discontinuedCourse.getCategory() + ")");
+                        EngineLog.d(TAG, "  Used for replacement: " + takenReplacement);
+                    }
 
                     // 여러 대체과목 수강 시 경고 로그
-                    if (allTakenReplacements.size() > 1) {
-                        Log.d(TAG, "  ⚠️ Multiple replacements taken (" + allTakenReplacements.size() + "): " + allTakenReplacements);
-                        Log.d(TAG, "  → Only '" + takenReplacement + "' counted as replacement");
-                        Log.d(TAG, "  → Other courses remain in their original categories");
+                    if (allTakenReplacements.size() > 1 && EngineLog.isEnabled()) {
+                        EngineLog.d(TAG, "  ⚠️ Multiple replacements taken (" + allTakenReplacements.size() + "): " + allTakenReplacements);
+                        EngineLog.d(TAG, "  → Only '" + takenReplacement + "' counted as replacement");
+                        EngineLog.d(TAG, "  → Other courses remain in their original categories");
                     }
                 }
             }
         }
 
-        Log.d(TAG, "========================================");
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "========================================");
+        }
         return adjustedCourses;
     }
 
@@ -220,13 +289,15 @@ public class GraduationRules {
      * 넘치는 학점 처리
      * 각 카테고리에서 요구 학점을 초과한 경우 일반선택/잔여학점으로 이동
      */
-    private void handleOverflowCredits(GraduationAnalysisResult result,
-                                       Map<String, CategoryAnalysisResult> categoryResults) {
+    void handleOverflowCredits(GraduationAnalysisResult result,
+                               Map<String, CategoryAnalysisResult> categoryResults) {
         if (overflowDestination == null || creditRequirements == null) {
             return;
         }
 
-        Log.d(TAG, "Handling overflow credits to: " + overflowDestination);
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "Handling overflow credits to: " + overflowDestination);
+        }
 
         int totalOverflow = 0;
 
@@ -243,7 +314,9 @@ public class GraduationRules {
             if (earned > required && required > 0) {
                 int overflow = earned - required;
                 totalOverflow += overflow;
-                Log.d(TAG, "  " + category.getName() + ": +" + overflow + " overflow credits");
+                if (EngineLog.isEnabled()) {
+                    EngineLog.d(TAG, "  " + category.getName() + ": +" + overflow + " overflow credits");
+                }
             }
         }
 
@@ -261,7 +334,9 @@ public class GraduationRules {
             overflowCategory.setEarnedCredits(currentEarned + totalOverflow);
             overflowCategory.calculateCompletion();
 
-            Log.d(TAG, "  Total overflow: " + totalOverflow + " credits added to " + overflowDestination);
+            if (EngineLog.isEnabled()) {
+                EngineLog.d(TAG, "  Total overflow: " + totalOverflow + " credits added to " + overflowDestination);
+            }
         }
     }
 
@@ -272,6 +347,7 @@ public class GraduationRules {
 
     public void setDocId(String docId) {
         this.docId = docId;
+        invalidateCompiledRules();
     }
 
     public long getCohort() {
@@ -280,6 +356,7 @@ public class GraduationRules {
 
     public void setCohort(long cohort) {
         this.cohort = cohort;
+        invalidateCompiledRules();
     }
 
     public String getDepartment() {
@@ -288,6 +365,7 @@ public class GraduationRules {
 
     public void setDepartment(String department) {
         this.department = department;
+        invalidateCompiledRules();
     }
 
     public String getTrack() {
@@ -296,6 +374,7 @@ public class GraduationRules {
 
     public void setTrack(String track) {
         this.track = track;
+        invalidateCompiledRules();
     }
 
     public String getVersion() {
@@ -306,11 +385,11 @@ public class GraduationRules {
         this.version = version;
     }
 
-    public Timestamp getUpdatedAt() {
+    public Date getUpdatedAt() {
         return updatedAt;
     }
 
-    public void setUpdatedAt(Timestamp updatedAt) {
+    public void setUpdatedAt(Date updatedAt) {
         this.updatedAt = updatedAt;
     }
 
@@ -320,6 +399,7 @@ public class GraduationRules {
 
     public void setCreditRequirements(CreditRequirements creditRequirements) {
         this.creditRequirements = creditRequirements;
+        invalidateCompiledRules();
     }
 
     public String getOverflowDestination() {
@@ -328,22 +408,27 @@ public class GraduationRules {
 
     public void setOverflowDestination(String overflowDestination) {
         this.overflowDestination = overflowDestination;
+        invalidateCompiledRules();
     }
 
     public List<RequirementCategory> getCategories() {
+        categories = RuleStructure.track(categories);
         return categories;
     }
 
     public void setCategories(List<RequirementCategory> categories) {
-        this.categories = categories;
+        this.categories = RuleStructure.track(categories);
+        invalidateCompiledRules();
     }
 
     public List<ReplacementRule> getReplacementRules() {
+        replacementRules = RuleStructure.track(replacementRules);
         return replacementRules;
     }
 
     public void setReplacementRules(List<ReplacementRule> replacementRules) {
-        this.replacementRules = replacementRules;
+        this.replacementRules = RuleStructure.track(replacementRules);
+        invalidateCompiledRules();
     }
 
     public String getSourceDocumentName() {
@@ -360,6 +445,7 @@ public class GraduationRules {
 
     public void setTotalCredits(int totalCredits) {
         this.totalCredits = totalCredits;
+        invalidateCompiledRules();
     }
 
     /**
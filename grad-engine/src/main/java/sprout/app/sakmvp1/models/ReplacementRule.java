@@ -1,7 +1,7 @@
 package sprout.app.sakmvp1.models;
 
-import com.google.firebase.Timestamp;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -12,18 +12,18 @@ public class ReplacementRule {
     private CourseInfo discontinuedCourse;
     private List<CourseInfo> replacementCourses;
     private String note;
-    private Timestamp createdAt;
+    private Date createdAt;
     private String scope;  // "document" 또는 "department"
 
     // Firestore 역직렬화를 위한 빈 생성자
     public ReplacementRule() {
-        this.replacementCourses = new ArrayList<>();
+        this.replacementCourses = RuleStructure.track(new ArrayList<>());
         this.scope = "document";  // 기본값: 해당 문서에만 적용
     }
 
     public ReplacementRule(CourseInfo discontinuedCourse, List<CourseInfo> replacementCourses) {
         this.discontinuedCourse = discontinuedCourse;
-        this.replacementCourses = replacementCourses != null ? replacementCourses : new ArrayList<>();
+        this.replacementCourses = RuleStructure.track(replacementCourses != null ? replacementCourses : new ArrayList<>());
     }
 
     /**
@@ -99,15 +99,18 @@ public class ReplacementRule {
     }
 
     public void setDiscontinuedCourse(CourseInfo discontinuedCourse) {
+        RuleStructure.changed();
         this.discontinuedCourse = discontinuedCourse;
     }
 
     public List<CourseInfo> getReplacementCourses() {
+        replacementCourses = RuleStructure.track(replacementCourses);
         return replacementCourses;
     }
 
     public void setReplacementCourses(List<CourseInfo> replacementCourses) {
-        this.replacementCourses = replacementCourses;
+        RuleStructure.changed();
+        this.replacementCourses = RuleStructure.track(replacementCourses);
     }
 
     public String getNote() {
@@ -115,14 +118,16 @@ public class ReplacementRule {
     }
 
     public void setNote(String note) {
+        RuleStructure.changed();
         this.note = note;
     }
 
-    public Timestamp getCreatedAt() {
+    public Date getCreatedAt() {
         return createdAt;
     }
 
-    public void setCreatedAt(Timestamp createdAt) {
+    public void setCreatedAt(Date createdAt) {
+        RuleStructure.changed();
         this.createdAt = createdAt;
     }
 
@@ -131,6 +136,7 @@ public class ReplacementRule {
     }
 
     public void setScope(String scope) {
+        RuleStructure.changed();
         this.scope = scope;
     }
 
@@ -165,6 +171,7 @@ public class ReplacementRule {
         }
 
         public void setName(String name) {
+            RuleStructure.changed();
             this.name = name;
         }
 
@@ -173,6 +180,7 @@ public class ReplacementRule {
         }
 
         public void setCategory(String category) {
+            RuleStructure.changed();
             this.category = category;
         }
 
@@ -181,6 +189,7 @@ public class ReplacementRule {
         }
 
         public void setCredits(int credits) {
+            RuleStructure.changed();
             this.credits = credits;
         }
 
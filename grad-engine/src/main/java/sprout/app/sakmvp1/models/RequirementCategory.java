@@ -1,7 +1,6 @@
 package sprout.app.sakmvp1.models;
 
-import android.util.Log;
-import sprout.app.sakmvp1.CourseInputActivity;
+import sprout.app.sakmvp1.engine.EngineLog;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -29,9 +28,9 @@ public class RequirementCategory {
 
     // Firestore 역직렬화를 위한 빈 생성자
     public RequirementCategory() {
-        this.courses = new ArrayList<>();
-        this.subgroups = new ArrayList<>();
-        this.competencies = new ArrayList<>();
+        this.courses = RuleStructure.track(new ArrayList<>());
+        this.subgroups = RuleStructure.track(new ArrayList<>());
+        this.competencies = RuleStructure.track(new ArrayList<>());
     }
 
     public RequirementCategory(String id, String name, String type) {
@@ -39,9 +38,9 @@ public class RequirementCategory {
         this.name = name;
         this.displayName = name;
         this.type = type;
-        this.courses = new ArrayList<>();
-        this.subgroups = new ArrayList<>();
-        this.competencies = new ArrayList<>();
+        this.courses = RuleStructure.track(new ArrayList<>());
+        this.subgroups = RuleStructure.track(new ArrayList<>());
+        this.competencies = RuleStructure.track(new ArrayList<>());
     }
 
     /**
@@ -49,13 +48,17 @@ public class RequirementCategory {
      * @param takenCourses 사용자가 수강한 과목 목록
      * @return 분석 결과
      */
-    public CategoryAnalysisResult analyze(List<CourseInputActivity.Course> takenCourses) {
+    public CategoryAnalysisResult analyze(List<? extends TakenCourse> takenCourses) {
         if (type == null) {
-            Log.w(TAG, "Category type is null for: " + name);
+            if (EngineLog.isEnabled()) {
+                EngineLog.w(TAG, "Category type is null for: " + name);
+            }
             return new CategoryAnalysisResult(id, name);
         }
 
-        Log.d(TAG, "Analyzing category: " + name + " (type: " + type + ")");
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "Analyzing category: " + name + " (type: " + type + ")");
+        }
 
         switch (type) {
             case "list":
@@ -69,7 +72,9 @@ public class RequirementCategory {
             case "elective":
                 return analyzeElective(takenCourses);
             default:
-                Log.w(TAG, "Unknown category type: " + type + " for " + name);
+                if (EngineLog.isEnabled()) {
+                    EngineLog.w(TAG, "Unknown category type: " + type + " for " + name);
+                }
                 return new CategoryAnalysisResult(id, name);
         }
     }
@@ -77,27 +82,31 @@ public class RequirementCategory {
     /**
      * list 타입 분석: 모든 과목을 체크, mandatory=true는 필수
      */
-    private CategoryAnalysisResult analyzeList(List<CourseInputActivity.Course> takenCourses) {
+    private CategoryAnalysisResult analyzeList(List<? extends TakenCourse> takenCourses) {
         CategoryAnalysisResult result = new CategoryAnalysisResult(id, name);
         result.setRequiredCredits(required);
 
-        Log.d(TAG, "  Analyzing list-type category: " + name);
-        Log.d(TAG, "  Requirements in this category: " + courses.size() + " courses");
-        for (CourseRequirement req : courses) {
-            Log.d(TAG, "    - Required: " + req.getName() + " (" + req.getCredits() + "학점)" +
-                  (req.isMandatory() ? " [MANDATORY]" : ""));
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "  Analyzing list-type category: " + name);
+            EngineLog.d(TAG, "  Requirements in this category: " + courses.size() + " courses");
+            for (CourseRequirement req : courses) {
+                EngineLog.d(TAG, "    - Required: " + req.getName() + " (" + req.getCredits() + "학점)" +
+                      (req.isMandatory() ? " [MANDATORY]" : ""));
+            }
         }
 
         // 수강한 과목 이름 맵 생성 (빠른 조회)
-        Map<String, CourseInputActivity.Course> takenCoursesMap = new HashMap<>();
-        for (CourseInputActivity.Course course : takenCourses) {
+        Map<String, TakenCourse> takenCoursesMap = new HashMap<>();
+        for (TakenCourse course : takenCourses) {
             takenCoursesMap.put(course.getName(), course);
         }
 
-        Log.d(TAG, "  Taken courses available for matching: " + takenCoursesMap.size());
-        for (String courseName : takenCoursesMap.keySet()) {
-            CourseInputActivity.Course course = takenCoursesMap.get(courseName);
-            Log.d(TAG, "    - Taken: [" + course.getCategory() + "] " + courseName);
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "  Taken courses available for matching: " + takenCoursesMap.size());
+            for (String courseName : takenCoursesMap.keySet()) {
+                TakenCourse course = takenCoursesMap.get(courseName);
+                EngineLog.d(TAG, "    - Taken: [" + course.getCategory() + "] " + courseName);
+            }
         }
 
         int earnedCredits = 0;
@@ -113,14 +122,18 @@ public class RequirementCategory {
                 earnedCredits += req.getCredits();
                 earnedCourses++;
                 result.addCompletedCourse(req.getName());
-                Log.d(TAG, "  ✓ Completed: " + req.getName() + " (" + req.getCredits() + "학점)");
+                if (EngineLog.isEnabled()) {
+                    EngineLog.d(TAG, "  ✓ Completed: " + req.getName() + " (" + req.getCredits() + "학점)");
+                }
             } else {
                 // 수강 안 함 - 세부 탭 표시를 위해 모든 미이수 과목 추가
                 result.addMissingCourse(req.getName());
-                if (req.isMandatory()) {
-                    Log.d(TAG, "  ✗ Missing (mandatory): " + req.getName());
-                } else {
-                    Log.d(TAG, "  - Missing (optional): " + req.getName());
+                if (EngineLog.isEnabled()) {
+                    if (req.isMandatory()) {
+                        EngineLog.d(TAG, "  ✗ Missing (mandatory): " + req.getName());
+                    } else {
+                        EngineLog.d(TAG, "  - Missing (optional): " + req.getName());
+                    }
                 }
             }
         }
@@ -131,14 +144,16 @@ public class RequirementCategory {
             registeredCourseNames.add(req.getName());
         }
 
-        for (CourseInputActivity.Course course : takenCourses) {
+        for (TakenCourse course : takenCourses) {
             // 카테고리가 일치하고, 등록된 과목이 아닌 경우 (직접 입력 과목)
             if (name.equals(course.getCategory()) && !registeredCourseNames.contains(course.getName())) {
                 earnedCredits += course.getCredits();
                 earnedCourses++;
                 result.addCompletedCourse(course.getName());
                 result.addCourseCredit(course.getName(), course.getCredits());
-                Log.d(TAG, "  ✓ Custom input course: " + course.getName() + " (" + course.getCredits() + "학점)");
+                if (EngineLog.isEnabled()) {
+                    EngineLog.d(TAG, "  ✓ Custom input course: " + course.getName() + " (" + course.getCredits() + "학점)");
+                }
             }
         }
 
@@ -153,7 +168,9 @@ public class RequirementCategory {
             result.setCompleted(earnedCredits >= required);
         }
 
-        Log.d(TAG, "  Result: " + earnedCredits + "/" + required + " credits, completed=" + result.isCompleted());
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "  Result: " + earnedCredits + "/" + required + " credits, completed=" + result.isCompleted());
+        }
 
         return result;
     }
@@ -161,11 +178,13 @@ public class RequirementCategory {
     /**
      * oneOf 타입 분석: 목록 중 하나만 수강하면 충족
      */
-    private CategoryAnalysisResult analyzeOneOf(List<CourseInputActivity.Course> takenCourses) {
-        Log.d(TAG, "  >>> analyzeOneOf 시작: " + name + " (id: " + id + ")");
-        Log.d(TAG, "      oneOf 그룹 내 과목 수: " + courses.size());
-        for (CourseRequirement req : courses) {
-            Log.d(TAG, "        - " + req.getName() + " (" + req.getCredits() + "학점)");
+    CategoryAnalysisResult analyzeOneOf(List<? extends TakenCourse> takenCourses) {
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "  >>> analyzeOneOf 시작: " + name + " (id: " + id + ")");
+            EngineLog.d(TAG, "      oneOf 그룹 내 과목 수: " + courses.size());
+            for (CourseRequirement req : courses) {
+                EngineLog.d(TAG, "        - " + req.getName() + " (" + req.getCredits() + "학점)");
+            }
         }
 
         CategoryAnalysisResult result = new CategoryAnalysisResult(id, name);
@@ -173,7 +192,7 @@ public class RequirementCategory {
 
         // 수강한 과목 이름 리스트
         List<String> takenCourseNames = new ArrayList<>();
-        for (CourseInputActivity.Course course : takenCourses) {
+        for (TakenCourse course : takenCourses) {
             takenCourseNames.add(course.getName());
         }
 
@@ -188,7 +207,9 @@ public class RequirementCategory {
                 earnedCredits = req.getCredits();
                 selectedCourse = req.getName();
                 result.addCompletedCourse(req.getName());
-                Log.d(TAG, "  ✓ Selected from oneOf: " + req.getName());
+                if (EngineLog.isEnabled()) {
+                    EngineLog.d(TAG, "  ✓ Selected from oneOf: " + req.getName());
+                }
                 break;  // 하나만 찾으면 됨
             }
         }
@@ -209,7 +230,9 @@ public class RequirementCategory {
             for (CourseRequirement req : courses) {
                 result.addMissingCourse(req.getName());
             }
-            Log.d(TAG, "  ✗ None selected from oneOf group");
+            if (EngineLog.isEnabled()) {
+                EngineLog.d(TAG, "  ✗ None selected from oneOf group");
+            }
         }
 
         // oneOf는 서브그룹 결과에 선택된 과목과 선택 가능한 모든 과목 저장
@@ -230,11 +253,13 @@ public class RequirementCategory {
         }
         subResult.setAvailableCourses(availableCourseNames);
 
-        Log.d(TAG, "      availableCourses 설정: " + availableCourseNames.size() + "개 과목");
-        for (String courseName : availableCourseNames) {
-            Log.d(TAG, "        * " + courseName);
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "      availableCourses 설정: " + availableCourseNames.size() + "개 과목");
+            for (String courseName : availableCourseNames) {
+                EngineLog.d(TAG, "        * " + courseName);
+            }
+            EngineLog.d(TAG, "      SubgroupResult에 추가 (groupId: " + id + ", name: " + name + ")");
         }
-        Log.d(TAG, "      SubgroupResult에 추가 (groupId: " + id + ", name: " + name + ")");
 
         result.addSubgroupResult(subResult);
 
@@ -244,8 +269,10 @@ public class RequirementCategory {
     /**
      * group 타입 분석: 하위 서브그룹들을 재귀적으로 분석
      */
-    private CategoryAnalysisResult analyzeGroup(List<CourseInputActivity.Course> takenCourses) {
-        Log.d(TAG, "  >>> analyzeGroup 시작: " + name + " (id: " + id + ")");
+    CategoryAnalysisResult analyzeGroup(List<? extends TakenCourse> takenCourses) {
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "  >>> analyzeGroup 시작: " + name + " (id: " + id + ")");
+        }
 
         CategoryAnalysisResult result = new CategoryAnalysisResult(id, name);
         result.setRequiredCredits(required);
@@ -254,11 +281,15 @@ public class RequirementCategory {
         int totalEarnedCourses = 0;
         boolean allSubgroupsCompleted = true;
 
-        Log.d(TAG, "      서브그룹 개수: " + subgroups.size());
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "      서브그룹 개수: " + subgroups.size());
+        }
 
         // 각 서브그룹 재귀 분석
         for (RequirementCategory subgroup : subgroups) {
-            Log.d(TAG, "      → 서브그룹 분석: " + subgroup.getName() + " (type: " + subgroup.getType() + ")");
+            if (EngineLog.isEnabled()) {
+                EngineLog.d(TAG, "      → 서브그룹 분석: " + subgroup.getName() + " (type: " + subgroup.getType() + ")");
+            }
             CategoryAnalysisResult subResult = subgroup.analyze(takenCourses);
             result.addSubgroupResult(convertToSubgroupResult(subResult));
 
@@ -287,7 +318,9 @@ public class RequirementCategory {
         // 완료 여부: 모든 서브그룹 완료 AND 총 학점 충족
         result.setCompleted(allSubgroupsCompleted && totalEarnedCredits >= required);
 
-        Log.d(TAG, "  Group result: " + totalEarnedCredits + "/" + required + " credits, completed=" + result.isCompleted());
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "  Group result: " + totalEarnedCredits + "/" + required + " credits, completed=" + result.isCompleted());
+        }
 
         return result;
     }
@@ -296,31 +329,37 @@ public class RequirementCategory {
      * elective 타입 분석: 교양선택, 소양, 자율선택 등
      * 과목 목록이 없고, 사용자가 해당 카테고리로 입력한 모든 과목의 학점을 합산
      */
-    private CategoryAnalysisResult analyzeElective(List<CourseInputActivity.Course> takenCourses) {
+    private CategoryAnalysisResult analyzeElective(List<? extends TakenCourse> takenCourses) {
         CategoryAnalysisResult result = new CategoryAnalysisResult(id, name);
         result.setRequiredCredits(required);
 
-        Log.d(TAG, "  Analyzing elective-type category: " + name);
-        Log.d(TAG, "  Required credits: " + required);
-        Log.d(TAG, "  Total taken courses to check: " + takenCourses.size());
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "  Analyzing elective-type category: " + name);
+            EngineLog.d(TAG, "  Required credits: " + required);
+            EngineLog.d(TAG, "  Total taken courses to check: " + takenCourses.size());
+        }
 
         int earnedCredits = 0;
         int earnedCourses = 0;
         int checkedCourses = 0;
 
         // 사용자가 이 카테고리로 입력한 모든 과목의 학점 합산
-        for (CourseInputActivity.Course course : takenCourses) {
+        for (TakenCourse course : takenCourses) {
             checkedCourses++;
-            Log.d(TAG, "    Checking course #" + checkedCourses + ": [" + course.getCategory() +
-                  "] " + course.getName() + " (" + course.getCredits() + "학점)" +
-                  " - matches '" + name + "'? " + name.equals(course.getCategory()));
+            if (EngineLog.isEnabled()) {
+                EngineLog.d(TAG, "    Checking course #" + checkedCourses + ": [" + course.getCategory() +
+                      "] " + course.getName() + " (" + course.getCredits() + "학점)" +
+                      " - matches '" + name + "'? " + name.equals(course.getCategory()));
+            }
 
             if (name.equals(course.getCategory())) {
                 earnedCredits += course.getCredits();
                 earnedCourses++;
                 result.addCompletedCourse(course.getName());
                 result.addCourseCredit(course.getName(), course.getCredits());
-                Log.d(TAG, "  ✓ COUNTED: " + course.getName() + " (" + course.getCredits() + "학점)");
+                if (EngineLog.isEnabled()) {
+                    EngineLog.d(TAG, "  ✓ COUNTED: " + course.getName() + " (" + course.getCredits() + "학점)");
+                }
             }
         }
 
@@ -328,8 +367,10 @@ public class RequirementCategory {
         result.setEarnedCourses(earnedCourses);
         result.setCompleted(earnedCredits >= required);
 
-        Log.d(TAG, "  Result: " + earnedCredits + "/" + required + " credits, " +
-              earnedCourses + " courses, completed=" + result.isCompleted());
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "  Result: " + earnedCredits + "/" + required + " credits, " +
+                  earnedCourses + " courses, completed=" + result.isCompleted());
+        }
 
         return result;
     }
@@ -337,7 +378,7 @@ public class RequirementCategory {
     /**
      * competency 타입 분석: 역량 기반 선택 (교양선택)
      */
-    private CategoryAnalysisResult analyzeCompetency(List<CourseInputActivity.Course> takenCourses) {
+    private CategoryAnalysisResult analyzeCompetency(List<? extends TakenCourse> takenCourses) {
         CategoryAnalysisResult result = new CategoryAnalysisResult(id, name);
         result.setRequiredCredits(required);
 
@@ -346,7 +387,7 @@ public class RequirementCategory {
         int earnedCredits = 0;
         int earnedCourses = 0;
 
-        for (CourseInputActivity.Course course : takenCourses) {
+        for (TakenCourse course : takenCourses) {
             // 카테고리가 일치하는 과목 찾기
             if (name.equals(course.getCategory())) {
                 earnedCredits += course.getCredits();
@@ -359,7 +400,9 @@ public class RequirementCategory {
         result.setEarnedCourses(earnedCourses);
         result.setCompleted(earnedCredits >= required);
 
-        Log.d(TAG, "  Competency result: " + earnedCredits + "/" + required + " credits");
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "  Competency result: " + earnedCredits + "/" + required + " credits");
+        }
 
         return result;
     }
@@ -368,7 +411,9 @@ public class RequirementCategory {
      * CategoryAnalysisResult를 SubgroupResult로 변환
      */
     private CategoryAnalysisResult.SubgroupResult convertToSubgroupResult(CategoryAnalysisResult categoryResult) {
-        Log.d(TAG, "  >>> convertToSubgroupResult: " + categoryResult.getCategoryName() + " (id: " + categoryResult.getCategoryId() + ")");
+        if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "  >>> convertToSubgroupResult: " + categoryResult.getCategoryName() + " (id: " + categoryResult.getCategoryId() + ")");
+        }
 
         CategoryAnalysisResult.SubgroupResult subResult =
             new CategoryAnalysisResult.SubgroupResult(categoryResult.getCategoryId(), categoryResult.getCategoryName());
@@ -380,25 +425,31 @@ public class RequirementCategory {
 
         // oneOf 타입의 경우 availableCourses와 selectedCourse 정보 복사
         if (categoryResult.getSubgroupResults() != null && !categoryResult.getSubgroupResults().isEmpty()) {
-            Log.d(TAG, "      서브그룹 결과 개수: " + categoryResult.getSubgroupResults().size());
+            if (EngineLog.isEnabled()) {
+                EngineLog.d(TAG, "      서브그룹 결과 개수: " + categoryResult.getSubgroupResults().size());
+            }
             // oneOf 타입은 첫 번째 서브그룹에 availableCourses와 selectedCourse가 저장되어 있음
             CategoryAnalysisResult.SubgroupResult firstSubgroup = categoryResult.getSubgroupResults().get(0);
             if (firstSubgroup.getAvailableCourses() != null) {
                 subResult.setAvailableCourses(firstSubgroup.getAvailableCourses());
-                Log.d(TAG, "      ✓ availableCourses 복사: " +
-                      firstSubgroup.getAvailableCourses().size() + " courses for " + categoryResult.getCategoryName());
-                for (String courseName : firstSubgroup.getAvailableCourses()) {
-                    Log.d(TAG, "          * " + courseName);
+                if (EngineLog.isEnabled()) {
+                    EngineLog.d(TAG, "      ✓ availableCourses 복사: " +
+                          firstSubgroup.getAvailableCourses().size() + " courses for " + categoryResult.getCategoryName());
+                    for (String courseName : firstSubgroup.getAvailableCourses()) {
+                        EngineLog.d(TAG, "          * " + courseName);
+                    }
                 }
-            } else {
-                Log.d(TAG, "      ✗ firstSubgroup.availableCourses is NULL");
+            } else if (EngineLog.isEnabled()) {
+                EngineLog.d(TAG, "      ✗ firstSubgroup.availableCourses is NULL");
             }
             if (firstSubgroup.getSelectedCourse() != null) {
                 subResult.setSelectedCourse(firstSubgroup.getSelectedCourse());
-                Log.d(TAG, "      ✓ selectedCourse 복사: " + firstSubgroup.getSelectedCourse());
+                if (EngineLog.isEnabled()) {
+                    EngineLog.d(TAG, "      ✓ selectedCourse 복사: " + firstSubgroup.getSelectedCourse());
+                }
             }
-        } else {
-            Log.d(TAG, "      서브그룹 결과 없음 (빈 리스트 또는 null)");
+        } else if (EngineLog.isEnabled()) {
+            EngineLog.d(TAG, "      서브그룹 결과 없음 (빈 리스트 또는 null)");
         }
 
         return subResult;
@@ -410,6 +461,7 @@ public class RequirementCategory {
     }
 
     public void setId(String id) {
+        RuleStructure.changed();
         this.id = id;
     }
 
@@ -418,6 +470,7 @@ public class RequirementCategory {
     }
 
     public void setName(String name) {
+        RuleStructure.changed();
         this.name = name;
     }
 
@@ -426,6 +479,7 @@ public class RequirementCategory {
     }
 
     public void setDisplayName(String displayName) {
+        RuleStructure.changed();
         this.displayName = displayName;
     }
 
@@ -434,6 +488,7 @@ public class RequirementCategory {
     }
 
     public void setType(String type) {
+        RuleStructure.changed();
         this.type = type;
     }
 
@@ -442,6 +497,7 @@ public class RequirementCategory {
     }
 
     public void setRequired(int required) {
+        RuleStructure.changed();
         this.required = required;
     }
 
@@ -450,31 +506,38 @@ public class RequirementCategory {
     }
 
     public void setRequiredType(String requiredType) {
+        RuleStructure.changed();
         this.requiredType = requiredType;
     }
 
     public List<CourseRequirement> getCourses() {
+        courses = RuleStructure.track(courses);
         return courses;
     }
 
     public void setCourses(List<CourseRequirement> courses) {
-        this.courses = courses;
+        RuleStructure.changed();
+        this.courses = RuleStructure.track(courses);
     }
 
     public List<RequirementCategory> getSubgroups() {
+        subgroups = RuleStructure.track(subgroups);
         return subgroups;
     }
 
     public void setSubgroups(List<RequirementCategory> subgroups) {
-        this.subgroups = subgroups;
+        RuleStructure.changed();
+        this.subgroups = RuleStructure.track(subgroups);
     }
 
     public List<String> getCompetencies() {
+        competencies = RuleStructure.track(competencies);
         return competencies;
     }
 
     public void setCompetencies(List<String> competencies) {
-        this.competencies = competencies;
+        RuleStructure.changed();
+        this.competencies = RuleStructure.track(competencies);
     }
 
     @Override
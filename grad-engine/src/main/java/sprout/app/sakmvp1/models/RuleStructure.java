@@ -0,0 +1,86 @@
+package sprout.app.sakmvp1.models;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 졸업요건 규칙 구조(카테고리, 과목, 대체과목, 학점 기준)의 변경 번호
+ *
+ * 규칙 객체의 setter와 getter로 받은 목록을 고칠 때마다 번호가 올라가고,
+ * GraduationRules.compile()은 컴파일할 때의 번호와 다르면 다시 컴파일
+ * 어느 규칙 문서가 바뀌었는지는 구분하지 않음 (규칙 수정은 드물고 다시 컴파일하는 비용은 작음)
+ */
+final class RuleStructure {
+
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private RuleStructure() {
+    }
+
+    static long version() {
+        return VERSION.get();
+    }
+
+    static void changed() {
+        VERSION.incrementAndGet();
+    }
+
+    /**
+     * 고칠 때 변경 번호를 올리는 목록으로 감쌈 (이미 감싼 목록이나 null은 그대로)
+     * 원래 목록을 감싸기만 하므로 감싸기 전 참조로 직접 고친 내용은 감지하지 못함
+     * Firestore/Gson이 setter 없이 필드에 넣은 목록도 있으므로 목록 getter도 반환 전에 감쌈
+     */
+    static <E> List<E> track(List<E> list) {
+        if (list == null || list instanceof TrackedList) {
+            return list;
+        }
+        return new TrackedList<>(list);
+    }
+
+    /**
+     * 변경 메서드마다 changed()를 호출하는 목록 (반복자/removeIf/sort도 AbstractList를 거쳐 감지)
+     */
+    private static final class TrackedList<E> extends AbstractList<E> implements RandomAccess {
+        private final List<E> delegate;
+
+        TrackedList(List<E> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public E get(int index) {
+            return delegate.get(index);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public E set(int index, E element) {
+            changed();
+            return delegate.set(index, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            changed();
+            delegate.add(index, element);
+        }
+
+        @Override
+        public E remove(int index) {
+            changed();
+            return delegate.remove(index);
+        }
+
+        @Override
+        public void clear() {
+            changed();
+            delegate.clear();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package sprout.app.sakmvp1.models;
+
+import java.util.Objects;
+
+/**
+ * 졸업요건 분석에 입력되는 수강 과목
+ *
+ * 엔진은 카테고리/과목명/학점만 사용하며, 앱의 CourseInputActivity.Course처럼
+ * 이 인터페이스를 구현한 타입이면 변환 없이 그대로 분석할 수 있음
+ */
+public interface TakenCourse {
+
+    String getCategory();
+
+    String getName();
+
+    int getCredits();
+
+    /**
+     * 불변 수강 과목 생성 (서버/배치 분석, 대체과목 가상 수강 등)
+     */
+    static TakenCourse of(String category, String name, int credits) {
+        return new Value(category, name, credits);
+    }
+
+    /**
+     * TakenCourse의 기본 불변 구현
+     */
+    final class Value implements TakenCourse {
+        private final String category;
+        private final String name;
+        private final int credits;
+
+        Value(String category, String name, int credits) {
+            this.category = category;
+            this.name = name;
+            this.credits = credits;
+        }
+
+        @Override
+        public String getCategory() {
+            return category;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public int getCredits() {
+            return credits;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Value)) {
+                return false;
+            }
+            Value other = (Value) o;
+            return credits == other.credits
+                && Objects.equals(category, other.category)
+                && Objects.equals(name, other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(category, name, credits);
+        }
+
+        @Override
+        public String toString() {
+            return "[" + category + "] " + name + " (" + credits + "학점)";
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package sprout.app.sakmvp1.models;
 
-import com.google.firebase.Timestamp;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,8 +25,8 @@ public class UserCustomizedRequirements {
     // 교양 커스터마이징
     private DocumentCustomization generalCustomizations;
 
-    private Timestamp createdAt;
-    private Timestamp updatedAt;
+    private Date createdAt;
+    private Date updatedAt;
 
     // Firestore 역직렬화를 위한 빈 생성자
     public UserCustomizedRequirements() {
@@ -81,19 +81,19 @@ public class UserCustomizedRequirements {
         this.generalCustomizations = generalCustomizations;
     }
 
-    public Timestamp getCreatedAt() {
+    public Date getCreatedAt() {
         return createdAt;
     }
 
-    public void setCreatedAt(Timestamp createdAt) {
+    public void setCreatedAt(Date createdAt) {
         this.createdAt = createdAt;
     }
 
-    public Timestamp getUpdatedAt() {
+    public Date getUpdatedAt() {
         return updatedAt;
     }
 
-    public void setUpdatedAt(Timestamp updatedAt) {
+    public void setUpdatedAt(Date updatedAt) {
         this.updatedAt = updatedAt;
     }
 
@@ -0,0 +1,298 @@
+package sprout.app.sakmvp1.managers;
+
+import org.junit.Test;
+
+import sprout.app.sakmvp1.models.CourseSection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * TimetableSolver가 겹치지 않는 시간표만 만들고, 막힌 시간을 피하며, 상위 N개 점수가 전수 탐색과 같은지 확인
+ */
+public class TimetableSolverTest {
+
+    private static final int RANDOM_PROBLEMS = 60;
+
+    @Test
+    public void solve_conflictingCourses_areNeverTogether() {
+        // 두 과목 모두 월 9:00~10:30 분반 하나뿐 → 가중치 큰 쪽만 들어감
+        List<TimetableSolver.Candidate> candidates = Arrays.asList(
+                candidate("자료구조", 3, 10, section("자료구조", "01", meeting(0, 9, 0, 10, 30))),
+                candidate("알고리즘", 3, 50, section("알고리즘", "01", meeting(0, 10, 0, 11, 30))));
+
+        TimetableSolver.Result result = TimetableSolver.solve(candidates, options().setParallelism(1));
+
+        assertTrue(result.isComplete());
+        assertEquals(2, result.getTimetables().size());
+        for (TimetableSolver.Timetable timetable : result.getTimetables()) {
+            assertEquals(1, timetable.getCourses().size());
+        }
+        assertEquals("자료구조", result.getTimetables().get(0).getCourses().get(0).getCourseName());
+    }
+
+    @Test
+    public void solve_touchingMeetings_doNotConflict() {
+        // 10:30에 끝나고 10:30에 시작하는 수업은 함께 들을 수 있음
+        List<TimetableSolver.Candidate> candidates = Arrays.asList(
+                candidate("자료구조", 3, 10, section("자료구조", "01", meeting(0, 9, 0, 10, 30))),
+                candidate("알고리즘", 3, 20, section("알고리즘", "01", meeting(0, 10, 30, 12, 0))));
+
+        TimetableSolver.Timetable best = TimetableSolver.solve(candidates, options().setParallelism(1))
+                .getTimetables().get(0);
+
+        assertEquals(2, best.getCourses().size());
+        assertEquals(6, best.getCredits());
+    }
+
+    @Test
+    public void solve_picksSectionThatAvoidsConflict() {
+        // 운영체제 01분반은 자료구조와 겹치고 02분반은 겹치지 않음
+        List<TimetableSolver.Candidate> candidates = Arrays.asList(
+                candidate("자료구조", 3, 10, section("자료구조", "01", meeting(1, 13, 0, 15, 0))),
+                candidate("운영체제", 3, 20,
+                        section("운영체제", "01", meeting(1, 14, 0, 16, 0)),
+                        section("운영체제", "02", meeting(3, 14, 0, 16, 0))));
+
+        TimetableSolver.Timetable best = TimetableSolver.solve(candidates, options().setParallelism(1))
+                .getTimetables().get(0);
+
+        assertEquals(2, best.getCourses().size());
+        int index = best.getCourses().get(0).getCourseName().equals("운영체제") ? 0 : 1;
+        assertEquals("02", best.getSections().get(index).getSectionId());
+    }
+
+    @Test
+    public void solve_blockedSlots_excludeSections() {
+        List<CourseSection.Meeting> lunch = Collections.singletonList(meeting(2, 12, 0, 13, 0));
+        List<TimetableSolver.Candidate> candidates = Arrays.asList(
+                // 모든 분반이 점심시간과 겹침 → 배치 불가
+                candidate("채플", 1, 5, section("채플", "01", meeting(2, 12, 30, 13, 30))),
+                // 01분반만 막힌 시간과 겹침
+                candidate("딥러닝", 3, 10,
+                        section("딥러닝", "01", meeting(2, 11, 0, 12, 30)),
+                        section("딥러닝", "02", meeting(4, 9, 0, 10, 30))),
+                // 분반 없음
+                candidate("캡스톤디자인", 3, 10));
+
+        TimetableSolver.Result result = TimetableSolver.solve(candidates,
+                options().setBlockedSlots(lunch).setParallelism(1));
+
+        assertEquals(Arrays.asList("채플", "캡스톤디자인"), result.getUnschedulableCourses());
+        assertFalse(result.getTimetables().isEmpty());
+        for (TimetableSolver.Timetable timetable : result.getTimetables()) {
+            assertValid(timetable, lunch, 0, 21, "막힌 시간");
+            for (CourseSection section : timetable.getSections()) {
+                assertEquals("02", section.getSectionId());
+            }
+        }
+    }
+
+    @Test
+    public void solve_invalidSections_areSkipped() {
+        List<TimetableSolver.Candidate> candidates = Arrays.asList(
+                // 한 분반 안의 수업 시간이 서로 겹침
+                candidate("자료구조", 3, 10, section("자료구조", "01",
+                        meeting(0, 9, 0, 11, 0), meeting(0, 10, 0, 12, 0))),
+                // 시작이 종료보다 늦은 분반은 제외, 정상 분반은 사용
+                candidate("알고리즘", 3, 20,
+                        section("알고리즘", "01", meeting(1, 11, 0, 9, 0)),
+                        section("알고리즘", "02", meeting(1, 13, 0, 14, 30))));
+
+        TimetableSolver.Result result = TimetableSolver.solve(candidates, options().setParallelism(1));
+
+        assertEquals(Collections.singletonList("자료구조"), result.getUnschedulableCourses());
+        assertEquals(1, result.getTimetables().size());
+        assertEquals("02", result.getTimetables().get(0).getSections().get(0).getSectionId());
+    }
+
+    @Test
+    public void solve_minCredits_filtersSmallTimetables() {
+        List<TimetableSolver.Candidate> candidates = Arrays.asList(
+                candidate("자료구조", 3, 10, section("자료구조", "01", meeting(0, 9, 0, 10, 30))),
+                candidate("알고리즘", 3, 20, section("알고리즘", "01", meeting(0, 9, 0, 10, 30))),
+                candidate("영어회화", 2, 30, section("영어회화", "01", meeting(1, 9, 0, 10, 30))));
+
+        TimetableSolver.Result result = TimetableSolver.solve(candidates,
+                options().setMinCredits(5).setParallelism(1));
+
+        assertEquals(2, result.getTimetables().size());
+        for (TimetableSolver.Timetable timetable : result.getTimetables()) {
+            assertEquals(5, timetable.getCredits());
+        }
+    }
+
+    @Test
+    public void solve_matchesBruteForce_randomProblems() {
+        for (long seed = 0; seed < RANDOM_PROBLEMS; seed++) {
+            Random random = new Random(seed);
+            List<TimetableSolver.Candidate> candidates = randomCandidates(random, 4 + random.nextInt(5));
+            List<CourseSection.Meeting> blocked = random.nextBoolean()
+                    ? Collections.singletonList(randomMeeting(random))
+                    : Collections.<CourseSection.Meeting>emptyList();
+            int minCredits = random.nextInt(7);
+            int maxCredits = 6 + random.nextInt(13);
+            int maxResults = 1 + random.nextInt(8);
+
+            List<Long> expected = bruteForceScores(candidates, blocked, minCredits, maxCredits, maxResults);
+            for (int parallelism : new int[]{1, 4}) {
+                String label = "seed " + seed + " parallelism " + parallelism;
+                TimetableSolver.Result result = TimetableSolver.solve(candidates, new TimetableSolver.Options()
+                        .setMinCredits(minCredits)
+                        .setMaxCredits(maxCredits)
+                        .setMaxResults(maxResults)
+                        .setBlockedSlots(blocked)
+                        .setParallelism(parallelism));
+
+                List<Long> actual = new ArrayList<>();
+                for (TimetableSolver.Timetable timetable : result.getTimetables()) {
+                    assertValid(timetable, blocked, minCredits, maxCredits, label);
+                    actual.add(timetable.getScore());
+                }
+                assertTrue(label, result.isComplete());
+                assertEquals(label, expected, actual);
+            }
+        }
+    }
+
+    // ── 검증 ─────────────────────────────────────────────
+
+    /**
+     * 수업 시간끼리, 또는 막힌 시간과 겹치지 않고 학점 범위 안인지 확인
+     */
+    private static void assertValid(TimetableSolver.Timetable timetable, List<CourseSection.Meeting> blocked,
+                                    int minCredits, int maxCredits, String label) {
+        List<CourseSection.Meeting> meetings = new ArrayList<>();
+        int credits = 0;
+        for (int i = 0; i < timetable.getCourses().size(); i++) {
+            TimetableSolver.Candidate course = timetable.getCourses().get(i);
+            CourseSection section = timetable.getSections().get(i);
+            assertEquals(label, course.getCourseName(), section.getCourseName());
+            credits += course.getCredits();
+            for (CourseSection.Meeting meeting : section.getMeetings()) {
+                for (CourseSection.Meeting other : meetings) {
+                    assertFalse(label + " " + meeting + " / " + other, overlaps(meeting, other));
+                }
+                for (CourseSection.Meeting slot : blocked) {
+                    assertFalse(label + " 막힌 시간 " + slot, overlaps(meeting, slot));
+                }
+            }
+            meetings.addAll(section.getMeetings());
+        }
+        assertEquals(label, credits, timetable.getCredits());
+        assertTrue(label + " 학점 " + credits, credits >= minCredits && credits <= maxCredits);
+    }
+
+    private static boolean overlaps(CourseSection.Meeting a, CourseSection.Meeting b) {
+        return a.getDayIndex() == b.getDayIndex()
+                && a.getStartTotalMinutes() < b.getEndTotalMinutes()
+                && b.getStartTotalMinutes() < a.getEndTotalMinutes();
+    }
+
+    /**
+     * 과목 조합마다 겹치지 않는 분반 선택이 하나라도 있으면 후보로 보고 점수 상위 maxResults개 (내림차순)
+     */
+    private static List<Long> bruteForceScores(List<TimetableSolver.Candidate> candidates,
+                                               List<CourseSection.Meeting> blocked,
+                                               int minCredits, int maxCredits, int maxResults) {
+        List<Long> scores = new ArrayList<>();
+        for (int subset = 1; subset < (1 << candidates.size()); subset++) {
+            List<TimetableSolver.Candidate> chosen = new ArrayList<>();
+            int credits = 0;
+            long score = 0;
+            for (int i = 0; i < candidates.size(); i++) {
+                if ((subset & (1 << i)) != 0) {
+                    TimetableSolver.Candidate candidate = candidates.get(i);
+                    chosen.add(candidate);
+                    credits += candidate.getCredits();
+                    score += (long) candidate.getCredits() * candidate.getWeight();
+                }
+            }
+            if (credits >= minCredits && credits <= maxCredits
+                    && feasible(chosen, 0, new ArrayList<>(blocked))) {
+                scores.add(score);
+            }
+        }
+        scores.sort(Collections.reverseOrder());
+        return new ArrayList<>(scores.subList(0, Math.min(maxResults, scores.size())));
+    }
+
+    private static boolean feasible(List<TimetableSolver.Candidate> chosen, int index,
+                                    List<CourseSection.Meeting> occupied) {
+        if (index == chosen.size()) {
+            return true;
+        }
+        for (CourseSection section : chosen.get(index).getSections()) {
+            boolean free = true;
+            for (CourseSection.Meeting meeting : section.getMeetings()) {
+                for (CourseSection.Meeting other : occupied) {
+                    free &= !overlaps(meeting, other);
+                }
+            }
+            if (free) {
+                List<CourseSection.Meeting> next = new ArrayList<>(occupied);
+                next.addAll(section.getMeetings());
+                if (feasible(chosen, index + 1, next)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // ── 데이터 ───────────────────────────────────────────
+
+    private static List<TimetableSolver.Candidate> randomCandidates(Random random, int count) {
+        List<TimetableSolver.Candidate> candidates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = "과목" + i;
+            int sectionCount = random.nextInt(4);   // 0이면 배치 불가 과목
+            CourseSection[] sections = new CourseSection[sectionCount];
+            for (int s = 0; s < sectionCount; s++) {
+                CourseSection.Meeting first = randomMeeting(random);
+                if (random.nextBoolean()) {
+                    sections[s] = section(name, "0" + (s + 1), first);
+                } else {
+                    // 두 번째 수업은 다른 요일 (한 분반 안에서 겹치는 수업 시간은 잘못된 데이터로 제외되므로)
+                    CourseSection.Meeting second = randomMeeting(random);
+                    second.setDayIndex((first.getDayIndex() + 1 + random.nextInt(4)) % 5);
+                    sections[s] = section(name, "0" + (s + 1), first, second);
+                }
+            }
+            candidates.add(candidate(name, 1 + random.nextInt(3), random.nextInt(120), sections));
+        }
+        return candidates;
+    }
+
+    /** 평일 9시~18시 사이, 30분 단위로 1~3시간 */
+    private static CourseSection.Meeting randomMeeting(Random random) {
+        int start = 9 * 60 + random.nextInt(16) * 30;
+        int length = 60 + random.nextInt(5) * 30;
+        return new CourseSection.Meeting(random.nextInt(5), start, start + length);
+    }
+
+    private static TimetableSolver.Options options() {
+        return new TimetableSolver.Options().setMaxResults(10);
+    }
+
+    private static TimetableSolver.Candidate candidate(String name, int credits, int priority,
+                                                       CourseSection... sections) {
+        return new TimetableSolver.Candidate(name, "전공선택", credits, priority,
+                new ArrayList<>(Arrays.asList(sections)));
+    }
+
+    private static CourseSection section(String courseName, String sectionId, CourseSection.Meeting... meetings) {
+        return new CourseSection(courseName, sectionId, "교수", "강의실", new ArrayList<>(Arrays.asList(meetings)));
+    }
+
+    private static CourseSection.Meeting meeting(int day, int startHour, int startMinute, int endHour, int endMinute) {
+        return new CourseSection.Meeting(day, startHour, startMinute, endHour, endMinute);
+    }
+}
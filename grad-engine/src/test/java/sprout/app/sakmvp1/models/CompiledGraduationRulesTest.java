@@ -0,0 +1,279 @@
+package sprout.app.sakmvp1.models;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 컴파일된 분석기(analyze())가 기준 구현(analyzeInterpreted())과 같은 결과를 내는지 확인
+ */
+public class CompiledGraduationRulesTest {
+
+    private static final int RANDOM_LISTS_PER_RULES = 40;
+
+    @Test
+    public void analyze_matchesInterpreted_fixtureRules() {
+        GraduationRules rules = fixtureRules();
+        assertParity(rules, Collections.<TakenCourse>emptyList(), "빈 목록");
+        assertParity(rules, fixtureCourses(), "고정 목록");
+        for (long seed = 0; seed < RANDOM_LISTS_PER_RULES; seed++) {
+            assertParity(rules, randomCourses(rules, seed), "seed " + seed);
+        }
+    }
+
+    @Test
+    public void analyze_matchesInterpreted_syntheticRules() {
+        for (SyntheticCohorts.Size size : SyntheticCohorts.Size.values()) {
+            GraduationRules rules = SyntheticCohorts.rules(size, size.ordinal());
+            for (long seed = 0; seed < RANDOM_LISTS_PER_RULES; seed++) {
+                int count = (int) (seed * 3 % 90);
+                assertParity(rules, SyntheticCohorts.takenCourses(rules, count, seed), size + " seed " + seed);
+                assertParity(rules, randomCourses(rules, seed), size + " 중복 seed " + seed);
+            }
+        }
+    }
+
+    @Test
+    public void analyze_matchesInterpreted_afterStructureChange() {
+        GraduationRules rules = fixtureRules();
+        List<TakenCourse> courses = fixtureCourses();
+        rules.analyze(courses);
+
+        rules.getReplacementRules().clear();
+        rules.setOverflowDestination("잔여학점");
+        assertParity(rules, courses, "대체과목 규칙 제거 후");
+    }
+
+    @Test
+    public void analyze_matchesInterpreted_afterInPlaceEdits() {
+        GraduationRules rules = fixtureRules();
+        List<TakenCourse> courses = fixtureCourses();
+        courses.add(TakenCourse.of("전공선택", "강화학습", 3));
+        assertParity(rules, courses, "수정 전");
+
+        // 컴파일 캐시를 직접 무효화하지 않고 카테고리 목록과 과목을 그대로 고침
+        RequirementCategory majorElective = rules.getCategories().get(1);
+        majorElective.getCourses().add(new CourseRequirement("강화학습", 3));
+        majorElective.setRequired(3);
+        assertParity(rules, courses, "과목 추가 후");
+
+        rules.getCategories().get(0).getCourses().get(0).setCredits(4);
+        assertParity(rules, courses, "학점 수정 후");
+
+        rules.getCategories().get(2).getSubgroups().remove(1);
+        assertParity(rules, courses, "하위 그룹 삭제 후");
+
+        rules.getReplacementRules().get(0).getReplacementCourses().removeIf(
+                course -> course.getName().equals("시스템프로그래밍"));
+        assertParity(rules, courses, "대체과목 삭제 후");
+
+        rules.getCreditRequirements().setTotal(45);
+        rules.getCategories().removeIf(category -> category.getId().equals("교양선택"));
+        assertParity(rules, courses, "카테고리 삭제 후");
+    }
+
+    @Test
+    public void compile_reusesCacheUntilRulesChange() {
+        GraduationRules rules = fixtureRules();
+        CompiledGraduationRules first = rules.compile();
+        rules.analyze(fixtureCourses());
+        assertSame(first, rules.compile());
+
+        rules.getCategories().get(0).getCourses().add(new CourseRequirement("컴파일러", 3));
+        assertNotSame(first, rules.compile());
+    }
+
+    @Test
+    public void fixtureCourses_coverReplacementAndOverflow() {
+        GraduationAnalysisResult result = fixtureRules().analyze(fixtureCourses());
+        assertEquals(1, result.getAppliedReplacements().size());
+        assertTrue(result.getCategoryResult("자율선택").getEarnedCredits() > 0);
+    }
+
+    // ── 비교 ─────────────────────────────────────────────
+
+    static void assertParity(GraduationRules rules, List<? extends TakenCourse> courses, String label) {
+        String expected = describe(rules.analyzeInterpreted(courses));
+        String actual = describe(rules.analyze(courses));
+        assertEquals(label + " " + courses, expected, actual);
+    }
+
+    /**
+     * 비교용 결과 문자열 (Map/경고 순서는 HashMap 순서라 정렬해서 비교)
+     */
+    static String describe(GraduationAnalysisResult result) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("total=").append(result.getTotalEarnedCredits()).append('/').append(result.getTotalRequiredCredits())
+                .append(" ready=").append(result.isGraduationReady()).append('\n');
+        List<String> replacements = new ArrayList<>();
+        for (ReplacementRule rule : result.getAppliedReplacements()) {
+            replacements.add(rule.getDiscontinuedCourse().getName());
+        }
+        sb.append("replacements=").append(replacements).append('\n');
+        sb.append("warnings=").append(sorted(result.getWarnings())).append('\n');
+        sb.append("recommendations=").append(sorted(result.getRecommendations())).append('\n');
+
+        Map<String, CategoryAnalysisResult> categories = new TreeMap<>(result.getCategoryResults());
+        for (Map.Entry<String, CategoryAnalysisResult> entry : categories.entrySet()) {
+            CategoryAnalysisResult category = entry.getValue();
+            sb.append(entry.getKey()).append(": ").append(category.getCategoryName())
+                    .append(' ').append(category.getEarnedCredits()).append('/').append(category.getRequiredCredits())
+                    .append(" courses ").append(category.getEarnedCourses()).append('/').append(category.getRequiredCourses())
+                    .append(" completed=").append(category.isCompleted())
+                    .append(" taken=").append(category.getCompletedCourses())
+                    .append(" missing=").append(category.getMissingCourses())
+                    .append(" credits=").append(new TreeMap<>(category.getCourseCreditsMap()))
+                    .append('\n');
+            for (CategoryAnalysisResult.SubgroupResult subgroup : category.getSubgroupResults()) {
+                sb.append("  ").append(subgroup.getGroupId()).append(": ").append(subgroup.getGroupName())
+                        .append(' ').append(subgroup.getEarnedCredits()).append('/').append(subgroup.getRequiredCredits())
+                        .append(" completed=").append(subgroup.isCompleted())
+                        .append(" taken=").append(subgroup.getCompletedCourses())
+                        .append(" selected=").append(subgroup.getSelectedCourse())
+                        .append(" available=").append(subgroup.getAvailableCourses())
+                        .append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static List<String> sorted(List<String> values) {
+        List<String> copy = new ArrayList<>(values);
+        Collections.sort(copy);
+        return copy;
+    }
+
+    // ── 고정 데이터 ──────────────────────────────────────
+
+    /**
+     * 직접 만든 졸업요건: oneOf 그룹, 과목 수 기준 list, 대체과목 규칙, 넘치는 학점 목적지가 카테고리로 존재
+     */
+    static GraduationRules fixtureRules() {
+        GraduationRules rules = new GraduationRules(2023, "IT학부", "인공지능");
+        rules.setDocId("졸업요건_IT학부_인공지능_2023");
+
+        RequirementCategory majorRequired = new RequirementCategory("전공필수", "전공필수", "list");
+        majorRequired.setRequired(9);
+        majorRequired.setRequiredType("credits");
+        majorRequired.getCourses().add(new CourseRequirement("자료구조", 3, "2-1", true));
+        majorRequired.getCourses().add(new CourseRequirement("알고리즘", 3, "2-2", true));
+        majorRequired.getCourses().add(new CourseRequirement("운영체제", 3, "3-1", true));
+
+        RequirementCategory majorElective = new RequirementCategory("전공선택", "전공선택", "list");
+        majorElective.setRequired(2);
+        majorElective.setRequiredType("courses");
+        majorElective.getCourses().add(new CourseRequirement("머신러닝", 3));
+        majorElective.getCourses().add(new CourseRequirement("딥러닝", 3));
+        majorElective.getCourses().add(new CourseRequirement("컴퓨터비전", 3));
+
+        RequirementCategory general = new RequirementCategory("교양필수", "교양필수", "group");
+        general.setRequired(6);
+        RequirementCategory writing = new RequirementCategory("교양필수_글쓰기", "교양필수", "oneOf");
+        writing.setRequired(2);
+        writing.setRequiredType("credits");
+        writing.getCourses().add(new CourseRequirement("글쓰기기초", 2));
+        writing.getCourses().add(new CourseRequirement("논리와글쓰기", 2));
+        RequirementCategory english = new RequirementCategory("교양필수_영어", "교양필수", "oneOf");
+        english.setRequired(2);
+        english.setRequiredType("credits");
+        english.getCourses().add(new CourseRequirement("영어회화", 2));
+        english.getCourses().add(new CourseRequirement("영어독해", 2));
+        RequirementCategory common = new RequirementCategory("교양필수_공통", "교양필수", "list");
+        common.setRequired(2);
+        common.setRequiredType("credits");
+        common.getCourses().add(new CourseRequirement("채플", 1, null, true));
+        common.getCourses().add(new CourseRequirement("진로탐색", 1, null, true));
+        general.getSubgroups().addAll(Arrays.asList(writing, english, common));
+
+        RequirementCategory generalElective = new RequirementCategory("교양선택", "교양선택", "competency");
+        generalElective.setRequired(6);
+
+        RequirementCategory free = new RequirementCategory("자율선택", "자율선택", "elective");
+        free.setRequired(3);
+
+        rules.setCategories(new ArrayList<>(Arrays.asList(
+                majorRequired, majorElective, general, generalElective, free)));
+
+        // 운영체제 폐강 → 시스템프로그래밍/임베디드 중 하나로 대체
+        ReplacementRule replacement = new ReplacementRule(
+                new ReplacementRule.CourseInfo("운영체제", "전공필수", 3),
+                new ArrayList<>(Arrays.asList(
+                        new ReplacementRule.CourseInfo("시스템프로그래밍", "전공선택", 3),
+                        new ReplacementRule.CourseInfo("임베디드", "전공선택", 3))));
+        replacement.setScope("department");
+        rules.setReplacementRules(new ArrayList<>(Collections.singletonList(replacement)));
+
+        CreditRequirements credits = new CreditRequirements();
+        credits.setTotal(40);
+        credits.set전공필수(9);
+        credits.set전공선택(6);
+        credits.set교양필수(6);
+        credits.set교양선택(6);
+        credits.set자율선택(3);
+        rules.setCreditRequirements(credits);
+        rules.setTotalCredits(40);
+        rules.setOverflowDestination("자율선택");
+        return rules;
+    }
+
+    /**
+     * 대체과목 두 개 수강, 같은 과목 중복 입력, 요구 학점을 넘는 전공선택/교양선택
+     */
+    static List<TakenCourse> fixtureCourses() {
+        return new ArrayList<>(Arrays.asList(
+                TakenCourse.of("전공필수", "자료구조", 3),
+                TakenCourse.of("전공필수", "알고리즘", 3),
+                TakenCourse.of("전공선택", "시스템프로그래밍", 3),
+                TakenCourse.of("전공선택", "임베디드", 3),
+                TakenCourse.of("전공선택", "머신러닝", 3),
+                TakenCourse.of("전공선택", "머신러닝", 3),
+                TakenCourse.of("전공선택", "딥러닝", 3),
+                TakenCourse.of("교양필수", "글쓰기기초", 2),
+                TakenCourse.of("교양필수", "논리와글쓰기", 2),
+                TakenCourse.of("교양필수", "채플", 1),
+                TakenCourse.of("교양선택", "철학의이해", 3),
+                TakenCourse.of("교양선택", "경제학원론", 3),
+                TakenCourse.of("교양선택", "심리학개론", 3),
+                TakenCourse.of("자율선택", "골프", 1)));
+    }
+
+    /**
+     * 규칙에 등록된 과목/대체과목/직접 입력 과목을 섞고, 일부는 같은 항목을 여러 번 넣은 목록
+     * 카테고리를 다르게 입력한 과목도 섞음
+     */
+    static List<TakenCourse> randomCourses(GraduationRules rules, long seed) {
+        Random random = new Random(seed);
+        List<TakenCourse> pool = SyntheticCohorts.takenCourses(rules, 60, seed);
+        for (ReplacementRule rule : rules.getReplacementRules()) {
+            pool.add(TakenCourse.of(rule.getDiscontinuedCourse().getCategory(),
+                    rule.getDiscontinuedCourse().getName(), rule.getDiscontinuedCourse().getCredits()));
+        }
+        String[] categories = {"전공필수", "전공선택", "교양필수", "교양선택", "소양", "자율선택"};
+
+        int count = random.nextInt(pool.size() + 1);
+        List<TakenCourse> courses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TakenCourse course = pool.get(random.nextInt(pool.size()));
+            int roll = random.nextInt(10);
+            if (roll == 0) {
+                course = TakenCourse.of(categories[random.nextInt(categories.length)], course.getName(),
+                        course.getCredits());
+            } else if (roll == 1 && !courses.isEmpty()) {
+                course = courses.get(random.nextInt(courses.size()));
+            }
+            courses.add(course);
+        }
+        return courses;
+    }
+}
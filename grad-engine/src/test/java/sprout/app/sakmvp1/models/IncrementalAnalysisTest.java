@@ -0,0 +1,166 @@
+package sprout.app.sakmvp1.models;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * CompiledGraduationRules.Incremental의 추가/삭제 결과가 같은 목록을 처음부터 분석한 결과와 같은지 확인
+ */
+public class IncrementalAnalysisTest {
+
+    private static final int STEPS = 120;
+
+    @Test
+    public void addAndRemove_matchFreshEvaluation_fixtureRules() {
+        GraduationRules rules = CompiledGraduationRulesTest.fixtureRules();
+        for (long seed = 0; seed < 20; seed++) {
+            runRandomSequence(rules, seed);
+        }
+    }
+
+    @Test
+    public void addAndRemove_matchFreshEvaluation_syntheticRules() {
+        for (SyntheticCohorts.Size size : SyntheticCohorts.Size.values()) {
+            GraduationRules rules = SyntheticCohorts.rules(size, size.ordinal());
+            for (long seed = 0; seed < 10; seed++) {
+                runRandomSequence(rules, seed);
+            }
+        }
+    }
+
+    @Test
+    public void removeByIndex_removesThatEntry() {
+        GraduationRules rules = CompiledGraduationRulesTest.fixtureRules();
+        List<TakenCourse> courses = CompiledGraduationRulesTest.fixtureCourses();
+        CompiledGraduationRules.Incremental session = rules.compile().newIncremental(courses);
+
+        // 목록 가운데, 처음, 끝 순서로 삭제
+        int[] indices = {courses.size() / 2, 0, courses.size() - 3};
+        for (int index : indices) {
+            TakenCourse target = session.getCourses().get(index);
+            List<TakenCourse> expected = new ArrayList<>(session.getCourses());
+            expected.remove(index);
+
+            assertTrue(session.remove(target));
+            assertEquals("index " + index, expected, new ArrayList<>(session.getCourses()));
+            assertMatchesFresh(rules, session, "index " + index);
+        }
+    }
+
+    @Test
+    public void removeDuplicate_keepsOtherCopy() {
+        GraduationRules rules = CompiledGraduationRulesTest.fixtureRules();
+        CompiledGraduationRules.Incremental session =
+                rules.compile().newIncremental(Collections.<TakenCourse>emptyList());
+
+        TakenCourse first = TakenCourse.of("전공선택", "머신러닝", 3);
+        TakenCourse second = TakenCourse.of("전공선택", "머신러닝", 3);
+        session.add(first);
+        session.add(TakenCourse.of("전공필수", "자료구조", 3));
+        session.add(second);
+        session.add(second);
+        assertMatchesFresh(rules, session, "중복 3건");
+
+        // 같은 객체가 두 번 들어 있으면 앞쪽 항목부터 삭제
+        assertTrue(session.remove(second));
+        assertEquals(3, session.getCourses().size());
+        assertTrue(session.getCourses().get(0) == first);
+        assertTrue(session.getCourses().get(2) == second);
+        assertMatchesFresh(rules, session, "같은 객체 삭제");
+
+        // 목록에 없는 객체는 내용이 같은 첫 항목을 삭제
+        assertTrue(session.remove(TakenCourse.of("전공선택", "머신러닝", 3)));
+        assertEquals(2, session.getCourses().size());
+        assertTrue(session.getCourses().get(1) == second);
+        assertMatchesFresh(rules, session, "같은 내용 삭제");
+
+        assertTrue(session.remove(second));
+        assertFalse(session.remove(second));
+        assertMatchesFresh(rules, session, "모두 삭제");
+    }
+
+    @Test
+    public void removeReplacement_revertsAppliedRule() {
+        GraduationRules rules = CompiledGraduationRulesTest.fixtureRules();
+        List<TakenCourse> courses = CompiledGraduationRulesTest.fixtureCourses();
+        CompiledGraduationRules.Incremental session = rules.compile().newIncremental(courses);
+        assertEquals(1, session.getResult().getAppliedReplacements().size());
+
+        // 대체과목 두 개 중 하나를 지워도 규칙은 유지, 둘 다 지우면 해제
+        assertTrue(session.remove(TakenCourse.of("전공선택", "시스템프로그래밍", 3)));
+        assertEquals(1, session.getResult().getAppliedReplacements().size());
+        assertMatchesFresh(rules, session, "대체과목 하나 삭제");
+
+        assertTrue(session.remove(TakenCourse.of("전공선택", "임베디드", 3)));
+        assertEquals(0, session.getResult().getAppliedReplacements().size());
+        assertMatchesFresh(rules, session, "대체과목 모두 삭제");
+    }
+
+    // ── 도우미 ───────────────────────────────────────────
+
+    /**
+     * 임의의 추가/삭제를 반복하며 매 단계 처음부터 분석한 결과와 비교
+     * 삭제는 목록의 임의 위치 항목, 같은 내용의 새 객체, 목록에 없는 과목을 섞음
+     */
+    private static void runRandomSequence(GraduationRules rules, long seed) {
+        Random random = new Random(seed);
+        List<TakenCourse> pool = CompiledGraduationRulesTest.randomCourses(rules, seed);
+        pool.addAll(SyntheticCohorts.takenCourses(rules, 30, seed + 1000));
+        List<TakenCourse> initial = new ArrayList<>(pool.subList(0, random.nextInt(pool.size() / 2 + 1)));
+
+        CompiledGraduationRules.Incremental session = rules.compile().newIncremental(initial);
+        assertMatchesFresh(rules, session, "seed " + seed + " 시작");
+
+        for (int step = 0; step < STEPS; step++) {
+            List<TakenCourse> current = session.getCourses();
+            String label = "seed " + seed + " step " + step;
+            int roll = random.nextInt(10);
+            if (roll < 5 || current.isEmpty()) {
+                session.add(pool.get(random.nextInt(pool.size())));
+            } else if (roll < 8) {
+                assertTrue(label, session.remove(current.get(random.nextInt(current.size()))));
+            } else if (roll < 9) {
+                TakenCourse original = current.get(random.nextInt(current.size()));
+                assertTrue(label, session.remove(
+                        TakenCourse.of(original.getCategory(), original.getName(), original.getCredits())));
+            } else {
+                assertFalse(label, session.remove(TakenCourse.of("전공선택", "없는과목_" + step, 3)));
+            }
+            assertMatchesFresh(rules, session, label);
+        }
+    }
+
+    private static void assertMatchesFresh(GraduationRules rules, CompiledGraduationRules.Incremental session,
+                                           String label) {
+        List<TakenCourse> courses = new ArrayList<>(session.getCourses());
+        CompiledGraduationRules compiled = rules.compile();
+
+        CompiledGraduationRules.Evaluation fresh = compiled.newEvaluation();
+        compiled.evaluate(courses, fresh);
+        assertEquals(label, describe(fresh), describe(session.getEvaluation()));
+
+        assertEquals(label, CompiledGraduationRulesTest.describe(compiled.analyze(courses)),
+                CompiledGraduationRulesTest.describe(session.getResult()));
+    }
+
+    private static String describe(CompiledGraduationRules.Evaluation eval) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("total=").append(eval.getTotalEarnedCredits()).append('/').append(eval.getTotalRequiredCredits())
+                .append(" overflow=").append(eval.getOverflowCredits())
+                .append(" ready=").append(eval.isGraduationReady()).append('\n');
+        for (int i = 0; i < eval.getCategoryCount(); i++) {
+            sb.append(eval.getCategoryId(i)).append(": ").append(eval.getEarnedCredits(i))
+                    .append('/').append(eval.getRequiredCredits(i))
+                    .append(" completed=").append(eval.isCompleted(i)).append('\n');
+        }
+        return sb.toString();
+    }
+}
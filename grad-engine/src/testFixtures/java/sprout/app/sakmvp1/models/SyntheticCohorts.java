@@ -0,0 +1,223 @@
+package sprout.app.sakmvp1.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크/테스트용 합성 졸업요건/수강 이력 생성기
+ * 같은 seed면 항상 같은 데이터를 만들어 측정 간 비교가 가능
+ */
+public final class SyntheticCohorts {
+
+    /**
+     * 졸업요건 규모
+     * categories: 최상위 카테고리 수, oneOfGroups: 교양필수 아래 oneOf 서브그룹 수
+     */
+    public enum Size {
+        SMALL(6, 3, 8, 2),
+        MEDIUM(15, 6, 14, 8),
+        HUGE(30, 12, 24, 25);
+
+        final int categories;
+        final int oneOfGroups;
+        final int coursesPerList;
+        final int replacementRules;
+
+        Size(int categories, int oneOfGroups, int coursesPerList, int replacementRules) {
+            this.categories = categories;
+            this.oneOfGroups = oneOfGroups;
+            this.coursesPerList = coursesPerList;
+            this.replacementRules = replacementRules;
+        }
+    }
+
+    private static final String[] LIST_CATEGORIES = {"전공필수", "전공선택", "학부공통", "전공심화"};
+    private static final String[] ELECTIVE_CATEGORIES = {"소양", "자율선택"};
+
+    private SyntheticCohorts() {
+    }
+
+    public static GraduationRules rules(Size size, long seed) {
+        Random random = new Random(seed);
+        GraduationRules rules = new GraduationRules(2024, "IT학부", "인공지능");
+
+        List<RequirementCategory> categories = new ArrayList<>();
+
+        // 교양필수: oneOf 서브그룹 + 필수 list
+        RequirementCategory general = new RequirementCategory("교양필수", "교양필수", "group");
+        general.setRequired(size.oneOfGroups * 2 + 6);
+        for (int g = 0; g < size.oneOfGroups; g++) {
+            RequirementCategory oneOf = new RequirementCategory("교양필수_oneOf_" + g, "교양필수", "oneOf");
+            oneOf.setRequired(2);
+            oneOf.setRequiredType("credits");
+            int options = 2 + random.nextInt(3);
+            for (int o = 0; o < options; o++) {
+                oneOf.getCourses().add(new CourseRequirement("교양필수_" + g + "_" + o, 2));
+            }
+            general.getSubgroups().add(oneOf);
+        }
+        RequirementCategory generalList = new RequirementCategory("교양필수_list", "교양필수", "list");
+        generalList.setRequired(6);
+        generalList.setRequiredType("credits");
+        for (int c = 0; c < 3; c++) {
+            generalList.getCourses().add(new CourseRequirement("교양필수_공통_" + c, 2, null, true));
+        }
+        general.getSubgroups().add(generalList);
+        categories.add(general);
+
+        RequirementCategory competency = new RequirementCategory("교양선택", "교양선택", "competency");
+        competency.setRequired(12);
+        categories.add(competency);
+
+        // 나머지: 전공 list 카테고리와 elective 카테고리를 번갈아 생성 (카테고리명은 중복되지 않게)
+        for (int i = categories.size(); i < size.categories; i++) {
+            if (i % 4 == 3) {
+                String name = uniqueName(categories, ELECTIVE_CATEGORIES[i % ELECTIVE_CATEGORIES.length], i);
+                RequirementCategory elective = new RequirementCategory(name + "_" + i, name, "elective");
+                elective.setRequired(6);
+                categories.add(elective);
+            } else {
+                String name = uniqueName(categories, LIST_CATEGORIES[i % LIST_CATEGORIES.length], i);
+                RequirementCategory list = new RequirementCategory(name + "_" + i, name, "list");
+                list.setRequired(size.coursesPerList * 3 / 2);
+                list.setRequiredType(random.nextInt(5) == 0 ? "courses" : "credits");
+                for (int c = 0; c < size.coursesPerList; c++) {
+                    list.getCourses().add(new CourseRequirement(name + "_" + i + "_" + c, 3, semester(c),
+                        random.nextBoolean()));
+                }
+                categories.add(list);
+            }
+        }
+        rules.setCategories(categories);
+
+        // 대체과목 규칙: 등록된 list 과목 중 일부를 폐강 처리
+        List<ReplacementRule> replacementRules = new ArrayList<>();
+        List<CourseRequirement> registered = registeredListCourses(rules);
+        for (int r = 0; r < size.replacementRules && !registered.isEmpty(); r++) {
+            CourseRequirement discontinued = registered.get(random.nextInt(registered.size()));
+            List<ReplacementRule.CourseInfo> replacements = new ArrayList<>();
+            int count = 1 + random.nextInt(3);
+            for (int c = 0; c < count; c++) {
+                replacements.add(new ReplacementRule.CourseInfo("대체_" + r + "_" + c, "전공선택", 3));
+            }
+            ReplacementRule rule = new ReplacementRule(
+                new ReplacementRule.CourseInfo(discontinued.getName(), "전공필수", discontinued.getCredits()),
+                replacements);
+            rule.setScope(r % 3 == 0 ? "department" : "document");
+            replacementRules.add(rule);
+        }
+        rules.setReplacementRules(replacementRules);
+
+        CreditRequirements credits = new CreditRequirements();
+        credits.setTotal(130);
+        credits.set전공필수(size.coursesPerList * 3 / 2);
+        credits.set전공선택(size.coursesPerList * 3 / 2);
+        credits.set학부공통(size.coursesPerList * 3 / 2);
+        credits.set전공심화(size.coursesPerList * 3 / 2);
+        credits.set교양필수(size.oneOfGroups * 2 + 6);
+        credits.set교양선택(12);
+        credits.set소양(6);
+        credits.set자율선택(6);
+        credits.set잔여학점(10);
+        rules.setCreditRequirements(credits);
+        rules.setTotalCredits(130);
+        rules.setOverflowDestination("잔여학점");
+
+        return rules;
+    }
+
+    /**
+     * 졸업요건에 등록된 과목, 대체과목, 직접 입력 과목을 섞어 수강 이력 생성
+     */
+    public static List<TakenCourse> takenCourses(GraduationRules rules, int count, long seed) {
+        Random random = new Random(seed);
+        List<TakenCourse> pool = new ArrayList<>();
+
+        for (RequirementCategory category : rules.getCategories()) {
+            collectCourses(category, pool);
+        }
+        for (ReplacementRule rule : rules.getReplacementRules()) {
+            for (ReplacementRule.CourseInfo info : rule.getReplacementCourses()) {
+                pool.add(TakenCourse.of(info.getCategory(), info.getName(), info.getCredits()));
+            }
+        }
+        Collections.shuffle(pool, random);
+
+        List<TakenCourse> taken = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (i < pool.size() && random.nextInt(5) != 0) {
+                taken.add(pool.get(i));
+            } else {
+                // 직접 입력 과목 (교양선택/소양/자율선택/전공선택)
+                String category = new String[]{"교양선택", "소양", "자율선택", "전공선택"}[random.nextInt(4)];
+                taken.add(TakenCourse.of(category, "직접입력_" + i, 1 + random.nextInt(3)));
+            }
+        }
+        return taken;
+    }
+
+    private static void collectCourses(RequirementCategory category, List<TakenCourse> pool) {
+        for (CourseRequirement course : category.getCourses()) {
+            pool.add(TakenCourse.of(category.getName(), course.getName(), course.getCredits()));
+        }
+        for (RequirementCategory subgroup : category.getSubgroups()) {
+            collectCourses(subgroup, pool);
+        }
+    }
+
+    private static List<CourseRequirement> registeredListCourses(GraduationRules rules) {
+        List<CourseRequirement> courses = new ArrayList<>();
+        for (RequirementCategory category : rules.getCategories()) {
+            if ("list".equals(category.getType())) {
+                courses.addAll(category.getCourses());
+            }
+        }
+        return courses;
+    }
+
+    private static String uniqueName(List<RequirementCategory> categories, String name, int index) {
+        for (RequirementCategory category : categories) {
+            if (name.equals(category.getName())) {
+                return name + "_" + index;
+            }
+        }
+        return name;
+    }
+
+    private static String semester(int index) {
+        return (index % 4 + 1) + "-" + (index % 2 + 1);
+    }
+
+    /**
+     * 커스터마이징 예시: 학점 2건 수정, 과목 추가/삭제/수정
+     */
+    public static UserCustomizedRequirements customizations(GraduationRules rules) {
+        UserCustomizedRequirements customizations = new UserCustomizedRequirements("bench-user");
+        UserCustomizedRequirements.DocumentCustomization major = customizations.getMajorCustomizations();
+        major.modifyCredit("전공필수", 18);
+        major.modifyCredit("전공선택", 24);
+        major.addCourse("전공선택", "캡스톤디자인(추가)", 3);
+
+        List<CourseRequirement> registered = registeredListCourses(rules);
+        if (registered.size() >= 2) {
+            String firstCategory = findCategoryName(rules, registered.get(0).getName());
+            String lastCategory = findCategoryName(rules, registered.get(registered.size() - 1).getName());
+            major.deleteCourse(firstCategory, registered.get(0).getName());
+            major.modifyCourse(lastCategory, registered.get(registered.size() - 1).getName(), "대체과목(수정)", 3);
+        }
+        return customizations;
+    }
+
+    private static String findCategoryName(GraduationRules rules, String courseName) {
+        for (RequirementCategory category : rules.getCategories()) {
+            for (CourseRequirement course : category.getCourses()) {
+                if (courseName.equals(course.getName())) {
+                    return category.getName();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -22,4 +22,6 @@ dependencyResolutionManagement {
 
 rootProject.name = "SakMvp1"
 include(":app")
+include(":grad-engine")
+include(":engine-bench")
  
\ No newline at end of file